@@ -37,6 +37,19 @@ public class AsyncConfig {
 		);
 	}
 
+	/**
+	 * 장시간 배치 작업 (상품 대량 등록 등)
+	 */
+	@Bean(name = "importExecutor")
+	public Executor importExecutor() {
+		return createExecutor(
+			"import-",
+			1,
+			2,
+			20
+		);
+	}
+
 	private Executor createExecutor(
 		String prefix,
 		int core,
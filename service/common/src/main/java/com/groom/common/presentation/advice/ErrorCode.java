@@ -66,6 +66,9 @@ public enum ErrorCode {
 	PRODUCT_HAS_ORDERS(HttpStatus.CONFLICT, "PRODUCT_HAS_ORDERS", "주문이 존재하는 상품은 삭제할 수 없습니다."),
 	CATEGORY_HAS_CHILDREN(HttpStatus.BAD_REQUEST, "CATEGORY_HAS_CHILDREN", "하위 카테고리가 존재하여 삭제할 수 없습니다."),
 	CATEGORY_HAS_PRODUCTS(HttpStatus.BAD_REQUEST, "CATEGORY_HAS_PRODUCTS", "등록된 상품이 존재하여 삭제할 수 없습니다."),
+	PRODUCT_IMPORT_FILE_INVALID(HttpStatus.BAD_REQUEST, "PRODUCT_IMPORT_FILE_INVALID", "대량 등록 파일이 비어 있거나 읽을 수 없습니다."),
+	PRODUCT_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT_IMPORT_JOB_NOT_FOUND", "대량 등록 작업을 찾을 수 없습니다."),
+	PRODUCT_IMPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PRODUCT_IMPORT_BUSY", "진행 중인 대량 등록 작업이 많습니다. 잠시 후 다시 시도해주세요."),
 	VARIANT_REQUIRED(HttpStatus.BAD_REQUEST, "VARIANT_REQUIRED", "옵션 상품은 variantId가 필요합니다."),
 	VARIANT_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "VARIANT_NOT_ALLOWED", "옵션이 없는 상품에는 variantId를 보낼 수 없습니다."),
 
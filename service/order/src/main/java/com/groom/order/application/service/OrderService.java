@@ -4,13 +4,22 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.payload.OrderCancelledPayload;
@@ -20,6 +29,7 @@ import com.groom.order.domain.entity.OrderItem;
 import com.groom.order.domain.repository.OrderRepository;
 import com.groom.order.infrastructure.client.ProductClient;
 import com.groom.order.infrastructure.client.UserClient;
+import com.groom.order.infrastructure.client.dto.ProductInfoResponse;
 import com.groom.order.infrastructure.client.dto.StockReserveItem;
 import com.groom.order.infrastructure.client.dto.StockReserveRequest;
 import com.groom.order.infrastructure.client.dto.UserAddressResponse;
@@ -27,12 +37,10 @@ import com.groom.order.infrastructure.kafka.OrderOutboxService;
 import com.groom.order.presentation.dto.request.OrderCreateRequest;
 import com.groom.order.presentation.dto.response.OrderResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderService {
 
@@ -40,19 +48,59 @@ public class OrderService {
 	private final UserClient userClient;
 	private final ProductClient productClient;
 	private final OrderOutboxService outboxService;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor ioExecutor;
+
+	public OrderService(
+			OrderRepository orderRepository,
+			UserClient userClient,
+			ProductClient productClient,
+			OrderOutboxService outboxService,
+			TransactionTemplate transactionTemplate,
+			@Qualifier("ioExecutor") Executor ioExecutor) {
+		this.orderRepository = orderRepository;
+		this.userClient = userClient;
+		this.productClient = productClient;
+		this.outboxService = outboxService;
+		this.transactionTemplate = transactionTemplate;
+		this.ioExecutor = ioExecutor;
+	}
 
 	/**
 	 * 주문을 생성하고, OrderCreatedEvent를 Outbox에 저장합니다.
+	 *
+	 * 외부 호출(User/Product)은 트랜잭션 밖에서 수행하고, DB 커넥션은 마지막 저장 단계에서만 점유합니다.
+	 * - 상품 가격/판매자 조회는 사용자 조회와 무관하므로 먼저 시작
+	 * - 배송지 조회는 userId 확인 직후 상품 조회와 병렬 수행
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public UUID createOrder(String cognitoSub, OrderCreateRequest request) {
-		// 1. cognitoSub으로 사용자 검증 및 실제 userId 조회
+		List<StockReserveItem> stockItems = request.getItems().stream()
+				.map(item -> new StockReserveItem(
+						item.getProductId(),
+						item.getVariantId(),
+						item.getQuantity()))
+				.toList();
+
+		// 1. 상품 가격/판매자 조회 (비동기 시작)
+		CompletableFuture<List<ProductInfoResponse>> productsFuture = CompletableFuture.supplyAsync(
+				() -> productClient.getProductBulkInfo(stockItems), ioExecutor);
+
+		// 2. cognitoSub으로 사용자 검증 및 실제 userId 조회
 		UUID userId = userClient.getUserByCognitoSub(cognitoSub).getUserId();
 
-		// 2. 주소 정보 조회 (Snapshot용)
-		UserAddressResponse address = userClient.getUserAddress(userId, userId);
+		// 3. 주소 정보 조회 (Snapshot용, 상품 조회와 병렬)
+		CompletableFuture<UserAddressResponse> addressFuture = CompletableFuture.supplyAsync(
+				() -> userClient.getUserAddress(userId, userId), ioExecutor);
 
-		// 3. Order 엔티티 생성 (DB 저장 전)
+		Map<String, ProductInfoResponse> products = join(productsFuture).stream()
+				.collect(Collectors.toMap(
+						product -> productKey(product.getProductId(), product.getVariantId()),
+						Function.identity(),
+						(first, second) -> first));
+		UserAddressResponse address = join(addressFuture);
+
+		// 4. Order 엔티티 생성 (DB 저장 전, 가격/판매자는 상품 서비스 조회 값 사용)
 		Order order = Order.builder()
 				.buyerId(userId)
 				.orderNumber(generateOrderNumber())
@@ -65,51 +113,84 @@ public class OrderService {
 				.build();
 		UUID orderId = order.getOrderId(); // 미리 ID 생성
 
-		// 4. 재고 가점유 요청 (Bulk)
-		List<StockReserveItem> stockItems = request.getItems().stream()
-				.map(item -> new StockReserveItem(
-						item.getProductId(),
-						item.getVariantId(),
-						item.getQuantity()))
-				.toList();
-		productClient.reserveStock(new StockReserveRequest(orderId, stockItems));
-
-		// 5. OrderItem 생성 및 추가
+		long itemsAmount = 0;
 		for (var itemRequest : request.getItems()) {
+			ProductInfoResponse product = products.get(productKey(itemRequest.getProductId(), itemRequest.getVariantId()));
+			if (product == null) {
+				throw new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + itemRequest.getProductId());
+			}
+			if (!product.isAvailable()) {
+				throw new IllegalStateException("판매 중인 상품이 아닙니다. ID: " + itemRequest.getProductId());
+			}
+
 			OrderItem orderItem = OrderItem.builder()
 					.order(order)
 					.productId(itemRequest.getProductId())
 					.variantId(itemRequest.getVariantId())
-					.ownerId(UUID.randomUUID()) // TODO: Product Owner ID 필요 (ProductClient에서 받아오거나 Request에 포함)
+					.ownerId(product.getOwnerId())
 					.productTitle(itemRequest.getProductTitle())
 					.productThumbnail(itemRequest.getProductThumbnail())
 					.optionName(itemRequest.getOptionName())
-					.unitPrice(itemRequest.getUnitPrice())
+					.unitPrice(product.getPrice())
 					.quantity(itemRequest.getQuantity())
 					.build();
 			order.addItem(orderItem);
+			itemsAmount += product.getPrice() * itemRequest.getQuantity();
 		}
 
-		// 6. DB 저장
-		orderRepository.save(order);
+		if (request.getTotalAmount() == null || request.getTotalAmount() != itemsAmount) {
+			throw new IllegalArgumentException("주문 금액이 상품 금액과 일치하지 않습니다. 요청: "
+					+ request.getTotalAmount() + ", 상품 합계: " + itemsAmount);
+		}
 
-		// 7. 결제 요청 이벤트 Outbox 저장
-		outboxService.save(
-			EventType.ORDER_CREATED,
-			"ORDER",
-			orderId,
-			orderId.toString(),
-			OrderCreatedPayload.builder()
-				.orderId(orderId)
-				.userId(userId)
-				.totalAmount(order.getTotalPaymentAmount())
-				.build()
-		);
+		// 5. 재고 가점유 요청 (Bulk, 검증을 통과한 주문만)
+		productClient.reserveStock(new StockReserveRequest(orderId, stockItems));
+
+		// 6. DB 저장 + 결제 요청 이벤트 Outbox 저장 (짧은 트랜잭션)
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				orderRepository.save(order);
+
+				outboxService.save(
+					EventType.ORDER_CREATED,
+					"ORDER",
+					orderId,
+					orderId.toString(),
+					OrderCreatedPayload.builder()
+						.orderId(orderId)
+						.userId(userId)
+						.totalAmount(order.getTotalPaymentAmount())
+						.build()
+				);
+			});
+		} catch (RuntimeException e) {
+			// 원격 가점유는 DB 롤백으로 되돌려지지 않음 (기존 단일 트랜잭션 구조와 동일) → 수동 복구용 로그
+			log.error("주문(ID: {}) 저장에 실패했습니다. 가점유된 재고 확인이 필요합니다.", orderId, e);
+			throw e;
+		}
 
 		log.info("주문(ID: {})이 생성되었습니다. 결제 프로세스를 시작합니다.", orderId);
 		return orderId;
 	}
 
+	private static String productKey(UUID productId, UUID variantId) {
+		return productId + ":" + variantId;
+	}
+
+	/**
+	 * 비동기 외부 호출 결과 대기 (Feign 예외 등 원래 예외를 그대로 전파)
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
 	private String generateOrderNumber() {
 		String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 		int randomPart = ThreadLocalRandom.current().nextInt(100000, 999999);
@@ -1,9 +1,13 @@
 package com.groom.order.infrastructure.client;
 
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.groom.order.infrastructure.client.dto.ProductInfoResponse;
+import com.groom.order.infrastructure.client.dto.StockReserveItem;
 import com.groom.order.infrastructure.client.dto.StockReserveRequest;
 
 @FeignClient(name = "product-service", url = "${external.product-service.url}", path = "/api/v1/internal/products")
@@ -15,4 +19,11 @@ public interface ProductClient {
 	 */
 	@PostMapping("/stock/reserve")
 	void reserveStock(@RequestBody StockReserveRequest request);
+
+	/**
+	 * 상품 정보 벌크 조회 (가격/판매자/판매 상태)
+	 * 삭제되었거나 옵션이 상품에 속하지 않는 항목은 응답에서 빠짐
+	 */
+	@PostMapping("/bulk-info")
+	List<ProductInfoResponse> getProductBulkInfo(@RequestBody List<StockReserveItem> items);
 }
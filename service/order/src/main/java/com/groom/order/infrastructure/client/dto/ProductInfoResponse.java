@@ -0,0 +1,27 @@
+package com.groom.order.infrastructure.client.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 정보 벌크 조회 응답 (주문 시점 가격/판매자 확인용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductInfoResponse {
+
+	private UUID productId;
+	private UUID ownerId;
+	private UUID variantId;      // 옵션이 없는 경우 null
+	private String productName;
+	private String optionName;   // 옵션이 없는 경우 null
+	private String thumbnailUrl;
+	private Long price;          // 옵션 유무에 따른 최종 단가
+	private boolean available;   // 판매 가능 여부 (상품/옵션 ON_SALE)
+}
@@ -9,25 +9,28 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.payload.OrderCancelledPayload;
@@ -37,6 +40,7 @@ import com.groom.order.domain.repository.OrderRepository;
 import com.groom.order.domain.status.OrderStatus;
 import com.groom.order.infrastructure.client.ProductClient;
 import com.groom.order.infrastructure.client.UserClient;
+import com.groom.order.infrastructure.client.dto.ProductInfoResponse;
 import com.groom.order.infrastructure.client.dto.StockReserveRequest;
 import com.groom.order.infrastructure.client.dto.UserAddressResponse;
 import com.groom.order.infrastructure.client.dto.UserIdResponse;
@@ -67,23 +71,36 @@ class OrderServiceTest {
     @Mock
     private OrderOutboxService outboxService;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     private OrderService orderService;
 
     private UUID userId;
     private String cognitoSub;
     private UUID productId;
     private UUID variantId;
+    private UUID ownerId;
     private Long totalAmount;
 
     @BeforeEach
     void setUp() {
+        // 외부 호출은 호출 스레드에서 바로 실행, 트랜잭션 콜백은 그대로 실행
+        orderService = new OrderService(
+                orderRepository, userClient, productClient, outboxService, transactionTemplate, Runnable::run);
+
         userId = UUID.randomUUID();
         cognitoSub = "test-cognito-sub";
         productId = UUID.randomUUID();
         variantId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
         totalAmount = 50000L;
         lenient().when(userClient.getUserByCognitoSub(cognitoSub)).thenReturn(new UserIdResponse(userId));
+        lenient().when(productClient.getProductBulkInfo(any())).thenReturn(List.of(createProductInfo(25000L, true)));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 
     @Nested
@@ -285,6 +302,81 @@ class OrderServiceTest {
             then(orderRepository).should(never()).save(any());
             then(outboxService).should(never()).save(any(), any(), any(), any(), any());
         }
+
+        @Test
+        @DisplayName("주문 상품의 단가와 판매자는 상품 서비스 조회 값으로 저장해야 한다")
+        void createOrder_ShouldUse_QuotedPriceAndOwner() {
+            // given
+            OrderCreateRequest request = createOrderRequest();
+            request.getItems().get(0).setUnitPrice(1L);
+
+            given(userClient.getUserAddress(userId, userId)).willReturn(createUserAddress());
+
+            // when
+            orderService.createOrder(cognitoSub, request);
+
+            // then
+            then(orderRepository).should(times(1)).save(
+                    argThat(order -> {
+                        assertThat(order.getItems().get(0).getUnitPrice()).isEqualTo(25000L);
+                        assertThat(order.getItems().get(0).getOwnerId()).isEqualTo(ownerId);
+                        return true;
+                    }));
+        }
+
+        @Test
+        @DisplayName("요청 금액이 상품 금액 합계와 다르면 재고를 가점유하지 않고 예외가 발생해야 한다")
+        void createOrder_WhenTotalAmountMismatch_ShouldThrowException() {
+            // given
+            OrderCreateRequest request = createOrderRequest();
+            request.setTotalAmount(40000L);
+
+            given(userClient.getUserAddress(userId, userId)).willReturn(createUserAddress());
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(cognitoSub, request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("주문 금액이 상품 금액과 일치하지 않습니다");
+
+            then(productClient).should(never()).reserveStock(any());
+            then(orderRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("판매 중이 아닌 상품이 포함되면 재고를 가점유하지 않고 예외가 발생해야 한다")
+        void createOrder_WhenProductUnavailable_ShouldThrowException() {
+            // given
+            OrderCreateRequest request = createOrderRequest();
+
+            given(userClient.getUserAddress(userId, userId)).willReturn(createUserAddress());
+            given(productClient.getProductBulkInfo(any())).willReturn(List.of(createProductInfo(25000L, false)));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(cognitoSub, request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("판매 중인 상품이 아닙니다");
+
+            then(productClient).should(never()).reserveStock(any());
+            then(orderRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("배송지 조회 실패 시 원래 예외가 그대로 전파되어야 한다")
+        void createOrder_WhenAddressLookupFails_ShouldPropagate_OriginalException() {
+            // given
+            OrderCreateRequest request = createOrderRequest();
+
+            given(userClient.getUserAddress(userId, userId))
+                    .willThrow(new IllegalStateException("배송지 정보가 없습니다"));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(cognitoSub, request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("배송지 정보가 없습니다");
+
+            then(productClient).should(never()).reserveStock(any());
+            then(orderRepository).should(never()).save(any());
+        }
     }
 
     @Nested
@@ -537,6 +629,18 @@ class OrderServiceTest {
         return request;
     }
 
+    private ProductInfoResponse createProductInfo(Long price, boolean available) {
+        return ProductInfoResponse.builder()
+                .productId(productId)
+                .variantId(variantId)
+                .ownerId(ownerId)
+                .productName("테스트 상품")
+                .optionName("기본옵션")
+                .price(price)
+                .available(available)
+                .build();
+    }
+
     private UserAddressResponse createUserAddress() {
         return UserAddressResponse.builder()
                 .recipientName("홍길동")
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
 import com.groom.common.event.payload.OrderCancelledPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
 import com.groom.common.event.payload.PaymentCompletedPayload;
 import com.groom.common.event.payload.PaymentFailedPayload;
 
@@ -44,6 +45,11 @@ public class ProductEventConsumer {
                 eventPublisher.publishEvent(payload);
                 log.info("[ProductEventConsumer] Published OrderCancelledPayload locally. orderId={}",
                         payload.getOrderId());
+            } else if (event.getEventType() == EventType.ORDER_CONFIRMED) {
+                OrderConfirmedPayload payload = objectMapper.readValue(event.getPayload(), OrderConfirmedPayload.class);
+                eventPublisher.publishEvent(payload);
+                log.info("[ProductEventConsumer] Published OrderConfirmedPayload locally. orderId={}",
+                        payload.getOrderId());
             }
         } catch (Exception e) {
             throw new IllegalStateException(
@@ -0,0 +1,26 @@
+package com.groom.product.product.application.dto;
+
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 가용 재고 조정 단위 (실재고 변경분 + 변경 후 실재고)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockAdjustment {
+
+	private UUID productId;
+	private UUID variantId;
+	private int delta;
+	private int stockQuantity;
+
+	public static StockAdjustment of(UUID productId, UUID variantId, int delta, int stockQuantity) {
+		return new StockAdjustment(productId, variantId, delta, stockQuantity);
+	}
+}
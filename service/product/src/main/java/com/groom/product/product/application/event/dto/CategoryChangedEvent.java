@@ -0,0 +1,21 @@
+package com.groom.product.product.application.event.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트 (내부)
+ * 커밋 이후 카테고리 트리 스냅샷을 재구성하는 데 사용합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+	private UUID categoryId;
+}
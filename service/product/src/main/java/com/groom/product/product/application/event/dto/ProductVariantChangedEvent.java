@@ -0,0 +1,22 @@
+package com.groom.product.product.application.event.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SKU(Variant) 가격/상태/구성 변경 이벤트 (내부)
+ * 커밋 이후 상세 캐시 무효화와 검색 캐시 세대 증가에 사용합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductVariantChangedEvent {
+
+	private UUID productId;
+	private UUID categoryId;
+}
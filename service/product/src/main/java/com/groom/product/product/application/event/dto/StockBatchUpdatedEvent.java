@@ -0,0 +1,46 @@
+package com.groom.product.product.application.event.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 일괄 변경 이벤트 (내부, 요청 배치당 1건)
+ * 커밋 이후 Redis 가용 재고에 변경분을 반영하고 상세/검색 캐시를 무효화하는 데 사용합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBatchUpdatedEvent {
+
+	private UUID ownerId;
+	private List<StockChange> changes;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class StockChange {
+		private UUID productId;
+		private UUID variantId;
+		private UUID categoryId;
+		private int previousStock;
+		private int newStock;
+
+		public int delta() {
+			return newStock - previousStock;
+		}
+
+		/**
+		 * 품절 ↔ 판매중 상태 전환 가능성 (재고 0 경계 통과)
+		 */
+		public boolean crossesZero() {
+			return (previousStock == 0) != (newStock == 0);
+		}
+	}
+}
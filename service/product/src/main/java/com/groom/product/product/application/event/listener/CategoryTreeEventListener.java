@@ -0,0 +1,31 @@
+package com.groom.product.product.application.event.listener;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.product.application.event.dto.CategoryChangedEvent;
+import com.groom.product.product.infrastructure.cache.CategoryTreeCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 변경 이벤트 리스너
+ * 커밋된 변경만 트리 스냅샷에 반영하고 버전을 올려 다른 인스턴스에 전파합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeEventListener {
+
+	private final CategoryTreeCache categoryTreeCache;
+
+	@Async("eventExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleCategoryChanged(CategoryChangedEvent event) {
+		log.info("[Product] CategoryChangedEvent 수신 - categoryId: {}", event.getCategoryId());
+		categoryTreeCache.publishNewVersion();
+	}
+}
@@ -0,0 +1,47 @@
+package com.groom.product.product.application.event.listener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.event.payload.OrderConfirmedItemPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.product.product.infrastructure.cache.ProductRankingRedisService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 확정 이벤트 → 상품 랭킹 주문 신호 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingEventListener {
+
+	private final ProductRankingRedisService rankingRedisService;
+
+	@Async("eventExecutor")
+	@EventListener
+	public void handleOrderConfirmed(OrderConfirmedPayload event) {
+		if (event.getItems() == null || event.getItems().isEmpty()) {
+			return;
+		}
+
+		Map<UUID, Integer> quantities = new HashMap<>();
+		for (OrderConfirmedItemPayload item : event.getItems()) {
+			if (item.getProductId() == null) {
+				continue;
+			}
+			int quantity = item.getQuantity() != null ? item.getQuantity() : 1;
+			quantities.merge(item.getProductId(), quantity, Integer::sum);
+		}
+
+		rankingRedisService.recordOrders(quantities);
+		log.debug("[Product] 랭킹 주문 신호 기록 - orderId: {}, products: {}", event.getOrderId(), quantities.size());
+	}
+}
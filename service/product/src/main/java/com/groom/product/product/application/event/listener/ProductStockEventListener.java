@@ -0,0 +1,61 @@
+package com.groom.product.product.application.event.listener;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.product.application.dto.StockAdjustment;
+import com.groom.product.product.application.event.dto.StockBatchUpdatedEvent;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 일괄 변경 이벤트 리스너
+ * 커밋된 변경분만 Redis 가용 재고에 반영하고 상세 캐시를 무효화합니다.
+ * 품절 ↔ 판매중 전환이 가능한 변경은 해당 카테고리의 검색 캐시 세대도 증가시킵니다.
+ * (가점유 차감과의 순서 역전을 줄이기 위해 커밋 스레드에서 동기 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockEventListener {
+
+	private final StockRedisService stockRedisService;
+	private final ProductDetailCacheService detailCacheService;
+	private final ProductSearchCacheService searchCacheService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleStockBatchUpdated(StockBatchUpdatedEvent event) {
+		log.info("[Product] StockBatchUpdatedEvent 수신 - ownerId: {}, changes: {}",
+			event.getOwnerId(), event.getChanges().size());
+
+		List<StockAdjustment> adjustments = event.getChanges().stream()
+			.map(change -> StockAdjustment.of(change.getProductId(), change.getVariantId(),
+				change.delta(), change.getNewStock()))
+			.toList();
+		stockRedisService.adjustStocks(adjustments);
+
+		// 상세 캐시의 재고/상태 반영 (상품 단위 1회)
+		List<UUID> productIds = event.getChanges().stream()
+			.map(StockBatchUpdatedEvent.StockChange::getProductId)
+			.distinct()
+			.toList();
+		detailCacheService.deleteAll(productIds);
+
+		List<UUID> statusChangedCategoryIds = event.getChanges().stream()
+			.filter(StockBatchUpdatedEvent.StockChange::crossesZero)
+			.map(StockBatchUpdatedEvent.StockChange::getCategoryId)
+			.distinct()
+			.toList();
+		if (!statusChangedCategoryIds.isEmpty()) {
+			searchCacheService.bumpGenerations(statusChangedCategoryIds);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.groom.product.product.application.event.listener;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.product.application.event.dto.ProductVariantChangedEvent;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SKU(Variant) 변경 이벤트 리스너
+ * 커밋된 변경만 반영: 상세 캐시 삭제(버전 증가 → ETag 갱신) + 카테고리 검색 세대 증가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductVariantEventListener {
+
+	private final ProductDetailCacheService detailCacheService;
+	private final ProductSearchCacheService searchCacheService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleVariantChanged(ProductVariantChangedEvent event) {
+		log.info("[Product] ProductVariantChangedEvent 수신 - productId: {}", event.getProductId());
+		detailCacheService.delete(event.getProductId());
+		searchCacheService.bumpGenerations(List.of(event.getCategoryId()));
+	}
+}
@@ -1,16 +1,22 @@
 package com.groom.product.product.application.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.product.application.event.dto.CategoryChangedEvent;
 import com.groom.product.product.domain.entity.Category;
 import com.groom.product.product.domain.repository.CategoryRepository;
 import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.cache.CategoryTreeCache;
+import com.groom.product.product.infrastructure.cache.CategoryTreeSnapshot;
 import com.groom.product.product.presentation.dto.request.ReqCategoryCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqCategoryUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResCategoryDtoV1;
@@ -24,60 +30,72 @@ public class CategoryServiceV1 {
 
 	private final CategoryRepository categoryRepository;
 	private final ProductRepository productRepository;
+	private final CategoryTreeCache categoryTreeCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 전체 카테고리 목록 조회 (계층 구조)
 	 */
 	public List<ResCategoryDtoV1> getAllCategories() {
-		List<Category> rootCategories = categoryRepository.findRootCategoriesWithChildren();
-		return rootCategories.stream()
-			.map(ResCategoryDtoV1::fromWithChildren)
-			.toList();
+		return categoryTreeCache.get().getActiveTree();
 	}
 
 	/**
 	 * 루트 카테고리 목록 조회
 	 */
 	public List<ResCategoryDtoV1> getRootCategories() {
-		List<Category> categories = categoryRepository
-			.findByParentIsNullAndIsActiveTrueOrderBySortOrder();
-		return categories.stream()
-			.map(ResCategoryDtoV1::from)
-			.toList();
+		return categoryTreeCache.get().getActiveRoots();
 	}
 
 	/**
 	 * 특정 카테고리의 자식 카테고리 목록 조회
 	 */
 	public List<ResCategoryDtoV1> getChildCategories(UUID parentId) {
-		validateCategoryExists(parentId);
-		List<Category> categories = categoryRepository
-			.findByParentIdAndIsActiveTrueOrderBySortOrder(parentId);
-		return categories.stream()
-			.map(ResCategoryDtoV1::from)
-			.toList();
+		CategoryTreeSnapshot tree = categoryTreeCache.get();
+		if (!tree.contains(parentId)) {
+			throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+		}
+		return tree.getActiveChildren(parentId);
 	}
 
 	/**
 	 * 카테고리 상세 조회
 	 */
 	public ResCategoryDtoV1 getCategory(UUID categoryId) {
-		Category category = findActiveCategoryById(categoryId);
-		return ResCategoryDtoV1.fromWithChildren(category);
+		CategoryTreeSnapshot tree = categoryTreeCache.get();
+		if (!tree.isActive(categoryId)) {
+			throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+		}
+		return tree.getActiveWithChildren(categoryId);
 	}
 
 	/**
-	 * 카테고리 엔티티 조회 (내부용)
+	 * 활성 카테고리 스냅샷 노드 조회 (내부용, DB 조회 없음)
 	 */
-	public Category findActiveCategoryById(UUID categoryId) {
-		return categoryRepository.findByIdAndIsActiveTrue(categoryId)
-			.orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+	public CategoryTreeSnapshot.Node getActiveCategory(UUID categoryId) {
+		CategoryTreeSnapshot.Node node = categoryTreeCache.get().getNode(categoryId);
+		if (node == null || !node.active()) {
+			throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+		}
+		return node;
 	}
 
-	private void validateCategoryExists(UUID categoryId) {
-		if (!categoryRepository.existsById(categoryId)) {
+	/**
+	 * 하위 트리 활성 카테고리 ID 목록 조회 (자기 자신 포함)
+	 */
+	public List<UUID> getSubtreeCategoryIds(UUID categoryId) {
+		CategoryTreeSnapshot tree = categoryTreeCache.get();
+		if (!tree.isActive(categoryId)) {
 			throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
 		}
+		return tree.getActiveSubtreeIds(categoryId);
+	}
+
+	/**
+	 * 카테고리 트리 버전 (ETag 용)
+	 */
+	public long getTreeVersion() {
+		return categoryTreeCache.get().getVersion();
 	}
 
 	// ==================== Master Methods ====================
@@ -86,10 +104,7 @@ public class CategoryServiceV1 {
 	 * 전체 카테고리 목록 조회 (Master) - 비활성 포함
 	 */
 	public List<ResCategoryDtoV1> getAllCategoriesForMaster() {
-		List<Category> rootCategories = categoryRepository.findRootCategoriesWithChildrenIncludingInactive();
-		return rootCategories.stream()
-			.map(ResCategoryDtoV1::fromWithChildrenIncludingInactive)
-			.toList();
+		return categoryTreeCache.get().getFullTree();
 	}
 
 	/**
@@ -115,6 +130,11 @@ public class CategoryServiceV1 {
 			.build();
 
 		categoryRepository.save(category);
+
+		// ID 할당 이후 경로 계산 (Dirty Checking으로 반영)
+		category.assignPath(parent);
+
+		eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
 	}
 
 	/**
@@ -125,11 +145,42 @@ public class CategoryServiceV1 {
 		Category category = categoryRepository.findById(categoryId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
+		String oldName = category.getName();
+
 		category.update(
 			request.getName(),
 			request.getSortOrder(),
 			request.getIsActive()
 		);
+
+		// 이름 변경 시 하위 트리의 이름 경로 갱신
+		if (!category.getName().equals(oldName)) {
+			refreshSubtreeFullPath(category);
+		}
+
+		eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+	}
+
+	/**
+	 * 하위 트리 이름 경로 재계산 (depth 순으로 부모 → 자식 전파)
+	 */
+	private void refreshSubtreeFullPath(Category root) {
+		root.refreshFullPath(root.getParent() != null ? root.getParent().getFullPath() : null);
+
+		if (root.getPath() == null) {
+			return;
+		}
+
+		Map<UUID, String> fullPaths = new HashMap<>();
+		fullPaths.put(root.getId(), root.getFullPath());
+
+		for (Category descendant : categoryRepository.findSubtreeByPathPrefix(root.getPath())) {
+			if (descendant.getId().equals(root.getId())) {
+				continue;
+			}
+			descendant.refreshFullPath(fullPaths.get(descendant.getParent().getId()));
+			fullPaths.put(descendant.getId(), descendant.getFullPath());
+		}
 	}
 
 	/**
@@ -151,5 +202,7 @@ public class CategoryServiceV1 {
 		}
 
 		categoryRepository.delete(category);
+
+		eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 	}
 }
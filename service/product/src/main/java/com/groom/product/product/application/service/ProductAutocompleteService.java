@@ -0,0 +1,112 @@
+package com.groom.product.product.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import com.groom.product.product.infrastructure.cache.AutocompleteNormalizer;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
+import com.groom.product.product.infrastructure.cache.ProductRankingRedisService;
+import com.groom.product.product.presentation.dto.response.ResProductSuggestionDtoV1;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품명 자동완성 서비스
+ *
+ * 1. 접두어 정규화 (자모 분해)
+ * 2. 접두어별 인기 상위 K ZSET을 ZREVRANGE로 조회 (긴 접두어는 색인 없음)
+ * 3. 결과가 요청 수보다 적으면 ZRANGEBYLEX로 사전순 후보 보충 (LEX_CANDIDATE_LIMIT)
+ * 4. 후보를 현재 인기 점수(최근 조회 수) 내림차순으로 정렬 후 상위 N개 반환
+ *    (상위 K에 저장된 점수가 현재 점수와 다르면 보정)
+ * Redis 왕복 3~5회 (상위 K, [사전순 후보], 인기 점수, [점수 보정], 제목)로 카탈로그 크기와 무관한 지연
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductAutocompleteService {
+
+	public static final int MAX_SIZE = 20;
+	private static final int LEX_CANDIDATE_LIMIT = 100;
+
+	private final ProductAutocompleteRedisService autocompleteRedisService;
+	private final ProductRankingRedisService rankingRedisService;
+
+	public List<ResProductSuggestionDtoV1> suggest(String keyword, int size) {
+		int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+		String prefix = AutocompleteNormalizer.normalize(keyword);
+		if (prefix.isEmpty()) {
+			return List.of();
+		}
+
+		Set<UUID> candidateSet = new LinkedHashSet<>();
+		Map<UUID, Double> storedScores = new HashMap<>();
+		boolean topIndexed = autocompleteRedisService.hasTopIndex(prefix);
+		if (topIndexed) {
+			for (ZSetOperations.TypedTuple<String> tuple
+				: autocompleteRedisService.findTop(prefix, ProductAutocompleteRedisService.TOP_K)) {
+				UUID productId = UUID.fromString(tuple.getValue());
+				candidateSet.add(productId);
+				storedScores.put(productId, tuple.getScore());
+			}
+		}
+		if (candidateSet.size() < limit) {
+			candidateSet.addAll(autocompleteRedisService.findCandidates(prefix, LEX_CANDIDATE_LIMIT));
+		}
+		if (candidateSet.isEmpty()) {
+			return List.of();
+		}
+
+		// 현재 인기 점수 내림차순 (동점은 상위 K 순서 → 사전순 유지)
+		List<UUID> candidates = new ArrayList<>(candidateSet);
+		List<Double> scores = rankingRedisService.getPopularityScores(candidates);
+		if (topIndexed) {
+			refreshStaleScores(prefix, candidates, scores, storedScores);
+		}
+
+		List<UUID> ranked = IntStream.range(0, candidates.size())
+			.boxed()
+			.sorted(Comparator.comparing((Integer index) -> scores.get(index)).reversed())
+			.limit(limit)
+			.map(candidates::get)
+			.toList();
+
+		List<String> titles = autocompleteRedisService.getTitles(ranked);
+
+		List<ResProductSuggestionDtoV1> suggestions = new ArrayList<>();
+		for (int i = 0; i < ranked.size(); i++) {
+			if (titles.get(i) == null) {
+				continue;
+			}
+			suggestions.add(ResProductSuggestionDtoV1.builder()
+				.productId(ranked.get(i))
+				.title(titles.get(i))
+				.build());
+		}
+		return suggestions;
+	}
+
+	/**
+	 * 상위 K에 저장된 점수 중 현재 점수와 다른 항목만 보정 (조회가 끊긴 상품의 점수 감쇠 반영)
+	 */
+	private void refreshStaleScores(String prefix, List<UUID> candidates, List<Double> scores,
+		Map<UUID, Double> storedScores) {
+		Map<UUID, Double> stale = new HashMap<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			Double stored = storedScores.get(candidates.get(i));
+			if (stored != null && !Objects.equals(stored, scores.get(i))) {
+				stale.put(candidates.get(i), scores.get(i));
+			}
+		}
+		autocompleteRedisService.refreshTopScores(prefix, stale);
+	}
+}
@@ -0,0 +1,378 @@
+package com.groom.product.product.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.domain.entity.ProductImportError;
+import com.groom.product.product.domain.entity.ProductImportJob;
+import com.groom.product.product.domain.repository.ProductImportErrorRepository;
+import com.groom.product.product.domain.repository.ProductImportJobRepository;
+import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.CategoryTreeCache;
+import com.groom.product.product.infrastructure.cache.CategoryTreeSnapshot;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
+import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository.OptionRow;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository.OptionValueRow;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository.ProductRow;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository.VariantRow;
+import com.groom.product.product.presentation.dto.request.ReqProductCreateDtoV1;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 대량 등록 실행기
+ *
+ * 업로드 파일(NDJSON: 한 줄에 상품 등록 요청 1건)을 한 줄씩 읽어 청크 단위로 처리
+ * - 메모리에는 현재 청크만 유지 (파일 크기와 무관하게 힙 사용량 고정)
+ * - 행 검증 실패는 해당 행만 오류로 기록하고 나머지는 계속 처리
+ * - 청크마다 JDBC 배치 INSERT + 작업 진행률 갱신을 하나의 트랜잭션으로 커밋
+ * - 커밋 이후 재고 키/목록/자동완성 캐시를 파이프라인으로 적재
+ *   (상세 캐시는 첫 조회 시 적재)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportRunner {
+
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final TransactionTemplate transactionTemplate;
+	private final ProductImportJobRepository importJobRepository;
+	private final ProductImportErrorRepository importErrorRepository;
+	private final ProductVariantRepository productVariantRepository;
+	private final ProductBulkInsertRepository bulkInsertRepository;
+	private final CategoryTreeCache categoryTreeCache;
+	private final StockRedisService stockRedisService;
+	private final ProductListCacheService listCacheService;
+	private final ProductAutocompleteRedisService autocompleteRedisService;
+	private final ProductSearchCacheService searchCacheService;
+
+	@Value("${product.import.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${product.import.max-stored-errors:1000}")
+	private int maxStoredErrors;
+
+	private record Line(long lineNumber, String content) {
+	}
+
+	private record RowError(long lineNumber, String message) {
+	}
+
+	/**
+	 * 청크 변환 결과 (INSERT 대상 행 + 캐시 적재 정보)
+	 */
+	private static class ChunkRows {
+		private final List<ProductRow> products = new ArrayList<>();
+		private final List<OptionRow> options = new ArrayList<>();
+		private final List<OptionValueRow> optionValues = new ArrayList<>();
+		private final List<VariantRow> variants = new ArrayList<>();
+		private final List<StockManagement> stocks = new ArrayList<>();
+		private final List<RowError> errors = new ArrayList<>();
+	}
+
+	@Async("importExecutor")
+	public void run(UUID jobId, Path file) {
+		int[] storedErrors = {0};
+		try {
+			ProductImportJob job = transactionTemplate.execute(status -> {
+				ProductImportJob found = importJobRepository.findById(jobId).orElseThrow();
+				found.start();
+				return found;
+			});
+
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				List<Line> chunk = new ArrayList<>(chunkSize);
+				long lineNumber = 0;
+				String content;
+				while ((content = reader.readLine()) != null) {
+					lineNumber++;
+					if (content.isBlank()) {
+						continue;
+					}
+					chunk.add(new Line(lineNumber, content));
+					if (chunk.size() >= chunkSize) {
+						processChunk(job, chunk, storedErrors);
+						chunk.clear();
+					}
+				}
+				if (!chunk.isEmpty()) {
+					processChunk(job, chunk, storedErrors);
+				}
+			}
+
+			transactionTemplate.executeWithoutResult(status ->
+				importJobRepository.findById(jobId).ifPresent(ProductImportJob::complete));
+			log.info("Product import completed: jobId={}", jobId);
+		} catch (Exception e) {
+			log.error("Product import failed: jobId={}", jobId, e);
+			transactionTemplate.executeWithoutResult(status ->
+				importJobRepository.findById(jobId).ifPresent(job -> job.fail(e.getMessage())));
+		} finally {
+			deleteQuietly(file);
+		}
+	}
+
+	private void processChunk(ProductImportJob job, List<Line> chunk, int[] storedErrors) {
+		ChunkRows rows = toRows(job.getOwnerId(), chunk);
+		LocalDateTime createdAt = LocalDateTime.now();
+		String createdBy = job.getOwnerId().toString();
+
+		int success = rows.products.size();
+		List<RowError> errors = rows.errors;
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				bulkInsertRepository.insertAll(rows.products, rows.options, rows.optionValues, rows.variants,
+					createdBy, createdAt);
+				saveErrors(job.getId(), errors, storedErrors);
+				importJobRepository.findById(job.getId())
+					.ifPresent(found -> found.recordChunk(success, errors.size()));
+			});
+		} catch (DataIntegrityViolationException e) {
+			// 검증 이후 동시 등록된 SKU 등 제약 위반: 청크 전체를 실패로 기록
+			log.warn("Product import chunk rejected: jobId={}, firstLine={}", job.getId(), chunk.get(0).lineNumber(), e);
+			List<RowError> chunkErrors = chunk.stream()
+				.map(line -> new RowError(line.lineNumber(), "저장 중 제약 조건 위반으로 청크 전체가 실패했습니다."))
+				.toList();
+			transactionTemplate.executeWithoutResult(status -> {
+				saveErrors(job.getId(), chunkErrors, storedErrors);
+				importJobRepository.findById(job.getId())
+					.ifPresent(found -> found.recordChunk(0, chunkErrors.size()));
+			});
+			return;
+		}
+
+		populateCaches(rows, createdAt);
+	}
+
+	private ChunkRows toRows(UUID ownerId, List<Line> chunk) {
+		ChunkRows rows = new ChunkRows();
+		CategoryTreeSnapshot categories = categoryTreeCache.get();
+
+		// 1차: 파싱 + 행 단위 검증
+		Map<Line, ReqProductCreateDtoV1> valid = new LinkedHashMap<>();
+		for (Line line : chunk) {
+			try {
+				ReqProductCreateDtoV1 request = objectMapper.readValue(line.content(), ReqProductCreateDtoV1.class);
+				String error = validate(request, categories);
+				if (error != null) {
+					rows.errors.add(new RowError(line.lineNumber(), error));
+				} else {
+					valid.put(line, request);
+				}
+			} catch (JsonProcessingException e) {
+				rows.errors.add(new RowError(line.lineNumber(), "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage()));
+			}
+		}
+
+		// 2차: SKU 중복 검증 (청크 내 + 기존 등록분 일괄 조회)
+		Set<String> skuCodes = valid.values().stream()
+			.filter(request -> request.getVariants() != null)
+			.flatMap(request -> request.getVariants().stream())
+			.map(ReqProductCreateDtoV1.VariantRequest::getSkuCode)
+			.collect(Collectors.toSet());
+		Set<String> taken = skuCodes.isEmpty()
+			? new HashSet<>()
+			: new HashSet<>(productVariantRepository.findExistingSkuCodes(skuCodes));
+
+		for (Map.Entry<Line, ReqProductCreateDtoV1> entry : valid.entrySet()) {
+			ReqProductCreateDtoV1 request = entry.getValue();
+			List<String> rowSkus = request.getVariants() != null
+				? request.getVariants().stream().map(ReqProductCreateDtoV1.VariantRequest::getSkuCode).toList()
+				: List.of();
+
+			String duplicated = rowSkus.stream()
+				.filter(sku -> taken.contains(sku))
+				.findFirst()
+				.orElse(null);
+			if (duplicated != null || new HashSet<>(rowSkus).size() != rowSkus.size()) {
+				rows.errors.add(new RowError(entry.getKey().lineNumber(),
+					"이미 존재하거나 중복된 SKU 코드입니다: " + (duplicated != null ? duplicated : rowSkus)));
+				continue;
+			}
+			taken.addAll(rowSkus);
+			addRows(rows, ownerId, request);
+		}
+		return rows;
+	}
+
+	/**
+	 * 행 검증 (Bean Validation + 카테고리 + 옵션 조합)
+	 * @return 오류 메시지 (정상이면 null)
+	 */
+	private String validate(ReqProductCreateDtoV1 request, CategoryTreeSnapshot categories) {
+		Set<ConstraintViolation<ReqProductCreateDtoV1>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			return violations.stream()
+				.map(ConstraintViolation::getMessage)
+				.sorted()
+				.collect(Collectors.joining(", "));
+		}
+
+		if (!categories.isActive(request.getCategoryId())) {
+			return "카테고리를 찾을 수 없거나 비활성 상태입니다.";
+		}
+
+		List<ReqProductCreateDtoV1.OptionRequest> options = request.getOptions() != null ? request.getOptions() : List.of();
+		if (request.getVariants() == null) {
+			return null;
+		}
+		for (ReqProductCreateDtoV1.VariantRequest variant : request.getVariants()) {
+			if (variant.getSkuCode() == null || variant.getSkuCode().isBlank()) {
+				return "SKU 코드는 필수입니다.";
+			}
+			List<Integer> indexes = variant.getOptionValueIndexes() != null ? variant.getOptionValueIndexes() : List.of();
+			if (indexes.size() != options.size()) {
+				return "옵션값 인덱스 수가 옵션 수와 일치하지 않습니다: " + variant.getSkuCode();
+			}
+			for (int i = 0; i < indexes.size(); i++) {
+				Integer index = indexes.get(i);
+				if (index == null || index < 0 || index >= options.get(i).getValues().size()) {
+					return "옵션값 인덱스가 범위를 벗어났습니다: " + variant.getSkuCode();
+				}
+			}
+		}
+		return null;
+	}
+
+	private void addRows(ChunkRows rows, UUID ownerId, ReqProductCreateDtoV1 request) {
+		UUID productId = UUID.randomUUID();
+		boolean hasOptions = Boolean.TRUE.equals(request.getHasOptions())
+			|| (request.getOptions() != null && !request.getOptions().isEmpty());
+		int stockQuantity = request.getStockQuantity() != null ? request.getStockQuantity() : 0;
+
+		// 가격 범위 (Product.refreshPriceRange와 동일 규칙)
+		Long minPrice = request.getPrice();
+		Long maxPrice = request.getPrice();
+		if (hasOptions && request.getVariants() != null && !request.getVariants().isEmpty()) {
+			LongSummaryStatistics prices = request.getVariants().stream()
+				.mapToLong(ReqProductCreateDtoV1.VariantRequest::getPrice)
+				.summaryStatistics();
+			minPrice = prices.getMin();
+			maxPrice = prices.getMax();
+		}
+
+		rows.products.add(new ProductRow(productId, ownerId, request.getCategoryId(), request.getTitle(),
+			request.getDescription(), request.getThumbnailUrl(), hasOptions, request.getPrice(), minPrice, maxPrice,
+			stockQuantity));
+
+		// 옵션/옵션값 (요청 순서 기준 인덱스 → ID)
+		List<List<OptionValueRow>> valuesByOption = new ArrayList<>();
+		if (request.getOptions() != null) {
+			int optionSortOrder = 1;
+			for (ReqProductCreateDtoV1.OptionRequest optionReq : request.getOptions()) {
+				UUID optionId = UUID.randomUUID();
+				rows.options.add(new OptionRow(optionId, productId, optionReq.getName(),
+					optionReq.getSortOrder() != null ? optionReq.getSortOrder() : optionSortOrder++));
+
+				List<OptionValueRow> values = new ArrayList<>();
+				int valueSortOrder = 1;
+				for (ReqProductCreateDtoV1.OptionValueRequest valueReq : optionReq.getValues()) {
+					values.add(new OptionValueRow(UUID.randomUUID(), optionId, valueReq.getValue(),
+						valueReq.getSortOrder() != null ? valueReq.getSortOrder() : valueSortOrder++));
+				}
+				rows.optionValues.addAll(values);
+				valuesByOption.add(values);
+			}
+		}
+
+		if (request.getVariants() != null) {
+			for (ReqProductCreateDtoV1.VariantRequest variantReq : request.getVariants()) {
+				List<UUID> optionValueIds = new ArrayList<>();
+				List<String> names = new ArrayList<>();
+				List<Integer> indexes = variantReq.getOptionValueIndexes() != null
+					? variantReq.getOptionValueIndexes() : List.of();
+				for (int i = 0; i < indexes.size(); i++) {
+					OptionValueRow value = valuesByOption.get(i).get(indexes.get(i));
+					optionValueIds.add(value.optionValueId());
+					names.add(value.value());
+				}
+
+				UUID variantId = UUID.randomUUID();
+				rows.variants.add(new VariantRow(variantId, productId, variantReq.getSkuCode(), optionValueIds,
+					names.isEmpty() ? null : String.join(" / ", names), variantReq.getPrice(),
+					variantReq.getStockQuantity()));
+				if (hasOptions) {
+					rows.stocks.add(StockManagement.of(productId, variantId, variantReq.getStockQuantity()));
+				}
+			}
+		}
+
+		if (!hasOptions) {
+			rows.stocks.add(StockManagement.of(productId, null, stockQuantity));
+		}
+	}
+
+	private void saveErrors(UUID jobId, List<RowError> errors, int[] storedErrors) {
+		int remaining = maxStoredErrors - storedErrors[0];
+		if (errors.isEmpty() || remaining <= 0) {
+			return;
+		}
+
+		List<ProductImportError> entities = errors.stream()
+			.limit(remaining)
+			.map(error -> ProductImportError.builder()
+				.jobId(jobId)
+				.lineNumber(error.lineNumber())
+				.message(error.message())
+				.build())
+			.toList();
+		importErrorRepository.saveAll(entities);
+		storedErrors[0] += entities.size();
+	}
+
+	private void populateCaches(ChunkRows rows, LocalDateTime createdAt) {
+		if (rows.products.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, UUID> categoryIds = new LinkedHashMap<>();
+		Map<UUID, String> titles = new LinkedHashMap<>();
+		for (ProductRow product : rows.products) {
+			categoryIds.put(product.productId(), product.categoryId());
+			titles.put(product.productId(), product.title());
+		}
+
+		stockRedisService.syncStocks(rows.stocks);
+		listCacheService.addProducts(categoryIds, createdAt);
+		autocompleteRedisService.indexNew(titles);
+		searchCacheService.bumpGenerations(new HashSet<>(categoryIds.values()));
+	}
+
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("Failed to delete import file: {}", file, e);
+		}
+	}
+}
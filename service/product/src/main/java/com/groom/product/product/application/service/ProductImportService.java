@@ -0,0 +1,107 @@
+package com.groom.product.product.application.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.common.util.SecurityUtil;
+import com.groom.product.product.domain.entity.ProductImportJob;
+import com.groom.product.product.domain.repository.ProductImportErrorRepository;
+import com.groom.product.product.domain.repository.ProductImportJobRepository;
+import com.groom.product.product.presentation.dto.response.ResProductImportErrorDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductImportJobDtoV1;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 대량 등록 작업 서비스 (Owner)
+ *
+ * 업로드 파일은 임시 파일로 스트리밍 저장 후 비동기 실행기에 전달
+ * (요청 스레드에서는 파일 전체를 메모리에 올리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+	private final ProductImportJobRepository importJobRepository;
+	private final ProductImportErrorRepository importErrorRepository;
+	private final ProductImportRunner importRunner;
+
+	/**
+	 * 대량 등록 작업 생성 및 비동기 실행
+	 */
+	public ResProductImportJobDtoV1 startImport(MultipartFile file) {
+		UUID ownerId = SecurityUtil.getCurrentUserId();
+
+		if (file == null || file.isEmpty()) {
+			throw new CustomException(ErrorCode.PRODUCT_IMPORT_FILE_INVALID);
+		}
+
+		Path tempFile;
+		try {
+			tempFile = Files.createTempFile("product-import-", ".ndjson");
+			file.transferTo(tempFile);
+		} catch (IOException e) {
+			log.error("Failed to store import file: ownerId={}", ownerId, e);
+			throw new CustomException(ErrorCode.PRODUCT_IMPORT_FILE_INVALID);
+		}
+
+		ProductImportJob job = importJobRepository.save(ProductImportJob.builder()
+			.ownerId(ownerId)
+			.fileName(file.getOriginalFilename())
+			.build());
+
+		try {
+			importRunner.run(job.getId(), tempFile);
+		} catch (TaskRejectedException e) {
+			log.warn("Product import rejected: jobId={}", job.getId());
+			job.fail("작업 대기열이 가득 찼습니다.");
+			importJobRepository.save(job);
+			try {
+				Files.deleteIfExists(tempFile);
+			} catch (IOException ignored) {
+				// 임시 파일은 OS 정리에 맡김
+			}
+			throw new CustomException(ErrorCode.PRODUCT_IMPORT_BUSY);
+		}
+
+		return ResProductImportJobDtoV1.from(job);
+	}
+
+	/**
+	 * 작업 상태 조회
+	 */
+	public ResProductImportJobDtoV1 getJob(UUID jobId) {
+		return ResProductImportJobDtoV1.from(findOwnedJob(jobId));
+	}
+
+	/**
+	 * 작업 행 오류 목록 조회
+	 */
+	public Page<ResProductImportErrorDtoV1> getErrors(UUID jobId, Pageable pageable) {
+		ProductImportJob job = findOwnedJob(jobId);
+		return importErrorRepository.findByJobIdOrderByLineNumberAsc(job.getId(), pageable)
+			.map(ResProductImportErrorDtoV1::from);
+	}
+
+	private ProductImportJob findOwnedJob(UUID jobId) {
+		UUID ownerId = SecurityUtil.getCurrentUserId();
+		ProductImportJob job = importJobRepository.findById(jobId)
+			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND));
+		if (!job.isOwnedBy(ownerId)) {
+			throw new CustomException(ErrorCode.PRODUCT_ACCESS_DENIED);
+		}
+		return job;
+	}
+}
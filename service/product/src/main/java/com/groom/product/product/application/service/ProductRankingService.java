@@ -0,0 +1,73 @@
+package com.groom.product.product.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.groom.product.product.domain.enums.ProductRankingType;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
+import com.groom.product.product.infrastructure.cache.ProductRankingRedisService;
+import com.groom.product.product.presentation.dto.response.ResProductRankingDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 랭킹 서비스 (급상승/많이 본 상품)
+ * 점수는 Redis 버킷 합산으로만 계산하며 DB 집계 쿼리 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductRankingService {
+
+	public static final int MAX_SIZE = 100;
+
+	private final ProductRankingRedisService rankingRedisService;
+	private final ProductReadService productReadService;
+	private final ProductAutocompleteRedisService autocompleteRedisService;
+
+	/**
+	 * 상품 조회 기록 + 자동완성 접두어별 인기 상위 K 갱신
+	 * @param viewerKey 조회자 식별값 (순 조회자 집계용)
+	 */
+	public void recordView(UUID productId, String viewerKey) {
+		Double popularity = rankingRedisService.recordView(productId, viewerKey);
+		if (popularity != null) {
+			autocompleteRedisService.updatePopularity(productId, popularity);
+		}
+	}
+
+	/**
+	 * 랭킹 조회 (판매중이 아닌 상품은 제외, 순위는 제외 후 다시 매김)
+	 */
+	public List<ResProductRankingDtoV1> getRanking(ProductRankingType type, int size) {
+		int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+
+		Map<UUID, Double> scores = rankingRedisService.getTopProducts(type, limit);
+		if (scores.isEmpty()) {
+			return List.of();
+		}
+
+		List<UUID> productIds = new ArrayList<>(scores.keySet());
+		Map<UUID, ResProductSearchDtoV1> summaries = productReadService.getProductSummaries(productIds);
+		List<Long> uniqueViewers = rankingRedisService.countUniqueViewers(productIds);
+
+		List<ResProductRankingDtoV1> ranking = new ArrayList<>();
+		for (int i = 0; i < productIds.size(); i++) {
+			ResProductSearchDtoV1 summary = summaries.get(productIds.get(i));
+			if (summary == null) {
+				continue;
+			}
+			ranking.add(ResProductRankingDtoV1.builder()
+				.rank(ranking.size() + 1)
+				.score(scores.get(productIds.get(i)))
+				.uniqueViewers(uniqueViewers.get(i))
+				.product(summary)
+				.build());
+		}
+		return ranking;
+	}
+}
@@ -1,6 +1,10 @@
 package com.groom.product.product.application.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -9,17 +13,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.enums.ProductSortType;
 import com.groom.product.product.domain.enums.ProductStatus;
-import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.product.infrastructure.cache.CachedProductDetail;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.repository.ProductDetailQueryRepository;
 import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.product.presentation.dto.response.ResProductBatchDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.product.review.application.service.ProductRatingQueryService;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
  * [조회 흐름]
  * 1. Redis 캐시 조회 (ZRANGE + MGET)
  * 2. 캐시 미스 시 DB 조회 → 캐시 적재 (Lazy Loading)
+ * 3. 리뷰 평점은 평점 해시에서 페이지 단위로 일괄 조회하여 응답 시 결합
  */
 @Slf4j
 @Service
@@ -39,7 +48,9 @@ public class ProductReadService {
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
 	private final ProductQueryRepository productQueryRepository;
-	private final ProductRepository productRepository;
+	private final ProductDetailQueryRepository productDetailQueryRepository;
+	private final CategoryServiceV1 categoryService;
+	private final ProductRatingQueryService productRatingQueryService;
 	private final ConcurrentHashMap<String, Object> mutexMap = new ConcurrentHashMap<>();
 
 	/**
@@ -67,14 +78,8 @@ public class ProductReadService {
 			}
 		}
 
-		// 2. MGET으로 상세 일괄 조회
-		List<CachedProductDetail> details = detailCacheService.multiGetAsList(productIds);
-
-		// 3. DTO 변환 (null 제외)
-		List<ResProductSearchDtoV1> content = details.stream()
-			.filter(detail -> detail != null)
-			.map(this::toSearchDto)
-			.toList();
+		// 2. MGET으로 상세 일괄 조회 (만료된 상세는 DB 보충) + 평점 일괄 조회
+		List<ResProductSearchDtoV1> content = toSearchDtos(productIds);
 
 		// 4. 전체 개수 조회
 		long totalCount = listCacheService.getCachedTotalCount(categoryId);
@@ -86,6 +91,51 @@ public class ProductReadService {
 		return new PageImpl<>(content, pageable, totalCount);
 	}
 
+	/**
+	 * 하위 카테고리 포함 상품 목록 조회 (Redis ZUNIONSTORE + DB Fallback)
+	 */
+	@Transactional(readOnly = true)
+	public Page<ResProductSearchDtoV1> getProductTreeList(UUID categoryId, Pageable pageable) {
+		List<UUID> categoryIds = categoryService.getSubtreeCategoryIds(categoryId);
+
+		// 하위 카테고리가 없으면 단일 카테고리 목록과 동일
+		if (categoryIds.size() <= 1) {
+			return getProductList(categoryId, pageable);
+		}
+
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+
+		// 1. 하위 카테고리 ZSET 합집합에서 ID 리스트 조회
+		List<UUID> productIds = listCacheService.getSubtreeProductIds(categoryId, categoryIds, offset, size);
+
+		// 캐시 미스 → DB 조회 후 캐시 적재
+		if (productIds.isEmpty()) {
+			String lockKey = "tree:" + categoryId + ":" + pageable.getPageNumber();
+			synchronized (mutexMap.computeIfAbsent(lockKey, k -> new Object())) {
+				// Double Check
+				productIds = listCacheService.getSubtreeProductIds(categoryId, categoryIds, offset, size);
+				if (productIds.isEmpty()) {
+					log.debug("Cache miss for product tree list: categoryId={}, page={}",
+						categoryId, pageable.getPageNumber());
+					return loadTreeListFromDbAndCache(categoryId, categoryIds, pageable);
+				}
+			}
+		}
+
+		// 2. MGET으로 상세 일괄 조회 (만료된 상세는 DB 보충) + 평점 일괄 조회
+		List<ResProductSearchDtoV1> content = toSearchDtos(productIds);
+
+		// 3. 전체 개수 조회
+		long totalCount = listCacheService.getCachedSubtreeTotalCount(categoryId);
+		if (totalCount == -1) {
+			totalCount = productQueryRepository.countProductsForBuyerInCategories(categoryIds);
+			listCacheService.setSubtreeTotalCount(categoryId, totalCount);
+		}
+
+		return new PageImpl<>(content, pageable, totalCount);
+	}
+
 	/**
 	 * 상품 상세 조회 (Redis + DB Fallback)
 	 */
@@ -99,7 +149,139 @@ public class ProductReadService {
 			return loadDetailFromDbAndCache(productId);
 		}
 
-		return cached.toResponseDto();
+		return toDetailDto(cached, productRatingQueryService.getRating(productId));
+	}
+
+	/**
+	 * 상품 상세 일괄 조회 (MGET + 미스 일괄 DB 조회)
+	 * @param productIds 요청 상품 ID 목록 (중복 허용, 응답은 요청 순서 유지)
+	 */
+	@Transactional(readOnly = true)
+	public ResProductBatchDtoV1 getProductDetails(List<UUID> productIds) {
+		List<UUID> distinctIds = productIds.stream().distinct().toList();
+
+		// 1. MGET 한 번으로 캐시 조회
+		Map<UUID, CachedProductDetail> cached = detailCacheService.multiGet(distinctIds);
+
+		Map<UUID, ProductRatingSummary> ratings = productRatingQueryService.getRatings(distinctIds);
+
+		Map<UUID, ResProductDetailDtoV1> found = new HashMap<>();
+		cached.forEach((id, detail) -> found.put(id, toDetailDto(detail, ratingOf(ratings, id))));
+
+		// 2. 캐시 미스 → DB 일괄 조회 후 캐시 적재
+		List<UUID> missIds = distinctIds.stream()
+			.filter(id -> !cached.containsKey(id))
+			.toList();
+
+		if (!missIds.isEmpty()) {
+			log.debug("Cache miss for product batch: requested={}, missed={}", distinctIds.size(), missIds.size());
+			loadDetailsFromDbAndCache(missIds)
+				.forEach(detail -> found.put(detail.getProductId(),
+					toDetailDto(detail, ratingOf(ratings, detail.getProductId()))));
+		}
+
+		return ResProductBatchDtoV1.of(productIds, found);
+	}
+
+	/**
+	 * 다수 상품 요약 조회 (랭킹 등 ID 목록 기반 화면용, MGET + 미스 일괄 DB 조회)
+	 * @return productId → 목록용 DTO (존재하지 않거나 판매중이 아닌 상품은 제외)
+	 */
+	@Transactional(readOnly = true)
+	public Map<UUID, ResProductSearchDtoV1> getProductSummaries(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<UUID, CachedProductDetail> details = new HashMap<>(detailCacheService.multiGet(productIds));
+
+		List<UUID> missIds = productIds.stream()
+			.filter(id -> !details.containsKey(id))
+			.toList();
+		if (!missIds.isEmpty()) {
+			loadDetailsFromDbAndCache(missIds)
+				.forEach(detail -> details.put(detail.getProductId(), detail));
+		}
+
+		Map<UUID, ProductRatingSummary> ratings = productRatingQueryService.getRatings(productIds);
+
+		Map<UUID, ResProductSearchDtoV1> summaries = new HashMap<>();
+		details.forEach((id, detail) -> summaries.put(id, toSearchDto(detail, ratings)));
+		return summaries;
+	}
+
+	/**
+	 * 상품 상세 ETag (상세 캐시 버전 기반, 본문 역직렬화 없음)
+	 * @return 캐시 미적재 시 null
+	 */
+	public String getProductDetailETag(UUID productId) {
+		long version = detailCacheService.getVersion(productId);
+		return version > 0 ? "\"pd-" + version + "\"" : null;
+	}
+
+	/**
+	 * 상품 목록 ETag (페이지 상품 ID + 각 상세 캐시 버전 + 전체 개수)
+	 * ZREVRANGE + 버전 MGET만 수행하고 상세 문서는 읽지 않음
+	 * @return 목록/개수 캐시 미적재 시 null
+	 */
+	public String getProductListETag(UUID categoryId, boolean includeSubcategories, Pageable pageable) {
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+
+		List<UUID> productIds;
+		long totalCount;
+
+		List<UUID> categoryIds = includeSubcategories && categoryId != null
+			? categoryService.getSubtreeCategoryIds(categoryId)
+			: List.of();
+
+		if (categoryIds.size() > 1) {
+			productIds = listCacheService.getSubtreeProductIds(categoryId, categoryIds, offset, size);
+			totalCount = listCacheService.getCachedSubtreeTotalCount(categoryId);
+		} else {
+			productIds = listCacheService.getProductIds(categoryId, offset, size);
+			totalCount = listCacheService.getCachedTotalCount(categoryId);
+		}
+
+		if (productIds.isEmpty() || totalCount == -1) {
+			return null;
+		}
+
+		List<String> versions = detailCacheService.multiGetVersions(productIds);
+		if (versions.size() != productIds.size() || versions.contains(null)) {
+			return null;
+		}
+
+		StringBuilder source = new StringBuilder().append(totalCount);
+		for (int i = 0; i < productIds.size(); i++) {
+			source.append('|').append(productIds.get(i)).append(':').append(versions.get(i));
+		}
+
+		return "\"pl-" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	/**
+	 * 상품 상세 사전 직렬화 응답 조회 (객체 매핑 없음)
+	 * 바이트 미스 시 구조화 캐시로 생성하여 적재
+	 * @return 응답 JSON 바이트 (모드 비활성 또는 구조화 캐시 미스 시 null → 일반 경로 사용)
+	 */
+	public byte[] getProductDetailJson(UUID productId) {
+		if (!detailCacheService.isRawResponseEnabled()) {
+			return null;
+		}
+
+		byte[] raw = detailCacheService.getRawResponse(productId);
+		if (raw != null) {
+			return raw;
+		}
+
+		CachedProductDetail cached = detailCacheService.get(productId);
+		if (cached == null) {
+			return null;
+		}
+
+		return detailCacheService.putRawResponse(productId,
+			toDetailDto(cached, productRatingQueryService.getRating(productId)));
 	}
 
 	/**
@@ -127,36 +309,83 @@ public class ProductReadService {
 		log.info("Loaded {} products from DB and cached: categoryId={}", products.getNumberOfElements(), categoryId);
 
 		// DTO 변환
-		return products.map(ResProductSearchDtoV1::from);
+		return toSearchPage(products);
+	}
+
+	/**
+	 * DB에서 하위 카테고리 포함 목록 조회 후 캐시 적재
+	 */
+	private Page<ResProductSearchDtoV1> loadTreeListFromDbAndCache(UUID categoryId, List<UUID> categoryIds,
+		Pageable pageable) {
+		Page<Product> products = productQueryRepository.searchProductsForBuyerInCategories(
+			null, categoryIds, null, null, ProductSortType.NEWEST, pageable
+		);
+
+		listCacheService.setSubtreeTotalCount(categoryId, products.getTotalElements());
+
+		if (products.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		// 개별 카테고리 ZSET에 적재 후 합집합은 다음 조회 시 재병합
+		products.forEach(product -> {
+			listCacheService.addProduct(product);
+			detailCacheService.put(product);
+		});
+		listCacheService.evictSubtree(categoryId);
+
+		log.info("Loaded {} products from DB and cached: categoryId={} (subtree)",
+			products.getNumberOfElements(), categoryId);
+
+		return toSearchPage(products);
 	}
 
 	/**
 	 * DB에서 상세 조회 후 캐시 적재 (Lazy Loading)
 	 */
 	private ResProductDetailDtoV1 loadDetailFromDbAndCache(UUID productId) {
-		// DB 조회 (옵션, Variant 포함)
-		Product product = productRepository.findByIdWithCategory(productId).orElse(null);
+		// 프로젝션 조회 (옵션, 옵션값, Variant 포함 / 엔티티 미적재)
+		CachedProductDetail detail = productDetailQueryRepository.findDetail(productId).orElse(null);
 
-		if (product == null || product.isDeleted()) {
+		if (detail == null) {
 			return null;
 		}
 
 		// 판매중이 아닌 상품은 조회 불가
-		if (product.getStatus() != ProductStatus.ON_SALE) {
+		if (detail.getStatus() != ProductStatus.ON_SALE) {
 			return null;
 		}
 
-		// 옵션, Variant 로딩
-		productRepository.findByIdWithOptionsOnly(productId);
-		productRepository.findByIdWithVariantsOnly(productId);
-
 		// 캐시 적재
-		listCacheService.addProduct(product);
-		detailCacheService.put(product);
+		listCacheService.addProduct(detail.getProductId(), detail.getCategoryId(), detail.getCreatedAt());
+		detailCacheService.put(detail);
 
 		log.info("Loaded product from DB and cached: productId={}", productId);
 
-		return ResProductDetailDtoV1.from(product, null, null, null);
+		return toDetailDto(detail, productRatingQueryService.getRating(productId));
+	}
+
+	/**
+	 * DB에서 다수 상세 조회 후 캐시 적재
+	 * 단건 미스와 같은 프로젝션 쿼리를 IN 조건으로 실행 (엔티티 하이드레이션 없음, 미스 개수와 무관하게 2쿼리)
+	 */
+	private List<CachedProductDetail> loadDetailsFromDbAndCache(List<UUID> productIds) {
+		List<CachedProductDetail> details = productDetailQueryRepository.findDetails(productIds).stream()
+			.filter(detail -> detail.getStatus() == ProductStatus.ON_SALE)
+			.toList();
+
+		if (details.isEmpty()) {
+			return List.of();
+		}
+
+		details.forEach(detail -> {
+			listCacheService.addProduct(detail.getProductId(), detail.getCategoryId(), detail.getCreatedAt());
+			detailCacheService.put(detail);
+		});
+
+		log.info("Loaded {} products from DB and cached (batch)", details.size());
+
+		return details;
 	}
 
 	/**
@@ -166,7 +395,50 @@ public class ProductReadService {
 		return detailCacheService.exists(productId);
 	}
 
-	private ResProductSearchDtoV1 toSearchDto(CachedProductDetail detail) {
+	private Page<ResProductSearchDtoV1> toSearchPage(Page<Product> products) {
+		Map<UUID, ProductRatingSummary> ratings = productRatingQueryService.getRatings(
+			products.getContent().stream().map(Product::getId).toList());
+
+		return products.map(product -> {
+			ProductRatingSummary rating = ratingOf(ratings, product.getId());
+			return ResProductSearchDtoV1.from(product, rating.avgRating(), rating.reviewCount(), null);
+		});
+	}
+
+	/**
+	 * 목록 ID 순서대로 목록용 DTO 변환
+	 * 목록 ZSET은 만료되지 않고 상세 키는 만료되므로, MGET 미스는 DB 일괄 조회로 보충 (판매중이 아닌 상품만 제외)
+	 */
+	private List<ResProductSearchDtoV1> toSearchDtos(List<UUID> productIds) {
+		Map<UUID, CachedProductDetail> details = new HashMap<>(detailCacheService.multiGet(productIds));
+
+		List<UUID> missIds = productIds.stream()
+			.filter(id -> !details.containsKey(id))
+			.toList();
+		if (!missIds.isEmpty()) {
+			log.debug("Cache miss for product list details: requested={}, missed={}", productIds.size(), missIds.size());
+			loadDetailsFromDbAndCache(missIds)
+				.forEach(detail -> details.put(detail.getProductId(), detail));
+		}
+
+		Map<UUID, ProductRatingSummary> ratings = productRatingQueryService.getRatings(productIds);
+		return productIds.stream()
+			.map(details::get)
+			.filter(Objects::nonNull)
+			.map(detail -> toSearchDto(detail, ratings))
+			.toList();
+	}
+
+	private ResProductDetailDtoV1 toDetailDto(CachedProductDetail detail, ProductRatingSummary rating) {
+		return detail.toResponseDto(rating.avgRating(), rating.reviewCount(), rating.histogram());
+	}
+
+	private ProductRatingSummary ratingOf(Map<UUID, ProductRatingSummary> ratings, UUID productId) {
+		return ratings.getOrDefault(productId, ProductRatingSummary.EMPTY);
+	}
+
+	private ResProductSearchDtoV1 toSearchDto(CachedProductDetail detail, Map<UUID, ProductRatingSummary> ratings) {
+		ProductRatingSummary rating = ratingOf(ratings, detail.getProductId());
 		return ResProductSearchDtoV1.builder()
 			.productId(detail.getProductId())
 			.title(detail.getTitle())
@@ -174,8 +446,8 @@ public class ProductReadService {
 			.status(detail.getStatus())
 			.minPrice(detail.getMinPrice())
 			.maxPrice(detail.getMaxPrice())
-			.avgRating(null)
-			.reviewCount(null)
+			.avgRating(rating.avgRating())
+			.reviewCount(rating.reviewCount())
 			.categoryName(detail.getCategoryName())
 			.ownerStoreName(null)
 			.build();
@@ -1,14 +1,18 @@
 package com.groom.product.product.application.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,12 +30,21 @@ import com.groom.product.product.domain.entity.ProductVariant;
 import com.groom.product.product.domain.enums.ProductSortType;
 import com.groom.product.product.domain.enums.ProductStatus;
 import com.groom.product.product.domain.enums.VariantStatus;
+import com.groom.product.product.domain.repository.CategoryRepository;
 import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.groom.product.product.infrastructure.cache.CachedSearchResult;
+import com.groom.product.product.infrastructure.cache.CategoryTreeSnapshot;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
 import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductDetailQueryRepository;
 import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.StockChangeResult;
 import com.groom.product.product.presentation.dto.request.ReqProductCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqProductSuspendDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqProductUpdateDtoV1;
@@ -40,6 +53,8 @@ import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1
 import com.groom.product.product.presentation.dto.response.ResProductDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductListDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.product.review.application.service.ProductRatingQueryService;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
 
 import lombok.RequiredArgsConstructor;
 
@@ -48,13 +63,24 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProductServiceV1 {
 
+	// 검색 결과 캐시 대상 페이지 (깊은 페이지는 재사용률이 낮아 캐시하지 않음)
+	private static final int MAX_CACHED_SEARCH_PAGE = 10;
+
 	private final ProductRepository productRepository;
 	private final ProductVariantRepository productVariantRepository;
 	private final ProductQueryRepository productQueryRepository;
+	private final ProductDetailQueryRepository productDetailQueryRepository;
+	private final ProductStockJdbcRepository stockJdbcRepository;
 	private final CategoryServiceV1 categoryService;
+	private final CategoryRepository categoryRepository;
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
 	private final StockRedisService stockRedisService;
+	private final ProductRatingQueryService productRatingQueryService;
+	private final ProductAutocompleteRedisService autocompleteRedisService;
+	private final ProductSearchCacheService searchCacheService;
+	private final ProductReadService productReadService;
+	private final AuditorAware<String> auditorAware;
 
 	/**
 	 * 상품 등록 (Owner)
@@ -63,7 +89,9 @@ public class ProductServiceV1 {
 	public ResProductCreateDtoV1 createProduct(ReqProductCreateDtoV1 request) {
 		UUID ownerId = SecurityUtil.getCurrentUserId();
 
-		Category category = categoryService.findActiveCategoryById(request.getCategoryId());
+		// 활성 여부는 스냅샷으로 검증, 연관관계에는 FK용 참조만 설정
+		CategoryTreeSnapshot.Node categoryNode = categoryService.getActiveCategory(request.getCategoryId());
+		Category category = categoryRepository.getReferenceById(categoryNode.id());
 
 		// 옵션 존재 여부 결정
 		boolean hasOptions = Boolean.TRUE.equals(request.getHasOptions())
@@ -157,6 +185,8 @@ public class ProductServiceV1 {
 		// 캐시에 추가
 		listCacheService.addProduct(savedProduct);
 		detailCacheService.put(savedProduct);
+		autocompleteRedisService.index(savedProduct);
+		searchCacheService.bumpGenerations(List.of(savedProduct.getCategory().getId()));
 
 		return ResProductCreateDtoV1.from(savedProduct);
 	}
@@ -218,7 +248,8 @@ public class ProductServiceV1 {
 
 		Category category = null;
 		if (request.getCategoryId() != null) {
-			category = categoryService.findActiveCategoryById(request.getCategoryId());
+			CategoryTreeSnapshot.Node categoryNode = categoryService.getActiveCategory(request.getCategoryId());
+			category = categoryRepository.getReferenceById(categoryNode.id());
 		}
 
 		product.update(
@@ -233,6 +264,8 @@ public class ProductServiceV1 {
 
 		// 캐시 업데이트
 		detailCacheService.put(product);
+		autocompleteRedisService.index(product);
+		searchCacheService.bumpGenerations(List.of(oldCategoryId, product.getCategory().getId()));
 		if (category != null && !category.getId().equals(oldCategoryId)) {
 			// 카테고리 변경 시 목록 캐시 이동
 			listCacheService.moveProduct(product, oldCategoryId);
@@ -257,6 +290,8 @@ public class ProductServiceV1 {
 		// 캐시에서 제거
 		listCacheService.removeProduct(productId, categoryId);
 		detailCacheService.delete(productId);
+		autocompleteRedisService.remove(productId);
+		searchCacheService.bumpGenerations(List.of(categoryId));
 	}
 
 	/**
@@ -279,10 +314,70 @@ public class ProductServiceV1 {
 		ProductSortType sortType,
 		Pageable pageable
 	) {
-		Page<Product> products = productQueryRepository.searchProductsForBuyer(
-			keyword, categoryId, minPrice, maxPrice, sortType, pageable
+		return searchProducts(categoryId, false, keyword, minPrice, maxPrice, sortType, pageable);
+	}
+
+	/**
+	 * 상품 목록 조회 (구매자용 - 검색/필터링, 하위 카테고리 포함 옵션)
+	 */
+	public Page<ResProductSearchDtoV1> searchProducts(
+		UUID categoryId,
+		boolean includeSubcategories,
+		String keyword,
+		Long minPrice,
+		Long maxPrice,
+		ProductSortType sortType,
+		Pageable pageable
+	) {
+		List<UUID> categoryIds = null;
+		if (categoryId != null) {
+			categoryIds = includeSubcategories
+				? categoryService.getSubtreeCategoryIds(categoryId)
+				: List.of(categoryId);
+		}
+
+		// 캐시 키와 DB 조회에 같은 정규화 검색어 사용
+		String normalizedKeyword = ProductSearchCacheService.normalizeKeyword(keyword);
+
+		String cacheKey = pageable.getPageNumber() < MAX_CACHED_SEARCH_PAGE
+			? searchCacheService.buildKey(normalizedKeyword, categoryIds, minPrice, maxPrice, sortType, pageable)
+			: null;
+
+		if (cacheKey != null) {
+			CachedSearchResult cached = searchCacheService.get(cacheKey);
+			searchCacheService.recordLookup(
+				ProductSearchCacheService.queryClass(normalizedKeyword, categoryIds, minPrice, maxPrice),
+				cached != null);
+
+			// 캐시 히트 → 상세 캐시 MGET으로 본문 구성 (정렬 순서 유지)
+			if (cached != null) {
+				Map<UUID, ResProductSearchDtoV1> summaries =
+					productReadService.getProductSummaries(cached.getProductIds());
+				List<ResProductSearchDtoV1> content = cached.getProductIds().stream()
+					.map(summaries::get)
+					.filter(Objects::nonNull)
+					.toList();
+				return new PageImpl<>(content, pageable, cached.getTotalCount());
+			}
+		}
+
+		Page<Product> products = productQueryRepository.searchProductsForBuyerInCategories(
+			normalizedKeyword, categoryIds, minPrice, maxPrice, sortType, pageable
 		);
-		return products.map(ResProductSearchDtoV1::from);
+
+		if (cacheKey != null) {
+			searchCacheService.put(cacheKey,
+				products.getContent().stream().map(Product::getId).toList(),
+				products.getTotalElements());
+		}
+
+		Map<UUID, ProductRatingSummary> ratings = productRatingQueryService.getRatings(
+			products.getContent().stream().map(Product::getId).toList());
+
+		return products.map(product -> {
+			ProductRatingSummary rating = ratings.getOrDefault(product.getId(), ProductRatingSummary.EMPTY);
+			return ResProductSearchDtoV1.from(product, rating.avgRating(), rating.reviewCount(), null);
+		});
 	}
 
 	/**
@@ -290,29 +385,18 @@ public class ProductServiceV1 {
 	 */
 	@Transactional(readOnly = true)
 	public ResProductDetailDtoV1 getProductDetail(UUID productId) {
-		// Step 1: 상품 + 카테고리 조회
-		Product product = productRepository.findByIdWithCategory(productId)
+		// 프로젝션 조회 (상품/카테고리/옵션/옵션값 1회 + variants 1회, 엔티티 미적재)
+		CachedProductDetail detail = productDetailQueryRepository.findDetail(productId)
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
-		// 삭제된 상품은 조회 불가
-		if (product.isDeleted()) {
-			throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
-		}
-
 		// 판매중이 아닌 상품은 조회 불가 (구매자용)
-		if (product.getStatus() != ProductStatus.ON_SALE) {
+		if (detail.getStatus() != ProductStatus.ON_SALE) {
 			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE);
 		}
 
-		// Step 2: 옵션 + 옵션값 조회 (같은 영속성 컨텍스트)
-		productRepository.findByIdWithOptionsOnly(productId);
-
-		// Step 3: variants 조회 (같은 영속성 컨텍스트)
-		productRepository.findByIdWithVariantsOnly(productId);
-
-		// TODO: Review 도메인에서 avgRating, reviewCount 조회
 		// TODO: User 도메인에서 ownerStoreName 조회
-		return ResProductDetailDtoV1.from(product, null, null, null);
+		ProductRatingSummary rating = productRatingQueryService.getRating(productId);
+		return detail.toResponseDto(rating.avgRating(), rating.reviewCount(), rating.histogram());
 	}
 
 	/**
@@ -334,6 +418,8 @@ public class ProductServiceV1 {
 		// 캐시에서 제거 (정지된 상품은 목록에서 미노출)
 		listCacheService.removeProduct(productId, product.getCategory().getId());
 		detailCacheService.delete(productId);
+		autocompleteRedisService.remove(productId);
+		searchCacheService.bumpGenerations(List.of(product.getCategory().getId()));
 
 		return ResProductDtoV1.from(product);
 	}
@@ -349,6 +435,8 @@ public class ProductServiceV1 {
 		// 캐시에 다시 추가
 		listCacheService.addProduct(product);
 		detailCacheService.put(product);
+		autocompleteRedisService.index(product);
+		searchCacheService.bumpGenerations(List.of(product.getCategory().getId()));
 
 		return ResProductDtoV1.from(product);
 	}
@@ -421,54 +509,66 @@ public class ProductServiceV1 {
 
 	/**
 	 * 단일 상품 재고 차감 (내부용 - 결제 확정 시 호출)
+	 * 엔티티 조회 없이 조건부 UPDATE 1회로 검증(상품 일치, 재고 충분) + 차감 + 품절 전환
 	 */
 	@Transactional
 	protected void decreaseStock(UUID productId, UUID variantId, int quantity) {
-		if (variantId != null) {
-			// 옵션 상품 차감
-			ProductVariant variant = productVariantRepository.findById(variantId)
-				.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
-
-			if (!variant.getProduct().getId().equals(productId)) {
-				throw new CustomException(ErrorCode.VARIANT_NOT_FOUND);
-			}
-
-			variant.decreaseStock(quantity);
-		} else {
-			// 단일 상품 차감
-			Product product = findProductById(productId);
-
-			if (Boolean.TRUE.equals(product.getHasOptions())) {
-				throw new CustomException(ErrorCode.VARIANT_REQUIRED);
-			}
-
-			product.decreaseStock(quantity);
+		String updatedBy = currentAuditor();
+		LocalDateTime now = LocalDateTime.now();
+		StockChangeResult result = (variantId != null
+			? stockJdbcRepository.decreaseVariantStock(productId, variantId, quantity, updatedBy, now)
+			: stockJdbcRepository.decreaseProductStock(productId, quantity, updatedBy, now))
+			.orElseThrow(() -> stockChangeFailure(productId, variantId));
+
+		// 품절 전환 시 상세 캐시 + 검색 결과의 상태 반영
+		if (result.isSoldOut()) {
+			detailCacheService.delete(productId);
+			searchCacheService.bumpGenerations(List.of(result.categoryId()));
 		}
 	}
 
 	/**
 	 * 재고 복원 (내부용 - 주문 취소/환불 확정 시 호출)
+	 * 조건부 UPDATE 1회로 증가 + 판매중 전환
 	 */
 	@Transactional
 	protected void increaseStock(UUID productId, UUID variantId, int quantity) {
-		if (variantId != null) {
-			ProductVariant variant = productVariantRepository.findById(variantId)
-				.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
-
-			if (!variant.getProduct().getId().equals(productId)) {
-				throw new CustomException(ErrorCode.VARIANT_NOT_FOUND);
-			}
+		String updatedBy = currentAuditor();
+		LocalDateTime now = LocalDateTime.now();
+		StockChangeResult result = (variantId != null
+			? stockJdbcRepository.increaseVariantStock(productId, variantId, quantity, updatedBy, now)
+			: stockJdbcRepository.increaseProductStock(productId, quantity, updatedBy, now))
+			.orElseThrow(() -> stockChangeFailure(productId, variantId));
+
+		// 품절 → 판매중 전환 가능성 (이전 재고 0) 시 상세 캐시 + 검색 결과의 상태 반영
+		if (result.stockQuantity() == quantity) {
+			detailCacheService.delete(productId);
+			searchCacheService.bumpGenerations(List.of(result.categoryId()));
+		}
+	}
 
-			variant.increaseStock(quantity);
-		} else {
-			Product product = findProductById(productId);
+	/**
+	 * 감사 필드용 수정자 (엔티티 저장 시 JPA Auditing과 같은 값)
+	 */
+	private String currentAuditor() {
+		return auditorAware.getCurrentAuditor().orElse(null);
+	}
 
-			if (Boolean.TRUE.equals(product.getHasOptions())) {
-				throw new CustomException(ErrorCode.VARIANT_REQUIRED);
-			}
+	/**
+	 * 조건부 재고 변경 실패 원인 판별 (실패 경로에서만 조회)
+	 */
+	private CustomException stockChangeFailure(UUID productId, UUID variantId) {
+		if (variantId != null) {
+			return productVariantRepository.findByIdAndProductId(variantId, productId).isPresent()
+				? new CustomException(ErrorCode.STOCK_NOT_ENOUGH)
+				: new CustomException(ErrorCode.VARIANT_NOT_FOUND);
+		}
 
-			product.increaseStock(quantity);
+		Product product = findProductById(productId);
+		if (Boolean.TRUE.equals(product.getHasOptions())) {
+			return new CustomException(ErrorCode.VARIANT_REQUIRED);
 		}
+		return new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
 	}
 
 	public ProductVariant findVariantById(UUID variantId) {
@@ -517,7 +617,7 @@ public class ProductServiceV1 {
 	 */
 	@Transactional
 	public void confirmStock(UUID productId, UUID variantId, int quantity) {
-		// DB 실재고 차감 (엔티티 메서드 호출 → 상태 자동 변경)
+		// DB 실재고 차감 (조건부 UPDATE ... RETURNING 1회, 품절 전환도 같은 문장에서 처리)
 		decreaseStock(productId, variantId, quantity);
 	}
 
@@ -540,7 +640,7 @@ public class ProductServiceV1 {
 		// 1. Redis 가용 재고 복구
 		stockRedisService.release(productId, variantId, quantity);
 
-		// 2. DB 실재고 복구 (엔티티 메서드 호출 → 상태 자동 변경)
+		// 2. DB 실재고 복구 (조건부 UPDATE ... RETURNING 1회, 판매중 전환도 같은 문장에서 처리)
 		increaseStock(productId, variantId, quantity);
 	}
 
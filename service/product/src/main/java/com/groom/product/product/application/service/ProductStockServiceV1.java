@@ -0,0 +1,206 @@
+package com.groom.product.product.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.common.util.SecurityUtil;
+import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.application.event.dto.StockBatchUpdatedEvent;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.LockedStock;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.StockUpdate;
+import com.groom.product.product.presentation.dto.request.ReqStockBulkUpdateDtoV1;
+import com.groom.product.product.presentation.dto.response.ResStockBulkUpdateDtoV1;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 일괄 변경 서비스 (Owner - 창고 시스템 연동)
+ *
+ * 요청 배치 전체를 하나의 트랜잭션으로 처리
+ * - 대상 행은 소유자 조건으로 IN 조회하며 잠금 (청크당 1쿼리)
+ * - 진행 중인 주문 가점유 수량보다 적은 재고로의 변경은 행 단위로 거절 (가용 재고 음수 방지)
+ * - 변경분만 조건부 배치 UPDATE
+ * - 커밋 이후 StockBatchUpdatedEvent 1건으로 Redis 가용 재고/상세·검색 캐시 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockServiceV1 {
+
+	private static final int LOCK_CHUNK_SIZE = 1000;
+
+	private final ProductStockJdbcRepository stockJdbcRepository;
+	private final StockRedisService stockRedisService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private record StockKey(UUID productId, UUID variantId) {
+	}
+
+	@Transactional
+	public ResStockBulkUpdateDtoV1 updateStocks(ReqStockBulkUpdateDtoV1 request) {
+		UUID ownerId = SecurityUtil.getCurrentUserId();
+
+		// 동일 대상이 반복되면 마지막 값 적용 (요청 순서 유지)
+		Map<StockKey, Integer> requested = new LinkedHashMap<>();
+		for (ReqStockBulkUpdateDtoV1.StockItem item : request.getItems()) {
+			StockKey key = new StockKey(item.getProductId(), item.getVariantId());
+			requested.remove(key);
+			requested.put(key, item.getStockQuantity());
+		}
+
+		List<UUID> variantIds = requested.keySet().stream()
+			.map(StockKey::variantId)
+			.filter(Objects::nonNull)
+			.toList();
+		List<UUID> productIds = requested.keySet().stream()
+			.filter(key -> key.variantId() == null)
+			.map(StockKey::productId)
+			.toList();
+
+		Map<StockKey, LockedStock> locked = new LinkedHashMap<>();
+		lockInChunks(variantIds, ids -> stockJdbcRepository.lockVariants(ownerId, ids), locked);
+		lockInChunks(productIds, ids -> stockJdbcRepository.lockProducts(ownerId, ids), locked);
+
+		List<StockUpdate> variantUpdates = new ArrayList<>();
+		List<StockUpdate> productUpdates = new ArrayList<>();
+		List<ResStockBulkUpdateDtoV1.FailedItem> failedItems = new ArrayList<>();
+		int unchanged = 0;
+
+		for (Map.Entry<StockKey, Integer> entry : requested.entrySet()) {
+			StockKey key = entry.getKey();
+			LockedStock current = locked.get(key);
+			if (current == null) {
+				failedItems.add(failed(key, key.variantId() != null
+					? "SKU를 찾을 수 없거나 접근 권한이 없습니다."
+					: "상품을 찾을 수 없거나 옵션 상품이거나 접근 권한이 없습니다."));
+				continue;
+			}
+
+			int newStock = entry.getValue();
+			if (current.stockQuantity() == newStock) {
+				unchanged++;
+				continue;
+			}
+
+			StockUpdate update = new StockUpdate(key.productId(), key.variantId(), current.categoryId(),
+				current.stockQuantity(), newStock);
+			if (key.variantId() != null) {
+				variantUpdates.add(update);
+			} else {
+				productUpdates.add(update);
+			}
+		}
+
+		variantUpdates = rejectBelowReservations(variantUpdates, failedItems);
+		productUpdates = rejectBelowReservations(productUpdates, failedItems);
+
+		LocalDateTime now = LocalDateTime.now();
+		String updatedBy = ownerId.toString();
+		List<StockBatchUpdatedEvent.StockChange> changes = new ArrayList<>();
+		collectApplied(variantUpdates, stockJdbcRepository.updateVariantStocks(variantUpdates, updatedBy, now),
+			changes, failedItems);
+		collectApplied(productUpdates, stockJdbcRepository.updateProductStocks(productUpdates, updatedBy, now),
+			changes, failedItems);
+
+		if (!changes.isEmpty()) {
+			eventPublisher.publishEvent(new StockBatchUpdatedEvent(ownerId, changes));
+		}
+
+		log.info("Bulk stock update: ownerId={}, requested={}, updated={}, unchanged={}, failed={}",
+			ownerId, requested.size(), changes.size(), unchanged, failedItems.size());
+
+		return ResStockBulkUpdateDtoV1.builder()
+			.requestedCount(requested.size())
+			.updatedCount(changes.size())
+			.unchangedCount(unchanged)
+			.failedItems(failedItems)
+			.build();
+	}
+
+	private void lockInChunks(List<UUID> ids, Function<List<UUID>, List<LockedStock>> locker,
+		Map<StockKey, LockedStock> out) {
+		for (int from = 0; from < ids.size(); from += LOCK_CHUNK_SIZE) {
+			List<LockedStock> rows = locker.apply(ids.subList(from, Math.min(from + LOCK_CHUNK_SIZE, ids.size())));
+			out.putAll(rows.stream().collect(Collectors.toMap(
+				row -> new StockKey(row.productId(), row.variantId()), Function.identity())));
+		}
+	}
+
+	/**
+	 * 가점유 수량(DB 재고 - Redis 가용 재고)보다 적게 줄이는 변경 제외
+	 * 반영 시 커밋 이후 가용 재고가 음수가 되어 이미 결제 중인 주문을 채울 수 없으므로 요청 단계에서 거절
+	 */
+	private List<StockUpdate> rejectBelowReservations(List<StockUpdate> updates,
+		List<ResStockBulkUpdateDtoV1.FailedItem> failedItems) {
+		List<StockUpdate> decreases = updates.stream()
+			.filter(update -> update.newStock() < update.expectedStock())
+			.toList();
+		if (decreases.isEmpty()) {
+			return updates;
+		}
+
+		List<Integer> reserved = stockRedisService.getReservedQuantities(decreases.stream()
+			.map(update -> StockManagement.of(update.productId(), update.variantId(), update.expectedStock()))
+			.toList());
+
+		Set<StockUpdate> rejected = new HashSet<>();
+		for (int i = 0; i < decreases.size(); i++) {
+			StockUpdate update = decreases.get(i);
+			if (update.newStock() < reserved.get(i)) {
+				rejected.add(update);
+				failedItems.add(failed(new StockKey(update.productId(), update.variantId()),
+					"진행 중인 주문의 가점유 수량(" + reserved.get(i) + ")보다 적은 재고로 변경할 수 없습니다."));
+			}
+		}
+		if (rejected.isEmpty()) {
+			return updates;
+		}
+		return updates.stream()
+			.filter(update -> !rejected.contains(update))
+			.toList();
+	}
+
+	private void collectApplied(List<StockUpdate> updates, int[] counts,
+		List<StockBatchUpdatedEvent.StockChange> changes, List<ResStockBulkUpdateDtoV1.FailedItem> failedItems) {
+		for (int i = 0; i < updates.size(); i++) {
+			StockUpdate update = updates.get(i);
+			// 잠금 이후라 불일치는 발생하지 않아야 하나, 드라이버가 건수를 알 수 없으면(-2) 성공으로 간주
+			if (counts[i] == 0) {
+				failedItems.add(failed(new StockKey(update.productId(), update.variantId()),
+					"재고가 동시에 변경되어 반영되지 않았습니다."));
+				continue;
+			}
+			changes.add(StockBatchUpdatedEvent.StockChange.builder()
+				.productId(update.productId())
+				.variantId(update.variantId())
+				.categoryId(update.categoryId())
+				.previousStock(update.expectedStock())
+				.newStock(update.newStock())
+				.build());
+		}
+	}
+
+	private ResStockBulkUpdateDtoV1.FailedItem failed(StockKey key, String reason) {
+		return ResStockBulkUpdateDtoV1.FailedItem.builder()
+			.productId(key.productId())
+			.variantId(key.variantId())
+			.reason(reason)
+			.build();
+	}
+}
@@ -4,12 +4,14 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.common.util.SecurityUtil;
+import com.groom.product.product.application.event.dto.ProductVariantChangedEvent;
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.entity.ProductOption;
 import com.groom.product.product.domain.entity.ProductOptionValue;
@@ -29,6 +31,7 @@ public class ProductVariantServiceV1 {
 
 	private final ProductRepository productRepository;
 	private final ProductVariantRepository productVariantRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * SKU(Variant) 추가
@@ -86,11 +89,17 @@ public class ProductVariantServiceV1 {
 			.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
 
 		variant.update(request.getOptionName(), request.getPrice(), request.getStockQuantity());
-
 		if (request.getStatus() != null) {
 			variant.updateStatus(request.getStatus());
 		}
 
+		if (request.getPrice() != null || request.getStatus() != null) {
+			product.refreshPriceRange();
+		}
+
+		// 커밋 이후 상세 캐시 무효화 + 검색 세대 증가
+		publishVariantChanged(product);
+
 		return ResVariantDtoV1.from(variant);
 	}
 
@@ -119,6 +128,9 @@ public class ProductVariantServiceV1 {
 			product.getVariants().remove(variant);
 			productVariantRepository.delete(variant);
 		}
+		product.refreshPriceRange();
+
+		publishVariantChanged(product);
 	}
 
 	/**
@@ -142,6 +154,10 @@ public class ProductVariantServiceV1 {
 		}
 	}
 
+	private void publishVariantChanged(Product product) {
+		eventPublisher.publishEvent(new ProductVariantChangedEvent(product.getId(), product.getCategory().getId()));
+	}
+
 	/**
 	 * optionValueIds로부터 optionName 생성
 	 */
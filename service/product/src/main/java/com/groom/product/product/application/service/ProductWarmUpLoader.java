@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
 
@@ -22,6 +23,7 @@ public class ProductWarmUpLoader {
 	private final ProductRepository productRepository;
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
+	private final ProductAutocompleteRedisService autocompleteRedisService;
 
 	// 메모리 보호를 위해 최신 10만 개만 Warm-up
 	private static final int WARM_UP_LIMIT = 100000;
@@ -41,14 +43,17 @@ public class ProductWarmUpLoader {
 			if (products.isEmpty()) break;
 
 			for (Product product : products) {
-				// 1. 상세 캐시 (JSON) 적재
-				detailCacheService.put(product);
+				// 1. 상세 캐시 (JSON) 적재 - 짧은 TTL, 실제 조회되는 상품만 연장
+				detailCacheService.putWarmUp(product);
 				
 				// 2. 목록 캐시 (ZSET) 적재 (판매 중/품절 상태만)
 				if (product.getStatus() == com.groom.product.product.domain.enums.ProductStatus.ON_SALE || 
 					product.getStatus() == com.groom.product.product.domain.enums.ProductStatus.SOLD_OUT) {
 					listCacheService.addProduct(product);
 				}
+
+				// 3. 자동완성 색인 (판매중/품절 외 상태는 제거)
+				autocompleteRedisService.index(product);
 			}
 			
 			log.info("Warm-up Progress: {} products cached...", (i + 1) * PAGE_SIZE);
@@ -27,6 +27,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends BaseEntity {
 
+	public static final String PATH_DELIMITER = "/";
+	public static final String NAME_DELIMITER = " > ";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	@Column(name = "category_id")
@@ -51,6 +54,14 @@ public class Category extends BaseEntity {
 	@Column(name = "is_active", nullable = false)
 	private Boolean isActive;
 
+	// Materialized Path: /{rootId}/{childId}/.../{id}/ (하위 트리 조회용, text_pattern_ops 인덱스는 schema.sql)
+	@Column(name = "path", length = 500)
+	private String path;
+
+	// 이름 경로: 전자제품 > 노트북 > 게이밍 (상세 캐시의 categoryFullPath)
+	@Column(name = "full_path", length = 1000)
+	private String fullPath;
+
 	@Builder
 	public Category(Category parent, String name, Integer depth, Integer sortOrder,
 		Boolean isActive) {
@@ -73,6 +84,22 @@ public class Category extends BaseEntity {
 		}
 	}
 
+	/**
+	 * 부모 경로를 기준으로 자신의 경로를 계산 (ID 할당 이후 호출)
+	 */
+	public void assignPath(Category parent) {
+		String parentPath = parent != null ? parent.getPath() : PATH_DELIMITER;
+		this.path = parentPath + this.id + PATH_DELIMITER;
+		refreshFullPath(parent != null ? parent.getFullPath() : null);
+	}
+
+	/**
+	 * 이름 경로 재계산 (자신 또는 상위 카테고리 이름 변경 시)
+	 */
+	public void refreshFullPath(String parentFullPath) {
+		this.fullPath = parentFullPath != null ? parentFullPath + NAME_DELIMITER + this.name : this.name;
+	}
+
 	// 최상위 카테고리인지 확인
 	public boolean isRoot() {
 		return this.parent == null;
@@ -35,7 +35,9 @@ import lombok.NoArgsConstructor;
 	indexes = {
 		@Index(name = "idx_product_category_status_created", columnList = "category_id, status, created_at DESC"),
 		@Index(name = "idx_product_title", columnList = "title"),
-		@Index(name = "idx_product_price", columnList = "price")
+		@Index(name = "idx_product_price", columnList = "price"),
+		@Index(name = "idx_product_category_status_min_price", columnList = "category_id, status, min_price"),
+		@Index(name = "idx_product_status_min_price", columnList = "status, min_price")
 	}
 )
 @Getter
@@ -76,6 +78,13 @@ public class Product extends BaseEntity {
 	@Column(name = "stock_quantity")
 	private Integer stockQuantity;
 
+	// 구매 가능 가격 범위 (옵션 상품은 variant 가격 최소/최대, 아니면 price) - 가격 필터/정렬용 비정규화
+	@Column(name = "min_price")
+	private Long minPrice;
+
+	@Column(name = "max_price")
+	private Long maxPrice;
+
 	@Column(name = "suspend_reason", length = 500)
 	private String suspendReason;
 
@@ -101,6 +110,8 @@ public class Product extends BaseEntity {
 		this.price = price;
 		this.stockQuantity = stockQuantity;
 		this.status = ProductStatus.ON_SALE;
+		this.minPrice = price;
+		this.maxPrice = price;
 	}
 
 	public void update(Category category, String title, String description, String thumbnailUrl,
@@ -119,6 +130,7 @@ public class Product extends BaseEntity {
 		}
 		if (price != null) {
 			this.price = price;
+			refreshPriceRange();
 		}
 		if (stockQuantity != null) {
 			this.stockQuantity = stockQuantity;
@@ -183,6 +195,28 @@ public class Product extends BaseEntity {
 
 	public void addVariant(ProductVariant variant) {
 		this.variants.add(variant);
+		refreshPriceRange();
+	}
+
+	/**
+	 * 가격 범위 재계산 (가격 또는 variant 구성/가격/상태 변경 시 호출)
+	 * - 단종(DISCONTINUED) variant는 제외, 판매 가능한 variant가 없으면 기본 가격 사용
+	 */
+	public void refreshPriceRange() {
+		List<Long> sellablePrices = Boolean.TRUE.equals(this.hasOptions)
+			? this.variants.stream()
+				.filter(variant -> !variant.getStatus().isDiscontinued())
+				.map(ProductVariant::getPrice)
+				.toList()
+			: List.of();
+
+		if (sellablePrices.isEmpty()) {
+			this.minPrice = this.price;
+			this.maxPrice = this.price;
+		} else {
+			this.minPrice = sellablePrices.stream().min(Long::compareTo).orElse(this.price);
+			this.maxPrice = sellablePrices.stream().max(Long::compareTo).orElse(this.price);
+		}
 	}
 
 	// 옵션이 없는 상품의 재고 감소 로직
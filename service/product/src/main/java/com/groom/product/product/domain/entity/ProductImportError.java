@@ -0,0 +1,51 @@
+package com.groom.product.product.domain.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 대량 등록 행 단위 오류
+ */
+@Entity
+@Table(
+	name = "p_product_import_error",
+	indexes = {
+		@Index(name = "idx_import_error_job_line", columnList = "job_id, line_number")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImportError {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "import_error_id")
+	private UUID id;
+
+	@Column(name = "job_id", nullable = false)
+	private UUID jobId;
+
+	@Column(name = "line_number", nullable = false)
+	private long lineNumber;
+
+	@Column(name = "message", nullable = false, length = 1000)
+	private String message;
+
+	@Builder
+	public ProductImportError(UUID jobId, long lineNumber, String message) {
+		this.jobId = jobId;
+		this.lineNumber = lineNumber;
+		this.message = message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+}
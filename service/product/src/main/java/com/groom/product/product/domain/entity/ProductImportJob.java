@@ -0,0 +1,106 @@
+package com.groom.product.product.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.common.domain.entity.BaseEntity;
+import com.groom.product.product.domain.enums.ProductImportStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 대량 등록 작업
+ * 업로드 파일은 청크 단위로 처리되며, 청크 커밋마다 처리 건수가 갱신됨
+ */
+@Entity
+@Table(
+	name = "p_product_import_job",
+	indexes = {
+		@Index(name = "idx_import_job_owner_created", columnList = "owner_id, created_at DESC")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImportJob extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "job_id")
+	private UUID id;
+
+	@Column(name = "owner_id", nullable = false)
+	private UUID ownerId;
+
+	@Column(name = "file_name", length = 255)
+	private String fileName;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private ProductImportStatus status;
+
+	@Column(name = "total_rows", nullable = false)
+	private int totalRows;
+
+	@Column(name = "success_rows", nullable = false)
+	private int successRows;
+
+	@Column(name = "failed_rows", nullable = false)
+	private int failedRows;
+
+	@Column(name = "failure_reason", length = 500)
+	private String failureReason;
+
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	@Builder
+	public ProductImportJob(UUID ownerId, String fileName) {
+		this.ownerId = ownerId;
+		this.fileName = fileName;
+		this.status = ProductImportStatus.PENDING;
+	}
+
+	public void start() {
+		this.status = ProductImportStatus.RUNNING;
+		this.startedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 청크 처리 결과 누적
+	 */
+	public void recordChunk(int success, int failed) {
+		this.totalRows += success + failed;
+		this.successRows += success;
+		this.failedRows += failed;
+	}
+
+	public void complete() {
+		this.status = ProductImportStatus.COMPLETED;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public void fail(String reason) {
+		this.status = ProductImportStatus.FAILED;
+		this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public boolean isOwnedBy(UUID userId) {
+		return this.ownerId.equals(userId);
+	}
+}
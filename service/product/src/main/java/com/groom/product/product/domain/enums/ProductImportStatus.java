@@ -0,0 +1,20 @@
+package com.groom.product.product.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductImportStatus {
+
+	PENDING("대기"),
+	RUNNING("처리중"),
+	COMPLETED("완료"),
+	FAILED("실패");
+
+	private final String description;
+
+	public boolean isFinished() {
+		return this == COMPLETED || this == FAILED;
+	}
+}
@@ -0,0 +1,27 @@
+package com.groom.product.product.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductRankingType {
+
+	TRENDING("trending", "급상승 (최근 24시간 조회/주문)"),
+	MOST_VIEWED("most_viewed", "많이 본 상품 (최근 7일 조회)");
+
+	private final String value;
+	private final String description;
+
+	public static ProductRankingType fromValue(String value) {
+		if (value == null) {
+			return TRENDING;
+		}
+		for (ProductRankingType type : values()) {
+			if (type.value.equalsIgnoreCase(value)) {
+				return type;
+			}
+		}
+		return TRENDING;
+	}
+}
@@ -36,6 +36,13 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 	// 카테고리 삭제 전 자식이 있는지 검사
 	boolean existsByParentId(UUID parentId);
 
+	// 하위 트리 전체 조회 (Materialized Path prefix 매칭, 자기 자신 포함)
+	@Query("SELECT c FROM Category c WHERE c.path LIKE CONCAT(:pathPrefix, '%') ORDER BY c.depth, c.sortOrder")
+	List<Category> findSubtreeByPathPrefix(@Param("pathPrefix") String pathPrefix);
+
+	// 경로가 비어있는 카테고리 존재 여부 (경로 백필용)
+	boolean existsByPathIsNull();
+
 	// 활성화된 카테고리인지 확인하면서 단건 조회
 	@Query("SELECT c FROM Category c WHERE c.id = :id AND c.isActive = true")
 	java.util.Optional<Category> findByIdAndIsActiveTrue(@Param("id") UUID id);
@@ -0,0 +1,17 @@
+package com.groom.product.product.domain.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.product.domain.entity.ProductImportError;
+
+@Repository
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, UUID> {
+
+	// 작업별 오류 목록 (행 번호 순)
+	Page<ProductImportError> findByJobIdOrderByLineNumberAsc(UUID jobId, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.groom.product.product.domain.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.product.domain.entity.ProductImportJob;
+
+@Repository
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, UUID> {
+}
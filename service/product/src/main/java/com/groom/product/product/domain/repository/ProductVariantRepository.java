@@ -1,5 +1,6 @@
 package com.groom.product.product.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +36,10 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
 	// SKU 코드 중복 검사
 	boolean existsBySkuCode(String skuCode);
 
+	// 이미 존재하는 SKU 코드 일괄 조회 (대량 등록 청크 검증용)
+	@Query("SELECT v.skuCode FROM ProductVariant v WHERE v.skuCode IN :skuCodes")
+	List<String> findExistingSkuCodes(@Param("skuCodes") Collection<String> skuCodes);
+
 	// 구매 가능한 Variant만 조회 (사용자용)
 	@Query("SELECT v FROM ProductVariant v WHERE v.product.id = :productId AND v.status != 'DISCONTINUED'")
 	List<ProductVariant> findActiveByProductId(@Param("productId") UUID productId);
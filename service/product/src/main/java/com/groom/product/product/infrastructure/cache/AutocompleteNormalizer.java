@@ -0,0 +1,149 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 색인/검색어 정규화
+ *
+ * - NFC + 소문자, 문자/숫자 외 제거, 공백 정리 (NFKC는 호환 자모를 조합형 자모로 바꾸므로 사용하지 않음)
+ * - 한글 음절을 호환 자모로 분해 (겹모음/겹받침도 분해)
+ *   → 입력 중인 "갑"(ㄱㅏㅂ)이 "가방"(ㄱㅏㅂㅏㅇ)의 접두어로 매칭
+ */
+public final class AutocompleteNormalizer {
+
+	private static final char HANGUL_BASE = '가';
+	private static final char HANGUL_LAST = '힣';
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String[] CHO = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final String[] JUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+		"ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+		"ㅣ"
+	};
+
+	private static final String[] JONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+		"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	// 단독 입력된 겹자모 (예: "ㅘ", "ㄳ")
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+		Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+		Map.entry('ㅢ', "ㅡㅣ"),
+		Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+		Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+		Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+		Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+	);
+
+	private AutocompleteNormalizer() {
+	}
+
+	/**
+	 * 검색어/제목 정규화 (자모 분해 포함)
+	 * @return 정규화 결과 (유효 문자가 없으면 빈 문자열)
+	 */
+	public static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+
+		String cleaned = Normalizer.normalize(text, Normalizer.Form.NFC)
+			.toLowerCase()
+			.replaceAll("[^\\p{L}\\p{N}\\s]", " ")
+			.trim()
+			.replaceAll("\\s+", " ");
+
+		StringBuilder result = new StringBuilder(cleaned.length() * 3);
+		for (int i = 0; i < cleaned.length(); i++) {
+			appendDecomposed(result, cleaned.charAt(i));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 제목의 단어 시작 위치별 접미 문자열 (중간 단어로도 검색되도록)
+	 * 예: "나이키 에어 운동화" → [나이키 에어 운동화, 에어 운동화, 운동화] (정규화 상태)
+	 * @param maxTokens 색인할 최대 단어 수
+	 */
+	public static List<String> indexTerms(String title, int maxTokens) {
+		String normalized = normalize(title);
+		List<String> terms = new ArrayList<>();
+		if (normalized.isEmpty()) {
+			return terms;
+		}
+
+		terms.add(normalized);
+		int index = normalized.indexOf(' ');
+		while (index >= 0 && terms.size() < maxTokens) {
+			terms.add(normalized.substring(index + 1));
+			index = normalized.indexOf(' ', index + 1);
+		}
+		return terms;
+	}
+
+	/**
+	 * 색인 단어별 접두어 (접두어별 인기 상위 K 색인용, 공백으로 끝나는 접두어 제외)
+	 * 예: "ab cd" → [a, ab, ab c, ab cd, c, cd]
+	 * @param maxLength 접두어 최대 길이 (코드 포인트 기준, 더 긴 검색어는 사전순 색인 사용)
+	 */
+	public static Set<String> prefixes(String title, int maxTokens, int maxLength) {
+		Set<String> prefixes = new LinkedHashSet<>();
+		for (String term : indexTerms(title, maxTokens)) {
+			int end = 0;
+			for (int length = 1; length <= maxLength && end < term.length(); length++) {
+				end = term.offsetByCodePoints(end, 1);
+				if (term.charAt(end - 1) != ' ') {
+					prefixes.add(term.substring(0, end));
+				}
+			}
+		}
+		return prefixes;
+	}
+
+	/**
+	 * 접두어로 시작하는 모든 문자열보다 큰 최소 문자열 (ZRANGEBYLEX 배타 상한)
+	 * 마지막 코드 포인트를 1 증가 (UTF-8 바이트 순서 = 코드 포인트 순서라 보조 평면 문자도 포함)
+	 * @return 상한 (없으면 null → 상한 없음)
+	 */
+	public static String prefixUpperBound(String prefix) {
+		String head = prefix;
+		while (!head.isEmpty()) {
+			int last = head.codePointBefore(head.length());
+			head = head.substring(0, head.length() - Character.charCount(last));
+
+			int next = last + 1;
+			if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+				next = Character.MAX_SURROGATE + 1;
+			}
+			if (next <= Character.MAX_CODE_POINT) {
+				return head + new String(Character.toChars(next));
+			}
+		}
+		return null;
+	}
+
+	private static void appendDecomposed(StringBuilder result, char c) {
+		if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+			int offset = c - HANGUL_BASE;
+			result.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)])
+				.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+				.append(JONG[offset % JONG_COUNT]);
+			return;
+		}
+		result.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+	}
+}
@@ -128,28 +128,24 @@ public class CachedProductDetail implements Serializable {
 	 * Product 엔티티로부터 캐시 객체 생성
 	 */
 	public static CachedProductDetail from(Product product) {
-		Long minPrice = product.getPrice();
-		Long maxPrice = product.getPrice();
-
-		if (Boolean.TRUE.equals(product.getHasOptions())
-			&& product.getVariants() != null
-			&& !product.getVariants().isEmpty()) {
-			minPrice = product.getVariants().stream()
-				.map(ProductVariant::getPrice)
-				.min(Long::compareTo)
-				.orElse(product.getPrice());
-			maxPrice = product.getVariants().stream()
-				.map(ProductVariant::getPrice)
-				.max(Long::compareTo)
-				.orElse(product.getPrice());
-		}
+		return from(product, null);
+	}
+
+	/**
+	 * Product 엔티티 + 카테고리 스냅샷 노드로부터 캐시 객체 생성
+	 * @param category null이 아니면 카테고리 이름/경로를 노드에서 읽음 (카테고리 프록시 초기화 없음)
+	 */
+	public static CachedProductDetail from(Product product, CategoryTreeSnapshot.Node category) {
+		// 가격 범위는 엔티티의 비정규화 컬럼 사용 (컬럼 추가 전 행은 price로 대체)
+		Long minPrice = product.getMinPrice() != null ? product.getMinPrice() : product.getPrice();
+		Long maxPrice = product.getMaxPrice() != null ? product.getMaxPrice() : product.getPrice();
 
 		return CachedProductDetail.builder()
 			.productId(product.getId())
 			.ownerId(product.getOwnerId())
 			.categoryId(product.getCategory().getId())
-			.categoryName(product.getCategory().getName())
-			.categoryFullPath(buildCategoryPath(product))
+			.categoryName(category != null ? category.name() : product.getCategory().getName())
+			.categoryFullPath(category != null ? category.fullPath() : buildCategoryPath(product))
 			.title(product.getTitle())
 			.description(product.getDescription())
 			.thumbnailUrl(product.getThumbnailUrl())
@@ -174,6 +170,20 @@ public class CachedProductDetail implements Serializable {
 	 * 캐시 객체를 응답 DTO로 변환
 	 */
 	public ResProductDetailDtoV1 toResponseDto() {
+		return toResponseDto(null, null);
+	}
+
+	/**
+	 * 응답 DTO 변환 (리뷰 평점 포함)
+	 */
+	public ResProductDetailDtoV1 toResponseDto(Double avgRating, Integer reviewCount) {
+		return toResponseDto(avgRating, reviewCount, null);
+	}
+
+	/**
+	 * 응답 DTO 변환 (리뷰 평점 + 별점 분포 포함)
+	 */
+	public ResProductDetailDtoV1 toResponseDto(Double avgRating, Integer reviewCount, List<Integer> ratingDistribution) {
 		return ResProductDetailDtoV1.builder()
 			.productId(this.productId)
 			.title(this.title)
@@ -215,15 +225,16 @@ public class CachedProductDetail implements Serializable {
 					.status(var.getStatus())
 					.build())
 				.collect(Collectors.toList()))
-			.rating(ResProductDetailDtoV1.RatingInfo.builder()
-				.avgRating(null)  // TODO: Review 도메인 연동 시 추가
-				.reviewCount(null)
-				.build())
+			.rating(ResProductDetailDtoV1.RatingInfo.from(avgRating, reviewCount, ratingDistribution))
 			.createdAt(this.createdAt)
 			.build();
 	}
 
 	private static String buildCategoryPath(Product product) {
+		// Materialized Path 로 저장된 이름 경로 우선 사용 (부모 탐색 불필요)
+		if (product.getCategory().getFullPath() != null) {
+			return product.getCategory().getFullPath();
+		}
 		try {
 			StringBuilder path = new StringBuilder();
 			var current = product.getCategory();
@@ -0,0 +1,25 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 결과 Redis 캐시용 DTO
+ * 페이지 상품 ID(정렬 순서 유지)와 전체 개수만 저장하고 본문은 상세 캐시 MGET으로 구성
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CachedSearchResult implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private List<UUID> productIds;
+	private long totalCount;
+}
@@ -0,0 +1,134 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.domain.repository.CategoryRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 트리 인메모리 캐시
+ *
+ * 키: category:tree:version (String, INCR - 키가 없으면 epoch millis로 시작)
+ *
+ * - 조회는 메모리의 불변 스냅샷에서 처리 (DB 조회 없음)
+ * - 카테고리 변경 시 버전 증가 후 스냅샷 재구성 (참조 교체로 원자적 반영)
+ * - 다른 인스턴스는 주기적으로 버전 키를 비교하여 다르면 재구성
+ *   (크기 비교가 아닌 불일치 기준 → 버전 키 유실/재시작으로 값이 작아져도 재구성)
+ * - 버전은 ETag로도 쓰이므로 재사용 금지: 키 유실 후에는 현재 시각(epoch millis)부터 다시 시작하고,
+ *   Redis 장애 시 로컬 버전은 음수(-epoch millis)로 만들어 Redis 버전과 겹치지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+	private static final String VERSION_KEY = "category:tree:version";
+
+	private final CategoryRepository categoryRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private volatile CategoryTreeSnapshot snapshot;
+	private DefaultRedisScript<Long> versionBumpScript;
+
+	@PostConstruct
+	public void init() {
+		versionBumpScript = new DefaultRedisScript<>();
+		versionBumpScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/category_tree_version_bump.lua")));
+		versionBumpScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 현재 스냅샷 조회 (최초 호출 시 적재)
+	 */
+	public CategoryTreeSnapshot get() {
+		CategoryTreeSnapshot current = snapshot;
+		if (current == null) {
+			current = reload(readVersion());
+		}
+		return current;
+	}
+
+	/**
+	 * 카테고리 변경 반영 (버전 증가 후 재구성)
+	 * 트랜잭션 커밋 이후 호출되어야 함
+	 */
+	public void publishNewVersion() {
+		long version;
+		try {
+			Long incremented = stringRedisTemplate.execute(versionBumpScript, List.of(VERSION_KEY),
+				String.valueOf(System.currentTimeMillis()));
+			version = incremented != null ? incremented : localVersion();
+		} catch (Exception e) {
+			log.error("Failed to increment category tree version", e);
+			// Redis 장애 시에도 현재 인스턴스는 최신 상태로 재구성 (Redis 버전과 겹치지 않는 로컬 버전)
+			version = localVersion();
+		}
+		reload(version);
+	}
+
+	/**
+	 * 다른 인스턴스의 변경 여부 확인
+	 */
+	@Scheduled(fixedDelayString = "${category.tree.refresh-check-ms:5000}")
+	public void refreshIfChanged() {
+		CategoryTreeSnapshot current = snapshot;
+		if (current == null) {
+			return;
+		}
+
+		long latest = readVersion();
+		if (latest != current.getVersion()) {
+			log.info("Category tree version changed: {} -> {}", current.getVersion(), latest);
+			reload(latest);
+		}
+	}
+
+	private synchronized CategoryTreeSnapshot reload(long version) {
+		CategoryTreeSnapshot current = snapshot;
+		if (current != null && current.getVersion() == version) {
+			return current;
+		}
+
+		List<Category> categories = categoryRepository.findAll();
+		CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.of(version, categories);
+		snapshot = rebuilt;
+
+		log.info("Category tree snapshot rebuilt: version={}, categories={}", version, categories.size());
+		return rebuilt;
+	}
+
+	private long readVersion() {
+		try {
+			String val = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+			if (val == null) {
+				// 키 유실 시 현재 시각으로 시작 (동시 초기화는 SET NX로 한 값만 채택)
+				stringRedisTemplate.opsForValue().setIfAbsent(VERSION_KEY, String.valueOf(System.currentTimeMillis()));
+				val = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+			}
+			return val != null ? Long.parseLong(val) : localVersion();
+		} catch (Exception e) {
+			log.error("Failed to read category tree version", e);
+			CategoryTreeSnapshot current = snapshot;
+			return current != null ? current.getVersion() : localVersion();
+		}
+	}
+
+	/**
+	 * Redis를 사용할 수 없을 때의 인스턴스 로컬 버전 (음수 → Redis 버전과 충돌 없음, 복구 후 재구성)
+	 */
+	private long localVersion() {
+		return -System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,235 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.presentation.dto.response.ResCategoryDtoV1;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ *
+ * - 전체 카테고리(비활성 포함)를 한 번에 읽어 메모리에 구성
+ * - 응답 DTO 트리를 미리 만들어 두고 요청마다 그대로 반환
+ * - version: Redis 버전 키 값 (ETag 및 인스턴스 간 갱신 판단용)
+ */
+public final class CategoryTreeSnapshot {
+
+	private final long version;
+	private final Map<UUID, Node> nodes;
+	private final List<ResCategoryDtoV1> activeTree;
+	private final List<ResCategoryDtoV1> fullTree;
+	private final List<ResCategoryDtoV1> activeRoots;
+
+	public record Node(
+		UUID id,
+		UUID parentId,
+		String name,
+		String fullPath,
+		Integer depth,
+		Integer sortOrder,
+		boolean active,
+		List<UUID> childIds
+	) {
+	}
+
+	private CategoryTreeSnapshot(long version, Map<UUID, Node> nodes, List<UUID> rootIds) {
+		this.version = version;
+		this.nodes = nodes;
+		this.activeTree = rootIds.stream()
+			.map(nodes::get)
+			.filter(Node::active)
+			.map(node -> toDtoWithChildren(node, true))
+			.toList();
+		this.fullTree = rootIds.stream()
+			.map(nodes::get)
+			.map(node -> toDtoWithChildren(node, false))
+			.toList();
+		this.activeRoots = rootIds.stream()
+			.map(nodes::get)
+			.filter(Node::active)
+			.map(this::toDto)
+			.toList();
+	}
+
+	/**
+	 * 전체 카테고리로 스냅샷 구성 (정렬 1회 + 부모별 그룹핑 1회 + 노드 생성 1회)
+	 */
+	public static CategoryTreeSnapshot of(long version, List<Category> categories) {
+		Map<UUID, Category> byId = new HashMap<>();
+		Map<UUID, List<UUID>> childIdsByParent = new HashMap<>();
+		List<UUID> rootIds = new ArrayList<>();
+
+		// 정렬 순서대로 그룹핑 → 자식 ID 목록이 이미 정렬된 상태
+		categories.stream()
+			.sorted(Comparator.comparing(Category::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+			.forEach(category -> {
+				byId.put(category.getId(), category);
+				UUID parentId = parentIdOf(category);
+				if (parentId == null) {
+					rootIds.add(category.getId());
+				} else {
+					childIdsByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(category.getId());
+				}
+			});
+
+		Map<UUID, String> fullPaths = new HashMap<>();
+		Map<UUID, Node> nodes = new HashMap<>();
+		for (Category category : byId.values()) {
+			nodes.put(category.getId(), new Node(
+				category.getId(),
+				parentIdOf(category),
+				category.getName(),
+				fullPath(category.getId(), byId, fullPaths),
+				category.getDepth(),
+				category.getSortOrder(),
+				Boolean.TRUE.equals(category.getIsActive()),
+				List.copyOf(childIdsByParent.getOrDefault(category.getId(), List.of()))
+			));
+		}
+
+		return new CategoryTreeSnapshot(version, Map.copyOf(nodes), List.copyOf(rootIds));
+	}
+
+	private static UUID parentIdOf(Category category) {
+		return category.getParent() != null ? category.getParent().getId() : null;
+	}
+
+	/**
+	 * 이름 경로 (저장된 Materialized Path 우선, 없으면 부모 경로 + 이름, 결과 메모이즈)
+	 */
+	private static String fullPath(UUID categoryId, Map<UUID, Category> byId, Map<UUID, String> fullPaths) {
+		String cached = fullPaths.get(categoryId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Category category = byId.get(categoryId);
+		UUID parentId = parentIdOf(category);
+		String path;
+		if (category.getFullPath() != null) {
+			path = category.getFullPath();
+		} else if (parentId == null || !byId.containsKey(parentId)) {
+			path = category.getName();
+		} else {
+			path = fullPath(parentId, byId, fullPaths) + " > " + category.getName();
+		}
+		fullPaths.put(categoryId, path);
+		return path;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public boolean contains(UUID categoryId) {
+		return nodes.containsKey(categoryId);
+	}
+
+	public boolean isActive(UUID categoryId) {
+		Node node = nodes.get(categoryId);
+		return node != null && node.active();
+	}
+
+	/**
+	 * 카테고리 노드 (비활성 포함, 없으면 null)
+	 */
+	public Node getNode(UUID categoryId) {
+		return nodes.get(categoryId);
+	}
+
+	/**
+	 * 활성 카테고리 전체 트리 (getAllCategories)
+	 */
+	public List<ResCategoryDtoV1> getActiveTree() {
+		return activeTree;
+	}
+
+	/**
+	 * 비활성 포함 전체 트리 (Master)
+	 */
+	public List<ResCategoryDtoV1> getFullTree() {
+		return fullTree;
+	}
+
+	/**
+	 * 활성 루트 카테고리 목록 (자식 미포함)
+	 */
+	public List<ResCategoryDtoV1> getActiveRoots() {
+		return activeRoots;
+	}
+
+	/**
+	 * 활성 자식 카테고리 목록 (자식 미포함)
+	 */
+	public List<ResCategoryDtoV1> getActiveChildren(UUID parentId) {
+		Node parent = nodes.get(parentId);
+		if (parent == null) {
+			return List.of();
+		}
+		return parent.childIds().stream()
+			.map(nodes::get)
+			.filter(Node::active)
+			.map(this::toDto)
+			.toList();
+	}
+
+	/**
+	 * 단건 카테고리 + 활성 하위 트리
+	 */
+	public ResCategoryDtoV1 getActiveWithChildren(UUID categoryId) {
+		Node node = nodes.get(categoryId);
+		return node != null ? toDtoWithChildren(node, true) : null;
+	}
+
+	/**
+	 * 하위 트리 활성 카테고리 ID 목록 (자기 자신 포함)
+	 */
+	public List<UUID> getActiveSubtreeIds(UUID categoryId) {
+		List<UUID> result = new ArrayList<>();
+		collectActiveSubtree(categoryId, result);
+		return result;
+	}
+
+	private void collectActiveSubtree(UUID categoryId, List<UUID> result) {
+		Node node = nodes.get(categoryId);
+		if (node == null) {
+			return;
+		}
+		if (node.active()) {
+			result.add(node.id());
+		}
+		node.childIds().forEach(childId -> collectActiveSubtree(childId, result));
+	}
+
+	private ResCategoryDtoV1 toDto(Node node) {
+		return ResCategoryDtoV1.builder()
+			.id(node.id())
+			.name(node.name())
+			.depth(node.depth())
+			.sortOrder(node.sortOrder())
+			.isActive(node.active())
+			.parentId(node.parentId())
+			.build();
+	}
+
+	private ResCategoryDtoV1 toDtoWithChildren(Node node, boolean activeOnly) {
+		return ResCategoryDtoV1.builder()
+			.id(node.id())
+			.name(node.name())
+			.depth(node.depth())
+			.sortOrder(node.sortOrder())
+			.isActive(node.active())
+			.parentId(node.parentId())
+			.children(node.childIds().stream()
+				.map(nodes::get)
+				.filter(child -> !activeOnly || child.active())
+				.map(child -> toDtoWithChildren(child, activeOnly))
+				.toList())
+			.build();
+	}
+}
@@ -0,0 +1,333 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.enums.ProductStatus;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품명 자동완성 Redis 색인
+ *
+ * 키: product:ac:top:{정규화된 접두어} (Sorted Set, member: productId, score: 인기 점수, 상위 TOP_K개 유지)
+ * 키: product:ac:index (Sorted Set, 모든 score 0 → 사전순 정렬)
+ *     member: {정규화된 제목 접미}{SEPARATOR}{productId}
+ * 키: product:ac:title (Hash, productId → 원본 제목)
+ *
+ * - 짧은 접두어(MAX_PREFIX_LENGTH 이하)는 접두어별 상위 K ZSET을 ZREVRANGE로 조회 (인기순)
+ * - 긴 접두어 또는 상위 K가 부족하면 ZRANGEBYLEX [prefix, (prefix 후속 문자열, LIMIT로 보충
+ * - 색인/제거는 Lua 1회로 원자 처리 (저장된 이전 제목 비교 후 member/상위 K 갱신, 불일치 시 재시도)
+ * - 인기 점수 변경(조회) 시 해당 상품의 접두어별 상위 K 점수 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductAutocompleteRedisService {
+
+	public static final int TOP_K = 50;
+
+	private static final String INDEX_KEY = "product:ac:index";
+	private static final String TITLE_KEY = "product:ac:title";
+	private static final String TOP_PREFIX = "product:ac:top:";
+	private static final char SEPARATOR = '\u0001';
+	private static final int MAX_INDEX_TOKENS = 5;
+	private static final int MAX_PREFIX_LENGTH = 12;
+	private static final int MAX_INDEX_ATTEMPTS = 3;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ProductRankingRedisService rankingRedisService;
+
+	private DefaultRedisScript<Long> indexScript;
+	private DefaultRedisScript<Long> scoreScript;
+
+	@PostConstruct
+	public void init() {
+		indexScript = new DefaultRedisScript<>();
+		indexScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/autocomplete_index.lua")));
+		indexScript.setResultType(Long.class);
+
+		scoreScript = new DefaultRedisScript<>();
+		scoreScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/autocomplete_score.lua")));
+		scoreScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 상품 색인 (판매중/품절 상품만, 그 외 상태는 제거)
+	 */
+	public void index(Product product) {
+		if (product.getStatus() != ProductStatus.ON_SALE && product.getStatus() != ProductStatus.SOLD_OUT) {
+			remove(product.getId());
+			return;
+		}
+
+		UUID productId = product.getId();
+		String title = product.getTitle();
+
+		try {
+			double score = rankingRedisService.getPopularityScores(List.of(productId)).get(0);
+			for (int attempt = 0; attempt < MAX_INDEX_ATTEMPTS; attempt++) {
+				Object previous = stringRedisTemplate.opsForHash().get(TITLE_KEY, productId.toString());
+				if (title.equals(previous)) {
+					return;
+				}
+				if (replace(productId, previous != null ? previous.toString() : null, title, score)) {
+					return;
+				}
+			}
+			log.warn("Autocomplete index skipped after concurrent updates: productId={}", productId);
+		} catch (Exception e) {
+			log.error("Failed to index product title: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 신규 상품 일괄 색인 (파이프라인, 대량 등록 시 - 이전 제목 없음, 인기 점수 0)
+	 * @param titlesByProductId 상품 ID → 제목 (판매중 상품만 전달)
+	 */
+	public void indexNew(Map<UUID, String> titlesByProductId) {
+		if (titlesByProductId.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					titlesByProductId.forEach((productId, title) -> {
+						IndexCall call = indexCall(productId, null, title, 0);
+						ops.execute(indexScript, call.keys(), call.args());
+					});
+					return null;
+				}
+			});
+
+			long skipped = results.stream().filter(result -> !Long.valueOf(1L).equals(result)).count();
+			if (skipped > 0) {
+				log.warn("Autocomplete bulk index skipped already indexed products: count={}", skipped);
+			}
+		} catch (Exception e) {
+			log.error("Failed to index product titles: count={}", titlesByProductId.size(), e);
+		}
+	}
+
+	/**
+	 * 상품 색인 제거
+	 */
+	public void remove(UUID productId) {
+		try {
+			for (int attempt = 0; attempt < MAX_INDEX_ATTEMPTS; attempt++) {
+				Object previous = stringRedisTemplate.opsForHash().get(TITLE_KEY, productId.toString());
+				if (previous == null) {
+					return;
+				}
+				if (replace(productId, previous.toString(), null, 0)) {
+					return;
+				}
+			}
+			log.warn("Autocomplete remove skipped after concurrent updates: productId={}", productId);
+		} catch (Exception e) {
+			log.error("Failed to remove product from autocomplete index: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 인기 점수 변경 반영 (접두어별 상위 K 갱신, 색인되지 않은 상품은 무시)
+	 */
+	public void updatePopularity(UUID productId, double score) {
+		try {
+			Object title = stringRedisTemplate.opsForHash().get(TITLE_KEY, productId.toString());
+			if (title == null) {
+				return;
+			}
+
+			List<String> keys = new ArrayList<>();
+			keys.add(TITLE_KEY);
+			keys.addAll(topKeys(title.toString()));
+			stringRedisTemplate.execute(scoreScript, keys,
+				productId.toString(), title.toString(), String.valueOf(score), String.valueOf(TOP_K));
+		} catch (Exception e) {
+			log.error("Failed to update autocomplete popularity: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 접두어가 접두어별 상위 K 색인 대상인지 (길이 기준)
+	 */
+	public boolean hasTopIndex(String prefix) {
+		return !prefix.isEmpty() && prefix.codePointCount(0, prefix.length()) <= MAX_PREFIX_LENGTH;
+	}
+
+	/**
+	 * 접두어별 인기 상위 상품 조회 (ZREVRANGE WITHSCORES, 점수 내림차순)
+	 * @return member(productId) + 마지막 반영 시점 인기 점수
+	 */
+	public List<ZSetOperations.TypedTuple<String>> findTop(String prefix, int size) {
+		try {
+			Set<ZSetOperations.TypedTuple<String>> tuples =
+				stringRedisTemplate.opsForZSet().reverseRangeWithScores(TOP_PREFIX + prefix, 0, size - 1);
+			return tuples != null ? new ArrayList<>(tuples) : Collections.emptyList();
+		} catch (Exception e) {
+			log.error("Failed to find autocomplete top products: prefix={}", prefix, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 접두어별 상위 K 점수 보정 (조회 시점 인기 점수로 갱신, 이미 있는 member만 - ZADD XX)
+	 * 조회가 끊겨 점수가 내려간 상품이 상위 K를 계속 차지하지 않도록 조회 경로에서 보정
+	 */
+	public void refreshTopScores(String prefix, Map<UUID, Double> scores) {
+		if (scores.isEmpty()) {
+			return;
+		}
+
+		RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+		byte[] key = serializer.serialize(TOP_PREFIX + prefix);
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				scores.forEach((productId, score) -> connection.zSetCommands().zAdd(
+					key, score, serializer.serialize(productId.toString()), RedisZSetCommands.ZAddArgs.ifExists()));
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to refresh autocomplete top scores: prefix={}", prefix, e);
+		}
+	}
+
+	/**
+	 * 접두어 후보 상품 ID 조회 (사전순, 중복 제거)
+	 * @param prefix 정규화된 접두어
+	 * @param candidateLimit 조회할 최대 member 수 (접두어별 상한)
+	 */
+	public List<UUID> findCandidates(String prefix, int candidateLimit) {
+		if (prefix.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			String upperBound = AutocompleteNormalizer.prefixUpperBound(prefix);
+			Range<String> range = upperBound != null
+				? Range.rightOpen(prefix, upperBound)
+				: Range.rightUnbounded(Range.Bound.inclusive(prefix));
+			Set<String> members = stringRedisTemplate.opsForZSet().rangeByLex(
+				INDEX_KEY,
+				range,
+				Limit.limit().count(candidateLimit)
+			);
+			if (members == null) {
+				return Collections.emptyList();
+			}
+
+			Set<UUID> productIds = new LinkedHashSet<>();
+			for (String member : members) {
+				int separator = member.lastIndexOf(SEPARATOR);
+				if (separator >= 0) {
+					productIds.add(UUID.fromString(member.substring(separator + 1)));
+				}
+			}
+			return new ArrayList<>(productIds);
+		} catch (Exception e) {
+			log.error("Failed to find autocomplete candidates: prefix={}", prefix, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 상품 원본 제목 일괄 조회 (HMGET, 순서 유지, 없으면 null)
+	 */
+	public List<String> getTitles(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			List<Object> titles = stringRedisTemplate.opsForHash().multiGet(TITLE_KEY,
+				productIds.stream().map(id -> (Object)id.toString()).toList());
+			return titles.stream()
+				.map(title -> title != null ? title.toString() : null)
+				.toList();
+		} catch (Exception e) {
+			log.error("Failed to get autocomplete titles", e);
+			return Collections.nCopies(productIds.size(), null);
+		}
+	}
+
+	/**
+	 * 이전 제목 → 새 제목 교체 (Lua 1회, 저장된 제목이 이전 제목과 다르면 false)
+	 * @param previousTitle 이전 제목 (미색인 상품이면 null)
+	 * @param title 새 제목 (제거 시 null)
+	 */
+	private boolean replace(UUID productId, String previousTitle, String title, double score) {
+		IndexCall call = indexCall(productId, previousTitle, title, score);
+		Long applied = stringRedisTemplate.execute(indexScript, call.keys(), call.args());
+		return Long.valueOf(1L).equals(applied);
+	}
+
+	private IndexCall indexCall(UUID productId, String previousTitle, String title, double score) {
+		List<String> staleMembers = previousTitle != null ? members(productId, previousTitle) : List.of();
+		List<String> newMembers = title != null ? members(productId, title) : List.of();
+		List<String> staleTopKeys = previousTitle != null ? topKeys(previousTitle) : List.of();
+		List<String> newTopKeys = title != null ? topKeys(title) : List.of();
+
+		List<String> keys = new ArrayList<>(2 + staleTopKeys.size() + newTopKeys.size());
+		keys.add(INDEX_KEY);
+		keys.add(TITLE_KEY);
+		keys.addAll(staleTopKeys);
+		keys.addAll(newTopKeys);
+
+		List<String> args = new ArrayList<>(7 + staleMembers.size() + newMembers.size());
+		args.add(productId.toString());
+		args.add(previousTitle != null ? previousTitle : "");
+		args.add(title != null ? title : "");
+		args.add(String.valueOf(score));
+		args.add(String.valueOf(TOP_K));
+		args.add(String.valueOf(staleMembers.size()));
+		args.add(String.valueOf(staleTopKeys.size()));
+		args.addAll(staleMembers);
+		args.addAll(newMembers);
+		return new IndexCall(keys, args.toArray());
+	}
+
+	private record IndexCall(List<String> keys, Object[] args) {
+	}
+
+	private List<String> members(UUID productId, String title) {
+		return AutocompleteNormalizer.indexTerms(title, MAX_INDEX_TOKENS).stream()
+			.map(term -> term + SEPARATOR + productId)
+			.toList();
+	}
+
+	private List<String> topKeys(String title) {
+		return AutocompleteNormalizer.prefixes(title, MAX_INDEX_TOKENS, MAX_PREFIX_LENGTH).stream()
+			.map(prefix -> TOP_PREFIX + prefix)
+			.toList();
+	}
+}
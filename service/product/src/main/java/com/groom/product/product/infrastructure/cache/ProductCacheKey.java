@@ -2,26 +2,53 @@ package com.groom.product.product.infrastructure.cache;
 
 import java.util.UUID;
 
+import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
+
 /**
  * Product 도메인 Redis 캐시 키 전략
  *
  * [목록 캐시 - Sorted Set]
  * product:list:category:{categoryId} → score: createdAt(Timestamp), member: productId
+ * product:list:tree:{categoryId} → 하위 카테고리 포함 목록 (ZUNIONSTORE 결과, 짧은 TTL)
  *
  * [상세 캐시 - String(JSON)]
  * product:detail:{productId} → JSON (옵션, Variant 포함)
+ * product:version:{productId} → 상세 캐시 버전 (INCR, ETag 용)
+ * product:detail:json:v{schema}:{productId} → 사전 직렬화된 응답 JSON 바이트 (선택)
+ * product:cache:memory:detail → 상세 캐시 메모리 샘플 결과 (Hash, 인스턴스 간 공유)
+ * product:cache:memory:detail:lock → 샘플 실행 락 (SET NX + TTL, 주기당 1개 인스턴스만 SCAN)
+ *
+ * [랭킹 - Sorted Set / HyperLogLog]
+ * product:rank:view:h:{epochHour} → 시간 버킷 조회 수 (score: 조회 수, member: productId)
+ * product:rank:order:h:{epochHour} → 시간 버킷 주문 확정 수량
+ * product:rank:view:d:{epochDay} → 일 버킷 조회 수
+ * product:rank:result:{type} → 버킷 가중 합산 결과 (ZUNIONSTORE, 짧은 TTL)
+ * product:uv:{productId} → 순 조회자 수 (HyperLogLog)
  */
 public final class ProductCacheKey {
 
 	// ==================== 상품 목록 (Sorted Set) ====================
 	private static final String LIST_PREFIX = "product:list:category:";
 	private static final String LIST_ALL = "product:list:all";
+	private static final String TREE_LIST_PREFIX = "product:list:tree:";
 
 	// ==================== 상품 개수 (String) ====================
 	private static final String COUNT_PREFIX = "product:count:category:";
+	private static final String TREE_COUNT_PREFIX = "product:count:tree:";
 
 	// ==================== 상품 상세 (String/JSON) ====================
 	private static final String DETAIL_PREFIX = "product:detail:";
+	private static final String VERSION_PREFIX = "product:version:";
+	private static final String DETAIL_JSON_PREFIX = "product:detail:json:v";
+	private static final String DETAIL_MEMORY_STATS = "product:cache:memory:detail";
+	private static final String DETAIL_MEMORY_LOCK = "product:cache:memory:detail:lock";
+
+	// ==================== 랭킹 (Sorted Set / HyperLogLog) ====================
+	private static final String RANK_VIEW_HOURLY_PREFIX = "product:rank:view:h:";
+	private static final String RANK_ORDER_HOURLY_PREFIX = "product:rank:order:h:";
+	private static final String RANK_VIEW_DAILY_PREFIX = "product:rank:view:d:";
+	private static final String RANK_RESULT_PREFIX = "product:rank:result:";
+	private static final String UNIQUE_VIEWER_PREFIX = "product:uv:";
 
 	private ProductCacheKey() {
 	}
@@ -46,6 +73,14 @@ public final class ProductCacheKey {
 		return LIST_ALL;
 	}
 
+	/**
+	 * 하위 카테고리 포함 상품 목록 키 (Sorted Set, ZUNIONSTORE 결과)
+	 * @param categoryId 상위 카테고리 ID
+	 */
+	public static String productTreeList(UUID categoryId) {
+		return TREE_LIST_PREFIX + categoryId.toString();
+	}
+
 	// ==================== 개수 키 ====================
 	public static String productCount(UUID categoryId) {
 		if (categoryId == null) {
@@ -54,6 +89,10 @@ public final class ProductCacheKey {
 		return COUNT_PREFIX + categoryId.toString();
 	}
 
+	public static String productTreeCount(UUID categoryId) {
+		return TREE_COUNT_PREFIX + categoryId.toString();
+	}
+
 	// ==================== 상세 키 ====================
 
 	/**
@@ -64,6 +103,78 @@ public final class ProductCacheKey {
 		return DETAIL_PREFIX + productId.toString();
 	}
 
+	/**
+	 * 사전 직렬화된 상품 상세 응답 키 (응답 스키마 버전 포함)
+	 * @param productId 상품 ID
+	 */
+	public static String productDetailJson(UUID productId) {
+		return DETAIL_JSON_PREFIX + ResProductDetailDtoV1.SCHEMA_VERSION + ":" + productId.toString();
+	}
+
+	/**
+	 * 상품 상세 캐시 버전 키 (단조 증가, 상세와 같은 TTL로 만료)
+	 * @param productId 상품 ID
+	 */
+	public static String productVersion(UUID productId) {
+		return VERSION_PREFIX + productId.toString();
+	}
+
+	/**
+	 * 상세 캐시 메모리 샘플 결과 키 (Hash)
+	 */
+	public static String detailMemoryStats() {
+		return DETAIL_MEMORY_STATS;
+	}
+
+	/**
+	 * 상세 캐시 메모리 샘플 실행 락 키
+	 */
+	public static String detailMemoryLock() {
+		return DETAIL_MEMORY_LOCK;
+	}
+
+	// ==================== 랭킹 키 ====================
+
+	/**
+	 * 시간 버킷 조회 수 키
+	 * @param epochHour UTC 기준 epoch 시간 (epochSecond / 3600)
+	 */
+	public static String rankingViewHourly(long epochHour) {
+		return RANK_VIEW_HOURLY_PREFIX + epochHour;
+	}
+
+	/**
+	 * 시간 버킷 주문 확정 수량 키
+	 * @param epochHour UTC 기준 epoch 시간 (epochSecond / 3600)
+	 */
+	public static String rankingOrderHourly(long epochHour) {
+		return RANK_ORDER_HOURLY_PREFIX + epochHour;
+	}
+
+	/**
+	 * 일 버킷 조회 수 키
+	 * @param epochDay UTC 기준 epoch 일 (epochSecond / 86400)
+	 */
+	public static String rankingViewDaily(long epochDay) {
+		return RANK_VIEW_DAILY_PREFIX + epochDay;
+	}
+
+	/**
+	 * 랭킹 합산 결과 키
+	 * @param type 랭킹 타입 값 (trending, most_viewed)
+	 */
+	public static String rankingResult(String type) {
+		return RANK_RESULT_PREFIX + type;
+	}
+
+	/**
+	 * 상품별 순 조회자 수 키 (HyperLogLog)
+	 * @param productId 상품 ID
+	 */
+	public static String uniqueViewers(UUID productId) {
+		return UNIQUE_VIEWER_PREFIX + productId.toString();
+	}
+
 	// ==================== 패턴 (일괄 삭제용) ====================
 
 	/**
@@ -74,9 +185,23 @@ public final class ProductCacheKey {
 	}
 
 	/**
-	 * 상품 상세 키 패턴 (전체 삭제용)
+	 * 상품 상세 키 패턴 (전체 삭제용, 사전 직렬화 응답 키 포함)
 	 */
 	public static String productDetailPattern() {
 		return DETAIL_PREFIX + "*";
 	}
+
+	/**
+	 * 상세 캐시 키 여부 (사전 직렬화 응답 키 포함, 키스페이스 SCAN 결과 분류용)
+	 */
+	public static boolean isProductDetailKey(String key) {
+		return key.startsWith(DETAIL_PREFIX);
+	}
+
+	/**
+	 * 사전 직렬화 응답 키 여부 (productDetailPattern 결과에서 키 종류 구분용)
+	 */
+	public static boolean isProductDetailJson(String key) {
+		return key.startsWith(DETAIL_JSON_PREFIX);
+	}
 }
\ No newline at end of file
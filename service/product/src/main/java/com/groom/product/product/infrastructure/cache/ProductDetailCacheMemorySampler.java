@@ -0,0 +1,238 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 캐시 메모리 샘플러
+ *
+ * - 주기마다 SET NX 락을 잡은 1개 인스턴스만 샘플링하고 결과를 Hash로 공유 (나머지는 HGETALL 1회)
+ * - 키스페이스를 MATCH 없이 SCAN하며 product:detail:* 키 개수 집계 (블로킹 없음)
+ *   상세 객체 키와 사전 직렬화 응답 키(product:detail:json:v*)는 같은 접두사를 쓰므로 종류별로 따로 집계
+ * - SCAN은 최대 memory-scan-max-keys개까지만 진행하고 조기 종료
+ *   → 종료 시 키 개수는 스캔 구간의 비율 × DBSIZE로 추정 (끝까지 스캔하면 정확한 값)
+ * - 종류별 앞쪽 일부 키만 MEMORY USAGE로 측정하여 평균 크기 산출
+ * - 예상 메모리 = Σ(종류별 키 개수 × 평균 크기) → 메모리 예산과 비교
+ *
+ * 예산 초과 시 신규 적재 TTL을 warm-up TTL로 단축 (ProductDetailCacheService)
+ * 최종 상한은 Redis maxmemory + volatile-lfu 정책 (TTL이 있는 캐시 키만 빈도 기반 축출)
+ */
+@Slf4j
+@Component
+public class ProductDetailCacheMemorySampler {
+
+	private static final int SCAN_BATCH = 1000;
+	private static final String FIELD_KEYS = "keys";
+	private static final String FIELD_AVG = "avgBytes";
+	private static final String FIELD_JSON_KEYS = "jsonKeys";
+	private static final String FIELD_JSON_AVG = "jsonAvgBytes";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final long memoryBudgetBytes;
+	private final int sampleSize;
+	private final long maxScannedKeys;
+	private final Duration lockTtl;
+	private final Duration statsTtl;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final AtomicLong keyCount = new AtomicLong();
+	private final AtomicLong avgEncodedBytes = new AtomicLong();
+	private final AtomicLong jsonKeyCount = new AtomicLong();
+	private final AtomicLong jsonAvgEncodedBytes = new AtomicLong();
+	private final AtomicLong projectedBytes = new AtomicLong();
+	private volatile boolean overBudget;
+
+	private record Sample(long count, long avg, long jsonCount, long jsonAvg) {
+
+		long projected() {
+			return count * avg + jsonCount * jsonAvg;
+		}
+	}
+
+	public ProductDetailCacheMemorySampler(
+		StringRedisTemplate stringRedisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${product.cache.detail.memory-budget-mb:512}") long memoryBudgetMb,
+		@Value("${product.cache.detail.memory-sample-size:200}") int sampleSize,
+		@Value("${product.cache.detail.memory-scan-max-keys:100000}") long maxScannedKeys,
+		@Value("${product.cache.detail.memory-sample-interval-ms:60000}") long sampleIntervalMs
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+		this.sampleSize = sampleSize;
+		this.maxScannedKeys = maxScannedKeys;
+		// 락은 주기 동안 유지 → 주기당 1회 샘플링, 결과는 3주기 동안 유효
+		this.lockTtl = Duration.ofMillis(sampleIntervalMs);
+		this.statsTtl = Duration.ofMillis(sampleIntervalMs * 3);
+
+		Gauge.builder("product.cache.detail.keys", keyCount, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("product.cache.detail.avg.bytes", avgEncodedBytes, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("product.cache.detail.json.keys", jsonKeyCount, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("product.cache.detail.json.avg.bytes", jsonAvgEncodedBytes, AtomicLong::get)
+			.register(meterRegistry);
+		Gauge.builder("product.cache.detail.projected.bytes", projectedBytes, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("product.cache.detail.budget.bytes", () -> memoryBudgetBytes).register(meterRegistry);
+	}
+
+	/**
+	 * 예상 메모리가 예산을 초과했는지 여부 (마지막 샘플 기준)
+	 */
+	public boolean isOverBudget() {
+		return overBudget;
+	}
+
+	@Scheduled(fixedDelayString = "${product.cache.detail.memory-sample-interval-ms:60000}")
+	public void sample() {
+		try {
+			Boolean sampler = stringRedisTemplate.opsForValue()
+				.setIfAbsent(ProductCacheKey.detailMemoryLock(), instanceId, lockTtl);
+
+			Sample sample;
+			if (Boolean.TRUE.equals(sampler)) {
+				sample = measure();
+				publish(sample);
+			} else {
+				sample = readPublished();
+			}
+			if (sample != null) {
+				apply(sample, Boolean.TRUE.equals(sampler));
+			}
+		} catch (Exception e) {
+			log.error("Failed to sample product detail cache memory", e);
+		}
+	}
+
+	private Sample measure() {
+		List<String> samples = new ArrayList<>(sampleSize);
+		List<String> jsonSamples = new ArrayList<>(sampleSize);
+		long count = 0;
+		long jsonCount = 0;
+		long scanned = 0;
+		boolean complete;
+
+		ScanOptions options = ScanOptions.scanOptions()
+			.count(SCAN_BATCH)
+			.build();
+		try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+			while (scanned < maxScannedKeys && cursor.hasNext()) {
+				String key = cursor.next();
+				scanned++;
+				if (!ProductCacheKey.isProductDetailKey(key)) {
+					continue;
+				}
+				if (ProductCacheKey.isProductDetailJson(key)) {
+					if (jsonSamples.size() < sampleSize) {
+						jsonSamples.add(key);
+					}
+					jsonCount++;
+				} else {
+					if (samples.size() < sampleSize) {
+						samples.add(key);
+					}
+					count++;
+				}
+			}
+			complete = !cursor.hasNext();
+		}
+
+		if (!complete) {
+			// 조기 종료: 스캔 구간의 상세 키 비율로 전체 키 개수 추정
+			Long dbSize = stringRedisTemplate.execute((RedisCallback<Long>)connection ->
+				connection.serverCommands().dbSize());
+			double scale = dbSize != null ? (double)dbSize / scanned : 1.0;
+			count = Math.round(count * scale);
+			jsonCount = Math.round(jsonCount * scale);
+		}
+
+		return new Sample(count, averageMemoryUsage(samples), jsonCount, averageMemoryUsage(jsonSamples));
+	}
+
+	private void publish(Sample sample) {
+		stringRedisTemplate.opsForHash().putAll(ProductCacheKey.detailMemoryStats(), Map.of(
+			FIELD_KEYS, String.valueOf(sample.count()),
+			FIELD_AVG, String.valueOf(sample.avg()),
+			FIELD_JSON_KEYS, String.valueOf(sample.jsonCount()),
+			FIELD_JSON_AVG, String.valueOf(sample.jsonAvg())));
+		stringRedisTemplate.expire(ProductCacheKey.detailMemoryStats(), statsTtl);
+	}
+
+	/**
+	 * 다른 인스턴스가 공유한 샘플 (없거나 만료되면 null → 이전 값 유지)
+	 */
+	private Sample readPublished() {
+		Map<Object, Object> stats = stringRedisTemplate.opsForHash().entries(ProductCacheKey.detailMemoryStats());
+		if (stats.size() < 4) {
+			return null;
+		}
+		return new Sample(
+			Long.parseLong(stats.get(FIELD_KEYS).toString()),
+			Long.parseLong(stats.get(FIELD_AVG).toString()),
+			Long.parseLong(stats.get(FIELD_JSON_KEYS).toString()),
+			Long.parseLong(stats.get(FIELD_JSON_AVG).toString()));
+	}
+
+	private void apply(Sample sample, boolean measured) {
+		long projected = sample.projected();
+
+		keyCount.set(sample.count());
+		avgEncodedBytes.set(sample.avg());
+		jsonKeyCount.set(sample.jsonCount());
+		jsonAvgEncodedBytes.set(sample.jsonAvg());
+		projectedBytes.set(projected);
+		overBudget = projected > memoryBudgetBytes;
+
+		if (!measured) {
+			return;
+		}
+		if (overBudget) {
+			log.warn("Product detail cache over memory budget: keys={}, avgBytes={}, jsonKeys={}, jsonAvgBytes={}, "
+					+ "projectedMb={}, budgetMb={}",
+				sample.count(), sample.avg(), sample.jsonCount(), sample.jsonAvg(),
+				projected / (1024 * 1024), memoryBudgetBytes / (1024 * 1024));
+		} else {
+			log.info("Product detail cache memory: keys={}, avgBytes={}, jsonKeys={}, jsonAvgBytes={}, "
+					+ "projectedMb={}, budgetMb={}",
+				sample.count(), sample.avg(), sample.jsonCount(), sample.jsonAvg(),
+				projected / (1024 * 1024), memoryBudgetBytes / (1024 * 1024));
+		}
+	}
+
+	private long averageMemoryUsage(List<String> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+
+		Long total = stringRedisTemplate.execute((RedisCallback<Long>)connection -> {
+			long sum = 0;
+			int measured = 0;
+			for (String key : keys) {
+				// 키/값 인코딩 + 내부 오버헤드 포함 크기
+				Object usage = connection.execute("MEMORY",
+					"USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+				if (usage instanceof Number bytes) {
+					sum += bytes.longValue();
+					measured++;
+				}
+			}
+			return measured > 0 ? sum / measured : 0L;
+		});
+		return total != null ? total : 0;
+	}
+}
@@ -1,16 +1,31 @@
 package com.groom.product.product.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,8 +36,13 @@ import lombok.extern.slf4j.Slf4j;
  * 값: CachedProductDetail (JSON)
  *
  * 특징:
- * - TTL 없음 (이벤트 기반 즉시 업데이트)
+ * - 이벤트 기반 즉시 업데이트 + Sliding TTL (조회 시 TTL 갱신 → 자주 읽히는 상품만 유지)
+ * - warm-up 적재는 짧은 TTL (조회되지 않으면 만료, 조회되면 일반 TTL로 연장)
+ * - 메모리 예산 초과 시 신규 적재도 짧은 TTL 사용 (ProductDetailCacheMemorySampler)
  * - MGET으로 다수 상품 일괄 조회 지원
+ * - 저장/삭제 시 product:version:{productId} 증가 (본문 역직렬화 없이 ETag 비교)
+ *   버전 키도 상세와 같은 TTL로 만료되며 조회 시 함께 연장, 만료 후 재생성 시 현재 시각부터 시작 (이전 ETag와 충돌 없음)
+ * - (선택) 최종 응답 JSON 바이트(평점 포함)를 조회 시 적재하여 이후 객체 매핑 없이 그대로 전송
  */
 @Slf4j
 @Service
@@ -30,6 +50,29 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductDetailCacheService {
 
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ProductDetailCacheMemorySampler memorySampler;
+	private final CategoryTreeCache categoryTreeCache;
+
+	@Value("${product.cache.detail.raw-response-enabled:false}")
+	private boolean rawResponseEnabled;
+
+	@Value("${product.cache.detail.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Value("${product.cache.detail.warm-up-ttl-seconds:600}")
+	private long warmUpTtlSeconds;
+
+	private DefaultRedisScript<Long> versionBumpScript;
+
+	@PostConstruct
+	public void init() {
+		versionBumpScript = new DefaultRedisScript<>();
+		versionBumpScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/product_version_bump.lua")));
+		versionBumpScript.setResultType(Long.class);
+	}
 
 	/**
 	 * 상품 상세 캐시 저장/업데이트
@@ -37,14 +80,52 @@ public class ProductDetailCacheService {
 	 */
 	public void put(Product product) {
 		try {
-			String key = ProductCacheKey.productDetail(product.getId());
-			CachedProductDetail cached = CachedProductDetail.from(product);
+			put(CachedProductDetail.from(product, categoryNode(product)));
+		} catch (Exception e) {
+			log.error("Failed to cache product detail: productId={}", product.getId(), e);
+		}
+	}
 
-			redisTemplate.opsForValue().set(key, cached);
+	/**
+	 * warm-up 적재 (짧은 TTL, 조회 시 일반 TTL로 연장)
+	 * @param product 저장할 상품 엔티티
+	 */
+	public void putWarmUp(Product product) {
+		try {
+			put(CachedProductDetail.from(product, categoryNode(product)), Duration.ofSeconds(warmUpTtlSeconds));
+		} catch (Exception e) {
+			log.error("Failed to warm up product detail: productId={}", product.getId(), e);
+		}
+	}
+
+	/**
+	 * 상품 카테고리의 스냅샷 노드 (getId는 프록시를 초기화하지 않음)
+	 */
+	private CategoryTreeSnapshot.Node categoryNode(Product product) {
+		return categoryTreeCache.get().getNode(product.getCategory().getId());
+	}
+
+	/**
+	 * 상품 상세 캐시 저장/업데이트 (프로젝션 조회 결과)
+	 * @param cached 저장할 캐시 모델
+	 */
+	public void put(CachedProductDetail cached) {
+		// 예산 초과 시 신규 적재는 짧은 TTL (조회되는 상품만 연장되어 남음)
+		long seconds = memorySampler.isOverBudget() ? warmUpTtlSeconds : ttlSeconds;
+		put(cached, Duration.ofSeconds(seconds));
+	}
 
-			log.debug("Product detail cached: productId={}", product.getId());
+	private void put(CachedProductDetail cached, Duration ttl) {
+		UUID productId = cached.getProductId();
+		try {
+			redisTemplate.opsForValue().set(ProductCacheKey.productDetail(productId), cached, ttl);
+			// 응답 바이트는 평점을 포함하므로 조회 시 재생성 (이전 바이트 노출 방지)
+			redisTemplate.delete(ProductCacheKey.productDetailJson(productId));
+			bumpVersions(List.of(productId));
+
+			log.debug("Product detail cached: productId={}", productId);
 		} catch (Exception e) {
-			log.error("Failed to cache product detail: productId={}", product.getId(), e);
+			log.error("Failed to cache product detail: productId={}", productId, e);
 		}
 	}
 
@@ -55,8 +136,17 @@ public class ProductDetailCacheService {
 	 */
 	public CachedProductDetail get(UUID productId) {
 		try {
-			String key = ProductCacheKey.productDetail(productId);
-			Object cached = redisTemplate.opsForValue().get(key);
+			// GETEX: 조회와 TTL 갱신을 한 번에 (Redis 6.2+), 버전 키 TTL도 같은 파이프라인에서 연장
+			byte[] key = ProductCacheKey.productDetail(productId).getBytes(StandardCharsets.UTF_8);
+			byte[] versionKey = ProductCacheKey.productVersion(productId).getBytes(StandardCharsets.UTF_8);
+			Expiration expiration = Expiration.from(detailTtl());
+			long seconds = ttlSeconds;
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.stringCommands().getEx(key, expiration);
+				connection.keyCommands().expire(versionKey, seconds);
+				return null;
+			});
+			Object cached = results.get(0);
 
 			if (cached instanceof CachedProductDetail) {
 				log.debug("Product detail cache hit: productId={}", productId);
@@ -100,6 +190,7 @@ public class ProductDetailCacheService {
 					resultMap.put(productIds.get(i), detail);
 				}
 			}
+			refreshTtl(new ArrayList<>(resultMap.keySet()));
 
 			log.debug("Product detail multi-get: requested={}, found={}",
 				productIds.size(), resultMap.size());
@@ -132,6 +223,14 @@ public class ProductDetailCacheService {
 				return Collections.emptyList();
 			}
 
+			List<UUID> hitIds = new ArrayList<>();
+			for (int i = 0; i < results.size(); i++) {
+				if (results.get(i) instanceof CachedProductDetail) {
+					hitIds.add(productIds.get(i));
+				}
+			}
+			refreshTtl(hitIds);
+
 			return results.stream()
 				.map(obj -> obj instanceof CachedProductDetail ? (CachedProductDetail) obj : null)
 				.toList();
@@ -148,7 +247,9 @@ public class ProductDetailCacheService {
 	public void delete(UUID productId) {
 		try {
 			String key = ProductCacheKey.productDetail(productId);
-			redisTemplate.delete(key);
+			redisTemplate.delete(List.of(key, ProductCacheKey.productDetailJson(productId)));
+			// 버전은 삭제하지 않고 증가 (재적재 시 이전 ETag와 충돌 방지)
+			bumpVersions(List.of(productId));
 
 			log.debug("Product detail cache deleted: productId={}", productId);
 		} catch (Exception e) {
@@ -156,6 +257,175 @@ public class ProductDetailCacheService {
 		}
 	}
 
+	/**
+	 * 상품 상세 캐시 일괄 삭제 (재고 일괄 변경 등)
+	 * @param productIds 삭제할 상품 ID 목록
+	 */
+	public void deleteAll(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<String> keys = new ArrayList<>(productIds.size() * 2);
+			for (UUID productId : productIds) {
+				keys.add(ProductCacheKey.productDetail(productId));
+				keys.add(ProductCacheKey.productDetailJson(productId));
+			}
+			redisTemplate.delete(keys);
+
+			bumpVersions(productIds);
+			log.debug("Product detail caches deleted: count={}", productIds.size());
+		} catch (Exception e) {
+			log.error("Failed to delete product detail caches: count={}", productIds.size(), e);
+		}
+	}
+
+	/**
+	 * 상세 응답 구성 요소 외부 변경 반영 (리뷰 평점 등)
+	 * 구조화 캐시는 유지하고 응답 바이트 제거 + 버전 증가 (ETag 무효화)
+	 * @param productId 상품 ID
+	 */
+	public void touch(UUID productId) {
+		try {
+			redisTemplate.delete(ProductCacheKey.productDetailJson(productId));
+			bumpVersions(List.of(productId));
+		} catch (Exception e) {
+			log.error("Failed to touch product detail cache: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 사전 직렬화 응답 모드 사용 여부
+	 */
+	public boolean isRawResponseEnabled() {
+		return rawResponseEnabled;
+	}
+
+	/**
+	 * 사전 직렬화된 상세 응답 조회 (역직렬화 없이 바이트 그대로 반환)
+	 * @param productId 상품 ID
+	 * @return 응답 JSON 바이트 (없거나 모드 비활성 시 null)
+	 */
+	public byte[] getRawResponse(UUID productId) {
+		if (!rawResponseEnabled) {
+			return null;
+		}
+
+		try {
+			// 응답 바이트 GETEX + 버전 키 TTL 연장을 파이프라인 1회로 (결과는 역직렬화 없이 원본 바이트)
+			byte[] key = ProductCacheKey.productDetailJson(productId).getBytes(StandardCharsets.UTF_8);
+			byte[] versionKey = ProductCacheKey.productVersion(productId).getBytes(StandardCharsets.UTF_8);
+			Expiration expiration = Expiration.from(detailTtl());
+			long seconds = ttlSeconds;
+			List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.stringCommands().getEx(key, expiration);
+				connection.keyCommands().expire(versionKey, seconds);
+				return null;
+			}, (RedisSerializer<?>)null);
+			return results.get(0) instanceof byte[] body ? body : null;
+		} catch (Exception e) {
+			log.error("Failed to get raw product detail response: productId={}", productId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 상세 응답 JSON 바이트 저장
+	 * @param productId 상품 ID
+	 * @param response 응답 DTO
+	 * @return 저장한 바이트 (실패 시 null)
+	 */
+	public byte[] putRawResponse(UUID productId, ResProductDetailDtoV1 response) {
+		try {
+			byte[] key = ProductCacheKey.productDetailJson(productId).getBytes(StandardCharsets.UTF_8);
+			byte[] body = objectMapper.writeValueAsBytes(response);
+			Expiration expiration = Expiration.from(detailTtl());
+			stringRedisTemplate.execute(
+				(RedisCallback<Boolean>)connection -> connection.stringCommands()
+					.set(key, body, expiration, RedisStringCommands.SetOption.upsert()));
+			return body;
+		} catch (Exception e) {
+			log.error("Failed to cache raw product detail response: productId={}", productId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 상품 상세 캐시 버전 조회
+	 * @param productId 상품 ID
+	 * @return 버전 (없으면 0)
+	 */
+	public long getVersion(UUID productId) {
+		try {
+			String val = stringRedisTemplate.opsForValue().get(ProductCacheKey.productVersion(productId));
+			return val != null ? Long.parseLong(val) : 0;
+		} catch (Exception e) {
+			log.error("Failed to get product detail version: productId={}", productId, e);
+			return 0;
+		}
+	}
+
+	/**
+	 * 다수 상품 상세 캐시 버전 일괄 조회 (MGET, 순서 유지, 없으면 null)
+	 * @param productIds 상품 ID 리스트
+	 */
+	public List<String> multiGetVersions(List<UUID> productIds) {
+		if (productIds == null || productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			List<String> keys = productIds.stream()
+				.map(ProductCacheKey::productVersion)
+				.toList();
+
+			List<String> results = stringRedisTemplate.opsForValue().multiGet(keys);
+			return results != null ? results : Collections.emptyList();
+		} catch (Exception e) {
+			log.error("Failed to multi-get product detail versions", e);
+			return Collections.emptyList();
+		}
+	}
+
+	private Duration detailTtl() {
+		return Duration.ofSeconds(ttlSeconds);
+	}
+
+	/**
+	 * 상세 버전 증가 (Lua, 버전 키 TTL 설정 포함)
+	 */
+	private void bumpVersions(List<UUID> productIds) {
+		List<String> keys = productIds.stream()
+			.map(ProductCacheKey::productVersion)
+			.toList();
+		stringRedisTemplate.execute(
+			versionBumpScript,
+			keys,
+			String.valueOf(System.currentTimeMillis()),
+			String.valueOf(ttlSeconds)
+		);
+	}
+
+	/**
+	 * 조회된 상품의 상세/버전 키 TTL 갱신 (EXPIRE 파이프라인 1회)
+	 */
+	private void refreshTtl(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		long seconds = ttlSeconds;
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (UUID productId : productIds) {
+				connection.keyCommands().expire(
+					ProductCacheKey.productDetail(productId).getBytes(StandardCharsets.UTF_8), seconds);
+				connection.keyCommands().expire(
+					ProductCacheKey.productVersion(productId).getBytes(StandardCharsets.UTF_8), seconds);
+			}
+			return null;
+		});
+	}
+
 	/**
 	 * 캐시 존재 여부 확인
 	 * @param productId 상품 ID
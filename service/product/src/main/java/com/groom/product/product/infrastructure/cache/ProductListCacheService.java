@@ -1,11 +1,17 @@
 package com.groom.product.product.infrastructure.cache;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -32,27 +38,72 @@ public class ProductListCacheService {
 
 	private final StringRedisTemplate stringRedisTemplate;
 
+	// 하위 카테고리 포함 목록 TTL (개별 카테고리 ZSET 변경이 반영되는 최대 지연)
+	private static final Duration TREE_LIST_TTL = Duration.ofSeconds(30);
+
 	/**
 	 * 카테고리 목록에 상품 추가
 	 * @param product 추가할 상품
 	 */
 	public void addProduct(Product product) {
+		addProduct(product.getId(), product.getCategory().getId(), product.getCreatedAt());
+	}
+
+	/**
+	 * 카테고리 목록에 상품 추가 (프로젝션 조회 결과)
+	 * @param productId 상품 ID
+	 * @param categoryId 카테고리 ID
+	 * @param createdAt 생성 시각 (score)
+	 */
+	public void addProduct(UUID productId, UUID categoryId, LocalDateTime createdAt) {
 		try {
-			String productId = product.getId().toString();
-			double score = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+			String member = productId.toString();
+			double score = createdAt.toEpochSecond(ZoneOffset.UTC);
 
 			// 카테고리별 목록에 추가
-			String categoryKey = ProductCacheKey.productList(product.getCategory().getId());
-			stringRedisTemplate.opsForZSet().add(categoryKey, productId, score);
+			String categoryKey = ProductCacheKey.productList(categoryId);
+			stringRedisTemplate.opsForZSet().add(categoryKey, member, score);
 
 			// 전체 목록에도 추가
 			String allKey = ProductCacheKey.productListAll();
-			stringRedisTemplate.opsForZSet().add(allKey, productId, score);
+			stringRedisTemplate.opsForZSet().add(allKey, member, score);
+
+			log.debug("Product added to list cache: productId={}, categoryId={}", productId, categoryId);
+		} catch (Exception e) {
+			log.error("Failed to add product to list cache: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 카테고리 목록에 상품 일괄 추가 (파이프라인 ZADD, 대량 등록 시)
+	 * @param categoryIdsByProductId 상품 ID → 카테고리 ID
+	 * @param createdAt 생성 시각 (score, 청크 단위 동일)
+	 */
+	public void addProducts(Map<UUID, UUID> categoryIdsByProductId, LocalDateTime createdAt) {
+		if (categoryIdsByProductId.isEmpty()) {
+			return;
+		}
+
+		try {
+			double score = createdAt.toEpochSecond(ZoneOffset.UTC);
+			String allKey = ProductCacheKey.productListAll();
 
-			log.debug("Product added to list cache: productId={}, categoryId={}",
-				productId, product.getCategory().getId());
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					categoryIdsByProductId.forEach((productId, categoryId) -> {
+						String member = productId.toString();
+						ops.opsForZSet().add(ProductCacheKey.productList(categoryId), member, score);
+						ops.opsForZSet().add(allKey, member, score);
+					});
+					return null;
+				}
+			});
+			log.debug("Products added to list cache: count={}", categoryIdsByProductId.size());
 		} catch (Exception e) {
-			log.error("Failed to add product to list cache: productId={}", product.getId(), e);
+			log.error("Failed to add products to list cache: count={}", categoryIdsByProductId.size(), e);
 		}
 	}
 
@@ -132,6 +183,86 @@ public class ProductListCacheService {
 		}
 	}
 
+	/**
+	 * 하위 카테고리 포함 상품 ID 목록 조회 (최신순)
+	 * 합집합 키가 없으면 하위 카테고리 ZSET들을 ZUNIONSTORE로 병합 후 짧은 TTL로 보관
+	 * 하위 카테고리 ZSET 중 하나라도 적재되지 않았으면 부분 합집합을 만들지 않고 빈 목록 반환 (호출 측 DB 조회)
+	 * @param categoryId 상위 카테고리 ID
+	 * @param subtreeCategoryIds 자기 자신을 포함한 하위 카테고리 ID 목록
+	 */
+	public List<UUID> getSubtreeProductIds(UUID categoryId, List<UUID> subtreeCategoryIds,
+		long offset, long limit) {
+		try {
+			String treeKey = ProductCacheKey.productTreeList(categoryId);
+
+			if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(treeKey))) {
+				List<String> sourceKeys = subtreeCategoryIds.stream()
+					.map(ProductCacheKey::productList)
+					.toList();
+				Long loaded = stringRedisTemplate.countExistingKeys(sourceKeys);
+				if (loaded == null || loaded < sourceKeys.size()) {
+					log.debug("Subtree list cache incomplete: categoryId={}, loaded={}/{}",
+						categoryId, loaded, sourceKeys.size());
+					return Collections.emptyList();
+				}
+				stringRedisTemplate.opsForZSet()
+					.unionAndStore(sourceKeys.get(0), sourceKeys.subList(1, sourceKeys.size()), treeKey);
+				stringRedisTemplate.expire(treeKey, TREE_LIST_TTL);
+			}
+
+			Set<String> productIds = stringRedisTemplate.opsForZSet()
+				.reverseRange(treeKey, offset, offset + limit - 1);
+
+			if (productIds == null || productIds.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			return productIds.stream()
+				.map(UUID::fromString)
+				.toList();
+		} catch (Exception e) {
+			log.error("Failed to get subtree product IDs from cache: categoryId={}", categoryId, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 하위 카테고리 포함 목록 캐시 삭제 (DB 적재 후 다음 조회 시 재병합)
+	 */
+	public void evictSubtree(UUID categoryId) {
+		try {
+			stringRedisTemplate.delete(ProductCacheKey.productTreeList(categoryId));
+		} catch (Exception e) {
+			log.error("Failed to evict subtree list cache: categoryId={}", categoryId, e);
+		}
+	}
+
+	/**
+	 * 하위 카테고리 포함 상품 수 캐시 조회
+	 * @return -1 if cache miss
+	 */
+	public long getCachedSubtreeTotalCount(UUID categoryId) {
+		try {
+			String val = stringRedisTemplate.opsForValue().get(ProductCacheKey.productTreeCount(categoryId));
+			return val != null ? Long.parseLong(val) : -1;
+		} catch (Exception e) {
+			log.error("Failed to get cached subtree total count: categoryId={}", categoryId, e);
+			return -1;
+		}
+	}
+
+	/**
+	 * 하위 카테고리 포함 상품 수 캐시 설정 (목록과 같은 TTL)
+	 */
+	public void setSubtreeTotalCount(UUID categoryId, long count) {
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(ProductCacheKey.productTreeCount(categoryId), String.valueOf(count), TREE_LIST_TTL);
+		} catch (Exception e) {
+			log.error("Failed to set subtree total count cache: categoryId={}", categoryId, e);
+		}
+	}
+
 	/**
 	 * 카테고리별 전체 상품 수 조회 (ZSet 크기 반환)
 	 * @deprecated getCachedTotalCount 사용 권장
@@ -0,0 +1,258 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import com.groom.product.product.domain.enums.ProductRankingType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 랭킹 Redis 서비스
+ *
+ * - 조회/주문 확정 신호를 시간/일 버킷 ZSET에 ZINCRBY로 누적 (버킷은 윈도우 + 1 주기 후 만료)
+ * - 조회 시 윈도우 내 버킷을 ZUNIONSTORE WEIGHTS로 합산 (가중치 = decay^버킷 경과 주기)
+ *   → 주기가 지날 때마다 과거 점수가 지수적으로 감쇠 (배치 재계산 없음)
+ * - 합산 결과는 짧은 TTL로 캐싱
+ * - 상품별 순 조회자 수는 HyperLogLog (상품당 최대 12KB, 오차 약 0.81%)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRankingRedisService {
+
+	private static final int HOURLY_WINDOW = 24;
+	private static final int DAILY_WINDOW = 7;
+	private static final Duration HOURLY_BUCKET_TTL = Duration.ofHours(HOURLY_WINDOW + 1);
+	private static final Duration DAILY_BUCKET_TTL = Duration.ofDays(DAILY_WINDOW + 1);
+	private static final Duration UNIQUE_VIEWER_TTL = Duration.ofDays(30);
+	private static final Duration RESULT_TTL = Duration.ofSeconds(30);
+	private static final int RESULT_MAX_SIZE = 1000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${product.ranking.order-weight:5}")
+	private double orderWeight;
+
+	@Value("${product.ranking.hourly-decay:0.9}")
+	private double hourlyDecay;
+
+	@Value("${product.ranking.daily-decay:0.8}")
+	private double dailyDecay;
+
+	/**
+	 * 상품 조회 기록 (시간/일 버킷 ZINCRBY + 순 조회자 PFADD, 파이프라인 1회)
+	 * @param viewerKey 조회자 식별값 (회원 ID 또는 클라이언트 IP)
+	 * @return 갱신된 인기 점수 (오늘 + 전일 감쇠 조회 수, 실패 시 null)
+	 */
+	public Double recordView(UUID productId, String viewerKey) {
+		long now = Instant.now().getEpochSecond();
+		String hourlyKey = ProductCacheKey.rankingViewHourly(now / 3600);
+		String dailyKey = ProductCacheKey.rankingViewDaily(now / 86400);
+		String yesterdayKey = ProductCacheKey.rankingViewDaily(now / 86400 - 1);
+		String uniqueViewerKey = ProductCacheKey.uniqueViewers(productId);
+		String member = productId.toString();
+
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForZSet().incrementScore(hourlyKey, member, 1);
+					ops.expire(hourlyKey, HOURLY_BUCKET_TTL);
+					ops.opsForZSet().incrementScore(dailyKey, member, 1);
+					ops.expire(dailyKey, DAILY_BUCKET_TTL);
+					ops.opsForZSet().score(yesterdayKey, member);
+					if (viewerKey != null) {
+						ops.opsForHyperLogLog().add(uniqueViewerKey, viewerKey);
+						ops.expire(uniqueViewerKey, UNIQUE_VIEWER_TTL);
+					}
+					return null;
+				}
+			});
+			return scoreOf(results.get(2)) + scoreOf(results.get(4)) * dailyDecay;
+		} catch (Exception e) {
+			log.error("Failed to record product view: productId={}", productId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 주문 확정 기록 (시간 버킷 ZINCRBY 수량, 파이프라인 1회)
+	 * @param quantities productId → 확정 수량
+	 */
+	public void recordOrders(Map<UUID, Integer> quantities) {
+		if (quantities.isEmpty()) {
+			return;
+		}
+
+		long now = Instant.now().getEpochSecond();
+		String hourlyKey = ProductCacheKey.rankingOrderHourly(now / 3600);
+
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					quantities.forEach((productId, quantity) ->
+						ops.opsForZSet().incrementScore(hourlyKey, productId.toString(), quantity));
+					ops.expire(hourlyKey, HOURLY_BUCKET_TTL);
+					return null;
+				}
+			});
+		} catch (Exception e) {
+			log.error("Failed to record product orders: products={}", quantities.keySet(), e);
+		}
+	}
+
+	/**
+	 * 랭킹 상위 상품 조회 (합산 결과 캐시 미스 시 버킷 ZUNIONSTORE)
+	 * @return productId → 점수 (점수 내림차순 유지)
+	 */
+	public Map<UUID, Double> getTopProducts(ProductRankingType type, int size) {
+		String resultKey = ProductCacheKey.rankingResult(type.getValue());
+
+		try {
+			if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(resultKey))) {
+				rebuild(type, resultKey);
+			}
+
+			Set<ZSetOperations.TypedTuple<String>> tuples =
+				stringRedisTemplate.opsForZSet().reverseRangeWithScores(resultKey, 0, size - 1);
+			if (tuples == null) {
+				return Collections.emptyMap();
+			}
+
+			Map<UUID, Double> ranking = new LinkedHashMap<>();
+			for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+				ranking.put(UUID.fromString(tuple.getValue()), tuple.getScore());
+			}
+			return ranking;
+		} catch (Exception e) {
+			log.error("Failed to get product ranking: type={}", type, e);
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * 다수 상품 순 조회자 수 조회 (PFCOUNT 파이프라인, 순서 유지)
+	 */
+	public List<Long> countUniqueViewers(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					productIds.forEach(id -> ops.opsForHyperLogLog().size(ProductCacheKey.uniqueViewers(id)));
+					return null;
+				}
+			});
+			return results.stream()
+				.map(result -> result instanceof Number count ? count.longValue() : 0L)
+				.toList();
+		} catch (Exception e) {
+			log.error("Failed to count unique viewers", e);
+			return Collections.nCopies(productIds.size(), 0L);
+		}
+	}
+
+	/**
+	 * 다수 상품 인기 점수 조회 (오늘 + 전일 감쇠 조회 수, ZMSCORE 파이프라인 1회, 순서 유지)
+	 */
+	public List<Double> getPopularityScores(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		long currentDay = Instant.now().getEpochSecond() / 86400;
+		String todayKey = ProductCacheKey.rankingViewDaily(currentDay);
+		String yesterdayKey = ProductCacheKey.rankingViewDaily(currentDay - 1);
+		Object[] members = productIds.stream().map(UUID::toString).toArray();
+
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					ops.opsForZSet().score(todayKey, members);
+					ops.opsForZSet().score(yesterdayKey, members);
+					return null;
+				}
+			});
+
+			List<?> today = (List<?>)results.get(0);
+			List<?> yesterday = (List<?>)results.get(1);
+			List<Double> scores = new ArrayList<>(productIds.size());
+			for (int i = 0; i < productIds.size(); i++) {
+				scores.add(scoreOf(today.get(i)) + scoreOf(yesterday.get(i)) * dailyDecay);
+			}
+			return scores;
+		} catch (Exception e) {
+			log.error("Failed to get product popularity scores", e);
+			return Collections.nCopies(productIds.size(), 0.0);
+		}
+	}
+
+	private double scoreOf(Object score) {
+		return score instanceof Number number ? number.doubleValue() : 0.0;
+	}
+
+	private void rebuild(ProductRankingType type, String resultKey) {
+		long now = Instant.now().getEpochSecond();
+		List<String> keys = new ArrayList<>();
+		List<Double> weights = new ArrayList<>();
+
+		if (type == ProductRankingType.TRENDING) {
+			long currentHour = now / 3600;
+			for (int age = 0; age < HOURLY_WINDOW; age++) {
+				double decay = Math.pow(hourlyDecay, age);
+				keys.add(ProductCacheKey.rankingViewHourly(currentHour - age));
+				weights.add(decay);
+				keys.add(ProductCacheKey.rankingOrderHourly(currentHour - age));
+				weights.add(decay * orderWeight);
+			}
+		} else {
+			long currentDay = now / 86400;
+			for (int age = 0; age < DAILY_WINDOW; age++) {
+				keys.add(ProductCacheKey.rankingViewDaily(currentDay - age));
+				weights.add(Math.pow(dailyDecay, age));
+			}
+		}
+
+		ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+		zSet.unionAndStore(keys.get(0), keys.subList(1, keys.size()), resultKey, Aggregate.SUM,
+			Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray()));
+
+		// 상위 N개만 유지 후 짧은 TTL
+		zSet.removeRange(resultKey, 0, -(RESULT_MAX_SIZE + 1));
+		stringRedisTemplate.expire(resultKey, RESULT_TTL);
+
+		log.debug("Product ranking rebuilt: type={}, buckets={}", type, keys.size());
+	}
+}
@@ -0,0 +1,176 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.groom.product.product.domain.enums.ProductSortType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 결과 Redis 캐시 서비스
+ *
+ * 키: product:search:gen:{categoryId | all} (String, INCR) - 카테고리별 세대 번호
+ * 키: product:search:result:{md5(정규화된 조건 + 세대 번호)} → CachedSearchResult (짧은 TTL)
+ *
+ * - 상품 변경 시 해당 카테고리 + 전체 세대 번호 증가 → 이전 세대 키는 조회되지 않고 TTL로 만료
+ * - 세대 증가 경로: 상품 등록/수정/삭제/정지/복원, 일괄 import, SKU 가격·상태·구성 변경,
+ *   재고 증감/일괄 변경에 따른 품절 ↔ 판매중 전환
+ * - 평점/리뷰 수 등 그 외 표시 필드는 세대를 올리지 않으며 결과 TTL(60초)이 최대 지연 한도
+ * - 조회 시 세대 번호 MGET 1회 + 결과 GET 1회
+ * - 쿼리 유형별 hit/miss 카운터 (product.search.cache.requests{query_class, result})
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchCacheService {
+
+	private static final String GENERATION_PREFIX = "product:search:gen:";
+	private static final String RESULT_PREFIX = "product:search:result:";
+	private static final String ALL_CATEGORIES = "all";
+	private static final Duration RESULT_TTL = Duration.ofSeconds(60);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 정규화된 검색 조건 + 현재 세대 번호로 결과 키 생성
+	 * @param categoryIds 검색 대상 카테고리 (null이면 전체)
+	 * @return 결과 키 (세대 번호 조회 실패 시 null → 캐시 미사용)
+	 */
+	public String buildKey(String keyword, List<UUID> categoryIds, Long minPrice, Long maxPrice,
+		ProductSortType sortType, Pageable pageable) {
+		try {
+			List<String> scopes = categoryIds == null
+				? List.of(ALL_CATEGORIES)
+				: categoryIds.stream().distinct().map(UUID::toString).sorted().toList();
+
+			List<String> generations = stringRedisTemplate.opsForValue().multiGet(
+				scopes.stream().map(scope -> GENERATION_PREFIX + scope).toList());
+			if (generations == null) {
+				return null;
+			}
+
+			StringBuilder signature = new StringBuilder()
+				.append("k=").append(normalizeKeyword(keyword))
+				.append("|min=").append(minPrice)
+				.append("|max=").append(maxPrice)
+				.append("|sort=").append(sortType != null ? sortType : ProductSortType.NEWEST)
+				.append("|p=").append(pageable.getPageNumber())
+				.append("|s=").append(pageable.getPageSize())
+				.append("|c=");
+			for (int i = 0; i < scopes.size(); i++) {
+				signature.append(scopes.get(i)).append(':')
+					.append(Objects.requireNonNullElse(generations.get(i), "0")).append(',');
+			}
+
+			return RESULT_PREFIX + DigestUtils.md5DigestAsHex(signature.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			log.error("Failed to build product search cache key", e);
+			return null;
+		}
+	}
+
+	/**
+	 * 검색 결과 조회
+	 * @return 캐시된 결과 (없으면 null)
+	 */
+	public CachedSearchResult get(String key) {
+		try {
+			Object cached = redisTemplate.opsForValue().get(key);
+			return cached instanceof CachedSearchResult result ? result : null;
+		} catch (Exception e) {
+			log.error("Failed to get product search result from cache: key={}", key, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 검색 결과 저장 (짧은 TTL)
+	 */
+	public void put(String key, List<UUID> productIds, long totalCount) {
+		try {
+			redisTemplate.opsForValue().set(key, new CachedSearchResult(productIds, totalCount), RESULT_TTL);
+		} catch (Exception e) {
+			log.error("Failed to cache product search result: key={}", key, e);
+		}
+	}
+
+	/**
+	 * 상품 변경 반영 (해당 카테고리 + 전체 검색 세대 번호 증가)
+	 * @param categoryIds 변경된 상품의 카테고리 (카테고리 이동 시 이전/신규 모두)
+	 */
+	public void bumpGenerations(Collection<UUID> categoryIds) {
+		try {
+			List<String> keys = new ArrayList<>();
+			keys.add(GENERATION_PREFIX + ALL_CATEGORIES);
+			categoryIds.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.forEach(categoryId -> keys.add(GENERATION_PREFIX + categoryId));
+
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				keys.forEach(key -> connection.stringCommands().incr(key.getBytes(StandardCharsets.UTF_8)));
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to bump product search generations: categoryIds={}", categoryIds, e);
+		}
+	}
+
+	/**
+	 * 쿼리 유형별 캐시 조회 결과 기록
+	 */
+	public void recordLookup(String queryClass, boolean hit) {
+		Counter.builder("product.search.cache.requests")
+			.tag("query_class", queryClass)
+			.tag("result", hit ? "hit" : "miss")
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 쿼리 유형 (검색어/카테고리/가격 필터 조합, 메트릭 태그용)
+	 */
+	public static String queryClass(String keyword, List<UUID> categoryIds, Long minPrice, Long maxPrice) {
+		List<String> parts = new ArrayList<>();
+		if (!normalizeKeyword(keyword).isEmpty()) {
+			parts.add("keyword");
+		}
+		if (categoryIds != null) {
+			parts.add("category");
+		}
+		if (minPrice != null || maxPrice != null) {
+			parts.add("price");
+		}
+		return parts.isEmpty() ? "browse" : String.join("_", parts);
+	}
+
+	/**
+	 * 검색어 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자)
+	 * 캐시 키와 DB 조회에 같은 값을 사용해야 결과가 일치함
+	 */
+	public static String normalizeKeyword(String keyword) {
+		if (keyword == null) {
+			return "";
+		}
+		return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,11 +1,15 @@
 package com.groom.product.product.infrastructure.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scripting.support.ResourceScriptSource;
@@ -16,6 +20,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.product.application.dto.StockAdjustment;
 import com.groom.product.product.application.dto.StockManagement;
 
 import jakarta.annotation.PostConstruct;
@@ -31,16 +36,26 @@ public class StockRedisService {
 	private final ObjectMapper objectMapper;
 
 	private DefaultRedisScript<Long> reserveScript;
+	@SuppressWarnings("rawtypes")
+	private DefaultRedisScript<List> adjustScript;
 
 	// 주문-상품 매핑 TTL (결제 타임아웃 고려)
 	private static final Duration ORDER_STOCK_ITEMS_TTL = Duration.ofHours(1);
 
+	// 조정 스크립트 1회 실행당 최대 키 수 (Redis 단일 스레드 점유 시간 제한)
+	private static final int ADJUST_BATCH_SIZE = 500;
+
 	@PostConstruct
 	public void init() {
 		reserveScript = new DefaultRedisScript<>();
 		reserveScript.setScriptSource(new ResourceScriptSource(
 			new ClassPathResource("scripts/stock_reserve.lua")));
 		reserveScript.setResultType(Long.class);
+
+		adjustScript = new DefaultRedisScript<>();
+		adjustScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/stock_adjust.lua")));
+		adjustScript.setResultType(List.class);
 	}
 
 	/**
@@ -111,6 +126,34 @@ public class StockRedisService {
 		}
 	}
 
+	/**
+	 * 진행 중인 가점유 수량 일괄 조회 (MGET 1회, 순서 유지)
+	 * 가점유 수량 = DB 재고 - Redis 가용 재고 (키가 없으면 가점유 없음)
+	 * @param dbStocks 현재 DB 재고 (quantity)
+	 */
+	public List<Integer> getReservedQuantities(List<StockManagement> dbStocks) {
+		if (dbStocks.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			List<String> values = stringRedisTemplate.opsForValue().multiGet(dbStocks.stream()
+				.map(item -> StockCacheKey.stockKey(item.getProductId(), item.getVariantId()))
+				.toList());
+			List<Integer> reserved = new ArrayList<>(dbStocks.size());
+			for (int i = 0; i < dbStocks.size(); i++) {
+				String available = values != null ? values.get(i) : null;
+				reserved.add(available != null
+					? Math.max(dbStocks.get(i).getQuantity() - Integer.parseInt(available), 0)
+					: 0);
+			}
+			return reserved;
+		} catch (Exception e) {
+			log.error("Failed to get reserved quantities: keys={}", dbStocks.size(), e);
+			return Collections.nCopies(dbStocks.size(), 0);
+		}
+	}
+
 	/**
 	 * 재고 동기화 (DB → Redis)
 	 */
@@ -125,6 +168,63 @@ public class StockRedisService {
 		}
 	}
 
+	/**
+	 * 재고 일괄 동기화 (파이프라인 SET, 대량 등록 시)
+	 */
+	public void syncStocks(List<StockManagement> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+					for (StockManagement item : items) {
+						ops.opsForValue().set(StockCacheKey.stockKey(item.getProductId(), item.getVariantId()),
+							String.valueOf(item.getQuantity()));
+					}
+					return null;
+				}
+			});
+			log.debug("Stocks synced: count={}", items.size());
+		} catch (Exception e) {
+			log.error("Failed to sync stocks: count={}", items.size(), e);
+		}
+	}
+
+	/**
+	 * 가용 재고 일괄 조정 (Lua Script - 실재고 변경분 반영, 가점유 유지)
+	 * 키가 있으면 INCRBY delta, 없으면 변경 후 실재고로 SET
+	 */
+	public void adjustStocks(List<StockAdjustment> adjustments) {
+		for (int from = 0; from < adjustments.size(); from += ADJUST_BATCH_SIZE) {
+			List<StockAdjustment> batch = adjustments.subList(from, Math.min(from + ADJUST_BATCH_SIZE, adjustments.size()));
+
+			List<String> keys = new ArrayList<>(batch.size());
+			List<String> args = new ArrayList<>(batch.size() * 2);
+			for (StockAdjustment adjustment : batch) {
+				keys.add(StockCacheKey.stockKey(adjustment.getProductId(), adjustment.getVariantId()));
+				args.add(String.valueOf(adjustment.getDelta()));
+				args.add(String.valueOf(adjustment.getStockQuantity()));
+			}
+
+			try {
+				List<?> result = stringRedisTemplate.execute(adjustScript, keys, args.toArray());
+				Object negative = result != null && result.size() > 1 ? result.get(1) : null;
+				if (negative instanceof Number count && count.longValue() > 0) {
+					// 가점유 검증 이후 커밋 전 사이에 들어온 가점유 → 가용 재고 음수 (신규 가점유는 차단됨)
+					log.warn("Available stock below zero after adjust: keys={}, negative={}", keys.size(), count);
+				}
+				log.debug("Stocks adjusted: keys={}, result={}", keys.size(), result);
+			} catch (Exception e) {
+				log.error("Failed to adjust stocks: keys={}", keys.size(), e);
+			}
+		}
+	}
+
 	/**
 	 * 재고 키 삭제 (상품 삭제 시)
 	 */
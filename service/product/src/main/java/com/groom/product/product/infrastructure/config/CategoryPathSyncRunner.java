@@ -0,0 +1,52 @@
+package com.groom.product.product.infrastructure.config;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.domain.repository.CategoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application startup runner to backfill category materialized paths
+ * (기존 데이터 / data.sql 로 적재된 카테고리는 path 가 비어있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPathSyncRunner implements ApplicationRunner {
+
+	private final CategoryRepository categoryRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		try {
+			if (!categoryRepository.existsByPathIsNull()) {
+				return;
+			}
+
+			log.info("Starting category path backfill...");
+
+			// 부모가 먼저 처리되도록 depth 순 정렬
+			List<Category> categories = categoryRepository.findAll().stream()
+				.sorted(Comparator.comparing(Category::getDepth))
+				.toList();
+
+			for (Category category : categories) {
+				category.assignPath(category.getParent());
+			}
+
+			log.info("Category path backfill completed. Updated {} categories", categories.size());
+		} catch (Exception e) {
+			log.error("Failed to backfill category paths", e);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.groom.product.product.infrastructure.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application startup runner to backfill product price range columns
+ * (min_price/max_price 추가 이전에 등록된 상품은 비어있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPriceRangeSyncRunner implements ApplicationRunner {
+
+	private static final String BACKFILL_PRICE_RANGE = """
+		UPDATE p_product p
+		SET min_price = COALESCE(r.min_price, p.price),
+			max_price = COALESCE(r.max_price, p.price)
+		FROM p_product t
+		LEFT JOIN (
+			SELECT product_id, MIN(price) AS min_price, MAX(price) AS max_price
+			FROM p_product_variant
+			GROUP BY product_id
+		) r ON r.product_id = t.product_id AND t.has_options = true
+		WHERE p.product_id = t.product_id
+			AND p.min_price IS NULL
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			int updated = jdbcTemplate.update(BACKFILL_PRICE_RANGE);
+			if (updated > 0) {
+				log.info("Product price range backfill completed. Updated {} products", updated);
+			}
+		} catch (Exception e) {
+			log.error("Failed to backfill product price ranges", e);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.groom.product.product.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.domain.enums.VariantStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 대량 등록 전용 JDBC 배치 INSERT Repository
+ *
+ * 영속성 컨텍스트를 거치지 않고 테이블별 batchUpdate 1회로 청크를 저장
+ * - ID는 호출 측에서 미리 할당 (UUID, 연관 행 간 참조를 INSERT 전에 확정)
+ * - 호출 측 트랜잭션 안에서 실행되어야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkInsertRepository {
+
+	private static final String INSERT_PRODUCT = """
+		INSERT INTO p_product (product_id, owner_id, category_id, title, description, thumbnail_url,
+			status, has_options, price, min_price, max_price, stock_quantity,
+			created_at, created_by, updated_at, updated_by)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INSERT_OPTION = """
+		INSERT INTO p_product_option (option_id, product_id, name, sort_order,
+			created_at, created_by, updated_at, updated_by)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INSERT_OPTION_VALUE = """
+		INSERT INTO p_product_option_value (option_value_id, option_id, value, sort_order,
+			created_at, created_by, updated_at, updated_by)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INSERT_VARIANT = """
+		INSERT INTO p_product_variant (variant_id, product_id, sku_code, option_value_ids, option_name,
+			price, stock_quantity, status, created_at, created_by, updated_at, updated_by)
+		VALUES (?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public record ProductRow(UUID productId, UUID ownerId, UUID categoryId, String title, String description,
+		String thumbnailUrl, boolean hasOptions, Long price, Long minPrice, Long maxPrice, int stockQuantity) {
+	}
+
+	public record OptionRow(UUID optionId, UUID productId, String name, int sortOrder) {
+	}
+
+	public record OptionValueRow(UUID optionValueId, UUID optionId, String value, int sortOrder) {
+	}
+
+	public record VariantRow(UUID variantId, UUID productId, String skuCode, List<UUID> optionValueIds,
+		String optionName, Long price, int stockQuantity) {
+	}
+
+	public void insertAll(List<ProductRow> products, List<OptionRow> options, List<OptionValueRow> optionValues,
+		List<VariantRow> variants, String createdBy, LocalDateTime createdAt) {
+		if (products.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> productArgs = new ArrayList<>(products.size());
+		for (ProductRow row : products) {
+			productArgs.add(new Object[] {
+				row.productId(), row.ownerId(), row.categoryId(), row.title(), row.description(),
+				row.thumbnailUrl(), ProductStatus.ON_SALE.name(), row.hasOptions(), row.price(),
+				row.minPrice(), row.maxPrice(), row.stockQuantity(),
+				createdAt, createdBy, createdAt, createdBy
+			});
+		}
+		jdbcTemplate.batchUpdate(INSERT_PRODUCT, productArgs);
+
+		if (!options.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_OPTION, options.stream()
+				.map(row -> new Object[] {
+					row.optionId(), row.productId(), row.name(), row.sortOrder(),
+					createdAt, createdBy, createdAt, createdBy
+				})
+				.toList());
+		}
+
+		if (!optionValues.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_OPTION_VALUE, optionValues.stream()
+				.map(row -> new Object[] {
+					row.optionValueId(), row.optionId(), row.value(), row.sortOrder(),
+					createdAt, createdBy, createdAt, createdBy
+				})
+				.toList());
+		}
+
+		if (!variants.isEmpty()) {
+			List<Object[]> variantArgs = new ArrayList<>(variants.size());
+			for (VariantRow row : variants) {
+				variantArgs.add(new Object[] {
+					row.variantId(), row.productId(), row.skuCode(), toJson(row.optionValueIds()), row.optionName(),
+					row.price(), row.stockQuantity(), VariantStatus.ON_SALE.name(),
+					createdAt, createdBy, createdAt, createdBy
+				});
+			}
+			jdbcTemplate.batchUpdate(INSERT_VARIANT, variantArgs);
+		}
+	}
+
+	private String toJson(List<UUID> optionValueIds) {
+		try {
+			return objectMapper.writeValueAsString(optionValueIds != null ? optionValueIds : List.of());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize option value ids", e);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.groom.product.product.infrastructure.repository;
+
+import static com.groom.product.product.domain.entity.QCategory.*;
+import static com.groom.product.product.domain.entity.QProduct.*;
+import static com.groom.product.product.domain.entity.QProductOption.*;
+import static com.groom.product.product.domain.entity.QProductOptionValue.*;
+import static com.groom.product.product.domain.entity.QProductVariant.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세 조회 전용 프로젝션 Repository
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 컬럼만 조회하여 캐시 모델을 직접 구성
+ * - Query 1: 상품 + 카테고리 + 옵션 + 옵션값 (평탄화된 행)
+ * - Query 2: variants
+ * 다건 조회도 같은 2개 쿼리를 IN 조건으로 실행 (상품 수와 무관하게 고정)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductDetailQueryRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 상품 상세 조회 (삭제되지 않은 상품, 상태 검증은 호출 측에서 수행)
+	 */
+	public Optional<CachedProductDetail> findDetail(UUID productId) {
+		return findDetails(List.of(productId)).stream().findFirst();
+	}
+
+	/**
+	 * 다수 상품 상세 조회 (삭제되지 않은 상품, 상태 검증은 호출 측에서 수행, 순서 보장 없음)
+	 */
+	public List<CachedProductDetail> findDetails(Collection<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<Tuple> rows = queryFactory
+			.select(
+				product.id, product.ownerId, product.title, product.description, product.thumbnailUrl,
+				product.price, product.minPrice, product.maxPrice,
+				product.stockQuantity, product.status, product.hasOptions, product.createdAt,
+				category.id, category.name, category.fullPath,
+				productOption.id, productOption.name, productOption.sortOrder,
+				productOptionValue.id, productOptionValue.value
+			)
+			.from(product)
+			.join(product.category, category)
+			.leftJoin(product.options, productOption)
+			.leftJoin(productOption.optionValues, productOptionValue)
+			.where(
+				product.id.in(productIds),
+				product.deletedAt.isNull()
+			)
+			.orderBy(productOption.sortOrder.asc(), productOptionValue.sortOrder.asc())
+			.fetch();
+
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, List<Tuple>> rowsByProduct = rows.stream()
+			.collect(Collectors.groupingBy(row -> row.get(product.id), LinkedHashMap::new, Collectors.toList()));
+		Map<UUID, List<CachedProductDetail.CachedVariant>> variants = findVariants(rowsByProduct.keySet());
+
+		return rowsByProduct.entrySet().stream()
+			.map(entry -> assemble(entry.getValue(), variants.getOrDefault(entry.getKey(), List.of())))
+			.toList();
+	}
+
+	private Map<UUID, List<CachedProductDetail.CachedVariant>> findVariants(Collection<UUID> productIds) {
+		return queryFactory
+			.select(
+				productVariant.product.id,
+				productVariant.id, productVariant.skuCode, productVariant.optionValueIds,
+				productVariant.optionName, productVariant.price, productVariant.stockQuantity,
+				productVariant.status
+			)
+			.from(productVariant)
+			.where(productVariant.product.id.in(productIds))
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(
+				row -> row.get(productVariant.product.id),
+				Collectors.mapping(row -> CachedProductDetail.CachedVariant.builder()
+					.variantId(row.get(productVariant.id))
+					.skuCode(row.get(productVariant.skuCode))
+					.optionValueIds(row.get(productVariant.optionValueIds))
+					.optionName(row.get(productVariant.optionName))
+					.price(row.get(productVariant.price))
+					.stockQuantity(row.get(productVariant.stockQuantity))
+					.status(row.get(productVariant.status))
+					.build(), Collectors.toList())));
+	}
+
+	private CachedProductDetail assemble(List<Tuple> rows, List<CachedProductDetail.CachedVariant> variants) {
+		Tuple head = rows.get(0);
+
+		// 옵션별 옵션값 그룹핑 (정렬 순서 유지)
+		Map<UUID, Tuple> optionHeads = new LinkedHashMap<>();
+		Map<UUID, List<CachedProductDetail.CachedOptionValue>> optionValues = new LinkedHashMap<>();
+		for (Tuple row : rows) {
+			UUID optionId = row.get(productOption.id);
+			if (optionId == null) {
+				continue;
+			}
+			optionHeads.putIfAbsent(optionId, row);
+			List<CachedProductDetail.CachedOptionValue> values =
+				optionValues.computeIfAbsent(optionId, k -> new ArrayList<>());
+
+			UUID optionValueId = row.get(productOptionValue.id);
+			if (optionValueId != null) {
+				values.add(CachedProductDetail.CachedOptionValue.builder()
+					.optionValueId(optionValueId)
+					.value(row.get(productOptionValue.value))
+					.build());
+			}
+		}
+
+		List<CachedProductDetail.CachedOption> options = optionHeads.entrySet().stream()
+			.map(entry -> CachedProductDetail.CachedOption.builder()
+				.optionId(entry.getKey())
+				.name(entry.getValue().get(productOption.name))
+				.sortOrder(entry.getValue().get(productOption.sortOrder))
+				.values(optionValues.get(entry.getKey()))
+				.build())
+			.toList();
+
+		// 가격 범위는 비정규화 컬럼(min_price/max_price) 사용, 컬럼 추가 전 행은 price로 대체
+		Long price = head.get(product.price);
+		Long minPrice = head.get(product.minPrice);
+		Long maxPrice = head.get(product.maxPrice);
+
+		String categoryName = head.get(category.name);
+		String categoryFullPath = head.get(category.fullPath);
+
+		return CachedProductDetail.builder()
+			.productId(head.get(product.id))
+			.ownerId(head.get(product.ownerId))
+			.categoryId(head.get(category.id))
+			.categoryName(categoryName)
+			.categoryFullPath(categoryFullPath != null ? categoryFullPath : categoryName)
+			.title(head.get(product.title))
+			.description(head.get(product.description))
+			.thumbnailUrl(head.get(product.thumbnailUrl))
+			.price(price)
+			.minPrice(minPrice != null ? minPrice : price)
+			.maxPrice(maxPrice != null ? maxPrice : price)
+			.stockQuantity(head.get(product.stockQuantity))
+			.status(head.get(product.status))
+			.hasOptions(head.get(product.hasOptions))
+			.options(options)
+			.variants(variants)
+			.createdAt(head.get(product.createdAt))
+			.cachedAt(System.currentTimeMillis())
+			.build();
+	}
+}
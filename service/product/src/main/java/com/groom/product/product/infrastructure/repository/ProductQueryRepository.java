@@ -79,13 +79,30 @@ public class ProductQueryRepository {
 		Long maxPrice,
 		ProductSortType sortType,
 		Pageable pageable
+	) {
+		return searchProductsForBuyerInCategories(
+			keyword, categoryId != null ? List.of(categoryId) : null, minPrice, maxPrice, sortType, pageable
+		);
+	}
+
+	/**
+	 * 구매자용 상품 목록 검색 - 여러 카테고리 (하위 카테고리 포함 조회용)
+	 * category_id IN (...) 조건으로 idx_product_category_status_created 인덱스 사용
+	 */
+	public Page<Product> searchProductsForBuyerInCategories(
+		String keyword,
+		List<UUID> categoryIds,
+		Long minPrice,
+		Long maxPrice,
+		ProductSortType sortType,
+		Pageable pageable
 	) {
 		List<Product> content = queryFactory
 			.selectFrom(product)
 			.leftJoin(product.category, category).fetchJoin()
 			.where(
 				keywordContains(keyword),
-				categoryIdEq(categoryId),
+				categoryIdIn(categoryIds),
 				priceGoe(minPrice),
 				priceLoe(maxPrice),
 				onSaleOnly(),
@@ -101,7 +118,7 @@ public class ProductQueryRepository {
 			.from(product)
 			.where(
 				keywordContains(keyword),
-				categoryIdEq(categoryId),
+				categoryIdIn(categoryIds),
 				priceGoe(minPrice),
 				priceLoe(maxPrice),
 				onSaleOnly(),
@@ -187,11 +204,15 @@ public class ProductQueryRepository {
 	}
 
 	public long countProductsForBuyer(UUID categoryId) {
+		return countProductsForBuyerInCategories(categoryId != null ? List.of(categoryId) : null);
+	}
+
+	public long countProductsForBuyerInCategories(List<UUID> categoryIds) {
 		Long count = queryFactory
 			.select(product.count())
 			.from(product)
 			.where(
-				categoryIdEq(categoryId),
+				categoryIdIn(categoryIds),
 				onSaleOnly(),
 				notDeleted()
 			)
@@ -210,12 +231,23 @@ public class ProductQueryRepository {
 		return categoryId != null ? product.category.id.eq(categoryId) : null;
 	}
 
+	private BooleanExpression categoryIdIn(List<UUID> categoryIds) {
+		if (categoryIds == null || categoryIds.isEmpty()) {
+			return null;
+		}
+		return categoryIds.size() == 1
+			? product.category.id.eq(categoryIds.get(0))
+			: product.category.id.in(categoryIds);
+	}
+
+	// 가격 범위 필터: 상품 가격 범위 [min_price, max_price]가 요청 범위와 겹치면 포함
+	// (옵션 상품은 variant 가격 범위 기준, idx_product_category_status_min_price 사용)
 	private BooleanExpression priceGoe(Long minPrice) {
-		return minPrice != null ? product.price.goe(minPrice) : null;
+		return minPrice != null ? product.maxPrice.goe(minPrice) : null;
 	}
 
 	private BooleanExpression priceLoe(Long maxPrice) {
-		return maxPrice != null ? product.price.loe(maxPrice) : null;
+		return maxPrice != null ? product.minPrice.loe(maxPrice) : null;
 	}
 
 	private BooleanExpression statusEq(ProductStatus status) {
@@ -239,8 +271,9 @@ public class ProductQueryRepository {
 			return product.createdAt.desc();
 		}
 		return switch (sortType) {
-			case PRICE_ASC -> product.price.asc();
-			case PRICE_DESC -> product.price.desc();
+			// 가격순은 최저가(min_price) 기준 - 인덱스 정/역방향 스캔
+			case PRICE_ASC -> product.minPrice.asc();
+			case PRICE_DESC -> product.minPrice.desc();
 			case NEWEST -> product.createdAt.desc();
 			case RATING -> product.createdAt.desc(); // TODO: Review 도메인 연동 후 평점순 구현
 		};
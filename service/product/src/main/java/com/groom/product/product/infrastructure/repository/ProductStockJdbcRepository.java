@@ -0,0 +1,237 @@
+package com.groom.product.product.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 변경 전용 JDBC Repository
+ *
+ * - 주문 확정/복구: 엔티티 조회 없이 조건부 UPDATE ... RETURNING 1회로 증감 (행 잠금은 UPDATE가 획득)
+ * - 엔티티 감사 필드(updated_at, updated_by)는 JPA Auditing을 거치지 않으므로 모든 UPDATE에서 직접 설정
+ * - 일괄 변경: 대상 행을 소유자 조건으로 한 번에 잠금 조회 후 조건부 UPDATE를 batchUpdate로 실행
+ * - 상태 전환(ON_SALE ↔ SOLD_OUT)은 엔티티의 재고 연동 규칙과 동일하게 SQL에서 처리
+ * - 호출 측 트랜잭션 안에서 실행되어야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+	private static final String DECREASE_VARIANT_STOCK = """
+		UPDATE p_product_variant
+		SET stock_quantity = stock_quantity - ?,
+			status = CASE WHEN stock_quantity - ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT' ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE variant_id = ? AND product_id = ? AND stock_quantity >= ?
+		RETURNING stock_quantity, status,
+			(SELECT p.category_id FROM p_product p WHERE p.product_id = p_product_variant.product_id) AS category_id
+		""";
+
+	private static final String INCREASE_VARIANT_STOCK = """
+		UPDATE p_product_variant
+		SET stock_quantity = stock_quantity + ?,
+			status = CASE WHEN stock_quantity + ? > 0 AND status = 'SOLD_OUT' THEN 'ON_SALE' ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE variant_id = ? AND product_id = ?
+		RETURNING stock_quantity, status,
+			(SELECT p.category_id FROM p_product p WHERE p.product_id = p_product_variant.product_id) AS category_id
+		""";
+
+	private static final String DECREASE_PRODUCT_STOCK = """
+		UPDATE p_product
+		SET stock_quantity = stock_quantity - ?,
+			status = CASE WHEN stock_quantity - ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT' ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE product_id = ? AND has_options = false AND deleted_at IS NULL AND stock_quantity >= ?
+		RETURNING stock_quantity, status, category_id
+		""";
+
+	private static final String INCREASE_PRODUCT_STOCK = """
+		UPDATE p_product
+		SET stock_quantity = COALESCE(stock_quantity, 0) + ?,
+			status = CASE WHEN COALESCE(stock_quantity, 0) + ? > 0 AND status = 'SOLD_OUT' THEN 'ON_SALE' ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE product_id = ? AND has_options = false AND deleted_at IS NULL
+		RETURNING stock_quantity, status, category_id
+		""";
+
+	private static final String LOCK_VARIANTS = """
+		SELECT v.variant_id, v.product_id, v.stock_quantity, p.category_id
+		FROM p_product_variant v
+		JOIN p_product p ON p.product_id = v.product_id
+		WHERE v.variant_id IN (:ids)
+			AND p.owner_id = :ownerId
+			AND p.deleted_at IS NULL
+		FOR UPDATE OF v
+		""";
+
+	private static final String LOCK_PRODUCTS = """
+		SELECT product_id, stock_quantity, category_id
+		FROM p_product
+		WHERE product_id IN (:ids)
+			AND owner_id = :ownerId
+			AND deleted_at IS NULL
+			AND has_options = false
+		FOR UPDATE
+		""";
+
+	private static final String UPDATE_VARIANT_STOCK = """
+		UPDATE p_product_variant
+		SET stock_quantity = ?,
+			status = CASE
+				WHEN ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT'
+				WHEN ? > 0 AND status = 'SOLD_OUT' THEN 'ON_SALE'
+				ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE variant_id = ? AND stock_quantity = ?
+		""";
+
+	private static final String UPDATE_PRODUCT_STOCK = """
+		UPDATE p_product
+		SET stock_quantity = ?,
+			status = CASE
+				WHEN ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT'
+				WHEN ? > 0 AND status = 'SOLD_OUT' THEN 'ON_SALE'
+				ELSE status END,
+			updated_at = ?,
+			updated_by = ?
+		WHERE product_id = ? AND COALESCE(stock_quantity, 0) = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * 단건 증감 결과 (변경 후 재고 + 상태 + 검색 캐시 세대 증가용 카테고리)
+	 */
+	public record StockChangeResult(int stockQuantity, String status, UUID categoryId) {
+
+		public boolean isSoldOut() {
+			return stockQuantity == 0 && "SOLD_OUT".equals(status);
+		}
+	}
+
+	/**
+	 * 잠금 조회 결과 (variantId는 옵션 없는 상품이면 null)
+	 */
+	public record LockedStock(UUID productId, UUID variantId, int stockQuantity, UUID categoryId) {
+	}
+
+	/**
+	 * 조건부 변경 대상
+	 */
+	public record StockUpdate(UUID productId, UUID variantId, UUID categoryId, int expectedStock, int newStock) {
+	}
+
+	/**
+	 * SKU 재고 차감 (재고 충분 + 상품 일치 시에만)
+	 * @return 변경 결과 (조건 불일치 시 empty)
+	 */
+	public Optional<StockChangeResult> decreaseVariantStock(UUID productId, UUID variantId, int quantity,
+		String updatedBy, LocalDateTime updatedAt) {
+		return single(DECREASE_VARIANT_STOCK, quantity, quantity, updatedAt, updatedBy, variantId, productId, quantity);
+	}
+
+	/**
+	 * SKU 재고 복원
+	 * @return 변경 결과 (대상 없음 시 empty)
+	 */
+	public Optional<StockChangeResult> increaseVariantStock(UUID productId, UUID variantId, int quantity,
+		String updatedBy, LocalDateTime updatedAt) {
+		return single(INCREASE_VARIANT_STOCK, quantity, quantity, updatedAt, updatedBy, variantId, productId);
+	}
+
+	/**
+	 * 옵션 없는 상품 재고 차감
+	 */
+	public Optional<StockChangeResult> decreaseProductStock(UUID productId, int quantity,
+		String updatedBy, LocalDateTime updatedAt) {
+		return single(DECREASE_PRODUCT_STOCK, quantity, quantity, updatedAt, updatedBy, productId, quantity);
+	}
+
+	/**
+	 * 옵션 없는 상품 재고 복원
+	 */
+	public Optional<StockChangeResult> increaseProductStock(UUID productId, int quantity,
+		String updatedBy, LocalDateTime updatedAt) {
+		return single(INCREASE_PRODUCT_STOCK, quantity, quantity, updatedAt, updatedBy, productId);
+	}
+
+	public List<LockedStock> lockVariants(UUID ownerId, Collection<UUID> variantIds) {
+		if (variantIds.isEmpty()) {
+			return List.of();
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("ids", variantIds)
+			.addValue("ownerId", ownerId);
+		return namedParameterJdbcTemplate.query(LOCK_VARIANTS, params, (rs, rowNum) -> new LockedStock(
+			rs.getObject("product_id", UUID.class),
+			rs.getObject("variant_id", UUID.class),
+			rs.getInt("stock_quantity"),
+			rs.getObject("category_id", UUID.class)));
+	}
+
+	public List<LockedStock> lockProducts(UUID ownerId, Collection<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("ids", productIds)
+			.addValue("ownerId", ownerId);
+		return namedParameterJdbcTemplate.query(LOCK_PRODUCTS, params, (rs, rowNum) -> new LockedStock(
+			rs.getObject("product_id", UUID.class),
+			null,
+			rs.getInt("stock_quantity"),
+			rs.getObject("category_id", UUID.class)));
+	}
+
+	/**
+	 * 조건부 재고 변경 (기존 재고가 일치하는 행만)
+	 * @return 행별 변경 건수 (0이면 조건 불일치)
+	 */
+	public int[] updateVariantStocks(List<StockUpdate> updates, String updatedBy, LocalDateTime updatedAt) {
+		if (updates.isEmpty()) {
+			return new int[0];
+		}
+		return jdbcTemplate.batchUpdate(UPDATE_VARIANT_STOCK, updates.stream()
+			.map(update -> new Object[] {
+				update.newStock(), update.newStock(), update.newStock(), updatedAt, updatedBy,
+				update.variantId(), update.expectedStock()
+			})
+			.toList());
+	}
+
+	public int[] updateProductStocks(List<StockUpdate> updates, String updatedBy, LocalDateTime updatedAt) {
+		if (updates.isEmpty()) {
+			return new int[0];
+		}
+		return jdbcTemplate.batchUpdate(UPDATE_PRODUCT_STOCK, updates.stream()
+			.map(update -> new Object[] {
+				update.newStock(), update.newStock(), update.newStock(), updatedAt, updatedBy,
+				update.productId(), update.expectedStock()
+			})
+			.toList());
+	}
+
+	private Optional<StockChangeResult> single(String sql, Object... args) {
+		List<StockChangeResult> rows = jdbcTemplate.query(sql, (rs, rowNum) -> new StockChangeResult(
+			rs.getInt("stock_quantity"),
+			rs.getString("status"),
+			rs.getObject("category_id", UUID.class)), args);
+		return rows.stream().findFirst();
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.groom.product.product.application.service.CategoryServiceV1;
 import com.groom.product.product.presentation.dto.response.ResCategoryDtoV1;
@@ -28,21 +29,36 @@ public class CategoryControllerV1 {
 	@Operation(summary = "카테고리 목록 조회")
 	@GetMapping
 	public ResponseEntity<List<ResCategoryDtoV1>> getCategories(
-			@RequestParam(required = false) UUID parentId) {
+			@RequestParam(required = false) UUID parentId, WebRequest webRequest) {
+		// 트리 버전이 같으면 본문 없이 304 응답
+		String etag = treeETag();
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+
 		List<ResCategoryDtoV1> categories;
 		if (parentId == null) {
 			categories = categoryService.getAllCategories();
 		} else {
 			categories = categoryService.getChildCategories(parentId);
 		}
-		return ResponseEntity.ok(categories);
+		return ResponseEntity.ok().eTag(etag).body(categories);
 	}
 
 	@Operation(summary = "카테고리 상세 조회")
 	@GetMapping("/{categoryId}")
 	public ResponseEntity<ResCategoryDtoV1> getCategory(
-			@PathVariable UUID categoryId) {
+			@PathVariable UUID categoryId, WebRequest webRequest) {
+		String etag = treeETag();
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+
 		ResCategoryDtoV1 category = categoryService.getCategory(categoryId);
-		return ResponseEntity.ok(category);
+		return ResponseEntity.ok().eTag(etag).body(category);
+	}
+
+	private String treeETag() {
+		return "\"cat-v" + categoryService.getTreeVersion() + "\"";
 	}
 }
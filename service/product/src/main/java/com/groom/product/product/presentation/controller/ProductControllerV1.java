@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,21 +22,29 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.groom.product.product.application.service.ProductImportService;
 import com.groom.product.product.application.service.ProductOptionServiceV1;
 import com.groom.product.product.application.service.ProductServiceV1;
+import com.groom.product.product.application.service.ProductStockServiceV1;
 import com.groom.product.product.application.service.ProductVariantServiceV1;
 import com.groom.product.product.domain.enums.ProductStatus;
 import com.groom.product.product.presentation.dto.request.ReqOptionUpdateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqProductCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqProductUpdateDtoV1;
+import com.groom.product.product.presentation.dto.request.ReqStockBulkUpdateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqVariantCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqVariantUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResOptionDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductCreateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductImportErrorDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductImportJobDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductListDtoV1;
+import com.groom.product.product.presentation.dto.response.ResStockBulkUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResVariantDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -53,6 +62,8 @@ public class ProductControllerV1 {
 	private final ProductServiceV1 productService;
 	private final ProductOptionServiceV1 optionService;
 	private final ProductVariantServiceV1 variantService;
+	private final ProductImportService importService;
+	private final ProductStockServiceV1 stockService;
 
 	@Operation(summary = "상품 등록", description = "판매자가 새 상품을 등록합니다.")
 	@PostMapping
@@ -146,6 +157,43 @@ public class ProductControllerV1 {
 		return ResponseEntity.noContent().build();
 	}
 
+	// ==================== 재고 일괄 변경 API ====================
+
+	@Operation(summary = "재고 일괄 변경", description = "상품/SKU 실재고를 절대값으로 일괄 변경합니다. (가점유 재고는 유지)")
+	@PutMapping("/stocks")
+	public ResponseEntity<ResStockBulkUpdateDtoV1> updateStocks(
+			@Valid @RequestBody ReqStockBulkUpdateDtoV1 request) {
+		ResStockBulkUpdateDtoV1 response = stockService.updateStocks(request);
+		return ResponseEntity.ok(response);
+	}
+
+	// ==================== 대량 등록 API ====================
+
+	@Operation(summary = "상품 대량 등록", description = "NDJSON 파일(한 줄에 상품 등록 요청 1건)을 업로드하여 비동기로 일괄 등록합니다.")
+	@PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ResProductImportJobDtoV1> importProducts(
+			@RequestPart("file") MultipartFile file) {
+		ResProductImportJobDtoV1 response = importService.startImport(file);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+	}
+
+	@Operation(summary = "대량 등록 작업 조회", description = "대량 등록 작업의 진행 상태와 처리 건수를 조회합니다.")
+	@GetMapping("/imports/{jobId}")
+	public ResponseEntity<ResProductImportJobDtoV1> getImportJob(
+			@PathVariable UUID jobId) {
+		ResProductImportJobDtoV1 response = importService.getJob(jobId);
+		return ResponseEntity.ok(response);
+	}
+
+	@Operation(summary = "대량 등록 오류 조회", description = "대량 등록 작업에서 실패한 행과 사유를 행 번호 순으로 조회합니다.")
+	@GetMapping("/imports/{jobId}/errors")
+	public ResponseEntity<Page<ResProductImportErrorDtoV1>> getImportErrors(
+			@PathVariable UUID jobId,
+			@PageableDefault(size = 50) Pageable pageable) {
+		Page<ResProductImportErrorDtoV1> response = importService.getErrors(jobId, pageable);
+		return ResponseEntity.ok(response);
+	}
+
 	@ExceptionHandler(AccessDeniedException.class)
 	public ResponseEntity<Void> handleAccessDeniedException(AccessDeniedException e) {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
@@ -1,30 +1,44 @@
 package com.groom.product.product.presentation.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.common.util.SecurityUtil;
+import com.groom.product.product.application.service.ProductAutocompleteService;
+import com.groom.product.product.application.service.ProductRankingService;
 import com.groom.product.product.application.service.ProductReadService;
 import com.groom.product.product.application.service.ProductServiceV1;
 import com.groom.product.product.application.service.ProductWarmUpLoader;
+import com.groom.product.product.domain.enums.ProductRankingType;
 import com.groom.product.product.domain.enums.ProductSortType;
+import com.groom.product.product.presentation.dto.request.ReqProductBatchDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductBatchDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductRankingDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.product.product.presentation.dto.response.ResProductSuggestionDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "Product", description = "상품 API")
@@ -36,6 +50,8 @@ public class ProductPublicControllerV1 {
 	private final ProductReadService productReadService;
 	private final ProductServiceV1 productService;
 	private final ProductWarmUpLoader warmUpLoader;
+	private final ProductRankingService productRankingService;
+	private final ProductAutocompleteService productAutocompleteService;
 
 	@Operation(summary = "상품 캐시 웜업 (테스트용)", description = "최신 상품 10만 개를 Redis 캐시에 적재합니다.")
 	@PostMapping("/warm-up")
@@ -48,12 +64,14 @@ public class ProductPublicControllerV1 {
 	@GetMapping
 	public ResponseEntity<Page<ResProductSearchDtoV1>> searchProducts(
 			@Parameter(description = "카테고리 ID") @RequestParam(required = false) UUID categoryId,
+			@Parameter(description = "하위 카테고리 포함 여부") @RequestParam(required = false, defaultValue = "false") boolean includeSubcategories,
 			@Parameter(description = "검색어 (상품명)") @RequestParam(required = false) String keyword,
 			@Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
 			@Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
 			@Parameter(description = "정렬 (price_asc, price_desc, newest, rating)") @RequestParam(required = false, defaultValue = "newest") String sort,
 			@Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(required = false, defaultValue = "1") Integer page,
-			@Parameter(description = "페이지 크기") @RequestParam(required = false, defaultValue = "20") Integer size) {
+			@Parameter(description = "페이지 크기") @RequestParam(required = false, defaultValue = "20") Integer size,
+			WebRequest webRequest) {
 		ProductSortType sortType = ProductSortType.fromValue(sort);
 		// 명세에서는 page가 1부터 시작하므로, 0-based로 변환
 		Pageable pageable = PageRequest.of(Math.max(0, page - 1), size);
@@ -66,28 +84,120 @@ public class ProductPublicControllerV1 {
 				&& maxPrice == null
 				&& (sortType == null || sortType == ProductSortType.NEWEST);
 
+		boolean isTreeQuery = includeSubcategories && categoryId != null;
+
+		// 캐시 기반 조회는 버전 기반 ETag로 조건부 응답 (변경 없으면 304)
+		String etag = null;
 		if (isSimpleQuery) {
+			etag = productReadService.getProductListETag(categoryId, isTreeQuery, pageable);
+			if (etag != null && webRequest.checkNotModified(etag)) {
+				return null;
+			}
+		}
+
+		if (isSimpleQuery && isTreeQuery) {
+			// 하위 카테고리 포함 → Redis ZUNIONSTORE 캐시 사용
+			response = productReadService.getProductTreeList(categoryId, pageable);
+		} else if (isSimpleQuery) {
 			response = productReadService.getProductList(categoryId, pageable);
 		} else {
 			// 복잡한 검색 (필터/정렬) → DB 직접 조회
 			response = productService.searchProducts(
-					categoryId, keyword, minPrice, maxPrice, sortType, pageable);
+					categoryId, isTreeQuery, keyword, minPrice, maxPrice, sortType, pageable);
 		}
 
-		return ResponseEntity.ok(response);
+		return withETag(etag, response);
 	}
 
 	@Operation(summary = "상품 상세 조회", description = "구매자가 상품 상세 정보를 조회합니다.")
 	@GetMapping("/{productId}")
-	public ResponseEntity<ResProductDetailDtoV1> getProductDetail(
-			@Parameter(description = "상품 ID") @PathVariable UUID productId) {
+	public ResponseEntity<?> getProductDetail(
+			@Parameter(description = "상품 ID") @PathVariable UUID productId,
+			WebRequest webRequest,
+			HttpServletRequest request) {
+		// 상세 캐시 버전이 같으면 본문 조회 없이 304 (클라이언트가 받은 버전 그대로 존재 → 조회로 집계)
+		String etag = productReadService.getProductDetailETag(productId);
+		if (etag != null && webRequest.checkNotModified(etag)) {
+			recordView(productId, request);
+			return null;
+		}
+
+		// 사전 직렬화 모드: 캐시된 JSON 바이트를 그대로 전송
+		byte[] json = productReadService.getProductDetailJson(productId);
+		if (json != null) {
+			if (etag == null) {
+				etag = productReadService.getProductDetailETag(productId);
+			}
+			ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+			if (etag != null) {
+				builder.eTag(etag);
+			}
+			recordView(productId, request);
+			return builder.body(json);
+		}
+
 		// Redis 캐시 조회 → 캐시 미스 시 DB Fallback (내부 처리)
 		ResProductDetailDtoV1 response = productReadService.getProductDetail(productId);
 
 		if (response == null) {
 			throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
 		}
+		recordView(productId, request);
+
+		// 캐시 미스로 방금 적재된 경우 적재된 버전으로 ETag 설정
+		if (etag == null) {
+			etag = productReadService.getProductDetailETag(productId);
+		}
 
-		return ResponseEntity.ok(response);
+		return withETag(etag, response);
+	}
+
+	@Operation(summary = "상품 상세 일괄 조회", description = "여러 상품의 상세 정보를 한 번에 조회합니다. (최대 100개, 요청 순서 유지)")
+	@PostMapping("/batch")
+	public ResponseEntity<ResProductBatchDtoV1> getProductDetails(
+			@Valid @RequestBody ReqProductBatchDtoV1 request) {
+		return ResponseEntity.ok(productReadService.getProductDetails(request.getProductIds()));
+	}
+
+	@Operation(summary = "상품 랭킹 조회", description = "급상승(trending) 또는 많이 본 상품(most_viewed) 랭킹을 조회합니다. (최대 100개)")
+	@GetMapping("/rankings")
+	public ResponseEntity<List<ResProductRankingDtoV1>> getRanking(
+			@Parameter(description = "랭킹 타입 (trending, most_viewed)") @RequestParam(required = false, defaultValue = "trending") String type,
+			@Parameter(description = "조회 개수") @RequestParam(required = false, defaultValue = "20") Integer size) {
+		return ResponseEntity.ok(productRankingService.getRanking(ProductRankingType.fromValue(type), size));
+	}
+
+	@Operation(summary = "상품명 자동완성", description = "입력 중인 검색어로 시작하는 상품명을 인기순으로 조회합니다. (한글 자모 단위 접두어 매칭)")
+	@GetMapping("/suggestions")
+	public ResponseEntity<List<ResProductSuggestionDtoV1>> suggest(
+			@Parameter(description = "입력 중인 검색어") @RequestParam String keyword,
+			@Parameter(description = "조회 개수") @RequestParam(required = false, defaultValue = "10") Integer size) {
+		return ResponseEntity.ok(productAutocompleteService.suggest(keyword, size));
+	}
+
+	/**
+	 * 랭킹 조회 신호 기록 (상품이 확인된 응답에서만 호출 → 없는 상품 ID로 랭킹 키가 늘지 않음)
+	 */
+	private void recordView(UUID productId, HttpServletRequest request) {
+		productRankingService.recordView(productId, resolveViewerKey(request));
+	}
+
+	/**
+	 * 조회자 식별값: 회원 ID, 비회원은 클라이언트 IP
+	 * X-Forwarded-For 헤더는 직접 읽지 않음 → server.forward-headers-strategy로 신뢰 프록시가 붙인 값만 remoteAddr에 반영
+	 */
+	private String resolveViewerKey(HttpServletRequest request) {
+		try {
+			return SecurityUtil.getCurrentUserId().toString();
+		} catch (CustomException e) {
+			return request.getRemoteAddr();
+		}
+	}
+
+	private <T> ResponseEntity<T> withETag(String etag, T body) {
+		if (etag == null) {
+			return ResponseEntity.ok(body);
+		}
+		return ResponseEntity.ok().eTag(etag).body(body);
 	}
 }
@@ -0,0 +1,26 @@
+package com.groom.product.product.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReqProductBatchDtoV1 {
+
+	public static final int MAX_SIZE = 100;
+
+	@Schema(description = "조회할 상품 ID 목록 (응답은 요청 순서 유지)")
+	@NotEmpty(message = "상품 ID 목록은 필수입니다.")
+	@Size(max = MAX_SIZE, message = "한 번에 최대 100개까지 조회할 수 있습니다.")
+	private List<UUID> productIds;
+}
@@ -0,0 +1,48 @@
+package com.groom.product.product.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReqStockBulkUpdateDtoV1 {
+
+	public static final int MAX_SIZE = 5000;
+
+	@Schema(description = "재고 변경 목록 (동일 상품/SKU가 반복되면 마지막 값 적용)")
+	@Valid
+	@NotEmpty(message = "재고 변경 목록은 필수입니다.")
+	@Size(max = MAX_SIZE, message = "한 번에 최대 5000개까지 변경할 수 있습니다.")
+	private List<StockItem> items;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class StockItem {
+
+		@NotNull(message = "상품 ID는 필수입니다.")
+		private UUID productId;
+
+		@Schema(description = "SKU ID (옵션 없는 상품은 생략)")
+		private UUID variantId;
+
+		@Schema(description = "변경할 실재고 (절대값)")
+		@NotNull(message = "재고는 필수입니다.")
+		@PositiveOrZero(message = "재고는 0 이상이어야 합니다.")
+		private Integer stockQuantity;
+	}
+}
@@ -0,0 +1,46 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 상세 일괄 조회 응답 DTO
+ * items는 요청 순서를 유지하며, 조회되지 않은 상품은 found=false로 표시
+ */
+@Getter
+@Builder
+public class ResProductBatchDtoV1 {
+
+	private List<Item> items;
+	private List<UUID> missingIds;
+
+	@Getter
+	@Builder
+	public static class Item {
+		private UUID productId;
+		private boolean found;
+		private ResProductDetailDtoV1 product;
+	}
+
+	public static ResProductBatchDtoV1 of(List<UUID> requestedIds, Map<UUID, ResProductDetailDtoV1> found) {
+		List<Item> items = requestedIds.stream()
+			.map(id -> Item.builder()
+				.productId(id)
+				.found(found.containsKey(id))
+				.product(found.get(id))
+				.build())
+			.toList();
+
+		return ResProductBatchDtoV1.builder()
+			.items(items)
+			.missingIds(requestedIds.stream()
+				.filter(id -> !found.containsKey(id))
+				.distinct()
+				.toList())
+			.build();
+	}
+}
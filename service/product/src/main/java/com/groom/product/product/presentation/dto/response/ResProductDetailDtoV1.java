@@ -23,6 +23,12 @@ import lombok.Getter;
 @Builder
 public class ResProductDetailDtoV1 {
 
+	/**
+	 * 응답 스키마 버전 (필드 추가/변경 시 증가)
+	 * 사전 직렬화된 응답 캐시 키에 포함되어 이전 스키마 바이트를 무시
+	 */
+	public static final int SCHEMA_VERSION = 2;
+
 	private UUID productId;
 	private String title;
 	private String description;
@@ -56,6 +62,10 @@ public class ResProductDetailDtoV1 {
 		}
 
 		private static String buildFullPath(Category category) {
+			if (category.getFullPath() != null) {
+				return category.getFullPath();
+			}
+
 			StringBuilder path = new StringBuilder();
 			Category current = category;
 			int maxDepth = 10; // 무한 루프 방지
@@ -156,11 +166,17 @@ public class ResProductDetailDtoV1 {
 	public static class RatingInfo {
 		private Double avgRating;
 		private Integer reviewCount;
+		private List<Integer> distribution;  // 1~5점 리뷰 수 (index 0 = 1점)
 
 		public static RatingInfo from(Double avgRating, Integer reviewCount) {
+			return from(avgRating, reviewCount, null);
+		}
+
+		public static RatingInfo from(Double avgRating, Integer reviewCount, List<Integer> distribution) {
 			return RatingInfo.builder()
 				.avgRating(avgRating)
 				.reviewCount(reviewCount)
+				.distribution(distribution)
 				.build();
 		}
 	}
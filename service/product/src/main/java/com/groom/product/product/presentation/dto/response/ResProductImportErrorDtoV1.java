@@ -0,0 +1,24 @@
+package com.groom.product.product.presentation.dto.response;
+
+import com.groom.product.product.domain.entity.ProductImportError;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 대량 등록 행 오류 응답 DTO
+ */
+@Getter
+@Builder
+public class ResProductImportErrorDtoV1 {
+
+	private long lineNumber;
+	private String message;
+
+	public static ResProductImportErrorDtoV1 from(ProductImportError error) {
+		return ResProductImportErrorDtoV1.builder()
+			.lineNumber(error.getLineNumber())
+			.message(error.getMessage())
+			.build();
+	}
+}
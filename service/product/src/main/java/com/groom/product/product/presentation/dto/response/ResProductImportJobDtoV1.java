@@ -0,0 +1,44 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.product.product.domain.entity.ProductImportJob;
+import com.groom.product.product.domain.enums.ProductImportStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 대량 등록 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class ResProductImportJobDtoV1 {
+
+	private UUID jobId;
+	private String fileName;
+	private ProductImportStatus status;
+	private int totalRows;
+	private int successRows;
+	private int failedRows;
+	private String failureReason;
+	private LocalDateTime createdAt;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+
+	public static ResProductImportJobDtoV1 from(ProductImportJob job) {
+		return ResProductImportJobDtoV1.builder()
+			.jobId(job.getId())
+			.fileName(job.getFileName())
+			.status(job.getStatus())
+			.totalRows(job.getTotalRows())
+			.successRows(job.getSuccessRows())
+			.failedRows(job.getFailedRows())
+			.failureReason(job.getFailureReason())
+			.createdAt(job.getCreatedAt())
+			.startedAt(job.getStartedAt())
+			.finishedAt(job.getFinishedAt())
+			.build();
+	}
+}
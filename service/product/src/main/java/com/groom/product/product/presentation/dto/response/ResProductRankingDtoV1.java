@@ -0,0 +1,17 @@
+package com.groom.product.product.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 랭킹 조회 응답 DTO (구매자용)
+ */
+@Getter
+@Builder
+public class ResProductRankingDtoV1 {
+
+	private Integer rank;
+	private Double score;
+	private Long uniqueViewers;
+	private ResProductSearchDtoV1 product;
+}
@@ -27,20 +27,9 @@ public class ResProductSearchDtoV1 {
 	private String ownerStoreName;
 
 	public static ResProductSearchDtoV1 from(Product product) {
-		// 옵션이 있는 경우 variant 가격 범위 계산
-		Long minPrice = product.getPrice();
-		Long maxPrice = product.getPrice();
-
-		if (product.getHasOptions() && product.getVariants() != null && !product.getVariants().isEmpty()) {
-			minPrice = product.getVariants().stream()
-				.map(v -> v.getPrice())
-				.min(Long::compareTo)
-				.orElse(product.getPrice());
-			maxPrice = product.getVariants().stream()
-				.map(v -> v.getPrice())
-				.max(Long::compareTo)
-				.orElse(product.getPrice());
-		}
+		// 가격 범위는 비정규화 컬럼 사용 (variants 지연 로딩 없음)
+		Long minPrice = product.getMinPrice() != null ? product.getMinPrice() : product.getPrice();
+		Long maxPrice = product.getMaxPrice() != null ? product.getMaxPrice() : product.getPrice();
 
 		return ResProductSearchDtoV1.builder()
 			.productId(product.getId())
@@ -57,19 +46,8 @@ public class ResProductSearchDtoV1 {
 	}
 
 	public static ResProductSearchDtoV1 from(Product product, Double avgRating, Integer reviewCount, String ownerStoreName) {
-		Long minPrice = product.getPrice();
-		Long maxPrice = product.getPrice();
-
-		if (product.getHasOptions() && product.getVariants() != null && !product.getVariants().isEmpty()) {
-			minPrice = product.getVariants().stream()
-				.map(v -> v.getPrice())
-				.min(Long::compareTo)
-				.orElse(product.getPrice());
-			maxPrice = product.getVariants().stream()
-				.map(v -> v.getPrice())
-				.max(Long::compareTo)
-				.orElse(product.getPrice());
-		}
+		Long minPrice = product.getMinPrice() != null ? product.getMinPrice() : product.getPrice();
+		Long maxPrice = product.getMaxPrice() != null ? product.getMaxPrice() : product.getPrice();
 
 		return ResProductSearchDtoV1.builder()
 			.productId(product.getId())
@@ -0,0 +1,17 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품명 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+public class ResProductSuggestionDtoV1 {
+
+	private UUID productId;
+	private String title;
+}
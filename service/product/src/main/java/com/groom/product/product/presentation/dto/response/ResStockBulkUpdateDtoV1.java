@@ -0,0 +1,28 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 재고 일괄 변경 결과 DTO
+ */
+@Getter
+@Builder
+public class ResStockBulkUpdateDtoV1 {
+
+	private int requestedCount;
+	private int updatedCount;
+	private int unchangedCount;
+	private List<FailedItem> failedItems;
+
+	@Getter
+	@Builder
+	public static class FailedItem {
+		private UUID productId;
+		private UUID variantId;
+		private String reason;
+	}
+}
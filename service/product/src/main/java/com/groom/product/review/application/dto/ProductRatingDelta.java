@@ -0,0 +1,44 @@
+package com.groom.product.review.application.dto;
+
+/**
+ * 리뷰 1건 변경에 따른 상품 평점 집계 증감분
+ * 합계/리뷰 수와 별점 분포(빠진 별점 -1, 들어온 별점 +1)를 같은 UPDATE 문장에서 함께 반영
+ *
+ * @param removedRating 분포에서 빼는 별점 (0: 없음)
+ * @param addedRating   분포에 더하는 별점 (0: 없음)
+ */
+public record ProductRatingDelta(
+	long sumDelta,
+	long countDelta,
+	int removedRating,
+	int addedRating
+) {
+
+	public static final int MAX_RATING = 5;
+
+	public static ProductRatingDelta created(int rating) {
+		return new ProductRatingDelta(rating, 1, 0, rating);
+	}
+
+	public static ProductRatingDelta updated(int oldRating, int newRating) {
+		if (oldRating == newRating) {
+			return new ProductRatingDelta(0, 0, 0, 0);
+		}
+		return new ProductRatingDelta(newRating - oldRating, 0, oldRating, newRating);
+	}
+
+	public static ProductRatingDelta deleted(int rating) {
+		return new ProductRatingDelta(-rating, -1, rating, 0);
+	}
+
+	public boolean isEmpty() {
+		return sumDelta == 0 && countDelta == 0 && removedRating == addedRating;
+	}
+
+	/**
+	 * 별점(1~5) 분포 증감분
+	 */
+	public int starDelta(int star) {
+		return (addedRating == star ? 1 : 0) - (removedRating == star ? 1 : 0);
+	}
+}
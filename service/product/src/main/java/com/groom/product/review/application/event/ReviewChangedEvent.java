@@ -0,0 +1,30 @@
+package com.groom.product.review.application.event;
+
+import java.util.UUID;
+
+import com.groom.product.review.application.dto.ProductRatingDelta;
+
+/**
+ * 리뷰 변경 이벤트 (수정/삭제)
+ * ratingDelta: 상품 평점 합계/리뷰 수/별점 분포 증감분 (평점 변화가 없으면 비어 있음)
+ */
+public record ReviewChangedEvent(
+	UUID productId,
+	UUID reviewId,
+	Type type,
+	ProductRatingDelta ratingDelta
+) {
+
+	public static ReviewChangedEvent updated(UUID productId, UUID reviewId, int oldRating, int newRating) {
+		return new ReviewChangedEvent(productId, reviewId, Type.UPDATED, ProductRatingDelta.updated(oldRating, newRating));
+	}
+
+	public static ReviewChangedEvent deleted(UUID productId, UUID reviewId, int rating) {
+		return new ReviewChangedEvent(productId, reviewId, Type.DELETED, ProductRatingDelta.deleted(rating));
+	}
+
+	public enum Type {
+		UPDATED,
+		DELETED
+	}
+}
@@ -0,0 +1,10 @@
+package com.groom.product.review.application.event;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 AI 분류 요청 이벤트 (PENDING으로 저장된 리뷰 작성/내용 수정)
+ */
+public record ReviewClassificationRequestedEvent(
+	UUID reviewId
+) {}
@@ -1,38 +1,145 @@
 package com.groom.product.review.application.event.listener;
 
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import java.util.UUID;
+
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.review.application.dto.ProductRatingDelta;
+import com.groom.product.review.application.event.ReviewChangedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
-import com.groom.product.review.domain.entity.ProductRatingEntity;
-import com.groom.product.review.domain.repository.ProductRatingRepository;
+import com.groom.product.review.application.service.ProductRatingRebuildService;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingJdbcRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 리뷰 커밋 후 상품 평점 집계(DB) 반영
+ * - 작성/수정/삭제 모두 (합계, 개수, 별점 분포) 증감분을 원자적 UPDATE 1회로 반영 → 충돌/재시도 없음
+ * - 증감은 멱등이 아니므로 반영되지 않았음이 확실한 일시 오류(락/타임아웃/커넥션 획득 실패)만 제한 재시도
+ * - 그 외 실패 또는 재시도 소진 시 해당 상품을 리뷰 원본에서 재집계(멱등)하여 복구
+ *   실패 건수는 review.rating.delta.failures{recovered} 카운터로 노출
+ * - DB 반영 결과(절대값 + 버전)로 Redis 평점 해시 저장 → 조회 미스 시드와 순서가 엇갈려도 최신 행으로 수렴
+ * - 상품 상세 버전 증가 + 사전 직렬화 바이트 제거 (평점 포함 응답 ETag 무효화)
+ * - 상품 리뷰 변경 버전 증가 (리뷰 목록 응답의 평점 통계 ETag 무효화)
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductRatingEventListener {
 
-    private final ProductRatingRepository productRatingRepository;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 100;
+
+    private final ProductRatingJdbcRepository productRatingJdbcRepository;
+    private final ProductRatingRedisRepository productRatingRedisRepository;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final ReviewRedisRepository reviewRedisRepository;
+    private final ProductRatingRebuildService productRatingRebuildService;
+    private final MeterRegistry meterRegistry;
 
     @Async("eventExecutor")
-    @Retryable(
-        retryFor = Exception.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500, multiplier = 2)
-    )
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(ReviewCreatedEvent event) {
+        applyDelta(event.productId(), ProductRatingDelta.created(event.rating()));
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewChangedEvent event) {
+        if (event.ratingDelta().isEmpty()) {
+            return;
+        }
+        applyDelta(event.productId(), event.ratingDelta());
+    }
+
+    private void applyDelta(UUID productId, ProductRatingDelta delta) {
+        for (int attempt = 1; ; attempt++) {
+            ProductRatingSummary applied;
+            try {
+                applied = productRatingJdbcRepository.applyDelta(productId, delta);
+            } catch (TransientDataAccessException | CannotGetJdbcConnectionException e) {
+                // 문장이 롤백되었거나 실행되지 않은 오류 → 같은 증감을 다시 적용해도 중복 반영 없음
+                if (attempt >= MAX_ATTEMPTS || !backoff(attempt)) {
+                    log.error("Failed to apply product rating delta after {} attempts: productId={}, delta={}",
+                        attempt, productId, delta, e);
+                    recoverByRebuild(productId);
+                    return;
+                }
+                log.warn("Retrying product rating delta: productId={}, attempt={}", productId, attempt, e);
+                continue;
+            } catch (Exception e) {
+                log.error("Failed to apply product rating delta: productId={}, delta={}", productId, delta, e);
+                recoverByRebuild(productId);
+                return;
+            }
+
+            refreshCache(productId, applied);
+            return;
+        }
+    }
+
+    /**
+     * 증감 유실 복구: 리뷰 원본에서 해당 상품만 재집계 (반영 여부가 불확실해도 결과는 동일)
+     */
+    private void recoverByRebuild(UUID productId) {
+        boolean recovered;
+        try {
+            productRatingRebuildService.rebuild(productId);
+            productDetailCacheService.touch(productId);
+            recovered = true;
+        } catch (Exception e) {
+            log.error("Failed to rebuild product rating after delta failure: productId={}", productId, e);
+            recovered = false;
+        }
+        meterRegistry.counter("review.rating.delta.failures", "recovered", String.valueOf(recovered)).increment();
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-        ProductRatingEntity rating =
-            productRatingRepository.findByProductId(event.productId())
-                .orElseGet(() -> new ProductRatingEntity(event.productId()));
+    private void refreshCache(UUID productId, ProductRatingSummary applied) {
+        try {
+            productRatingRedisRepository.save(productId, applied);
+        } catch (Exception e) {
+            log.error("Failed to save product rating cache: productId={}", productId, e);
+            evictRating(productId);
+        }
+
+        productDetailCacheService.touch(productId);
+        incrementReviewVersion(productId);
+    }
+
+    private void incrementReviewVersion(UUID productId) {
+        try {
+            reviewRedisRepository.incrementVersion(productId);
+        } catch (Exception e) {
+            log.error("Failed to increment review version: productId={}", productId, e);
+        }
+    }
 
-        rating.updateRating(event.rating());
-        productRatingRepository.save(rating);
+    private void evictRating(UUID productId) {
+        try {
+            productRatingRedisRepository.delete(productId);
+        } catch (Exception e) {
+            log.error("Failed to evict product rating: productId={}", productId, e);
+        }
     }
 }
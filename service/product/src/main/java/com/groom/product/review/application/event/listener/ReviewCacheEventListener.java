@@ -0,0 +1,65 @@
+package com.groom.product.review.application.event.listener;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.review.application.event.ReviewChangedEvent;
+import com.groom.product.review.application.event.ReviewCreatedEvent;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 변경 커밋 후 캐시 반영
+ * - 상품별 리뷰 버전 증가 (리뷰 목록 ETag 무효화)
+ * - 리뷰 읽기 모델 무효화 (추가/삭제: 인덱스, 수정: 데이터)
+ * 상품 평점 해시/상세 캐시는 DB 반영 이후 ProductRatingEventListener에서 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCacheEventListener {
+
+    private final ReviewRedisRepository reviewRedisRepository;
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewCreatedEvent event) {
+        incrementVersion(event.productId());
+        evictReadModel(event.productId(), () -> reviewRedisRepository.evictIndex(event.productId()));
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewChangedEvent event) {
+        incrementVersion(event.productId());
+        evictReadModel(event.productId(), () -> {
+            if (event.type() == ReviewChangedEvent.Type.DELETED) {
+                reviewRedisRepository.evictIndex(event.productId());
+            }
+            reviewRedisRepository.evictData(List.of(event.reviewId()));
+        });
+    }
+
+    private void incrementVersion(UUID productId) {
+        try {
+            reviewRedisRepository.incrementVersion(productId);
+        } catch (Exception e) {
+            log.error("Failed to increment review version: productId={}", productId, e);
+        }
+    }
+
+    private void evictReadModel(UUID productId, Runnable eviction) {
+        try {
+            eviction.run();
+        } catch (Exception e) {
+            log.error("Failed to evict review read model: productId={}", productId, e);
+        }
+    }
+}
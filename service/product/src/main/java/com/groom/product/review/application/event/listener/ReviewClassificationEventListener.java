@@ -0,0 +1,37 @@
+package com.groom.product.review.application.event.listener;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.review.application.event.ReviewClassificationRequestedEvent;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationQueue;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationTask;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 커밋 후 AI 분류 대기열 적재
+ * 적재 실패 시 리뷰는 PENDING으로 남고 스위퍼가 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewClassificationEventListener {
+
+    private final ReviewClassificationQueue reviewClassificationQueue;
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReviewClassificationRequestedEvent event) {
+        try {
+            reviewClassificationQueue.enqueue(List.of(ReviewClassificationTask.first(event.reviewId())));
+        } catch (Exception e) {
+            log.error("Failed to enqueue review classification: reviewId={}", event.reviewId(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.groom.product.review.application.event.listener;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.event.payload.OrderCancelledPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.product.review.application.service.ReviewEligibilityService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 확정/취소 이벤트 → 리뷰 작성 자격 읽기 모델 반영
+ * 컨슈머 스레드에서 동기 처리 → 실패 시 예외가 컨슈머로 전파되어 메시지 재처리
+ * (적재/삭제 모두 멱등, 다른 비동기 리스너가 실행되기 전에 먼저 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewEligibilityEventListener {
+
+	private final ReviewEligibilityService reviewEligibilityService;
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener
+	public void handleOrderConfirmed(OrderConfirmedPayload event) {
+		reviewEligibilityService.recordConfirmed(event);
+	}
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener
+	public void handleOrderCancelled(OrderCancelledPayload event) {
+		reviewEligibilityService.revoke(event.getOrderId());
+	}
+}
@@ -0,0 +1,99 @@
+package com.groom.product.review.application.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.groom.product.review.domain.entity.ProductRatingEntity;
+import com.groom.product.review.domain.repository.ProductRatingRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 평점 조회 서비스 (상품 목록/상세 응답용)
+ *
+ * 1. Redis 평점 해시 일괄 조회 (HMGET 파이프라인)
+ * 2. 미스 상품만 사전 집계된 평점 행(p_product_rating) 일괄 조회 → 해시 시드
+ *    (리뷰 테이블 GROUP BY 없이 합계/리뷰 수/별점 분포를 그대로 읽음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRatingQueryService {
+
+    private final ProductRatingRedisRepository productRatingRedisRepository;
+    private final ProductRatingRepository productRatingRepository;
+
+    /**
+     * 다수 상품 평점 조회
+     * @return productId → 평점 집계 (리뷰가 없으면 EMPTY)
+     */
+    public Map<UUID, ProductRatingSummary> getRatings(List<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<UUID> distinctIds = productIds.stream().distinct().toList();
+
+        Map<UUID, ProductRatingSummary> ratings = new HashMap<>(findCached(distinctIds));
+
+        List<UUID> missIds = distinctIds.stream()
+            .filter(id -> !ratings.containsKey(id))
+            .toList();
+
+        if (!missIds.isEmpty()) {
+            Map<UUID, ProductRatingSummary> loaded = loadFromDb(missIds);
+            loaded.forEach(this::seed);
+            ratings.putAll(loaded);
+        }
+
+        return ratings;
+    }
+
+    /**
+     * 단일 상품 평점 조회
+     */
+    public ProductRatingSummary getRating(UUID productId) {
+        return getRatings(List.of(productId)).getOrDefault(productId, ProductRatingSummary.EMPTY);
+    }
+
+    private Map<UUID, ProductRatingSummary> findCached(List<UUID> productIds) {
+        try {
+            return productRatingRedisRepository.findAll(productIds);
+        } catch (Exception e) {
+            log.error("Failed to get product ratings from cache", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<UUID, ProductRatingSummary> loadFromDb(List<UUID> productIds) {
+        Map<UUID, ProductRatingSummary> result = new HashMap<>();
+        productIds.forEach(id -> result.put(id, ProductRatingSummary.EMPTY));
+
+        for (ProductRatingEntity rating : productRatingRepository.findAllByProductIdIn(productIds)) {
+            result.put(rating.getProductId(), new ProductRatingSummary(
+                rating.getRatingSum(),
+                rating.getReviewCount(),
+                rating.getRatingHistogram(),
+                rating.getVersion() != null ? rating.getVersion() : 0
+            ));
+        }
+        return result;
+    }
+
+    private void seed(UUID productId, ProductRatingSummary summary) {
+        try {
+            // 버전 비교 저장: 조회 사이에 DB 반영 리스너가 더 최신 값을 저장했으면 덮어쓰지 않음
+            productRatingRedisRepository.save(productId, summary);
+        } catch (Exception e) {
+            log.error("Failed to seed product rating: productId={}", productId, e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.groom.product.review.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.review.domain.entity.ProductRatingRebuildCheckpoint;
+import com.groom.product.review.domain.entity.ProductRatingRebuildJob;
+import com.groom.product.review.domain.repository.ProductRatingRebuildCheckpointRepository;
+import com.groom.product.review.domain.repository.ProductRatingRebuildJobRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewLockRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisKey;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingRebuildJdbcRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 평점 전체 재집계 실행기
+ *
+ * 파티션(상품 ID 범위)마다 워커 1개가 PK 순으로 청크를 읽어 처리
+ * - 작업 조정(파티션 대기/완료 처리)은 전용 단일 스레드에서 실행 → 판매자 상품 임포트(importExecutor)와 스레드를 나눠 쓰지 않음
+ * - 실행 권한 = 인스턴스 내 플래그 + 인스턴스 간 Redis 락(review:rating:rebuild:lock, 청크마다 TTL 연장)
+ *   → 락을 잃으면 다음 청크 전에 중단, 체크포인트도 읽은 위치에서만 전진해 같은 청크를 두 번 세지 않음
+ * - 청크마다 GROUP BY 집계 1회 + upsert 배치 + 체크포인트 갱신을 하나의 트랜잭션으로 커밋
+ *   → 중단되어도 마지막 커밋 청크 이후부터 재개
+ * - 커밋 이후 값이 바뀐 상품만 Redis 평점 해시 삭제 + 상세 응답 캐시 무효화 + 리뷰 변경 버전 증가
+ * - 진행률 지표: review.rating.rebuild.* (처리/변경 상품 수, 전체 추정치, 실행 여부)
+ */
+@Slf4j
+@Component
+public class ProductRatingRebuildRunner {
+
+	private final TransactionTemplate transactionTemplate;
+	private final ProductRatingRebuildJobRepository jobRepository;
+	private final ProductRatingRebuildCheckpointRepository checkpointRepository;
+	private final ProductRatingRebuildJdbcRepository rebuildJdbcRepository;
+	private final ProductRatingRedisRepository productRatingRedisRepository;
+	private final ProductDetailCacheService productDetailCacheService;
+	private final ReviewLockRedisRepository reviewLockRedisRepository;
+	private final ReviewRedisRepository reviewRedisRepository;
+
+	private final ExecutorService coordinatorExecutor;
+	private final ExecutorService partitionExecutor;
+	private final Duration lockTtl;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicReference<String> lockToken = new AtomicReference<>();
+	private final AtomicLong processedProducts = new AtomicLong();
+	private final AtomicLong totalProducts = new AtomicLong();
+	private final Counter productCounter;
+	private final Counter changedCounter;
+
+	public ProductRatingRebuildRunner(
+		TransactionTemplate transactionTemplate,
+		ProductRatingRebuildJobRepository jobRepository,
+		ProductRatingRebuildCheckpointRepository checkpointRepository,
+		ProductRatingRebuildJdbcRepository rebuildJdbcRepository,
+		ProductRatingRedisRepository productRatingRedisRepository,
+		ProductDetailCacheService productDetailCacheService,
+		ReviewLockRedisRepository reviewLockRedisRepository,
+		ReviewRedisRepository reviewRedisRepository,
+		MeterRegistry meterRegistry,
+		@Value("${review.rating-rebuild.partitions:4}") int partitions,
+		@Value("${review.rating-rebuild.lock-ttl-seconds:120}") long lockTtlSeconds
+	) {
+		this.transactionTemplate = transactionTemplate;
+		this.jobRepository = jobRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.rebuildJdbcRepository = rebuildJdbcRepository;
+		this.productRatingRedisRepository = productRatingRedisRepository;
+		this.productDetailCacheService = productDetailCacheService;
+		this.reviewLockRedisRepository = reviewLockRedisRepository;
+		this.reviewRedisRepository = reviewRedisRepository;
+		this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+
+		this.coordinatorExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rating-rebuild-coordinator");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.partitionExecutor = Executors.newFixedThreadPool(partitions, runnable -> {
+			Thread thread = new Thread(runnable, "rating-rebuild-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.productCounter = Counter.builder("review.rating.rebuild.products")
+			.description("재집계한 상품 수")
+			.register(meterRegistry);
+		this.changedCounter = Counter.builder("review.rating.rebuild.changed")
+			.description("재집계로 값이 바뀐 상품 수")
+			.register(meterRegistry);
+		Gauge.builder("review.rating.rebuild.running", running, flag -> flag.get() ? 1 : 0)
+			.register(meterRegistry);
+		Gauge.builder("review.rating.rebuild.processed", processedProducts, AtomicLong::get)
+			.register(meterRegistry);
+		Gauge.builder("review.rating.rebuild.total", totalProducts, AtomicLong::get)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 실행 권한 선점 (인스턴스 내 플래그 → 인스턴스 간 Redis 락 순, 전체 동시 실행 1개)
+	 * @return false: 이 인스턴스 또는 다른 인스턴스에서 이미 실행 중
+	 */
+	public boolean tryAcquire() {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+
+		try {
+			Optional<String> token = reviewLockRedisRepository.tryLock(ReviewRedisKey.ratingRebuildLock(), lockTtl);
+			if (token.isPresent()) {
+				lockToken.set(token.get());
+				return true;
+			}
+		} catch (RuntimeException e) {
+			running.set(false);
+			throw e;
+		}
+		running.set(false);
+		return false;
+	}
+
+	public void release() {
+		String token = lockToken.getAndSet(null);
+		try {
+			if (token != null && !reviewLockRedisRepository.unlock(ReviewRedisKey.ratingRebuildLock(), token)) {
+				log.warn("Product rating rebuild lock expired before release");
+			}
+		} catch (Exception e) {
+			log.error("Failed to release product rating rebuild lock", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * 작업 실행 예약 (tryAcquire 성공 후 호출, 종료 시 release)
+	 * 완료되지 않은 파티션만 병렬 처리
+	 */
+	public void run(UUID jobId) {
+		coordinatorExecutor.execute(() -> execute(jobId));
+	}
+
+	private void execute(UUID jobId) {
+		try {
+			ProductRatingRebuildJob job = jobRepository.findById(jobId).orElseThrow();
+			List<ProductRatingRebuildCheckpoint> checkpoints = checkpointRepository.findAllByJobIdOrderByPartitionNo(jobId);
+
+			totalProducts.set(job.getTotalProducts());
+			processedProducts.set(checkpoints.stream()
+				.mapToLong(ProductRatingRebuildCheckpoint::getProcessedProducts)
+				.sum());
+
+			CompletableFuture<?>[] partitions = checkpoints.stream()
+				.filter(checkpoint -> !checkpoint.isCompleted())
+				.map(checkpoint -> CompletableFuture.runAsync(
+					() -> runPartition(checkpoint, job.getChunkSize()), partitionExecutor))
+				.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(partitions).join();
+
+			transactionTemplate.executeWithoutResult(status ->
+				jobRepository.findById(jobId).ifPresent(ProductRatingRebuildJob::complete));
+			log.info("Product rating rebuild completed: jobId={}, processed={}", jobId, processedProducts.get());
+		} catch (Exception e) {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			log.error("Product rating rebuild failed: jobId={}", jobId, cause);
+			if (ownsLock()) {
+				// 락을 잃었으면 이어받은 인스턴스가 상태를 관리하므로 실패로 덮어쓰지 않음
+				transactionTemplate.executeWithoutResult(status ->
+					jobRepository.findById(jobId).ifPresent(job -> job.fail(cause.getMessage())));
+			}
+		} finally {
+			release();
+		}
+	}
+
+	private void runPartition(ProductRatingRebuildCheckpoint checkpoint, int chunkSize) {
+		UUID jobId = checkpoint.getJobId();
+		int partitionNo = checkpoint.getPartitionNo();
+		UUID after = checkpoint.getLastProductId();
+
+		List<UUID> productIds;
+		do {
+			productIds = rebuildJdbcRepository.findProductIds(
+				checkpoint.getLowerBound(), checkpoint.getUpperBound(), after, chunkSize);
+			if (productIds.isEmpty()) {
+				break;
+			}
+
+			extendLock();
+
+			List<UUID> chunk = productIds;
+			UUID previous = after;
+			UUID last = chunk.get(chunk.size() - 1);
+			List<UUID> changed = transactionTemplate.execute(status -> {
+				List<UUID> rebuilt = rebuildJdbcRepository.rebuild(chunk);
+				if (!rebuildJdbcRepository.advanceCheckpoint(jobId, partitionNo, previous, last, chunk.size())) {
+					throw new IllegalStateException("체크포인트가 다른 실행에서 이미 갱신되었습니다. partition=" + partitionNo);
+				}
+				return rebuilt;
+			});
+
+			after = last;
+			processedProducts.addAndGet(chunk.size());
+			productCounter.increment(chunk.size());
+			evictCaches(changed);
+		} while (productIds.size() == chunkSize);
+
+		rebuildJdbcRepository.completeCheckpoint(jobId, partitionNo);
+		log.info("Product rating rebuild partition completed: jobId={}, partition={}", jobId, partitionNo);
+	}
+
+	/**
+	 * 청크 처리 전 락 TTL 연장 (이미 잃었으면 중단)
+	 */
+	private void extendLock() {
+		if (!ownsLock()) {
+			throw new IllegalStateException("평점 재집계 락을 잃어 작업을 중단합니다.");
+		}
+	}
+
+	/**
+	 * 락 소유 확인 (소유 중이면 TTL 연장)
+	 */
+	private boolean ownsLock() {
+		String token = lockToken.get();
+		return token != null && reviewLockRedisRepository.extend(ReviewRedisKey.ratingRebuildLock(), token, lockTtl);
+	}
+
+	/**
+	 * 값이 바뀐 상품의 Redis 평점 해시 삭제 + 상세 응답 캐시 무효화 + 리뷰 변경 버전 증가 (실패해도 DB 반영은 유지)
+	 */
+	private void evictCaches(List<UUID> changed) {
+		if (changed == null || changed.isEmpty()) {
+			return;
+		}
+
+		changedCounter.increment(changed.size());
+		try {
+			productRatingRedisRepository.deleteAll(changed);
+			changed.forEach(productDetailCacheService::touch);
+			reviewRedisRepository.incrementVersions(changed);
+		} catch (Exception e) {
+			log.error("Failed to evict rating caches after rebuild: count={}", changed.size(), e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		coordinatorExecutor.shutdownNow();
+		partitionExecutor.shutdownNow();
+	}
+}
@@ -1,43 +1,150 @@
 package com.groom.product.review.application.service;
 
+import java.math.BigInteger;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.groom.product.review.domain.entity.ProductRatingEntity;
-import com.groom.product.review.domain.entity.ReviewEntity;
-import com.groom.product.review.domain.repository.ProductRatingRepository;
-import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.domain.entity.ProductRatingRebuildCheckpoint;
+import com.groom.product.review.domain.entity.ProductRatingRebuildJob;
+import com.groom.product.review.domain.entity.ProductRatingRebuildStatus;
+import com.groom.product.review.domain.repository.ProductRatingRebuildCheckpointRepository;
+import com.groom.product.review.domain.repository.ProductRatingRebuildJobRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingRebuildJdbcRepository;
+import com.groom.product.review.presentation.dto.response.ProductRatingRebuildJobResponse;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-
-// 오류시 모든 리뷰를 새로 읽어서 평점을 다시 계산한다.
+/**
+ * 상품 평점 재집계 (오류 복구용)
+ *
+ * 리뷰 엔티티를 읽어 반복 계산하지 않고 GROUP BY 집계 결과로 평점 행을 덮어씀
+ * - 단일 상품: 요청 트랜잭션에서 즉시 재집계
+ * - 전체 상품: 상품 ID 범위 파티션 + 체크포인트 작업으로 비동기 실행, 중단된 작업은 이어서 재개
+ *   (결과는 절대값 upsert라 같은 청크를 다시 처리해도 동일)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductRatingRebuildService {
 
-    private final ReviewRepository reviewRepository;
-    private final ProductRatingRepository productRatingRepository;
+    private static final BigInteger UUID_SPACE = BigInteger.ONE.shiftLeft(64);
+
+    private final ProductRatingRebuildJobRepository jobRepository;
+    private final ProductRatingRebuildCheckpointRepository checkpointRepository;
+    private final ProductRatingRebuildJdbcRepository rebuildJdbcRepository;
+    private final ProductRatingRedisRepository productRatingRedisRepository;
+    private final ReviewRedisRepository reviewRedisRepository;
+    private final ProductRatingRebuildRunner rebuildRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    private final int chunkSize;
+
+    public ProductRatingRebuildService(
+        ProductRatingRebuildJobRepository jobRepository,
+        ProductRatingRebuildCheckpointRepository checkpointRepository,
+        ProductRatingRebuildJdbcRepository rebuildJdbcRepository,
+        ProductRatingRedisRepository productRatingRedisRepository,
+        ReviewRedisRepository reviewRedisRepository,
+        ProductRatingRebuildRunner rebuildRunner,
+        TransactionTemplate transactionTemplate,
+        @Value("${review.rating-rebuild.partitions:4}") int partitions,
+        @Value("${review.rating-rebuild.chunk-size:500}") int chunkSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.rebuildJdbcRepository = rebuildJdbcRepository;
+        this.productRatingRedisRepository = productRatingRedisRepository;
+        this.reviewRedisRepository = reviewRedisRepository;
+        this.rebuildRunner = rebuildRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+    }
 
-    @Transactional
+    /**
+     * 단일 상품 평점 재집계
+     * 커밋 이후 Redis 평점 해시 삭제(다음 조회 시 DB 집계로 재시드), 값이 바뀌었으면 리뷰 변경 버전 증가(ETag 무효화)
+     */
     public void rebuild(UUID productId) {
+        List<UUID> changed = transactionTemplate.execute(status -> rebuildJdbcRepository.rebuild(List.of(productId)));
+
+        productRatingRedisRepository.delete(productId);
+        if (changed != null && !changed.isEmpty()) {
+            reviewRedisRepository.incrementVersion(productId);
+        }
+    }
 
-        List<ReviewEntity> reviews =
-            reviewRepository.findAllByProductIdForRebuild(productId);
+    /**
+     * 전체 상품 평점 재집계 시작
+     * 마지막 작업이 완료되지 않았으면 체크포인트 이후부터 재개, 아니면 새 작업 생성
+     */
+    public ProductRatingRebuildJobResponse startOrResume() {
+        if (!rebuildRunner.tryAcquire()) {
+            throw new IllegalStateException("평점 재집계 작업이 이미 실행 중입니다.");
+        }
 
-        ProductRatingEntity rating =
-            productRatingRepository.findByProductId(productId)
-                .orElseGet(() -> new ProductRatingEntity(productId));
+        UUID jobId;
+        try {
+            jobId = transactionTemplate.execute(status -> prepareJob().getId());
+            rebuildRunner.run(jobId);
+        } catch (RuntimeException e) {
+            rebuildRunner.release();
+            throw e;
+        }
+        return getJob(jobId);
+    }
 
-        rating.reset();
+    @Transactional(readOnly = true)
+    public ProductRatingRebuildJobResponse getJob(UUID jobId) {
+        ProductRatingRebuildJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("평점 재집계 작업이 존재하지 않습니다."));
+        return ProductRatingRebuildJobResponse.of(job, checkpointRepository.findAllByJobIdOrderByPartitionNo(jobId));
+    }
 
-        for (ReviewEntity review : reviews) {
-            rating.updateRating(review.getRating());
+    private ProductRatingRebuildJob prepareJob() {
+        Optional<ProductRatingRebuildJob> latest = jobRepository.findFirstByOrderByCreatedAtDesc();
+        if (latest.isPresent() && latest.get().getStatus() != ProductRatingRebuildStatus.COMPLETED) {
+            ProductRatingRebuildJob job = latest.get();
+            job.resume();
+            log.info("Resuming product rating rebuild: jobId={}", job.getId());
+            return job;
         }
 
-        productRatingRepository.save(rating);
+        ProductRatingRebuildJob job = jobRepository.save(ProductRatingRebuildJob.builder()
+            .partitions(partitions)
+            .chunkSize(chunkSize)
+            .totalProducts(rebuildJdbcRepository.countProducts())
+            .build());
+
+        checkpointRepository.saveAll(IntStream.range(0, partitions)
+            .mapToObj(partitionNo -> ProductRatingRebuildCheckpoint.builder()
+                .jobId(job.getId())
+                .partitionNo(partitionNo)
+                .lowerBound(partitionBound(partitionNo, partitions))
+                .upperBound(partitionNo == partitions - 1 ? null : partitionBound(partitionNo + 1, partitions))
+                .build())
+            .toList());
+        log.info("Product rating rebuild created: jobId={}, partitions={}", job.getId(), partitions);
+        return job;
+    }
+
+    /**
+     * 상품 ID 공간(상위 64비트)을 균등 분할한 파티션 경계
+     * PostgreSQL uuid는 바이트 순 비교 → 상위 64비트를 부호 없는 값으로 나눈 경계와 순서가 일치
+     */
+    static UUID partitionBound(int partitionNo, int partitions) {
+        long mostSigBits = UUID_SPACE
+            .multiply(BigInteger.valueOf(partitionNo))
+            .divide(BigInteger.valueOf(partitions))
+            .longValue();
+        return new UUID(mostSigBits, 0L);
     }
 }
@@ -0,0 +1,146 @@
+package com.groom.product.review.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.review.domain.repository.ProductRatingRepository;
+import com.groom.product.review.infrastructure.redis.ReviewLockRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisKey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 리뷰 요약 증분 재생성 스케줄러
+ *
+ * 키: review:summary:lock:{productId} (String, SET NX + TTL, 값 = 실행 토큰) - 인스턴스 간 중복 생성 방지
+ *
+ * - 마지막 요약 이후 신규 리뷰 수(new_review_count)가 임계값 이상인 상품만 대상
+ * - 고정 크기 스레드 풀로 동시 생성 수 제한 (LLM 호출은 트랜잭션 밖에서 실행)
+ * - 같은 상품은 인스턴스 내(in-flight 집합) + 인스턴스 간(Redis 락) 1건만 진행
+ * - 락 해제는 토큰 비교 후 삭제 → 생성이 TTL을 넘겨도 다른 인스턴스의 락을 지우지 않음
+ */
+@Slf4j
+@Component
+public class ReviewAiSummaryScheduler {
+
+	private final ReviewAiSummaryService reviewAiSummaryService;
+	private final ProductRatingRepository productRatingRepository;
+	private final ReviewLockRedisRepository reviewLockRedisRepository;
+	private final MeterRegistry meterRegistry;
+
+	private final ExecutorService summaryExecutor;
+	private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+	private final int threshold;
+	private final int batchLimit;
+	private final Duration lockTtl;
+
+	public ReviewAiSummaryScheduler(
+		ReviewAiSummaryService reviewAiSummaryService,
+		ProductRatingRepository productRatingRepository,
+		ReviewLockRedisRepository reviewLockRedisRepository,
+		MeterRegistry meterRegistry,
+		@Value("${review.summary.new-review-threshold:10}") int threshold,
+		@Value("${review.summary.batch-limit:100}") int batchLimit,
+		@Value("${review.summary.concurrency:2}") int concurrency,
+		@Value("${review.summary.lock-ttl-seconds:300}") long lockTtlSeconds
+	) {
+		this.reviewAiSummaryService = reviewAiSummaryService;
+		this.productRatingRepository = productRatingRepository;
+		this.reviewLockRedisRepository = reviewLockRedisRepository;
+		this.meterRegistry = meterRegistry;
+		this.threshold = threshold;
+		this.batchLimit = batchLimit;
+		this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.summaryExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+			Thread thread = new Thread(runnable, "review-summary-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${review.summary.check-interval-ms:600000}")
+	public void regenerateChanged() {
+		try {
+			List<UUID> candidates = productRatingRepository.findAiSummaryCandidates(
+				threshold,
+				PageRequest.of(0, batchLimit)
+			);
+			candidates.forEach(this::submit);
+		} catch (Exception e) {
+			log.error("Failed to find AI summary candidates", e);
+		}
+	}
+
+	/**
+	 * 상품 요약 생성 예약 (이미 진행 중이면 무시)
+	 * @return false: 이미 진행 중
+	 */
+	public boolean submit(UUID productId) {
+		if (!inFlight.add(productId)) {
+			return false;
+		}
+
+		try {
+			summaryExecutor.execute(() -> run(productId));
+			return true;
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(productId);
+			return false;
+		}
+	}
+
+	private void run(UUID productId) {
+		String lockKey = ReviewRedisKey.summaryLock(productId);
+		try {
+			Optional<String> token = reviewLockRedisRepository.tryLock(lockKey, lockTtl);
+			if (token.isEmpty()) {
+				record("skipped");
+				return;
+			}
+
+			try {
+				reviewAiSummaryService.generate(productId);
+				record("success");
+			} finally {
+				if (!reviewLockRedisRepository.unlock(lockKey, token.get())) {
+					log.warn("AI summary lock expired before release: productId={}", productId);
+				}
+			}
+		} catch (Exception e) {
+			record("failure");
+			log.error("Failed to regenerate AI review summary: productId={}", productId, e);
+		} finally {
+			inFlight.remove(productId);
+		}
+	}
+
+	private void record(String result) {
+		Counter.builder("review.summary.regenerations")
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		summaryExecutor.shutdownNow();
+	}
+}
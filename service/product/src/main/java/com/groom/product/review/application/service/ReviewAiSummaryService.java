@@ -1,12 +1,12 @@
 package com.groom.product.review.application.service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.groom.product.review.infrastructure.client.OpenAi.OpenAiClient;
@@ -18,48 +18,82 @@ import com.groom.product.review.domain.entity.ReviewCategory;
 import com.groom.product.review.domain.entity.ReviewEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingJdbcRepository;
 
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * AI 리뷰 요약 생성
+ *
+ * 1. 조회: 평점 집계(신규 리뷰 수 스냅샷) + 상품 제목 + 카테고리별 상위 리뷰(윈도 쿼리 1회)
+ * 2. LLM 호출: 트랜잭션/커넥션 없이 실행
+ * 3. 저장: 단일 UPDATE (요약 + 반영한 신규 리뷰 수 차감 + version 증가) 후 리뷰 변경 버전 증가 (ETag 무효화)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class ReviewAiSummaryService {
 
 	private final ReviewRepository reviewRepository;
 	private final ProductRatingRepository productRatingRepository;
+	private final ProductRatingJdbcRepository productRatingJdbcRepository;
 	private final AiReviewPromptBuilder promptBuilder;
 	private final OpenAiClient openAiClient;
 	private final ProductRepository productRepository;
+	private final ReviewRedisRepository reviewRedisRepository;
+	private final int reviewsPerCategory;
+
+	public ReviewAiSummaryService(
+		ReviewRepository reviewRepository,
+		ProductRatingRepository productRatingRepository,
+		ProductRatingJdbcRepository productRatingJdbcRepository,
+		AiReviewPromptBuilder promptBuilder,
+		OpenAiClient openAiClient,
+		ProductRepository productRepository,
+		ReviewRedisRepository reviewRedisRepository,
+		@Value("${review.summary.reviews-per-category:10}") int reviewsPerCategory
+	) {
+		this.reviewRepository = reviewRepository;
+		this.productRatingRepository = productRatingRepository;
+		this.productRatingJdbcRepository = productRatingJdbcRepository;
+		this.promptBuilder = promptBuilder;
+		this.openAiClient = openAiClient;
+		this.productRepository = productRepository;
+		this.reviewRedisRepository = reviewRedisRepository;
+		this.reviewsPerCategory = reviewsPerCategory;
+	}
 
 	public void generate(UUID productId) {
 
-		Map<ReviewCategory, List<ReviewEntity>> reviews =
-			Arrays.stream(ReviewCategory.values())
-				.collect(
-					Collectors.toMap(
-						c -> c,
-						c -> reviewRepository.findTopReviews(
-							productId,
-							c,
-							PageRequest.of(0, 10)
-						)
-					));
+		ProductRatingEntity rating = productRatingRepository
+			.findByProductId(productId)
+			.orElseThrow(() -> new IllegalStateException("상품 통계 정보가 없습니다."));
 
 		String productTitle = productRepository.findByIdAndNotDeleted(productId)
 			.map(Product::getTitle)
 			.orElseThrow(() -> new IllegalStateException("상품 제목이 없습니다."));
 
+		Map<ReviewCategory, List<ReviewEntity>> reviews = new EnumMap<>(ReviewCategory.class);
+		for (ReviewCategory category : ReviewCategory.values()) {
+			if (category != ReviewCategory.PENDING) {
+				reviews.put(category, new ArrayList<>());
+			}
+		}
+		reviewRepository.findTopReviewsPerCategory(productId, reviewsPerCategory)
+			.forEach(review -> reviews.get(review.getCategory()).add(review));
+
 		String prompt = promptBuilder.build(productTitle, reviews);
 
 		String aiReview = openAiClient.summarizeReviews(prompt);
 
-		ProductRatingEntity rating = productRatingRepository
-			.findByProductId(productId)
-			.orElseThrow();
+		if (!productRatingJdbcRepository.updateAiReview(productId, aiReview, rating.getNewReviewCount())) {
+			throw new IllegalStateException("상품 통계 정보가 없습니다.");
+		}
 
-		rating.updateAiReview(aiReview);
-		productRatingRepository.save(rating);
+		try {
+			reviewRedisRepository.incrementVersion(productId);
+		} catch (Exception e) {
+			log.error("Failed to increment review version after AI summary: productId={}", productId, e);
+		}
 	}
 }
@@ -0,0 +1,312 @@
+package com.groom.product.review.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassification;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassifier;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationCache;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationQueue;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationTask;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ReviewCategoryJdbcRepository;
+import com.groom.product.review.infrastructure.repository.ReviewCategoryJdbcRepository.CategoryUpdate;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 AI 분류 비동기 파이프라인
+ *
+ * 1. 대기열에서 배치 단위로 꺼냄 (LPOP count)
+ * 2. 아직 PENDING인 리뷰 내용만 DB에서 1회 조회 (분류 완료/삭제된 리뷰는 버림)
+ * 3. 정규화된 내용이 같은 리뷰를 묶고 분류 결과 캐시(LRU → Redis) 조회, 미스만 원격 분류
+ * 4. 고정 크기 스레드 풀로 동시 분류 (동시성 상한), 서킷 브레이커로 분류 서비스 장애 시 호출 중단
+ * 5. 결과를 batchUpdate 1회로 반영 (트랜잭션/커넥션은 이 단계에서만 사용)
+ * 6. 실패 항목은 시도 횟수를 올려 재적재, 최대 횟수 초과 시 ERR 확정
+ *
+ * 대기열 유실 대비: 오래된 PENDING 리뷰를 주기적으로 재적재
+ */
+@Slf4j
+@Service
+public class ReviewClassificationService {
+
+	private final ReviewClassificationQueue reviewClassificationQueue;
+	private final ReviewRepository reviewRepository;
+	private final ReviewCategoryJdbcRepository reviewCategoryJdbcRepository;
+	private final ReviewRedisRepository reviewRedisRepository;
+	private final ReviewClassifier reviewClassifier;
+	private final ReviewClassificationCache reviewClassificationCache;
+	private final MeterRegistry meterRegistry;
+
+	private final CircuitBreaker circuitBreaker;
+	private final ExecutorService classifyExecutor;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration staleAfter;
+	private final int sweepLimit;
+
+	public ReviewClassificationService(
+		ReviewClassificationQueue reviewClassificationQueue,
+		ReviewRepository reviewRepository,
+		ReviewCategoryJdbcRepository reviewCategoryJdbcRepository,
+		ReviewRedisRepository reviewRedisRepository,
+		ReviewClassifier reviewClassifier,
+		ReviewClassificationCache reviewClassificationCache,
+		MeterRegistry meterRegistry,
+		@Value("${review.classification.batch-size:50}") int batchSize,
+		@Value("${review.classification.concurrency:4}") int concurrency,
+		@Value("${review.classification.max-attempts:5}") int maxAttempts,
+		@Value("${review.classification.stale-after-seconds:600}") long staleAfterSeconds,
+		@Value("${review.classification.sweep-limit:1000}") int sweepLimit
+	) {
+		this.reviewClassificationQueue = reviewClassificationQueue;
+		this.reviewRepository = reviewRepository;
+		this.reviewCategoryJdbcRepository = reviewCategoryJdbcRepository;
+		this.reviewRedisRepository = reviewRedisRepository;
+		this.reviewClassifier = reviewClassifier;
+		this.reviewClassificationCache = reviewClassificationCache;
+		this.meterRegistry = meterRegistry;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+		this.sweepLimit = sweepLimit;
+
+		this.circuitBreaker = CircuitBreaker.of("reviewClassification", CircuitBreakerConfig.custom()
+			.slidingWindowSize(20)
+			.minimumNumberOfCalls(10)
+			.failureRateThreshold(50)
+			.waitDurationInOpenState(Duration.ofSeconds(30))
+			.automaticTransitionFromOpenToHalfOpenEnabled(true)
+			.build());
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.classifyExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+			Thread thread = new Thread(runnable, "review-classify-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		Gauge.builder("review.classification.queue.size", reviewClassificationQueue, this::queueSize)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 대기열 소비 (가득 찬 배치가 이어지는 동안 계속, 서킷 OPEN이면 중단)
+	 */
+	@Scheduled(fixedDelayString = "${review.classification.poll-interval-ms:1000}")
+	public void classifyPending() {
+		try {
+			int polled;
+			do {
+				if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+					return;
+				}
+				polled = processBatch();
+			} while (polled == batchSize);
+		} catch (Exception e) {
+			log.error("Failed to process review classification batch", e);
+		}
+	}
+
+	/**
+	 * 대기열 유실 복구: 오래 PENDING으로 남은 리뷰 재적재 (중복 적재는 조회 단계에서 걸러짐)
+	 */
+	@Scheduled(fixedDelayString = "${review.classification.sweep-interval-ms:300000}")
+	public void requeueStalePending() {
+		try {
+			List<UUID> reviewIds = reviewRepository.findReviewIdsByCategoryBefore(
+				ReviewCategory.PENDING,
+				LocalDateTime.now().minus(staleAfter),
+				PageRequest.of(0, sweepLimit)
+			);
+
+			if (!reviewIds.isEmpty()) {
+				reviewClassificationQueue.enqueue(reviewIds.stream().map(ReviewClassificationTask::first).toList());
+				log.info("Requeued stale pending reviews for classification: count={}", reviewIds.size());
+			}
+		} catch (Exception e) {
+			log.error("Failed to requeue stale pending reviews", e);
+		}
+	}
+
+	/**
+	 * 배치 1회 처리
+	 * @return 대기열에서 꺼낸 항목 수
+	 */
+	int processBatch() {
+		List<ReviewClassificationTask> tasks = reviewClassificationQueue.poll(batchSize);
+		if (tasks.isEmpty()) {
+			return 0;
+		}
+
+		// 같은 리뷰가 중복 적재된 경우 1회만 분류
+		Map<UUID, ReviewClassificationTask> taskById = new LinkedHashMap<>();
+		tasks.forEach(task -> taskById.merge(task.reviewId(), task,
+			(a, b) -> a.attempt() >= b.attempt() ? a : b));
+
+		List<PendingReview> pending = new ArrayList<>();
+		for (Object[] row : reviewRepository.findContentsByCategory(taskById.keySet(), ReviewCategory.PENDING)) {
+			UUID reviewId = (UUID)row[0];
+			pending.add(new PendingReview(taskById.get(reviewId), (UUID)row[1], (String)row[2]));
+		}
+
+		// 정규화된 내용이 같은 리뷰는 묶어서 1회만 분류, 캐시 히트는 원격 호출 없음
+		Map<String, List<PendingReview>> byContent = new LinkedHashMap<>();
+		pending.forEach(review -> byContent
+			.computeIfAbsent(ReviewClassificationCache.key(review.content()), key -> new ArrayList<>())
+			.add(review));
+
+		Map<String, ReviewClassification> cached = reviewClassificationCache.getAll(byContent.keySet());
+
+		List<CategoryUpdate> updates = new ArrayList<>();
+		List<ReviewClassificationTask> retries = new ArrayList<>();
+		Set<UUID> changedProductIds = new LinkedHashSet<>();
+
+		Map<String, CompletableFuture<Outcome>> futures = new LinkedHashMap<>();
+		byContent.forEach((key, reviews) -> {
+			ReviewClassification hit = cached.get(key);
+			if (hit != null) {
+				reviews.forEach(review -> applyClassified(review, hit, updates, changedProductIds));
+				record(Status.CACHED, reviews.size());
+			} else {
+				String content = reviews.get(0).content();
+				futures.put(key, CompletableFuture.supplyAsync(() -> classify(content), classifyExecutor));
+			}
+		});
+
+		futures.forEach((key, future) -> {
+			Outcome outcome = future.join();
+			List<PendingReview> reviews = byContent.get(key);
+
+			switch (outcome.status()) {
+				case CLASSIFIED -> {
+					reviewClassificationCache.put(key, outcome.classification());
+					reviews.forEach(review -> applyClassified(review, outcome.classification(), updates,
+						changedProductIds));
+				}
+				// 서킷 OPEN으로 호출하지 않은 항목은 시도 횟수 유지
+				case REJECTED -> reviews.forEach(review -> retries.add(review.task()));
+				default -> reviews.forEach(review -> {
+					ReviewClassificationTask next = review.task().nextAttempt();
+					if (next.attempt() >= maxAttempts) {
+						log.warn("Review classification gave up → ERR: reviewId={}", review.task().reviewId());
+						updates.add(new CategoryUpdate(review.task().reviewId(), review.content(), ReviewCategory.ERR));
+						changedProductIds.add(review.productId());
+					} else {
+						retries.add(next);
+					}
+				});
+			}
+			record(outcome.status(), reviews.size());
+		});
+
+		reviewCategoryJdbcRepository.updatePendingCategories(updates);
+		reviewClassificationQueue.enqueue(retries);
+		evictReadModels(updates);
+		changedProductIds.forEach(this::incrementReviewVersion);
+
+		return tasks.size();
+	}
+
+	private void applyClassified(
+		PendingReview review,
+		ReviewClassification classification,
+		List<CategoryUpdate> updates,
+		Set<UUID> changedProductIds
+	) {
+		updates.add(new CategoryUpdate(review.task().reviewId(), review.content(), classification.category()));
+		changedProductIds.add(review.productId());
+	}
+
+	private Outcome classify(String content) {
+		try {
+			ReviewClassification classification =
+				circuitBreaker.executeSupplier(() -> reviewClassifier.classify(content));
+			return new Outcome(Status.CLASSIFIED, classification);
+		} catch (CallNotPermittedException e) {
+			return new Outcome(Status.REJECTED, null);
+		} catch (Exception e) {
+			log.warn("Review classification failed: content length={}", content.length(), e);
+			return new Outcome(Status.FAILED, null);
+		}
+	}
+
+	private void evictReadModels(List<CategoryUpdate> updates) {
+		try {
+			reviewRedisRepository.evictData(updates.stream().map(CategoryUpdate::reviewId).toList());
+		} catch (Exception e) {
+			log.error("Failed to evict classified review read models: count={}", updates.size(), e);
+		}
+	}
+
+	private void incrementReviewVersion(UUID productId) {
+		try {
+			reviewRedisRepository.incrementVersion(productId);
+		} catch (Exception e) {
+			log.error("Failed to increment review version: productId={}", productId, e);
+		}
+	}
+
+	private void record(Status status, int count) {
+		Counter.builder("review.classification.results")
+			.tag("result", status.name().toLowerCase())
+			.register(meterRegistry)
+			.increment(count);
+	}
+
+	private double queueSize(ReviewClassificationQueue queue) {
+		try {
+			return queue.size();
+		} catch (Exception e) {
+			return Double.NaN;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		classifyExecutor.shutdownNow();
+	}
+
+	private record PendingReview(
+		ReviewClassificationTask task,
+		UUID productId,
+		String content
+	) {}
+
+	private record Outcome(
+		Status status,
+		ReviewClassification classification
+	) {}
+
+	private enum Status {
+		CACHED,
+		CLASSIFIED,
+		REJECTED,
+		FAILED
+	}
+}
@@ -0,0 +1,97 @@
+package com.groom.product.review.application.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.common.event.payload.OrderConfirmedItemPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.product.review.infrastructure.repository.ReviewEligibilityJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 작성 자격 읽기 모델 관리
+ *
+ * - 주문 확정: 주문 상품별 (주문, 상품, 구매자) 적재
+ * - 주문 취소: 주문 단위 삭제
+ * - 보관 기간(retention-days) 경과분은 주기적으로 정리, 정리된 주문은 검증 시 주문 서비스 조회로 폴백
+ */
+@Slf4j
+@Service
+public class ReviewEligibilityService {
+
+	private final ReviewEligibilityJdbcRepository reviewEligibilityJdbcRepository;
+	private final int retentionDays;
+	private final int purgeBatchSize;
+
+	public ReviewEligibilityService(
+		ReviewEligibilityJdbcRepository reviewEligibilityJdbcRepository,
+		@Value("${review.eligibility.retention-days:90}") int retentionDays,
+		@Value("${review.eligibility.purge-batch-size:1000}") int purgeBatchSize
+	) {
+		this.reviewEligibilityJdbcRepository = reviewEligibilityJdbcRepository;
+		this.retentionDays = retentionDays;
+		this.purgeBatchSize = purgeBatchSize;
+	}
+
+	public void recordConfirmed(OrderConfirmedPayload payload) {
+		if (payload.getOrderId() == null || payload.getUserId() == null || payload.getItems() == null) {
+			log.warn("Skipping review eligibility for incomplete order: orderId={}", payload.getOrderId());
+			return;
+		}
+
+		Set<UUID> productIds = new LinkedHashSet<>();
+		payload.getItems().stream()
+			.map(OrderConfirmedItemPayload::getProductId)
+			.filter(Objects::nonNull)
+			.forEach(productIds::add);
+
+		LocalDateTime confirmedAt = payload.getConfirmedAt() != null
+			? LocalDateTime.ofInstant(payload.getConfirmedAt(), ZoneId.systemDefault())
+			: LocalDateTime.now();
+
+		reviewEligibilityJdbcRepository.insertAll(payload.getOrderId(), payload.getUserId(), productIds, confirmedAt);
+	}
+
+	public void revoke(UUID orderId) {
+		if (orderId == null) {
+			return;
+		}
+		reviewEligibilityJdbcRepository.deleteByOrderId(orderId);
+	}
+
+	@Scheduled(fixedDelayString = "${review.eligibility.purge-interval-ms:3600000}")
+	public void purgeExpired() {
+		try {
+			purgeExpired(LocalDateTime.now().minusDays(retentionDays));
+		} catch (Exception e) {
+			log.error("Failed to purge expired review eligibility", e);
+		}
+	}
+
+	/**
+	 * 기준 시각 이전 확정분 정리 (가득 찬 배치가 이어지는 동안 계속)
+	 * @return 삭제한 행 수
+	 */
+	int purgeExpired(LocalDateTime before) {
+		int purged = 0;
+		int deleted;
+		do {
+			deleted = reviewEligibilityJdbcRepository.deleteExpired(before, purgeBatchSize);
+			purged += deleted;
+		} while (deleted == purgeBatchSize);
+
+		if (purged > 0) {
+			log.info("Purged expired review eligibility: count={}, before={}", purged, before);
+		}
+		return purged;
+	}
+}
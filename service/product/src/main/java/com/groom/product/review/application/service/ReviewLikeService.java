@@ -0,0 +1,208 @@
+package com.groom.product.review.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.product.review.domain.repository.ReviewLikeRepository;
+import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.redis.ReviewIndexEntry;
+import com.groom.product.review.infrastructure.redis.ReviewLikeEvent;
+import com.groom.product.review.infrastructure.redis.ReviewLikeRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewLikeRedisRepository.LikeResult;
+import com.groom.product.review.infrastructure.redis.ReviewLockRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisKey;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ReviewLikeJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 좋아요 (write-behind)
+ *
+ * 요청 경로: Redis 사용자 집합에 SADD/SREM (멱등) → 변경 로그 적재 → SCARD로 좋아요 수 응답 (DB 쓰기 없음)
+ * 주기 반영:
+ * 1. 변경 로그를 배치 단위로 꺼내 좋아요 행 INSERT/DELETE 배치
+ * 2. 변경된 리뷰의 좋아요 수(Redis 집계)를 UPDATE 배치 → 인기 리뷰 행에 요청마다 쓰지 않음
+ * 3. 같은 단계에서 좋아요순 인덱스 점수 갱신 + 읽기 모델 제거
+ * 실패 시 꺼낸 항목을 되돌려 다음 주기에 재시도
+ * 주기 반영은 인스턴스 간 락(review:like:flush:lock)을 잡은 1개 인스턴스만 수행
+ * → 같은 리뷰의 좋아요/취소 로그가 인스턴스별로 나뉘어 순서가 뒤바뀐 채 반영되지 않음
+ */
+@Slf4j
+@Service
+public class ReviewLikeService {
+
+	private static final String NO_REVIEW = "리뷰가 존재하지 않습니다.";
+
+	private final ReviewRepository reviewRepository;
+	private final ReviewLikeRepository reviewLikeRepository;
+	private final ReviewLikeRedisRepository reviewLikeRedisRepository;
+	private final ReviewLikeJdbcRepository reviewLikeJdbcRepository;
+	private final ReviewRedisRepository reviewRedisRepository;
+	private final ReviewLockRedisRepository reviewLockRedisRepository;
+	private final int batchSize;
+	private final Duration flushLockTtl;
+
+	public ReviewLikeService(
+		ReviewRepository reviewRepository,
+		ReviewLikeRepository reviewLikeRepository,
+		ReviewLikeRedisRepository reviewLikeRedisRepository,
+		ReviewLikeJdbcRepository reviewLikeJdbcRepository,
+		ReviewRedisRepository reviewRedisRepository,
+		ReviewLockRedisRepository reviewLockRedisRepository,
+		@Value("${review.like.flush-batch-size:500}") int batchSize,
+		@Value("${review.like.flush-lock-ttl-seconds:60}") long flushLockTtlSeconds
+	) {
+		this.reviewRepository = reviewRepository;
+		this.reviewLikeRepository = reviewLikeRepository;
+		this.reviewLikeRedisRepository = reviewLikeRedisRepository;
+		this.reviewLikeJdbcRepository = reviewLikeJdbcRepository;
+		this.reviewRedisRepository = reviewRedisRepository;
+		this.reviewLockRedisRepository = reviewLockRedisRepository;
+		this.batchSize = batchSize;
+		this.flushLockTtl = Duration.ofSeconds(flushLockTtlSeconds);
+	}
+
+	public int likeReview(UUID reviewId, UUID userId) {
+		LikeResult result = toggle(reviewId, userId, true);
+		if (!result.changed()) {
+			throw new IllegalStateException("이미 좋아요를 눌렀습니다.");
+		}
+		return (int)result.likeCount();
+	}
+
+	public int unlikeReview(UUID reviewId, UUID userId) {
+		LikeResult result = toggle(reviewId, userId, false);
+		if (!result.changed()) {
+			throw new IllegalStateException("좋아요를 누르지 않은 리뷰입니다.");
+		}
+		return (int)result.likeCount();
+	}
+
+	private LikeResult toggle(UUID reviewId, UUID userId, boolean liked) {
+		if (!reviewRepository.existsById(reviewId)) {
+			throw new IllegalArgumentException(NO_REVIEW);
+		}
+
+		LikeResult result = reviewLikeRedisRepository.toggle(reviewId, userId, liked);
+		if (!result.seeded()) {
+			// 사용자 집합이 없으면 DB 좋아요 행으로 시드 후 재시도
+			reviewLikeRedisRepository.seed(reviewId, reviewLikeRepository.findUserIdsByReviewId(reviewId));
+			result = reviewLikeRedisRepository.toggle(reviewId, userId, liked);
+		}
+		return result;
+	}
+
+	@Scheduled(fixedDelayString = "${review.like.flush-interval-ms:5000}")
+	public void flush() {
+		String lockKey = ReviewRedisKey.likeFlushLock();
+		try {
+			Optional<String> token = reviewLockRedisRepository.tryLock(lockKey, flushLockTtl);
+			if (token.isEmpty()) {
+				return;
+			}
+
+			try {
+				flushEvents();
+				flushCounts();
+			} finally {
+				if (!reviewLockRedisRepository.unlock(lockKey, token.get())) {
+					log.warn("Review like flush lock expired before release");
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to flush review likes", e);
+		}
+	}
+
+	/**
+	 * 좋아요 행 반영 (가득 찬 배치가 이어지는 동안 계속)
+	 * @return 반영한 변경 수
+	 */
+	int flushEvents() {
+		int flushed = 0;
+		List<ReviewLikeEvent> events;
+		do {
+			events = reviewLikeRedisRepository.pollEvents(batchSize);
+			if (events.isEmpty()) {
+				break;
+			}
+
+			try {
+				reviewLikeJdbcRepository.applyLikeEvents(events);
+			} catch (Exception e) {
+				reviewLikeRedisRepository.requeueEvents(events);
+				throw e;
+			}
+			flushed += events.size();
+		} while (events.size() == batchSize);
+
+		return flushed;
+	}
+
+	/**
+	 * 좋아요 수 반영 + 좋아요순 인덱스 갱신 (가득 찬 배치가 이어지는 동안 계속)
+	 * @return 반영한 리뷰 수
+	 */
+	int flushCounts() {
+		int flushed = 0;
+		List<UUID> reviewIds;
+		do {
+			reviewIds = reviewLikeRedisRepository.popDirty(batchSize);
+			if (reviewIds.isEmpty()) {
+				break;
+			}
+
+			Map<UUID, Long> likeCounts;
+			try {
+				likeCounts = reviewLikeRedisRepository.countLikes(reviewIds);
+				reviewLikeJdbcRepository.updateLikeCounts(likeCounts);
+			} catch (Exception e) {
+				reviewLikeRedisRepository.markDirty(reviewIds);
+				throw e;
+			}
+
+			refreshReadModel(likeCounts);
+			flushed += likeCounts.size();
+		} while (reviewIds.size() == batchSize);
+
+		return flushed;
+	}
+
+	/**
+	 * 좋아요순 인덱스 점수 갱신 + 읽기 모델 제거 + 상품별 리뷰 버전 증가 (실패해도 DB 반영은 유지)
+	 */
+	private void refreshReadModel(Map<UUID, Long> likeCounts) {
+		if (likeCounts.isEmpty()) {
+			return;
+		}
+
+		try {
+			Map<UUID, List<ReviewIndexEntry>> entriesByProduct = new HashMap<>();
+			for (Object[] row : reviewRepository.findLikeIndexKeys(likeCounts.keySet())) {
+				UUID reviewId = (UUID)row[0];
+				entriesByProduct
+					.computeIfAbsent((UUID)row[1], productId -> new ArrayList<>())
+					.add(new ReviewIndexEntry(reviewId, (LocalDateTime)row[2], likeCounts.get(reviewId).intValue()));
+			}
+
+			entriesByProduct.forEach((productId, entries) -> {
+				reviewRedisRepository.updateLikeScores(productId, entries);
+				reviewRedisRepository.incrementVersion(productId);
+			});
+			reviewRedisRepository.evictData(likeCounts.keySet());
+		} catch (Exception e) {
+			log.error("Failed to refresh review read model after like flush: count={}", likeCounts.size(), e);
+		}
+	}
+}
@@ -1,6 +1,11 @@
 package com.groom.product.review.application.service;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -12,6 +17,8 @@ import com.groom.product.review.domain.entity.ProductRatingEntity;
 import com.groom.product.review.domain.entity.ReviewEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.redis.ReviewIndexEntry;
+import com.groom.product.review.infrastructure.redis.ReviewPage;
 import com.groom.product.review.infrastructure.redis.ReviewReadModel;
 import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
 import com.groom.product.review.presentation.dto.response.PaginationResponse;
@@ -19,11 +26,23 @@ import com.groom.product.review.presentation.dto.response.ProductReviewResponse;
 import com.groom.product.review.presentation.dto.response.ReviewResponse;
 
 import lombok.RequiredArgsConstructor;
-
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 리뷰 목록 조회 (Redis 읽기 모델)
+ *
+ * 1. 인덱스(ZSET) 페이지 + 전체 수(ZCARD) 조회 → 미스면 DB에서 (reviewId, createdAt, likeCount)만 읽어 재구성
+ * 2. 페이지 리뷰 데이터 MGET → 만료된 항목만 DB에서 조회 후 적재
+ * 3. Redis 장애 시 DB 페이지 조회로 응답
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewQueryService {
 
+    private static final String SORT_LIKE = "like";
+    private static final String SORT_CREATED_AT = "createdAt";
+
     private final ReviewRedisRepository reviewRedisRepository;
     private final ReviewRepository reviewRepository;
     private final ProductRatingRepository productRatingRepository;
@@ -31,87 +50,157 @@ public class ReviewQueryService {
     public ProductReviewResponse getProductReviews(
         UUID productId,
         int page,
-        int size
+        int size,
+        String sort
     ) {
-        // 1️⃣ Redis 조회
-        List<ReviewReadModel> cached =
-            reviewRedisRepository.findByProductId(productId, page, size);
+        boolean sortByLike = SORT_LIKE.equalsIgnoreCase(sort);
+
+        ProductRatingEntity rating =
+            productRatingRepository.findByProductId(productId)
+                .orElseGet(() -> new ProductRatingEntity(productId));
 
-        if (!cached.isEmpty()) {
-            return buildResponseFromCache(productId, cached);
+        ReviewPage reviewPage;
+        List<ReviewReadModel> reviews;
+        try {
+            // 1️⃣ Redis 인덱스 조회 (miss → DB에서 재구성)
+            reviewPage = reviewRedisRepository.findPage(productId, sortByLike, page, size);
+            if (reviewPage == null) {
+                reviewPage = rebuildIndex(productId, sortByLike, page, size);
+            }
+
+            // 2️⃣ 리뷰 데이터 일괄 조회
+            reviews = findReadModels(reviewPage.reviewIds());
+        } catch (Exception e) {
+            log.error("Failed to read review read model, falling back to DB: productId={}", productId, e);
+            return buildResponseFromDb(rating, productId, page, size, sortByLike);
         }
 
-        // 2️⃣ Redis miss → DB 조회
-        Page<ReviewEntity> pageResult =
-            reviewRepository.findAllByProductId(
-                productId,
-                PageRequest.of(page, size, Sort.by("createdAt").descending())
-            );
+        // 3️⃣ 전체 수는 인덱스 크기(ZCARD) 기준
+        int totalPages = size == 0 ? 1 : (int)Math.ceil((double)reviewPage.totalElements() / size);
+
+        return buildResponse(
+            rating,
+            reviews.stream().map(ReviewResponse::fromReadModel).toList(),
+            PaginationResponse.builder()
+                .totalElements(reviewPage.totalElements())
+                .totalPages(totalPages)
+                .currentPage(page)
+                .isLast(page + 1 >= totalPages)
+                .build()
+        );
+    }
 
-        // 3️⃣ Redis 저장
-        pageResult.forEach(this::saveToRedis);
+    /**
+     * 상품 리뷰 ETag
+     * - 리뷰 변경 버전(Redis)만 사용 → 조건부 GET마다 DB 조회 없음
+     *   (평점 통계의 version이 증가하는 모든 경로에서 리뷰 변경 버전도 함께 증가)
+     */
+    public String getProductReviewsETag(UUID productId) {
+        return "\"rv-" + reviewRedisRepository.getVersion(productId) + "\"";
+    }
+
+    /**
+     * 상품 리뷰 인덱스 재구성 후 요청 페이지 반환
+     * - 재구성 중 리뷰 추가/삭제(버전 변경)가 있었으면 인덱스를 버려 다음 조회에서 다시 구성
+     */
+    private ReviewPage rebuildIndex(UUID productId, boolean sortByLike, int page, int size) {
+        long version = reviewRedisRepository.getVersion(productId);
+
+        List<ReviewIndexEntry> entries = reviewRepository.findIndexEntriesByProductId(productId).stream()
+            .map(row -> new ReviewIndexEntry(
+                (UUID)row[0],
+                (LocalDateTime)row[1],
+                ((Number)row[2]).intValue()
+            ))
+            .toList();
+
+        if (!entries.isEmpty()) {
+            reviewRedisRepository.replaceIndex(productId, entries);
+            if (reviewRedisRepository.getVersion(productId) != version) {
+                reviewRedisRepository.evictIndex(productId);
+            }
+        }
 
-        return buildResponseFromDb(productId, pageResult);
+        Comparator<ReviewIndexEntry> order = sortByLike
+            ? Comparator.comparingDouble(ReviewIndexEntry::likeScore).reversed()
+            : Comparator.comparingDouble(ReviewIndexEntry::latestScore).reversed();
+
+        List<UUID> reviewIds = entries.stream()
+            .sorted(order)
+            .skip((long)page * size)
+            .limit(size)
+            .map(ReviewIndexEntry::reviewId)
+            .toList();
+
+        return new ReviewPage(reviewIds, entries.size());
     }
 
-    private ProductReviewResponse buildResponseFromCache(
-        UUID productId,
-        List<ReviewReadModel> cached
-    ) {
-        ProductRatingEntity rating =
-            productRatingRepository.findByProductId(productId)
-                .orElseGet(() -> new ProductRatingEntity(productId));
+    /**
+     * 리뷰 데이터 조회 (Redis MGET → 만료된 항목만 DB 조회 후 적재, 인덱스 순서 유지)
+     */
+    private List<ReviewReadModel> findReadModels(List<UUID> reviewIds) {
+        Map<UUID, ReviewReadModel> found = new HashMap<>(reviewRedisRepository.findAll(reviewIds));
 
-        return ProductReviewResponse.builder()
-            .avgRating(rating.getAvgRating())
-            .reviewCount(rating.getReviewCount())
-            .aiReview(rating.getAiReview())
-            .reviews(
-                cached.stream()
-                    .map(ReviewResponse::fromReadModel)
-                    .toList()
-            )
-            .build();
+        List<UUID> missing = reviewIds.stream()
+            .filter(reviewId -> !found.containsKey(reviewId))
+            .toList();
+
+        if (!missing.isEmpty()) {
+            List<ReviewReadModel> loaded = reviewRepository.findAllById(missing).stream()
+                .map(ReviewReadModel::from)
+                .toList();
+
+            reviewRedisRepository.saveAll(loaded);
+            loaded.forEach(review -> found.put(review.getReviewId(), review));
+        }
+
+        // 인덱스에는 있지만 삭제된 리뷰는 제외
+        return reviewIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
+
     private ProductReviewResponse buildResponseFromDb(
+        ProductRatingEntity rating,
         UUID productId,
-        Page<ReviewEntity> pageResult
+        int page,
+        int size,
+        boolean sortByLike
     ) {
-        ProductRatingEntity rating =
-            productRatingRepository.findByProductId(productId)
-                .orElseGet(() -> new ProductRatingEntity(productId));
+        Sort sort = sortByLike
+            ? Sort.by("likeCount").descending().and(Sort.by(SORT_CREATED_AT).descending())
+            : Sort.by(SORT_CREATED_AT).descending();
 
+        Page<ReviewEntity> pageResult =
+            reviewRepository.findAllByProductId(productId, PageRequest.of(page, size, sort));
+
+        return buildResponse(
+            rating,
+            pageResult.getContent().stream()
+                .map(ReviewResponse::fromEntity)
+                .toList(),
+            PaginationResponse.builder()
+                .totalElements(pageResult.getTotalElements())
+                .totalPages(pageResult.getTotalPages())
+                .currentPage(pageResult.getNumber())
+                .isLast(pageResult.isLast())
+                .build()
+        );
+    }
+
+    private ProductReviewResponse buildResponse(
+        ProductRatingEntity rating,
+        List<ReviewResponse> reviews,
+        PaginationResponse pagination
+    ) {
         return ProductReviewResponse.builder()
             .avgRating(rating.getAvgRating())
             .reviewCount(rating.getReviewCount())
+            .ratingDistribution(rating.getRatingHistogram())
             .aiReview(rating.getAiReview())
-            .reviews(
-                pageResult.getContent().stream()
-                    .map(ReviewResponse::fromEntity)
-                    .toList()
-            )
-            .pagination(
-                PaginationResponse.builder()
-                    .totalElements(pageResult.getTotalElements())
-                    .totalPages(pageResult.getTotalPages())
-                    .currentPage(pageResult.getNumber())
-                    .isLast(pageResult.isLast())
-                    .build()
-            )
+            .reviews(reviews)
+            .pagination(pagination)
             .build();
     }
-
-    private void saveToRedis(ReviewEntity review) {
-        ReviewReadModel readModel = ReviewReadModel.builder()
-            .reviewId(review.getReviewId())
-            .productId(review.getProductId())
-            .userId(review.getUserId())
-            .rating(review.getRating())
-            .content(review.getContent())
-            .createdAt(review.getCreatedAt())
-            .build();
-
-        reviewRedisRepository.save(readModel);
-    }
 }
-
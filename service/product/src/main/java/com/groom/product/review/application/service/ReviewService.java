@@ -11,15 +11,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.product.review.application.event.ReviewChangedEvent;
+import com.groom.product.review.application.event.ReviewClassificationRequestedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
 import com.groom.product.review.application.validator.OrderReviewValidator;
 import com.groom.product.review.domain.entity.ProductRatingEntity;
-import com.groom.product.review.infrastructure.client.Classification.AiClient;
 import com.groom.product.review.domain.entity.ReviewCategory;
 import com.groom.product.review.domain.entity.ReviewEntity;
-import com.groom.product.review.domain.entity.ReviewLikeEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
-import com.groom.product.review.domain.repository.ReviewLikeRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
 import com.groom.product.review.presentation.dto.request.CreateReviewRequest;
 import com.groom.product.review.presentation.dto.request.UpdateReviewRequest;
@@ -37,9 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ReviewService {
 
 	private final ReviewRepository reviewRepository;
-	private final ReviewLikeRepository reviewLikeRepository;
 	private final ProductRatingRepository productRatingRepository;
-	private final AiClient aiClient;
 	private final OrderReviewValidator orderReviewValidator;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -64,11 +61,11 @@ public class ReviewService {
 			throw new IllegalArgumentException("리뷰 내용은 필수입니다.");
 		}
 
-		// 1. AI 카테고리 분류
+		// 1. AI 카테고리 분류는 커밋 후 비동기 파이프라인에서 처리 (50자 초과는 분류하지 않음)
 		ReviewCategory category =
 			comment.length() > 50
 				? ReviewCategory.ERR
-				: aiClient.classify(comment);
+				: ReviewCategory.PENDING;
 
 		// 2. 리뷰 저장
 		ReviewEntity review = ReviewEntity.builder()
@@ -92,6 +89,12 @@ public class ReviewService {
 			)
 		);
 
+		if (category == ReviewCategory.PENDING) {
+			applicationEventPublisher.publishEvent(
+				new ReviewClassificationRequestedEvent(review.getReviewId())
+			);
+		}
+
 		return ReviewResponse.fromEntity(review);
 	}
 
@@ -111,31 +114,30 @@ public class ReviewService {
 			throw new SecurityException("수정 권한이 없습니다.");
 		}
 
-		// 평점 변경
+		// 평점 변경 (상품 평점 집계는 커밋 후 이벤트로 증감 반영)
+		int oldRating = review.getRating();
 		if (request.getRating() != null &&
 			!review.getRating().equals(request.getRating())) {
 
-			ProductRatingEntity ratingEntity =
-				productRatingRepository.findByProductId(review.getProductId())
-					.orElseThrow(() -> new IllegalStateException("상품 통계 정보가 없습니다."));
-
-			ratingEntity.removeRating(review.getRating());
-			ratingEntity.updateRating(request.getRating());
-
 			review.updateRating(request.getRating());
 		}
 
-		// 내용 변경 시 AI 재분류
+		// 내용 변경 시 AI 재분류 (PENDING 저장 후 커밋 후 비동기 분류)
 		if (request.getContent() != null && !request.getContent().isBlank()) {
-			ReviewCategory category =
-				aiClient.classify(request.getContent());
-
 			review.updateContentAndCategory(
 				request.getContent(),
-				category
+				ReviewCategory.PENDING
+			);
+
+			applicationEventPublisher.publishEvent(
+				new ReviewClassificationRequestedEvent(review.getReviewId())
 			);
 		}
 
+		applicationEventPublisher.publishEvent(
+			ReviewChangedEvent.updated(review.getProductId(), review.getReviewId(), oldRating, review.getRating())
+		);
+
 		return ReviewResponse.fromEntity(review);
 	}
 
@@ -160,13 +162,11 @@ public class ReviewService {
 			throw new SecurityException("삭제 권한이 없습니다.");
 		}
 
-		ProductRatingEntity ratingEntity =
-			productRatingRepository.findByProductId(review.getProductId())
-				.orElseThrow(() -> new IllegalStateException("상품 통계 정보가 없습니다."));
-
-		ratingEntity.removeRating(review.getRating());
-
 		review.softDelete(currentUserId.toString());
+
+		applicationEventPublisher.publishEvent(
+			ReviewChangedEvent.deleted(review.getProductId(), review.getReviewId(), review.getRating())
+		);
 	}
 
 	/**
@@ -243,36 +243,4 @@ public class ReviewService {
 			)
 			.map(ReviewResponse::fromEntity);
 	}
-
-	@Transactional
-	public int likeReview(UUID reviewId, UUID userId) {
-		ReviewEntity review = reviewRepository.findById(reviewId)
-			.orElseThrow(() -> new IllegalArgumentException(NO_REVIEW));
-
-		reviewLikeRepository.findByReviewIdAndUserId(reviewId, userId)
-			.ifPresent(like -> {
-				throw new IllegalStateException("이미 좋아요를 눌렀습니다.");
-			});
-
-		reviewLikeRepository.save(
-			new ReviewLikeEntity(reviewId, userId)
-		);
-
-		review.incrementLikeCount();
-		return review.getLikeCount();
-	}
-
-	@Transactional
-	public int unlikeReview(UUID reviewId, UUID userId) {
-		ReviewEntity review = reviewRepository.findById(reviewId)
-			.orElseThrow(() -> new IllegalArgumentException(NO_REVIEW));
-
-		ReviewLikeEntity like =
-			reviewLikeRepository.findByReviewIdAndUserId(reviewId, userId)
-				.orElseThrow(() -> new IllegalStateException("좋아요를 누르지 않은 리뷰입니다."));
-
-		reviewLikeRepository.delete(like);
-		review.decrementLikeCount();
-		return review.getLikeCount();
-	}
 }
@@ -1,11 +1,14 @@
 package com.groom.product.review.application.validator;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.review.domain.entity.ReviewEligibilityEntity;
+import com.groom.product.review.domain.repository.ReviewEligibilityRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
 import com.groom.product.review.infrastructure.feign.OrderClient;
 import com.groom.product.review.infrastructure.feign.dto.OrderReviewValidationRequest;
@@ -13,12 +16,17 @@ import com.groom.product.review.infrastructure.feign.dto.OrderReviewValidationRe
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 리뷰 작성 주문 검증
+ * 주문 확정 이벤트로 적재한 로컬 자격 테이블을 먼저 조회, 로컬에 없는 주문만 주문 서비스에 요청
+ */
 @Component
 @RequiredArgsConstructor
 public class OrderReviewValidator {
 
 	private final OrderClient orderClient;
 	private final ReviewRepository reviewRepository;
+	private final ReviewEligibilityRepository reviewEligibilityRepository;
 
 	public void validate(UUID orderId, UUID productId, UUID userId) {
 
@@ -28,31 +36,52 @@ public class OrderReviewValidator {
 				throw new CustomException(ErrorCode.REVIEW_ALREADY_EXISTS);
 			});
 
-		//
-		// 2️⃣ Order 서비스에 리뷰 검증 요청
+		// 2️⃣ 로컬 자격 조회 (확정 주문은 주문 단위로 적재)
+		List<ReviewEligibilityEntity> eligibilities = reviewEligibilityRepository.findAllByOrderId(orderId);
+		if (!eligibilities.isEmpty()) {
+			validateLocally(eligibilities, productId, userId);
+			return;
+		}
+
+		// 3️⃣ 로컬 미적재 주문 → Order 서비스에 리뷰 검증 요청
 		OrderReviewValidationResponse response =
 			orderClient.validateReviewOrder(
 				new OrderReviewValidationRequest(orderId, productId, userId)
 			);
 
-		// 3️⃣ 주문 존재 여부
+		// 주문 존재 여부
 		if (!response.isOrderExists()) {
 			throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
 		}
 
-		// 4️⃣ 주문 소유자 검증
+		// 주문 소유자 검증
 		if (!response.isOwnerMatched()) {
 			throw new CustomException(ErrorCode.FORBIDDEN);
 		}
 
-		// 5️⃣ 주문 상품 포함 여부
+		// 주문 상품 포함 여부
 		if (!response.isContainsProduct()) {
 			throw new CustomException(ErrorCode.INVALID_REQUEST);
 		}
 
-		// 6️⃣ 리뷰 가능한 주문 상태인지
+		// 리뷰 가능한 주문 상태인지
 		if (!response.isReviewable()) {
 			throw new CustomException(ErrorCode.REVIEW_NOT_ALLOWED_ORDER_STATUS);
 		}
 	}
+
+	/**
+	 * 로컬 자격 검증 (적재된 주문 = 확정 상태이므로 소유자/상품 포함만 확인)
+	 */
+	private void validateLocally(List<ReviewEligibilityEntity> eligibilities, UUID productId, UUID userId) {
+		if (!eligibilities.get(0).getBuyerId().equals(userId)) {
+			throw new CustomException(ErrorCode.FORBIDDEN);
+		}
+
+		boolean containsProduct = eligibilities.stream()
+			.anyMatch(eligibility -> eligibility.getProductId().equals(productId));
+		if (!containsProduct) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+	}
 }
@@ -1,5 +1,7 @@
 package com.groom.product.review.domain.entity;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,13 +14,19 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_product_rating")
+@Table(
+	name = "p_product_rating",
+	indexes = {
+		@Index(name = "idx_product_rating_new_review_count", columnList = "new_review_count")
+	}
+)
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -31,15 +39,42 @@ public class ProductRatingEntity extends BaseEntity {
 	@Column(nullable = false, unique = true)
 	private UUID productId;
 
+	// 평점 합계 (평균은 합계/개수에서 파생 → 누적 반올림 오차 없음)
+	@Column(name = "rating_sum", nullable = false, columnDefinition = "bigint default 0")
+	private long ratingSum = 0;
+
 	@Column(nullable = false)
 	private double avgRating = 0.0;
 
 	@Column(nullable = false)
 	private int reviewCount = 0;
 
+	// 별점 분포 (1~5점 리뷰 수)
+	@Column(name = "rating_1_count", nullable = false, columnDefinition = "integer default 0")
+	private int rating1Count = 0;
+
+	@Column(name = "rating_2_count", nullable = false, columnDefinition = "integer default 0")
+	private int rating2Count = 0;
+
+	@Column(name = "rating_3_count", nullable = false, columnDefinition = "integer default 0")
+	private int rating3Count = 0;
+
+	@Column(name = "rating_4_count", nullable = false, columnDefinition = "integer default 0")
+	private int rating4Count = 0;
+
+	@Column(name = "rating_5_count", nullable = false, columnDefinition = "integer default 0")
+	private int rating5Count = 0;
+
 	@Column(name = "ai_review", columnDefinition = "TEXT")
 	private String aiReview;
 
+	// 마지막 AI 요약 이후 새로 작성된 리뷰 수 (임계값 도달 시 요약 재생성)
+	@Column(name = "new_review_count", nullable = false, columnDefinition = "integer default 0")
+	private int newReviewCount = 0;
+
+	@Column(name = "ai_review_generated_at")
+	private LocalDateTime aiReviewGeneratedAt;
+
 	@Version
 	private Long version;
 
@@ -47,37 +82,64 @@ public class ProductRatingEntity extends BaseEntity {
 
 	public ProductRatingEntity(UUID productId) {
 		this.productId = productId;
+		this.ratingSum = 0;
 		this.avgRating = 0.0;
 		this.reviewCount = 0;
 	}
 
+	/*
+	 * 메모리 상 재계산용 (재집계 등)
+	 * 운영 중 증감은 ProductRatingJdbcRepository의 원자적 UPDATE로만 반영
+	 */
 	public void updateRating(Integer newRating) {
-		double currentTotal = this.avgRating * this.reviewCount;
+		this.ratingSum += newRating;
 		this.reviewCount += 1;
-		double updatedAvg = (currentTotal + newRating) / this.reviewCount;
-		this.avgRating = Math.round(updatedAvg * 10.0) / 10.0;
+		adjustRatingCount(newRating, 1);
+		refreshAvgRating();
 	}
 
 	public void removeRating(Integer oldRating) {
 		if (this.reviewCount <= 1) {
-			this.reviewCount = 0;
-			this.avgRating = 0.0;
+			reset();
 			return;
 		}
 
-		double currentTotal = this.avgRating * this.reviewCount;
+		this.ratingSum -= oldRating;
 		this.reviewCount -= 1;
-
-		double updatedAvg = (currentTotal - oldRating) / this.reviewCount;
-		this.avgRating = Math.round(updatedAvg * 10.0) / 10.0;
+		adjustRatingCount(oldRating, -1);
+		refreshAvgRating();
 	}
 
-	public void updateAiReview(String aiReview) {
-		this.aiReview = aiReview;
+	/**
+	 * 별점 분포 (index 0 = 1점 ~ index 4 = 5점)
+	 */
+	public List<Integer> getRatingHistogram() {
+		return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
 	}
 
 	public void reset(){
+		this.ratingSum=0;
 		this.reviewCount=0;
 		this.avgRating=0;
+		this.rating1Count = 0;
+		this.rating2Count = 0;
+		this.rating3Count = 0;
+		this.rating4Count = 0;
+		this.rating5Count = 0;
+	}
+
+	private void adjustRatingCount(int rating, int delta) {
+		switch (rating) {
+			case 1 -> this.rating1Count += delta;
+			case 2 -> this.rating2Count += delta;
+			case 3 -> this.rating3Count += delta;
+			case 4 -> this.rating4Count += delta;
+			case 5 -> this.rating5Count += delta;
+			default -> throw new IllegalArgumentException("평점은 1~5 사이여야 합니다: " + rating);
+		}
+	}
+
+	private void refreshAvgRating() {
+		this.avgRating = Math.round(this.ratingSum * 10.0 / this.reviewCount) / 10.0;
 	}
 }
@@ -0,0 +1,69 @@
+package com.groom.product.review.domain.entity;
+
+import java.util.UUID;
+
+import com.groom.common.domain.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 평점 재집계 파티션 체크포인트
+ * 파티션 = 상품 ID 범위 [lowerBound, upperBound), 마지막으로 커밋된 상품 ID 이후부터 재개
+ * (진행 위치/처리 수는 청크 트랜잭션 안에서 JDBC로 갱신)
+ */
+@Entity
+@Table(
+	name = "p_product_rating_rebuild_checkpoint",
+	uniqueConstraints = {
+		@UniqueConstraint(columnNames = {"job_id", "partition_no"})
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRatingRebuildCheckpoint extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "checkpoint_id")
+	private UUID id;
+
+	@Column(name = "job_id", nullable = false)
+	private UUID jobId;
+
+	@Column(name = "partition_no", nullable = false)
+	private int partitionNo;
+
+	@Column(name = "lower_bound", nullable = false)
+	private UUID lowerBound;
+
+	// null: 마지막 파티션 (상한 없음)
+	@Column(name = "upper_bound")
+	private UUID upperBound;
+
+	@Column(name = "last_product_id")
+	private UUID lastProductId;
+
+	@Column(name = "processed_products", nullable = false)
+	private long processedProducts;
+
+	@Column(name = "completed", nullable = false)
+	private boolean completed;
+
+	@Builder
+	public ProductRatingRebuildCheckpoint(UUID jobId, int partitionNo, UUID lowerBound, UUID upperBound) {
+		this.jobId = jobId;
+		this.partitionNo = partitionNo;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+}
@@ -0,0 +1,87 @@
+package com.groom.product.review.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.common.domain.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 평점 전체 재집계 작업
+ * 상품 ID 범위를 파티션으로 나눠 병렬 처리, 파티션별 진행 위치는 체크포인트에 청크 커밋마다 기록
+ */
+@Entity
+@Table(name = "p_product_rating_rebuild_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRatingRebuildJob extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "job_id")
+	private UUID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private ProductRatingRebuildStatus status;
+
+	@Column(name = "partitions", nullable = false)
+	private int partitions;
+
+	@Column(name = "chunk_size", nullable = false)
+	private int chunkSize;
+
+	// 시작 시점 상품 수 (진행률 계산용 추정치)
+	@Column(name = "total_products", nullable = false)
+	private long totalProducts;
+
+	@Column(name = "failure_reason", length = 500)
+	private String failureReason;
+
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	@Builder
+	public ProductRatingRebuildJob(int partitions, int chunkSize, long totalProducts) {
+		this.partitions = partitions;
+		this.chunkSize = chunkSize;
+		this.totalProducts = totalProducts;
+		this.status = ProductRatingRebuildStatus.RUNNING;
+		this.startedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 중단된 작업 재개 (체크포인트 이후부터)
+	 */
+	public void resume() {
+		this.status = ProductRatingRebuildStatus.RUNNING;
+		this.failureReason = null;
+		this.finishedAt = null;
+	}
+
+	public void complete() {
+		this.status = ProductRatingRebuildStatus.COMPLETED;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public void fail(String reason) {
+		this.status = ProductRatingRebuildStatus.FAILED;
+		this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+		this.finishedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,19 @@
+package com.groom.product.review.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductRatingRebuildStatus {
+
+	RUNNING("처리중"),
+	COMPLETED("완료"),
+	FAILED("실패");
+
+	private final String description;
+
+	public boolean isFinished() {
+		return this == COMPLETED || this == FAILED;
+	}
+}
@@ -6,7 +6,8 @@ public enum ReviewCategory {
 	PERFORMANCE,
 	CONVENIENCE,
 	QUALITY,
-	ERR;
+	ERR,
+	PENDING; // AI 분류 대기 (비동기 분류 파이프라인에서 확정)
 
 	public static ReviewCategory fromAiCategory(String aiCategory) {
 		return switch (aiCategory) {
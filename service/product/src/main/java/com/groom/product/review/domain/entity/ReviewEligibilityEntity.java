@@ -0,0 +1,49 @@
+package com.groom.product.review.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰 작성 자격 (주문 확정 이벤트로 적재하는 로컬 읽기 모델)
+ *
+ * 확정된 주문의 (주문, 상품, 구매자)만 보관 → 리뷰 작성 검증을 주문 서비스 호출 없이 처리
+ * - 주문 취소 시 주문 단위로 삭제
+ * - 보관 기간이 지난 행은 주기적으로 정리 (이후 검증은 주문 서비스 조회로 폴백)
+ * - 감사 컬럼 없이 키 + 확정 시각만 유지 (행 크기 최소화)
+ */
+@Entity
+@Table(
+	name = "p_review_eligibility",
+	indexes = {
+		@Index(name = "idx_review_eligibility_confirmed_at", columnList = "confirmed_at")
+	}
+)
+@IdClass(ReviewEligibilityId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewEligibilityEntity {
+
+	@Id
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+
+	@Id
+	@Column(name = "product_id", nullable = false)
+	private UUID productId;
+
+	@Column(name = "buyer_id", nullable = false)
+	private UUID buyerId;
+
+	@Column(name = "confirmed_at", nullable = false)
+	private LocalDateTime confirmedAt;
+}
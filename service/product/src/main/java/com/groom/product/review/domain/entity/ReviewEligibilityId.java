@@ -0,0 +1,20 @@
+package com.groom.product.review.domain.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰 작성 자격 복합 키 (주문 ID, 상품 ID)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReviewEligibilityId implements Serializable {
+
+	private UUID orderId;
+	private UUID productId;
+}
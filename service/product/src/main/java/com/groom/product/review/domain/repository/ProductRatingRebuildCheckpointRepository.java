@@ -0,0 +1,16 @@
+package com.groom.product.review.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.review.domain.entity.ProductRatingRebuildCheckpoint;
+
+@Repository
+public interface ProductRatingRebuildCheckpointRepository
+	extends JpaRepository<ProductRatingRebuildCheckpoint, UUID> {
+
+	List<ProductRatingRebuildCheckpoint> findAllByJobIdOrderByPartitionNo(UUID jobId);
+}
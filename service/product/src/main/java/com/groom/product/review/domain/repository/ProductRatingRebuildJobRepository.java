@@ -0,0 +1,15 @@
+package com.groom.product.review.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.review.domain.entity.ProductRatingRebuildJob;
+
+@Repository
+public interface ProductRatingRebuildJobRepository extends JpaRepository<ProductRatingRebuildJob, UUID> {
+
+	Optional<ProductRatingRebuildJob> findFirstByOrderByCreatedAtDesc();
+}
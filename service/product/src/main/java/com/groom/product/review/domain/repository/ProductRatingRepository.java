@@ -1,9 +1,13 @@
 package com.groom.product.review.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.groom.product.review.domain.entity.ProductRatingEntity;
@@ -12,5 +16,18 @@ import com.groom.product.review.domain.entity.ProductRatingEntity;
 public interface ProductRatingRepository extends JpaRepository<ProductRatingEntity, UUID> {
 
 	Optional<ProductRatingEntity> findByProductId(UUID productId);
+
+	List<ProductRatingEntity> findAllByProductIdIn(Collection<UUID> productIds);
+
+	/**
+	 * 마지막 AI 요약 이후 신규 리뷰가 임계값 이상인 상품 (많은 순)
+	 */
+	@Query("""
+		    SELECT r.productId
+		    FROM ProductRatingEntity r
+		    WHERE r.newReviewCount >= :threshold
+		    ORDER BY r.newReviewCount DESC
+		""")
+	List<UUID> findAiSummaryCandidates(int threshold, Pageable pageable);
 }
 
@@ -0,0 +1,19 @@
+package com.groom.product.review.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.review.domain.entity.ReviewEligibilityEntity;
+import com.groom.product.review.domain.entity.ReviewEligibilityId;
+
+@Repository
+public interface ReviewEligibilityRepository extends JpaRepository<ReviewEligibilityEntity, ReviewEligibilityId> {
+
+	/**
+	 * 주문의 리뷰 작성 자격 (주문 단위로 적재/삭제되므로 비어 있으면 로컬 미적재 주문)
+	 */
+	List<ReviewEligibilityEntity> findAllByOrderId(UUID orderId);
+}
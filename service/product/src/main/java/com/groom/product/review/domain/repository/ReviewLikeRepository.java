@@ -1,9 +1,11 @@
 package com.groom.product.review.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.groom.product.review.domain.entity.ReviewLikeEntity;
@@ -11,4 +13,14 @@ import com.groom.product.review.domain.entity.ReviewLikeEntity;
 @Repository
 public interface ReviewLikeRepository extends JpaRepository<ReviewLikeEntity, UUID> {
 	Optional<ReviewLikeEntity> findByReviewIdAndUserId(UUID reviewId, UUID userId);
+
+	/**
+	 * 리뷰 좋아요 사용자 ID (Redis 좋아요 집합 시드용)
+	 */
+	@Query("""
+		    SELECT l.userId
+		    FROM ReviewLikeEntity l
+		    WHERE l.reviewId = :reviewId
+		""")
+	List<UUID> findUserIdsByReviewId(UUID reviewId);
 }
@@ -1,5 +1,7 @@
 package com.groom.product.review.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,13 +22,25 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, UUID> {
 
 	Page<ReviewEntity> findAllByProductId(UUID productId, Pageable pageable);
 
+	/**
+	 * 상품 리뷰 읽기 모델 인덱스 구성용 (reviewId, createdAt, likeCount)
+	 */
 	@Query("""
-    SELECT r
-    FROM ReviewEntity r
-    WHERE r.productId = :productId
-""")
-	List<ReviewEntity> findAllByProductIdForRebuild(UUID productId);
+		    SELECT r.reviewId, r.createdAt, r.likeCount
+		    FROM ReviewEntity r
+		    WHERE r.productId = :productId
+		""")
+	List<Object[]> findIndexEntriesByProductId(UUID productId);
 
+	/**
+	 * 좋아요순 인덱스 점수 갱신용 (reviewId, productId, createdAt)
+	 */
+	@Query("""
+		    SELECT r.reviewId, r.productId, r.createdAt
+		    FROM ReviewEntity r
+		    WHERE r.reviewId IN :reviewIds
+		""")
+	List<Object[]> findLikeIndexKeys(Collection<UUID> reviewIds);
 
 	@Query("""
 		    SELECT r FROM ReviewEntity r
@@ -41,5 +55,73 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, UUID> {
 	);
 	Page<ReviewEntity> findByUserId(UUID userId, Pageable pageable);
 
+	/**
+	 * 카테고리별 상위 리뷰를 윈도 함수 1회로 조회 (최신순, 좋아요순)
+	 * 분류 대기(PENDING) 리뷰 제외
+	 */
+	@Query(value = """
+		    SELECT r.*
+		    FROM p_review r
+		    WHERE r.review_id IN (
+		        SELECT t.review_id
+		        FROM (
+		            SELECT review_id,
+		                   ROW_NUMBER() OVER (
+		                       PARTITION BY category
+		                       ORDER BY created_at DESC, like_count DESC
+		                   ) AS rn
+		            FROM p_review
+		            WHERE product_id = :productId
+		              AND deleted_at IS NULL
+		              AND category <> 'PENDING'
+		        ) t
+		        WHERE t.rn <= :perCategory
+		    )
+		    ORDER BY r.category, r.created_at DESC, r.like_count DESC
+		""", nativeQuery = true)
+	List<ReviewEntity> findTopReviewsPerCategory(UUID productId, int perCategory);
+
+	/**
+	 * 분류 대상 리뷰 내용 조회 (reviewId, productId, content)
+	 * - 이미 분류가 끝났거나 삭제된 리뷰는 제외
+	 */
+	@Query("""
+		    SELECT r.reviewId, r.productId, r.content
+		    FROM ReviewEntity r
+		    WHERE r.reviewId IN :reviewIds
+		      AND r.category = :category
+		""")
+	List<Object[]> findContentsByCategory(Collection<UUID> reviewIds, ReviewCategory category);
+
+	/**
+	 * 일정 시간 이상 해당 카테고리로 남아 있는 리뷰 ID (분류 대기열 유실 복구용)
+	 */
+	@Query("""
+		    SELECT r.reviewId
+		    FROM ReviewEntity r
+		    WHERE r.category = :category
+		      AND r.updatedAt < :before
+		    ORDER BY r.updatedAt
+		""")
+	List<UUID> findReviewIdsByCategoryBefore(ReviewCategory category, LocalDateTime before, Pageable pageable);
+
+	/**
+	 * 자주 등장하는 짧은 리뷰 내용별 카테고리 분포 (content, category, count)
+	 * 분류 결과 캐시 사전 적재용
+	 */
+	@Query("""
+		    SELECT r.content, r.category, COUNT(r)
+		    FROM ReviewEntity r
+		    WHERE r.category NOT IN :excluded
+		      AND LENGTH(r.content) <= :maxLength
+		    GROUP BY r.content, r.category
+		    ORDER BY COUNT(r) DESC
+		""")
+	List<Object[]> findFrequentContentCategories(
+		Collection<ReviewCategory> excluded,
+		int maxLength,
+		Pageable pageable
+	);
+
 
 }
@@ -5,46 +5,47 @@ import com.groom.product.review.infrastructure.client.Classification.dto.AiFeign
 import com.groom.product.review.infrastructure.client.Classification.dto.AiFeignResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class AiClient {
+@ConditionalOnProperty(name = "review.classification.classifier", havingValue = "remote", matchIfMissing = true)
+public class AiClient implements ReviewClassifier {
+
+	private static final double MIN_CONFIDENCE = 0.6;
 
 	private final AiFeignClient aiFeignClient;
 
 	/**
 	 * 리뷰 코멘트 AI 분류
 	 * - confidence < 0.6 → ERR
-	 * - 예외 발생 → ERR
+	 * - 호출 예외는 그대로 전파 (분류 파이프라인에서 재시도)
 	 */
-	public ReviewCategory classify(String comment) {
-		try {
-			AiFeignResponse response =
-				aiFeignClient.classify(new AiFeignRequest(comment));
-
-			if (response == null ||
-				response.category() == null ||
-				response.confidence() < 0.6) {
-
-				log.warn(
-					"AI 분류 실패 또는 신뢰도 부족 → ERR, comment={}",
-					comment
-				);
-				return ReviewCategory.ERR;
-			}
-
-			return mapToCategory(response.category());
-
-		} catch (Exception e) {
-			log.error(
-				"AI 분류 중 예외 발생 → ERR, comment={}",
-				comment,
-				e
+	@Override
+	public ReviewClassification classify(String comment) {
+		AiFeignResponse response =
+			aiFeignClient.classify(new AiFeignRequest(comment));
+
+		if (response == null ||
+			response.category() == null ||
+			response.confidence() < MIN_CONFIDENCE) {
+
+			log.warn(
+				"AI 분류 실패 또는 신뢰도 부족 → ERR, comment={}",
+				comment
+			);
+			return new ReviewClassification(
+				ReviewCategory.ERR,
+				response != null ? response.confidence() : 0.0
 			);
-			return ReviewCategory.ERR;
 		}
+
+		return new ReviewClassification(
+			mapToCategory(response.category()),
+			response.confidence()
+		);
 	}
 
 	/**
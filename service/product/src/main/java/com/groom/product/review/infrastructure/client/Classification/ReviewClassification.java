@@ -0,0 +1,12 @@
+package com.groom.product.review.infrastructure.client.Classification;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+
+/**
+ * 리뷰 분류 결과 (카테고리, 신뢰도)
+ */
+public record ReviewClassification(
+	ReviewCategory category,
+	double confidence
+) {
+}
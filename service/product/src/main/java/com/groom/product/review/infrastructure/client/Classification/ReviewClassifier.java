@@ -0,0 +1,11 @@
+package com.groom.product.review.infrastructure.client.Classification;
+
+/**
+ * 리뷰 코멘트 분류기
+ * - 원격 분류 서비스(AiClient) / 로컬 스텁(StubReviewClassifier)
+ * - 호출 실패는 예외로 전파 (비동기 파이프라인에서 서킷 브레이커/재시도 판단)
+ */
+public interface ReviewClassifier {
+
+	ReviewClassification classify(String comment);
+}
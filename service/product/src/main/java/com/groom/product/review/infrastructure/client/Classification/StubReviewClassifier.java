@@ -0,0 +1,67 @@
+package com.groom.product.review.infrastructure.client.Classification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+
+/**
+ * 로컬 스텁 분류기 (테스트/벤치마크용)
+ * - review.classification.classifier=stub 일 때 원격 분류 서비스 대신 사용
+ * - 키워드 매칭으로 결정적 결과 반환, 설정한 지연으로 원격 호출 시간 모사
+ */
+@Component
+@ConditionalOnProperty(name = "review.classification.classifier", havingValue = "stub")
+public class StubReviewClassifier implements ReviewClassifier {
+
+	private static final Map<String, ReviewCategory> KEYWORDS = new LinkedHashMap<>();
+
+	static {
+		KEYWORDS.put("디자인", ReviewCategory.DESIGN);
+		KEYWORDS.put("예쁘", ReviewCategory.DESIGN);
+		KEYWORDS.put("성능", ReviewCategory.PERFORMANCE);
+		KEYWORDS.put("빠르", ReviewCategory.PERFORMANCE);
+		KEYWORDS.put("편하", ReviewCategory.CONVENIENCE);
+		KEYWORDS.put("편리", ReviewCategory.CONVENIENCE);
+		KEYWORDS.put("가격", ReviewCategory.PRICE);
+		KEYWORDS.put("비싸", ReviewCategory.PRICE);
+		KEYWORDS.put("저렴", ReviewCategory.PRICE);
+		KEYWORDS.put("품질", ReviewCategory.QUALITY);
+		KEYWORDS.put("튼튼", ReviewCategory.QUALITY);
+	}
+
+	private final long latencyMs;
+
+	public StubReviewClassifier(
+		@Value("${review.classification.stub-latency-ms:0}") long latencyMs
+	) {
+		this.latencyMs = latencyMs;
+	}
+
+	@Override
+	public ReviewClassification classify(String comment) {
+		simulateLatency();
+
+		for (Map.Entry<String, ReviewCategory> entry : KEYWORDS.entrySet()) {
+			if (comment.contains(entry.getKey())) {
+				return new ReviewClassification(entry.getValue(), 0.9);
+			}
+		}
+		return new ReviewClassification(ReviewCategory.ERR, 0.0);
+	}
+
+	private void simulateLatency() {
+		if (latencyMs <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(latencyMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.groom.product.review.infrastructure.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application startup runner to backfill product rating sums
+ * (rating_sum 추가 이전 행은 0이므로 리뷰 테이블에서 정확한 합계/개수로 재집계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRatingSumSyncRunner implements ApplicationRunner {
+
+	private static final String BACKFILL_RATING_SUM = """
+		UPDATE p_product_rating pr
+		SET rating_sum = COALESCE(r.rating_sum, 0),
+			review_count = COALESCE(r.review_count, 0),
+			avg_rating = CASE WHEN COALESCE(r.review_count, 0) > 0
+				THEN ROUND(r.rating_sum::numeric / r.review_count, 1) ELSE 0 END,
+			version = COALESCE(pr.version, 0) + 1
+		FROM p_product_rating t
+		LEFT JOIN (
+			SELECT product_id, SUM(rating) AS rating_sum, COUNT(*) AS review_count
+			FROM p_review
+			WHERE deleted_at IS NULL
+			GROUP BY product_id
+		) r ON r.product_id = t.product_id
+		WHERE pr.product_rating_id = t.product_rating_id
+			AND pr.rating_sum = 0
+			AND pr.review_count > 0
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			int updated = jdbcTemplate.update(BACKFILL_RATING_SUM);
+			if (updated > 0) {
+				log.info("Product rating sum backfill completed. Updated {} products", updated);
+			}
+		} catch (Exception e) {
+			log.error("Failed to backfill product rating sums", e);
+		}
+	}
+}
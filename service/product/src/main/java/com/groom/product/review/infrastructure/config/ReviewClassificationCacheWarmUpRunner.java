@@ -0,0 +1,91 @@
+package com.groom.product.review.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassification;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application startup runner to warm the review classification cache
+ * (이미 분류된 짧은 리뷰 중 자주 등장하는 내용을 정규화 키 기준으로 적재)
+ *
+ * 신뢰도 = 같은 정규화 키 안에서 최다 카테고리의 비율 (분류 결과가 엇갈린 내용은 임계값 미달로 제외)
+ */
+@Slf4j
+@Component
+public class ReviewClassificationCacheWarmUpRunner implements ApplicationRunner {
+
+	// 리뷰 작성 시 50자 초과는 분류하지 않음 (ReviewService)
+	private static final int MAX_CLASSIFIED_LENGTH = 50;
+
+	private final ReviewRepository reviewRepository;
+	private final ReviewClassificationCache reviewClassificationCache;
+	private final boolean enabled;
+	private final int limit;
+	private final long minOccurrences;
+
+	public ReviewClassificationCacheWarmUpRunner(
+		ReviewRepository reviewRepository,
+		ReviewClassificationCache reviewClassificationCache,
+		@Value("${review.classification.cache.warm-up-enabled:true}") boolean enabled,
+		@Value("${review.classification.cache.warm-up-limit:5000}") int limit,
+		@Value("${review.classification.cache.warm-up-min-occurrences:3}") long minOccurrences
+	) {
+		this.reviewRepository = reviewRepository;
+		this.reviewClassificationCache = reviewClassificationCache;
+		this.enabled = enabled;
+		this.limit = limit;
+		this.minOccurrences = minOccurrences;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			List<Object[]> rows = reviewRepository.findFrequentContentCategories(
+				List.of(ReviewCategory.PENDING, ReviewCategory.ERR),
+				MAX_CLASSIFIED_LENGTH,
+				PageRequest.of(0, limit)
+			);
+
+			// 정규화 키 → 카테고리별 건수
+			Map<String, Map<ReviewCategory, Long>> counts = new HashMap<>();
+			for (Object[] row : rows) {
+				counts.computeIfAbsent(ReviewClassificationCache.key((String)row[0]), key -> new HashMap<>())
+					.merge((ReviewCategory)row[1], ((Number)row[2]).longValue(), Long::sum);
+			}
+
+			Map<String, ReviewClassification> classifications = new HashMap<>();
+			counts.forEach((key, byCategory) -> {
+				long total = byCategory.values().stream().mapToLong(Long::longValue).sum();
+				if (total < minOccurrences) {
+					return;
+				}
+				byCategory.entrySet().stream()
+					.max(Map.Entry.comparingByValue())
+					.ifPresent(top -> classifications.put(key,
+						new ReviewClassification(top.getKey(), (double)top.getValue() / total)));
+			});
+
+			reviewClassificationCache.warmUp(classifications);
+			log.info("Review classification cache warm-up completed. Candidates={}", classifications.size());
+		} catch (Exception e) {
+			log.error("Failed to warm up review classification cache", e);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 평점 Redis 해시 저장소
+ *
+ * 키: review:rating:{productId}
+ * 값: Hash { v: DB 행 버전, sum: 평점 합계, count: 리뷰 수, r1~r5: 1~5점 리뷰 수 }
+ *
+ * - DB 반영 직후 값(절대값)과 조회 미스 시 시드 값을 같은 Lua 스크립트로 저장
+ *   → 더 큰 버전만 덮어쓰므로 도착 순서와 무관하게 최신 DB 행으로 수렴
+ * - TTL로 유실/불일치가 있어도 만료 후 DB에서 재시드
+ * - 목록/상세 조회 시 페이지 단위로 HMGET 파이프라인 1회 (평점과 별점 분포를 함께 조회)
+ */
+@Slf4j
+@Repository
+public class ProductRatingRedisRepository {
+
+    // HMGET 순서: sum, count, r1 ~ r5, v
+    private static final byte[][] FIELDS = Stream.of("sum", "count", "r1", "r2", "r3", "r4", "r5", "v")
+        .map(field -> field.getBytes(StandardCharsets.UTF_8))
+        .toArray(byte[][]::new);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlSeconds;
+
+    private DefaultRedisScript<Long> saveScript;
+
+    public ProductRatingRedisRepository(
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${review.rating-cache.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @PostConstruct
+    public void init() {
+        saveScript = new DefaultRedisScript<>();
+        saveScript.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/rating_save.lua")));
+        saveScript.setResultType(Long.class);
+    }
+
+    /**
+     * 평점 해시 저장 (해시의 버전보다 새로운 값일 때만)
+     * @return false: 같거나 더 최신 버전이 이미 저장됨
+     */
+    public boolean save(UUID productId, ProductRatingSummary summary) {
+        List<String> args = new ArrayList<>(FIELDS.length + 1);
+        args.add(String.valueOf(summary.version()));
+        args.add(String.valueOf(summary.sum()));
+        args.add(String.valueOf(summary.count()));
+        summary.histogram().forEach(count -> args.add(String.valueOf(count)));
+        args.add(String.valueOf(ttlSeconds));
+
+        Long result = stringRedisTemplate.execute(
+            saveScript,
+            Collections.singletonList(ReviewRedisKey.productRating(productId)),
+            args.toArray()
+        );
+        return result != null && result == 1;
+    }
+
+    /**
+     * 다수 상품 평점 조회 (HMGET 파이프라인)
+     * @return productId → 평점 집계 (해시가 없거나 필드가 빠진 상품은 포함되지 않음)
+     */
+    public Map<UUID, ProductRatingSummary> findAll(List<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            for (UUID productId : productIds) {
+                byte[] key = ReviewRedisKey.productRating(productId).getBytes(StandardCharsets.UTF_8);
+                connection.hashCommands().hMGet(key, FIELDS);
+            }
+            return null;
+        });
+
+        Map<UUID, ProductRatingSummary> ratings = new HashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (results.get(i) instanceof List<?> values
+                && values.size() == FIELDS.length
+                && values.stream().allMatch(Objects::nonNull)) {
+                ratings.put(productIds.get(i), new ProductRatingSummary(
+                    Long.parseLong(values.get(0).toString()),
+                    Long.parseLong(values.get(1).toString()),
+                    values.subList(2, FIELDS.length - 1).stream()
+                        .map(value -> Integer.parseInt(value.toString()))
+                        .toList(),
+                    Long.parseLong(values.get(FIELDS.length - 1).toString())
+                ));
+            }
+        }
+        return ratings;
+    }
+
+    /**
+     * 평점 해시 삭제 (재집계 후 다음 조회 시 재시드)
+     */
+    public void delete(UUID productId) {
+        stringRedisTemplate.delete(ReviewRedisKey.productRating(productId));
+    }
+
+    /**
+     * 다수 상품 평점 해시 삭제 (전체 재집계 청크 단위)
+     */
+    public void deleteAll(Collection<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.delete(productIds.stream()
+            .map(ReviewRedisKey::productRating)
+            .toList());
+    }
+}
@@ -0,0 +1,34 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.util.List;
+
+/**
+ * 상품 평점 집계 (평점 합계, 리뷰 수, 별점 분포)
+ * 평균은 합계/개수로 계산하여 누적 반올림 오차가 없음
+ *
+ * @param histogram 1~5점 리뷰 수 (index 0 = 1점)
+ * @param version   p_product_rating.version (Redis 해시는 더 큰 버전으로만 덮어씀, 행이 없으면 -1)
+ */
+public record ProductRatingSummary(
+    long sum,
+    long count,
+    List<Integer> histogram,
+    long version
+) {
+
+    public static final ProductRatingSummary EMPTY = new ProductRatingSummary(0, 0, List.of(0, 0, 0, 0, 0), -1);
+
+    /**
+     * @return 리뷰가 없으면 null
+     */
+    public Double avgRating() {
+        if (count <= 0) {
+            return null;
+        }
+        return Math.round(sum * 10.0 / count) / 10.0;
+    }
+
+    public int reviewCount() {
+        return (int) count;
+    }
+}
@@ -0,0 +1,209 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 분류 결과 캐시 (정규화된 내용 해시 기준)
+ *
+ * 키: review:classify:result:{md5(정규화된 내용)} → "CATEGORY|confidence" (TTL)
+ *
+ * - 정규화: NFKC, 소문자, 공백/문장부호 제거 ("좋아요!!", "좋아요 " → 같은 키)
+ * - 인스턴스 내 LRU → Redis MGET 순으로 조회, Redis 히트는 LRU로 승격
+ * - 결과와 함께 신뢰도를 저장하고, 설정된 최소 신뢰도 이상만 적재/응답 (임계값 상향 시 기존 항목 자동 무시)
+ * - 계층별 hit/miss 카운터 (review.classification.cache.requests{tier, result})
+ */
+@Slf4j
+@Component
+public class ReviewClassificationCache {
+
+	private static final String RESULT_PREFIX = "review:classify:result:";
+	private static final String SEPARATOR = "|";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final double minConfidence;
+	private final Duration ttl;
+	private final Map<String, ReviewClassification> local;
+
+	public ReviewClassificationCache(
+		StringRedisTemplate stringRedisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${review.classification.cache.min-confidence:0.8}") double minConfidence,
+		@Value("${review.classification.cache.ttl-days:30}") long ttlDays,
+		@Value("${review.classification.cache.local-max-entries:10000}") int localMaxEntries
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.minConfidence = minConfidence;
+		this.ttl = Duration.ofDays(ttlDays);
+		this.local = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ReviewClassification> eldest) {
+				return size() > localMaxEntries;
+			}
+		});
+
+		Gauge.builder("review.classification.cache.local.size", local, Map::size).register(meterRegistry);
+	}
+
+	/**
+	 * 내용 → 캐시 키 (정규화 후 해시)
+	 */
+	public static String key(String content) {
+		String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT)
+			.replaceAll("[\\p{P}\\p{S}\\s]+", "");
+		return DigestUtils.md5DigestAsHex(normalized.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 다수 키 조회 (LRU → Redis MGET)
+	 * @return key → 분류 결과 (미스/임계값 미달은 포함되지 않음)
+	 */
+	public Map<String, ReviewClassification> getAll(Collection<String> keys) {
+		Map<String, ReviewClassification> found = new HashMap<>();
+		List<String> localMisses = new ArrayList<>();
+
+		for (String key : keys) {
+			ReviewClassification cached = local.get(key);
+			if (cached != null && cached.confidence() >= minConfidence) {
+				found.put(key, cached);
+			} else {
+				localMisses.add(key);
+			}
+		}
+		record("local", keys.size() - localMisses.size(), localMisses.size());
+
+		if (localMisses.isEmpty()) {
+			return found;
+		}
+
+		int redisHits = 0;
+		try {
+			List<String> values = stringRedisTemplate.opsForValue()
+				.multiGet(localMisses.stream().map(key -> RESULT_PREFIX + key).toList());
+
+			for (int i = 0; values != null && i < localMisses.size(); i++) {
+				ReviewClassification cached = decode(values.get(i));
+				if (cached != null && cached.confidence() >= minConfidence) {
+					found.put(localMisses.get(i), cached);
+					local.put(localMisses.get(i), cached);
+					redisHits++;
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to get review classifications from cache", e);
+		}
+		record("redis", redisHits, localMisses.size() - redisHits);
+
+		return found;
+	}
+
+	/**
+	 * 분류 결과 적재 (최소 신뢰도 미만은 적재하지 않음 → 다음에 다시 분류)
+	 */
+	public void put(String key, ReviewClassification classification) {
+		if (classification.confidence() < minConfidence) {
+			return;
+		}
+
+		local.put(key, classification);
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(RESULT_PREFIX + key, encode(classification), ttl.toSeconds(), TimeUnit.SECONDS);
+		} catch (Exception e) {
+			log.error("Failed to cache review classification: key={}", key, e);
+		}
+	}
+
+	/**
+	 * 기존 분류 결과로 사전 적재 (이미 있는 Redis 항목은 유지, SET NX 파이프라인)
+	 */
+	public void warmUp(Map<String, ReviewClassification> classifications) {
+		Map<String, ReviewClassification> accepted = new HashMap<>();
+		classifications.forEach((key, classification) -> {
+			if (classification.confidence() >= minConfidence) {
+				accepted.put(key, classification);
+			}
+		});
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		local.putAll(accepted);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			accepted.forEach((key, classification) -> connection.stringCommands().set(
+				(RESULT_PREFIX + key).getBytes(StandardCharsets.UTF_8),
+				encode(classification).getBytes(StandardCharsets.UTF_8),
+				Expiration.from(ttl),
+				SetOption.ifAbsent()
+			));
+			return null;
+		});
+	}
+
+	private void record(String tier, int hits, int misses) {
+		if (hits > 0) {
+			counter(tier, "hit").increment(hits);
+		}
+		if (misses > 0) {
+			counter(tier, "miss").increment(misses);
+		}
+	}
+
+	private Counter counter(String tier, String result) {
+		return Counter.builder("review.classification.cache.requests")
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static String encode(ReviewClassification classification) {
+		return classification.category().name() + SEPARATOR + classification.confidence();
+	}
+
+	private static ReviewClassification decode(String value) {
+		if (value == null) {
+			return null;
+		}
+		int separator = value.indexOf(SEPARATOR);
+		if (separator < 0) {
+			return null;
+		}
+		try {
+			return new ReviewClassification(
+				ReviewCategory.valueOf(value.substring(0, separator)),
+				Double.parseDouble(value.substring(separator + 1))
+			);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 AI 분류 대기열 (Redis LIST)
+ *
+ * - 리뷰 커밋 후 RPUSH, 분류 워커가 LPOP count로 배치 단위 소비
+ * - 실패 항목은 시도 횟수를 올려 꼬리에 재적재
+ * - 대기열 유실 대비: PENDING으로 오래 남은 리뷰는 스위퍼가 재적재 (중복 적재는 무해)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewClassificationQueue {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void enqueue(Collection<ReviewClassificationTask> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForList().rightPushAll(
+            ReviewRedisKey.classificationQueue(),
+            tasks.stream().map(ReviewClassificationTask::encode).toList()
+        );
+    }
+
+    /**
+     * 최대 batchSize개 꺼내기 (비어 있으면 빈 목록)
+     */
+    public List<ReviewClassificationTask> poll(int batchSize) {
+        List<String> values = stringRedisTemplate.opsForList()
+            .leftPop(ReviewRedisKey.classificationQueue(), batchSize);
+
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream().map(ReviewClassificationTask::decode).toList();
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForList().size(ReviewRedisKey.classificationQueue());
+        return size != null ? size : 0;
+    }
+}
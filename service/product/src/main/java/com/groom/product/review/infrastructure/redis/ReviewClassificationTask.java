@@ -0,0 +1,36 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 AI 분류 대기열 항목 (리뷰 ID, 시도 횟수)
+ * 대기열에는 "reviewId:attempt" 문자열로 저장
+ */
+public record ReviewClassificationTask(
+    UUID reviewId,
+    int attempt
+) {
+
+    public static ReviewClassificationTask first(UUID reviewId) {
+        return new ReviewClassificationTask(reviewId, 0);
+    }
+
+    public ReviewClassificationTask nextAttempt() {
+        return new ReviewClassificationTask(reviewId, attempt + 1);
+    }
+
+    public String encode() {
+        return reviewId + ":" + attempt;
+    }
+
+    public static ReviewClassificationTask decode(String value) {
+        int separator = value.lastIndexOf(':');
+        if (separator < 0) {
+            return first(UUID.fromString(value));
+        }
+        return new ReviewClassificationTask(
+            UUID.fromString(value.substring(0, separator)),
+            Integer.parseInt(value.substring(separator + 1))
+        );
+    }
+}
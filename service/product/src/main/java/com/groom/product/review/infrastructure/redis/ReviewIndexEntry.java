@@ -0,0 +1,26 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 상품 리뷰 인덱스 항목 (정렬 점수 계산용)
+ */
+public record ReviewIndexEntry(
+    UUID reviewId,
+    LocalDateTime createdAt,
+    int likeCount
+) {
+
+    // 좋아요 점수에서 작성 시각이 차지하는 자릿수 (epoch seconds < 10^10)
+    private static final double LIKE_WEIGHT = 1e10;
+
+    public double latestScore() {
+        return createdAt.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public double likeScore() {
+        return likeCount * LIKE_WEIGHT + latestScore();
+    }
+}
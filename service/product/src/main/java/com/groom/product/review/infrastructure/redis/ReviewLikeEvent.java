@@ -0,0 +1,27 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 좋아요 변경 이벤트 (DB 반영 대기 로그 항목)
+ * 로그에는 "reviewId:userId:1|0" 문자열로 저장 (1 = 좋아요, 0 = 취소)
+ */
+public record ReviewLikeEvent(
+    UUID reviewId,
+    UUID userId,
+    boolean liked
+) {
+
+    public String encode() {
+        return reviewId + ":" + userId + ":" + (liked ? 1 : 0);
+    }
+
+    public static ReviewLikeEvent decode(String value) {
+        String[] parts = value.split(":");
+        return new ReviewLikeEvent(
+            UUID.fromString(parts[0]),
+            UUID.fromString(parts[1]),
+            "1".equals(parts[2])
+        );
+    }
+}
@@ -0,0 +1,182 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 좋아요 Redis 저장소 (write-behind)
+ *
+ * 키: review:like:users:{reviewId} (SET, 좋아요 사용자 + 시드 마커)
+ * 키: review:like:events (LIST, DB 반영 대기 로그)
+ * 키: review:like:dirty (SET, 좋아요 수 DB 반영 대상 리뷰)
+ *
+ * - 좋아요/취소는 Lua 스크립트로 원자 처리 (SADD/SREM 결과로 멱등 판정, 변경 시에만 로그 적재)
+ * - 좋아요 수 = SCARD - 1 (시드 마커), DB에는 주기적으로 일괄 반영
+ * - 사용자 집합이 없으면 DB 좋아요 행으로 시드 후 재시도
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLikeRedisRepository {
+
+    private static final String SEED_MARKER = "*";
+    private static final Duration LIKE_SET_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> likeScript;
+    private DefaultRedisScript<Long> seedScript;
+
+    @PostConstruct
+    public void init() {
+        likeScript = new DefaultRedisScript<>();
+        likeScript.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/review_like.lua")));
+        likeScript.setResultType(List.class);
+
+        seedScript = new DefaultRedisScript<>();
+        seedScript.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/review_like_seed.lua")));
+        seedScript.setResultType(Long.class);
+    }
+
+    /**
+     * 좋아요/취소 원자 처리
+     * @param liked true: 좋아요, false: 취소
+     */
+    public LikeResult toggle(UUID reviewId, UUID userId, boolean liked) {
+        List<?> result = stringRedisTemplate.execute(
+            likeScript,
+            List.of(
+                ReviewRedisKey.reviewLikeUsers(reviewId),
+                ReviewRedisKey.likeEventQueue(),
+                ReviewRedisKey.likeDirtyReviews()
+            ),
+            userId.toString(),
+            reviewId.toString(),
+            liked ? "1" : "0",
+            String.valueOf(LIKE_SET_TTL.toSeconds())
+        );
+
+        long changed = ((Number)result.get(0)).longValue();
+        long likeCount = ((Number)result.get(1)).longValue();
+        return new LikeResult(changed >= 0, changed == 1, likeCount);
+    }
+
+    /**
+     * DB 좋아요 사용자로 집합 시드 (이미 있으면 유지)
+     */
+    public void seed(UUID reviewId, Collection<UUID> userIds) {
+        List<String> args = new ArrayList<>(userIds.size() + 2);
+        args.add(String.valueOf(LIKE_SET_TTL.toSeconds()));
+        args.add(SEED_MARKER);
+        userIds.forEach(userId -> args.add(userId.toString()));
+
+        stringRedisTemplate.execute(
+            seedScript,
+            Collections.singletonList(ReviewRedisKey.reviewLikeUsers(reviewId)),
+            args.toArray()
+        );
+    }
+
+    /**
+     * DB 반영 대기 로그에서 최대 batchSize개 꺼내기
+     */
+    public List<ReviewLikeEvent> pollEvents(int batchSize) {
+        List<String> values = stringRedisTemplate.opsForList()
+            .leftPop(ReviewRedisKey.likeEventQueue(), batchSize);
+
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream().map(ReviewLikeEvent::decode).toList();
+    }
+
+    /**
+     * DB 반영 실패 시 로그 앞쪽에 원래 순서대로 되돌림 (이후 변경보다 먼저 재처리)
+     */
+    public void requeueEvents(List<ReviewLikeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<String> values = new ArrayList<>(events.stream().map(ReviewLikeEvent::encode).toList());
+        Collections.reverse(values);
+        stringRedisTemplate.opsForList().leftPushAll(ReviewRedisKey.likeEventQueue(), values);
+    }
+
+    /**
+     * 좋아요 수 반영 대상 리뷰 최대 count개 꺼내기
+     */
+    public List<UUID> popDirty(int count) {
+        List<String> values = stringRedisTemplate.opsForSet().pop(ReviewRedisKey.likeDirtyReviews(), count);
+
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream().map(UUID::fromString).toList();
+    }
+
+    public void markDirty(Collection<UUID> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(
+            ReviewRedisKey.likeDirtyReviews(),
+            reviewIds.stream().map(UUID::toString).toArray(String[]::new)
+        );
+    }
+
+    /**
+     * 리뷰별 좋아요 수 (SCARD 파이프라인)
+     * @return reviewId → 좋아요 수 (집합이 없는 리뷰는 포함되지 않음)
+     */
+    public Map<UUID, Long> countLikes(List<UUID> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            for (UUID reviewId : reviewIds) {
+                connection.setCommands().sCard(
+                    ReviewRedisKey.reviewLikeUsers(reviewId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<UUID, Long> counts = new HashMap<>();
+        for (int i = 0; i < reviewIds.size(); i++) {
+            if (results.get(i) instanceof Number size && size.longValue() > 0) {
+                counts.put(reviewIds.get(i), size.longValue() - 1);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @param seeded  false: 사용자 집합 없음 (시드 필요)
+     * @param changed false: 이미 요청한 상태 (중복 좋아요/취소)
+     */
+    public record LikeResult(
+        boolean seeded,
+        boolean changed,
+        long likeCount
+    ) {}
+}
@@ -0,0 +1,82 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인스턴스 간 작업 락 (String, SET NX + TTL)
+ *
+ * - 획득 시 실행마다 새 토큰을 값으로 저장
+ * - 해제는 토큰이 같을 때만 삭제 (Lua) → TTL 만료 후 다른 인스턴스가 잡은 락을 지우지 않음
+ * - 장시간 작업은 토큰이 같을 때만 TTL 연장 → 연장에 실패하면 소유권을 잃은 것으로 보고 중단
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLockRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private DefaultRedisScript<Long> releaseScript;
+    private DefaultRedisScript<Long> extendScript;
+
+    @PostConstruct
+    public void init() {
+        releaseScript = new DefaultRedisScript<>();
+        releaseScript.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/lock_release.lua")));
+        releaseScript.setResultType(Long.class);
+
+        extendScript = new DefaultRedisScript<>();
+        extendScript.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/lock_extend.lua")));
+        extendScript.setResultType(Long.class);
+    }
+
+    /**
+     * 락 획득
+     * @return 해제에 쓸 토큰 (이미 다른 소유자가 있으면 empty)
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 락 해제 (토큰이 일치할 때만)
+     * @return false: 이미 만료되었거나 다른 소유자의 락
+     */
+    public boolean unlock(String key, String token) {
+        Long result = stringRedisTemplate.execute(
+            releaseScript,
+            Collections.singletonList(key),
+            token
+        );
+        return result != null && result == 1;
+    }
+
+    /**
+     * 락 TTL 연장 (토큰이 일치할 때만)
+     * @return false: 이미 만료되었거나 다른 소유자의 락
+     */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = stringRedisTemplate.execute(
+            extendScript,
+            Collections.singletonList(key),
+            token,
+            String.valueOf(ttl.toMillis())
+        );
+        return result != null && result == 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.groom.product.review.infrastructure.redis;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 리뷰 인덱스 페이지 조회 결과 (정렬된 리뷰 ID, 전체 리뷰 수)
+ */
+public record ReviewPage(
+    List<UUID> reviewIds,
+    long totalElements
+) {
+}
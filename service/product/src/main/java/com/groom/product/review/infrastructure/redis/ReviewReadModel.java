@@ -3,17 +3,42 @@ package com.groom.product.review.infrastructure.redis;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.domain.entity.ReviewEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 public class ReviewReadModel {
 
     private UUID reviewId;
+    private UUID orderId;
     private UUID productId;
     private UUID userId;
     private int rating;
     private String content;
+    private ReviewCategory category;
+    private int likeCount;
     private LocalDateTime createdAt;
+
+    public static ReviewReadModel from(ReviewEntity review) {
+        return ReviewReadModel.builder()
+            .reviewId(review.getReviewId())
+            .orderId(review.getOrderId())
+            .productId(review.getProductId())
+            .userId(review.getUserId())
+            .rating(review.getRating())
+            .content(review.getContent())
+            .category(review.getCategory())
+            .likeCount(review.getLikeCount())
+            .createdAt(review.getCreatedAt())
+            .build();
+    }
 }
@@ -15,10 +15,83 @@ public final class ReviewRedisKey {
         return "review:product:" + productId;
     }
 
+    /**
+     * 상품별 리뷰 좋아요순 인덱스 (ZSET)
+     * score = likeCount × 10^10 + createdAt epoch seconds (좋아요 동률이면 최신순)
+     * value = reviewId
+     */
+    public static String productReviewLikeIndex(UUID productId) {
+        return "review:product:like:" + productId;
+    }
+
+    /**
+     * 상품별 리뷰 변경 버전 (INCR, ETag 용)
+     * 리뷰 목록/데이터뿐 아니라 평점 통계(합계/개수/분포/AI 요약) 변경 시에도 증가
+     */
+    public static String productReviewVersion(UUID productId) {
+        return "review:version:" + productId;
+    }
+
+    /**
+     * 상품별 평점 집계 (HASH: v, sum, count, r1~r5)
+     */
+    public static String productRating(UUID productId) {
+        return "review:rating:" + productId;
+    }
+
     /**
      * 리뷰 단건 데이터
      */
     public static String reviewData(UUID reviewId) {
         return "review:data:" + reviewId;
     }
+
+    /**
+     * 리뷰 AI 분류 대기열 (LIST, 값 = reviewId:attempt)
+     */
+    public static String classificationQueue() {
+        return "review:classify:queue";
+    }
+
+    /**
+     * 리뷰 좋아요 사용자 (SET, 멱등 처리 + 좋아요 수 = SCARD - 시드 마커)
+     */
+    public static String reviewLikeUsers(UUID reviewId) {
+        return "review:like:users:" + reviewId;
+    }
+
+    /**
+     * 리뷰 좋아요 변경 로그 (LIST, DB 반영 대기, 값 = reviewId:userId:1|0)
+     */
+    public static String likeEventQueue() {
+        return "review:like:events";
+    }
+
+    /**
+     * 좋아요 수 DB 반영 대상 리뷰 (SET)
+     */
+    public static String likeDirtyReviews() {
+        return "review:like:dirty";
+    }
+
+    /**
+     * 좋아요 DB 반영 락 (String, 값 = 실행 토큰, 1개 인스턴스만 반영)
+     */
+    public static String likeFlushLock() {
+        return "review:like:flush:lock";
+    }
+
+    /**
+     * 상품 AI 리뷰 요약 생성 락 (String, 값 = 실행 토큰)
+     */
+    public static String summaryLock(UUID productId) {
+        return "review:summary:lock:" + productId;
+    }
+
+    /**
+     * 전체 평점 재집계 작업 락 (String, 값 = 실행 토큰, 청크마다 TTL 연장)
+     */
+    public static String ratingRebuildLock() {
+        return "review:rating:rebuild:lock";
+    }
 }
@@ -1,90 +1,274 @@
 package com.groom.product.review.infrastructure.redis;
 
-import java.time.ZoneOffset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 상품 리뷰 Redis 읽기 모델
+ *
+ * 키: review:product:{productId} (ZSET, 최신순 인덱스)
+ * 키: review:product:like:{productId} (ZSET, 좋아요순 인덱스)
+ * 키: review:data:{reviewId} → ReviewReadModel
+ *
+ * - 인덱스는 상품의 전체 리뷰로 한 번에 구성 → ZCARD가 곧 전체 리뷰 수
+ * - 페이지 조회: 파이프라인 1회 (ZREVRANGE + ZCARD + EXPIRE) + 파이프라인 1회 (MGET + EXPIRE)
+ * - 모든 키에 TTL, 조회 시 갱신 (조회되지 않는 상품의 리뷰는 만료되어 메모리 상한 유지)
+ * - 좋아요순 점수는 좋아요 수 DB 반영 시 함께 갱신
+ */
 @Repository
 @RequiredArgsConstructor
 public class ReviewRedisRepository {
 
+    private static final Duration INDEX_TTL = Duration.ofHours(1);
+    private static final Duration DATA_TTL = Duration.ofHours(1);
+    private static final int INDEX_ADD_CHUNK = 1000;
+
     private final RedisTemplate<String, Object> reviewRedisTemplate;
 
     /**
-     * 리뷰 저장
-     * - ZSET 인덱스
-     * - 리뷰 데이터
+     * 리뷰 데이터 저장 (TTL)
      */
     public void save(ReviewReadModel review) {
-        String indexKey = ReviewRedisKey.productReviewIndex(review.getProductId());
-        String dataKey = ReviewRedisKey.reviewData(review.getReviewId());
+        reviewRedisTemplate.opsForValue()
+            .set(ReviewRedisKey.reviewData(review.getReviewId()), review, DATA_TTL);
+    }
 
-        long score = review.getCreatedAt()
-            .toEpochSecond(ZoneOffset.UTC);
+    /**
+     * 리뷰 데이터 일괄 저장 (파이프라인)
+     */
+    public void saveAll(Collection<ReviewReadModel> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
 
-        // 리뷰 데이터 저장
-        reviewRedisTemplate.opsForValue().set(dataKey, review);
+        reviewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>)operations;
+                for (ReviewReadModel review : reviews) {
+                    ops.opsForValue().set(ReviewRedisKey.reviewData(review.getReviewId()), review, DATA_TTL);
+                }
+                return null;
+            }
+        });
+    }
 
-        // 상품 리뷰 인덱스에 추가
-        reviewRedisTemplate.opsForZSet()
-            .add(indexKey, review.getReviewId().toString(), score);
+    /**
+     * 상품 리뷰 인덱스 재구성 (최신순 + 좋아요순, 기존 인덱스 대체)
+     */
+    public void replaceIndex(UUID productId, List<ReviewIndexEntry> entries) {
+        String latestKey = ReviewRedisKey.productReviewIndex(productId);
+        String likeKey = ReviewRedisKey.productReviewLikeIndex(productId);
+
+        reviewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>)operations;
+                ops.delete(List.of(latestKey, likeKey));
+
+                for (int from = 0; from < entries.size(); from += INDEX_ADD_CHUNK) {
+                    List<ReviewIndexEntry> chunk = entries.subList(from, Math.min(from + INDEX_ADD_CHUNK, entries.size()));
+
+                    Set<TypedTuple<Object>> latest = new HashSet<>();
+                    Set<TypedTuple<Object>> liked = new HashSet<>();
+                    for (ReviewIndexEntry entry : chunk) {
+                        latest.add(new DefaultTypedTuple<>(entry.reviewId().toString(), entry.latestScore()));
+                        liked.add(new DefaultTypedTuple<>(entry.reviewId().toString(), entry.likeScore()));
+                    }
+                    ops.opsForZSet().add(latestKey, latest);
+                    ops.opsForZSet().add(likeKey, liked);
+                }
+
+                ops.expire(latestKey, INDEX_TTL);
+                ops.expire(likeKey, INDEX_TTL);
+                return null;
+            }
+        });
     }
 
     /**
-     * 상품별 리뷰 조회 (최신순)
+     * 좋아요순 인덱스 점수 갱신 (ZADD XX: 인덱스에 있는 리뷰만, 인덱스가 없으면 다음 조회에서 재구성)
      */
-    public List<ReviewReadModel> findByProductId(
-        UUID productId,
-        int page,
-        int size
-    ) {
-        String indexKey = ReviewRedisKey.productReviewIndex(productId);
-
-        int start = page * size;
-        int end = start + size - 1;
-
-        Set<Object> reviewIds =
-            reviewRedisTemplate.opsForZSet()
-                .reverseRange(indexKey, start, end);
-
-        if (reviewIds == null || reviewIds.isEmpty()) {
-            return List.of();
+    public void updateLikeScores(UUID productId, List<ReviewIndexEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
         }
 
-        List<ReviewReadModel> results = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>)reviewRedisTemplate.getValueSerializer();
+        byte[] likeKey = ReviewRedisKey.productReviewLikeIndex(productId).getBytes(StandardCharsets.UTF_8);
 
-        for (Object reviewId : reviewIds) {
-            String dataKey = ReviewRedisKey.reviewData(
-                UUID.fromString(reviewId.toString())
-            );
-            ReviewReadModel review =
-                (ReviewReadModel) reviewRedisTemplate.opsForValue().get(dataKey);
+        reviewRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            for (ReviewIndexEntry entry : entries) {
+                connection.zSetCommands().zAdd(
+                    likeKey,
+                    entry.likeScore(),
+                    valueSerializer.serialize(entry.reviewId().toString()),
+                    ZAddArgs.ifExists()
+                );
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 상품 리뷰 페이지 조회 (ZREVRANGE + ZCARD, 인덱스 TTL 갱신)
+     * @return null: 인덱스 없음 (DB에서 재구성 필요)
+     */
+    public ReviewPage findPage(UUID productId, boolean sortByLike, int page, int size) {
+        String indexKey = sortByLike
+            ? ReviewRedisKey.productReviewLikeIndex(productId)
+            : ReviewRedisKey.productReviewIndex(productId);
 
-            if (review != null) {
-                results.add(review);
+        long start = (long)page * size;
+        long end = start + size - 1;
+
+        List<Object> results = reviewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>)operations;
+                ops.opsForZSet().reverseRange(indexKey, start, end);
+                ops.opsForZSet().zCard(indexKey);
+                ops.expire(indexKey, INDEX_TTL);
+                return null;
             }
+        });
+
+        long total = results.get(1) instanceof Number count ? count.longValue() : 0L;
+        if (total == 0) {
+            return null;
         }
 
-        return results;
+        List<UUID> reviewIds = new ArrayList<>();
+        if (results.get(0) instanceof Collection<?> members) {
+            members.forEach(member -> reviewIds.add(UUID.fromString(member.toString())));
+        }
+        return new ReviewPage(reviewIds, total);
     }
 
     /**
-     * 리뷰 삭제
+     * 리뷰 데이터 일괄 조회 (MGET, 데이터 TTL 갱신)
+     * @return reviewId → 읽기 모델 (만료된 리뷰는 포함되지 않음)
      */
-    public void delete(UUID productId, UUID reviewId) {
-        String indexKey = ReviewRedisKey.productReviewIndex(productId);
-        String dataKey = ReviewRedisKey.reviewData(reviewId);
+    public Map<UUID, ReviewReadModel> findAll(List<UUID> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = reviewIds.stream().map(ReviewRedisKey::reviewData).toList();
+
+        List<Object> results = reviewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>)operations;
+                ops.opsForValue().multiGet(keys);
+                keys.forEach(key -> ops.expire(key, DATA_TTL));
+                return null;
+            }
+        });
 
+        Map<UUID, ReviewReadModel> found = new HashMap<>();
+        if (results.get(0) instanceof List<?> values) {
+            for (int i = 0; i < reviewIds.size() && i < values.size(); i++) {
+                if (values.get(i) instanceof ReviewReadModel review) {
+                    found.put(reviewIds.get(i), review);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 리뷰 삭제 (인덱스 + 데이터)
+     */
+    public void delete(UUID productId, UUID reviewId) {
         reviewRedisTemplate.opsForZSet()
-            .remove(indexKey, reviewId.toString());
+            .remove(ReviewRedisKey.productReviewIndex(productId), reviewId.toString());
+        reviewRedisTemplate.opsForZSet()
+            .remove(ReviewRedisKey.productReviewLikeIndex(productId), reviewId.toString());
+
+        reviewRedisTemplate.delete(ReviewRedisKey.reviewData(reviewId));
+    }
+
+    /**
+     * 상품 리뷰 인덱스 제거 (리뷰 추가/삭제 시, 다음 조회에서 재구성)
+     */
+    public void evictIndex(UUID productId) {
+        reviewRedisTemplate.delete(List.of(
+            ReviewRedisKey.productReviewIndex(productId),
+            ReviewRedisKey.productReviewLikeIndex(productId)
+        ));
+    }
+
+    /**
+     * 리뷰 데이터 제거 (내용/평점/카테고리/좋아요 수 변경 시)
+     */
+    public void evictData(Collection<UUID> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        reviewRedisTemplate.delete(reviewIds.stream().map(ReviewRedisKey::reviewData).toList());
+    }
+
+    /**
+     * 상품 리뷰 변경 버전 증가
+     */
+    public void incrementVersion(UUID productId) {
+        reviewRedisTemplate.opsForValue()
+            .increment(ReviewRedisKey.productReviewVersion(productId));
+    }
+
+    /**
+     * 다수 상품 리뷰 변경 버전 증가 (파이프라인, 전체 재집계 청크 단위)
+     */
+    public void incrementVersions(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        reviewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>)operations;
+                productIds.forEach(productId ->
+                    ops.opsForValue().increment(ReviewRedisKey.productReviewVersion(productId)));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 상품 리뷰 변경 버전 조회 (없으면 0)
+     */
+    public long getVersion(UUID productId) {
+        Object version = reviewRedisTemplate.opsForValue()
+            .get(ReviewRedisKey.productReviewVersion(productId));
 
-        reviewRedisTemplate.delete(dataKey);
+        return version instanceof Number number ? number.longValue() : 0L;
     }
 }
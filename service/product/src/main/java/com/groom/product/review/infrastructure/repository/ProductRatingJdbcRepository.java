@@ -0,0 +1,108 @@
+package com.groom.product.review.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.review.application.dto.ProductRatingDelta;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 평점 집계 전용 JDBC Repository
+ *
+ * - 엔티티 조회/@Version 비교 없이 INSERT ... ON CONFLICT DO UPDATE 1회로 (합계, 개수, 별점 분포) 증감
+ * - 행 잠금은 해당 문장 실행 동안만 유지 → 동시 리뷰 작성/수정/삭제 간 낙관적 락 충돌 없음
+ * - avg_rating은 정확한 합계/개수로 같은 문장에서 재계산, version은 ETag 무효화를 위해 증가
+ * - 신규 리뷰 수(new_review_count)도 같은 문장에서 누적 (AI 요약 재생성 기준)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductRatingJdbcRepository {
+
+	private static final String APPLY_DELTA = """
+		INSERT INTO p_product_rating (
+			product_rating_id, product_id, rating_sum, review_count, avg_rating,
+			rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+			new_review_count, version, created_at, updated_at
+		)
+		VALUES (
+			gen_random_uuid(), :productId, GREATEST(:sumDelta, 0), GREATEST(:countDelta, 0),
+			CASE WHEN :countDelta > 0 THEN ROUND(GREATEST(:sumDelta, 0)::numeric / :countDelta, 1) ELSE 0 END,
+			GREATEST(:star1, 0), GREATEST(:star2, 0), GREATEST(:star3, 0), GREATEST(:star4, 0), GREATEST(:star5, 0),
+			GREATEST(:countDelta, 0), 0, now(), now()
+		)
+		ON CONFLICT (product_id) DO UPDATE
+		SET rating_sum = GREATEST(p_product_rating.rating_sum + :sumDelta, 0),
+			review_count = GREATEST(p_product_rating.review_count + :countDelta, 0),
+			avg_rating = CASE
+				WHEN p_product_rating.review_count + :countDelta > 0
+				THEN ROUND((p_product_rating.rating_sum + :sumDelta)::numeric
+					/ (p_product_rating.review_count + :countDelta), 1)
+				ELSE 0 END,
+			rating_1_count = GREATEST(p_product_rating.rating_1_count + :star1, 0),
+			rating_2_count = GREATEST(p_product_rating.rating_2_count + :star2, 0),
+			rating_3_count = GREATEST(p_product_rating.rating_3_count + :star3, 0),
+			rating_4_count = GREATEST(p_product_rating.rating_4_count + :star4, 0),
+			rating_5_count = GREATEST(p_product_rating.rating_5_count + :star5, 0),
+			new_review_count = p_product_rating.new_review_count + GREATEST(:countDelta, 0),
+			version = COALESCE(p_product_rating.version, 0) + 1,
+			updated_at = now()
+		RETURNING rating_sum, review_count,
+			rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, version
+		""";
+
+	private static final String UPDATE_AI_REVIEW = """
+		UPDATE p_product_rating
+		SET ai_review = :aiReview,
+			new_review_count = GREATEST(new_review_count - :consumed, 0),
+			ai_review_generated_at = now(),
+			version = COALESCE(version, 0) + 1,
+			updated_at = now()
+		WHERE product_id = :productId
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * 평점 합계/리뷰 수/별점 분포 원자적 증감 (행이 없으면 생성)
+	 * @return 반영 직후 집계 값과 버전 (캐시 갱신용)
+	 */
+	public ProductRatingSummary applyDelta(UUID productId, ProductRatingDelta delta) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("productId", productId)
+			.addValue("sumDelta", delta.sumDelta())
+			.addValue("countDelta", delta.countDelta());
+		for (int star = 1; star <= ProductRatingDelta.MAX_RATING; star++) {
+			params.addValue("star" + star, delta.starDelta(star));
+		}
+		return namedParameterJdbcTemplate.queryForObject(APPLY_DELTA, params, (rs, rowNum) -> new ProductRatingSummary(
+			rs.getLong("rating_sum"),
+			rs.getLong("review_count"),
+			List.of(
+				rs.getInt("rating_1_count"),
+				rs.getInt("rating_2_count"),
+				rs.getInt("rating_3_count"),
+				rs.getInt("rating_4_count"),
+				rs.getInt("rating_5_count")
+			),
+			rs.getLong("version")
+		));
+	}
+
+	/**
+	 * AI 요약 저장 (단일 UPDATE)
+	 * 요약에 반영한 신규 리뷰 수만 차감 → 요약 생성 중 들어온 리뷰는 다음 주기에 반영
+	 * @return false: 평점 집계 행 없음
+	 */
+	public boolean updateAiReview(UUID productId, String aiReview, int consumedNewReviews) {
+		return namedParameterJdbcTemplate.update(UPDATE_AI_REVIEW, new MapSqlParameterSource()
+			.addValue("productId", productId)
+			.addValue("aiReview", aiReview)
+			.addValue("consumed", consumedNewReviews)) > 0;
+	}
+}
@@ -0,0 +1,260 @@
+package com.groom.product.review.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 평점 전체 재집계 JDBC Repository
+ *
+ * - 상품 ID는 PK 순 keyset 조회 (파티션 범위 + 체크포인트 이후)
+ * - 청크 상품의 합계/개수/별점 분포를 GROUP BY 1회로 집계
+ * - 집계 결과는 배치 upsert, 값이 같은 행은 갱신하지 않음 (version/캐시 무효화 최소화)
+ * - 체크포인트는 읽은 위치에서만 전진 (다른 실행이 먼저 전진시켰으면 갱신 0건)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductRatingRebuildJdbcRepository {
+
+	private static final String COUNT_PRODUCTS = "SELECT COUNT(*) FROM p_product";
+
+	private static final String FIND_PRODUCT_IDS = """
+		SELECT product_id
+		FROM p_product
+		WHERE product_id %s :start %s
+		ORDER BY product_id
+		LIMIT :limit
+		""";
+
+	private static final String AGGREGATE_RATINGS = """
+		SELECT product_id,
+			SUM(rating) AS rating_sum,
+			COUNT(*) AS review_count,
+			COUNT(*) FILTER (WHERE rating = 1) AS rating_1_count,
+			COUNT(*) FILTER (WHERE rating = 2) AS rating_2_count,
+			COUNT(*) FILTER (WHERE rating = 3) AS rating_3_count,
+			COUNT(*) FILTER (WHERE rating = 4) AS rating_4_count,
+			COUNT(*) FILTER (WHERE rating = 5) AS rating_5_count
+		FROM p_review
+		WHERE product_id IN (:productIds)
+			AND deleted_at IS NULL
+		GROUP BY product_id
+		""";
+
+	private static final String UPSERT_RATING = """
+		INSERT INTO p_product_rating (
+			product_rating_id, product_id, rating_sum, review_count, avg_rating,
+			rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+			new_review_count, version, created_at, updated_at
+		)
+		VALUES (
+			gen_random_uuid(), :productId, :ratingSum, :reviewCount,
+			ROUND(:ratingSum::numeric / :reviewCount, 1),
+			:rating1, :rating2, :rating3, :rating4, :rating5,
+			:reviewCount, 0, now(), now()
+		)
+		ON CONFLICT (product_id) DO UPDATE
+		SET rating_sum = EXCLUDED.rating_sum,
+			review_count = EXCLUDED.review_count,
+			avg_rating = EXCLUDED.avg_rating,
+			rating_1_count = EXCLUDED.rating_1_count,
+			rating_2_count = EXCLUDED.rating_2_count,
+			rating_3_count = EXCLUDED.rating_3_count,
+			rating_4_count = EXCLUDED.rating_4_count,
+			rating_5_count = EXCLUDED.rating_5_count,
+			version = COALESCE(p_product_rating.version, 0) + 1,
+			updated_at = now()
+		WHERE (p_product_rating.rating_sum, p_product_rating.review_count,
+				p_product_rating.rating_1_count, p_product_rating.rating_2_count, p_product_rating.rating_3_count,
+				p_product_rating.rating_4_count, p_product_rating.rating_5_count)
+			IS DISTINCT FROM (EXCLUDED.rating_sum, EXCLUDED.review_count,
+				EXCLUDED.rating_1_count, EXCLUDED.rating_2_count, EXCLUDED.rating_3_count,
+				EXCLUDED.rating_4_count, EXCLUDED.rating_5_count)
+		""";
+
+	private static final String RESET_RATING = """
+		UPDATE p_product_rating
+		SET rating_sum = 0, review_count = 0, avg_rating = 0,
+			rating_1_count = 0, rating_2_count = 0, rating_3_count = 0, rating_4_count = 0, rating_5_count = 0,
+			version = COALESCE(version, 0) + 1,
+			updated_at = now()
+		WHERE product_id = :productId
+			AND (rating_sum <> 0 OR review_count <> 0
+				OR rating_1_count <> 0 OR rating_2_count <> 0 OR rating_3_count <> 0
+				OR rating_4_count <> 0 OR rating_5_count <> 0)
+		""";
+
+	private static final String ADVANCE_CHECKPOINT = """
+		UPDATE p_product_rating_rebuild_checkpoint
+		SET last_product_id = :lastProductId,
+			processed_products = processed_products + :processed,
+			updated_at = now()
+		WHERE job_id = :jobId AND partition_no = :partitionNo
+			AND last_product_id IS NOT DISTINCT FROM CAST(:previousProductId AS uuid)
+		""";
+
+	private static final String COMPLETE_CHECKPOINT = """
+		UPDATE p_product_rating_rebuild_checkpoint
+		SET completed = true, updated_at = now()
+		WHERE job_id = :jobId AND partition_no = :partitionNo
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public long countProducts() {
+		Long count = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(COUNT_PRODUCTS, Long.class);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * 파티션 범위 [lowerBound, upperBound) 안에서 after 다음 상품 ID (PK 순)
+	 * @param after      null: 파티션 처음부터
+	 * @param upperBound null: 상한 없음
+	 */
+	public List<UUID> findProductIds(UUID lowerBound, UUID upperBound, UUID after, int limit) {
+		String sql = FIND_PRODUCT_IDS.formatted(
+			after == null ? ">=" : ">",
+			upperBound == null ? "" : "AND product_id < :upperBound"
+		);
+
+		return namedParameterJdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+				.addValue("start", after == null ? lowerBound : after)
+				.addValue("upperBound", upperBound)
+				.addValue("limit", limit),
+			UUID.class);
+	}
+
+	/**
+	 * 청크 상품 평점 재집계 (집계 1회 + upsert 배치 + 리뷰 없는 상품 초기화 배치)
+	 * 호출 측 트랜잭션에서 실행
+	 * @return 값이 바뀐 상품 ID
+	 */
+	public List<UUID> rebuild(List<UUID> productIds) {
+		List<RatingAggregate> aggregates = aggregate(productIds);
+		Set<UUID> reviewed = aggregates.stream()
+			.map(RatingAggregate::productId)
+			.collect(Collectors.toSet());
+		List<UUID> unreviewed = productIds.stream()
+			.filter(productId -> !reviewed.contains(productId))
+			.toList();
+
+		List<UUID> changed = new ArrayList<>(upsertRatings(aggregates));
+		changed.addAll(resetRatings(unreviewed));
+		return changed;
+	}
+
+	/**
+	 * 청크 상품 평점 집계 (GROUP BY 1회, 리뷰가 없는 상품은 결과에 없음)
+	 */
+	public List<RatingAggregate> aggregate(Collection<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		return namedParameterJdbcTemplate.query(AGGREGATE_RATINGS,
+			new MapSqlParameterSource("productIds", productIds),
+			(rs, rowNum) -> new RatingAggregate(
+				rs.getObject("product_id", UUID.class),
+				rs.getLong("rating_sum"),
+				rs.getInt("review_count"),
+				new int[] {
+					rs.getInt("rating_1_count"),
+					rs.getInt("rating_2_count"),
+					rs.getInt("rating_3_count"),
+					rs.getInt("rating_4_count"),
+					rs.getInt("rating_5_count")
+				}
+			));
+	}
+
+	/**
+	 * 집계 결과 배치 upsert
+	 * @return 값이 바뀐 상품 ID
+	 */
+	public List<UUID> upsertRatings(List<RatingAggregate> aggregates) {
+		if (aggregates.isEmpty()) {
+			return List.of();
+		}
+
+		MapSqlParameterSource[] params = aggregates.stream()
+			.map(aggregate -> new MapSqlParameterSource()
+				.addValue("productId", aggregate.productId())
+				.addValue("ratingSum", aggregate.ratingSum())
+				.addValue("reviewCount", aggregate.reviewCount())
+				.addValue("rating1", aggregate.histogram()[0])
+				.addValue("rating2", aggregate.histogram()[1])
+				.addValue("rating3", aggregate.histogram()[2])
+				.addValue("rating4", aggregate.histogram()[3])
+				.addValue("rating5", aggregate.histogram()[4]))
+			.toArray(MapSqlParameterSource[]::new);
+
+		return changed(namedParameterJdbcTemplate.batchUpdate(UPSERT_RATING, params),
+			aggregates.stream().map(RatingAggregate::productId).toList());
+	}
+
+	/**
+	 * 리뷰가 없는 상품의 평점 행 초기화 (행이 없으면 만들지 않음)
+	 * @return 값이 바뀐 상품 ID
+	 */
+	public List<UUID> resetRatings(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		MapSqlParameterSource[] params = productIds.stream()
+			.map(productId -> new MapSqlParameterSource("productId", productId))
+			.toArray(MapSqlParameterSource[]::new);
+
+		return changed(namedParameterJdbcTemplate.batchUpdate(RESET_RATING, params), productIds);
+	}
+
+	/**
+	 * 체크포인트 전진 (저장된 위치가 previousProductId일 때만)
+	 * @param previousProductId 청크를 읽기 시작한 위치 (null: 파티션 처음)
+	 * @return false: 다른 실행이 이미 전진시킴
+	 */
+	public boolean advanceCheckpoint(UUID jobId, int partitionNo, UUID previousProductId, UUID lastProductId,
+		int processed) {
+		return namedParameterJdbcTemplate.update(ADVANCE_CHECKPOINT, new MapSqlParameterSource()
+			.addValue("jobId", jobId)
+			.addValue("partitionNo", partitionNo)
+			.addValue("previousProductId", previousProductId)
+			.addValue("lastProductId", lastProductId)
+			.addValue("processed", processed)) > 0;
+	}
+
+	public void completeCheckpoint(UUID jobId, int partitionNo) {
+		namedParameterJdbcTemplate.update(COMPLETE_CHECKPOINT, new MapSqlParameterSource()
+			.addValue("jobId", jobId)
+			.addValue("partitionNo", partitionNo));
+	}
+
+	private static List<UUID> changed(int[] counts, List<UUID> productIds) {
+		List<UUID> changed = new ArrayList<>();
+		for (int i = 0; i < counts.length && i < productIds.size(); i++) {
+			if (counts[i] > 0) {
+				changed.add(productIds.get(i));
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * @param histogram 1~5점 리뷰 수 (index 0 = 1점)
+	 */
+	public record RatingAggregate(
+		UUID productId,
+		long ratingSum,
+		int reviewCount,
+		int[] histogram
+	) {}
+}
@@ -0,0 +1,60 @@
+package com.groom.product.review.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 분류 결과 일괄 반영 JDBC Repository
+ *
+ * - 분류 배치 결과를 batchUpdate 1회로 반영
+ * - PENDING이고 분류 시점의 내용과 같은 행만 갱신 → 분류 중 내용이 수정되면 새 분류 요청 결과를 덮어쓰지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewCategoryJdbcRepository {
+
+	private static final String UPDATE_PENDING_CATEGORY = """
+		UPDATE p_review
+		SET category = ?, updated_at = now()
+		WHERE review_id = ? AND category = 'PENDING' AND content = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 갱신된 행 수
+	 */
+	public int updatePendingCategories(List<CategoryUpdate> updates) {
+		if (updates.isEmpty()) {
+			return 0;
+		}
+
+		int[][] results = jdbcTemplate.batchUpdate(UPDATE_PENDING_CATEGORY, updates, updates.size(),
+			(ps, update) -> {
+				ps.setString(1, update.category().name());
+				ps.setObject(2, update.reviewId());
+				ps.setString(3, update.content());
+			});
+
+		int updated = 0;
+		for (int[] batch : results) {
+			for (int count : batch) {
+				updated += Math.max(count, 0);
+			}
+		}
+		return updated;
+	}
+
+	public record CategoryUpdate(
+		UUID reviewId,
+		String content,
+		ReviewCategory category
+	) {}
+}
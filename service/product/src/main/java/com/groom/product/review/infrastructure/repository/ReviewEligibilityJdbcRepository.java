@@ -0,0 +1,73 @@
+package com.groom.product.review.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성 자격 적재/정리 JDBC Repository
+ *
+ * - 적재: 주문 상품 단위 INSERT ON CONFLICT DO NOTHING 배치 → 이벤트 재전달에도 멱등
+ * - 정리: 보관 기간이 지난 행을 배치 크기만큼 DELETE (긴 잠금/대량 WAL 방지)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewEligibilityJdbcRepository {
+
+	private static final String INSERT_ELIGIBILITY = """
+		INSERT INTO p_review_eligibility (order_id, product_id, buyer_id, confirmed_at)
+		VALUES (?, ?, ?, ?)
+		ON CONFLICT (order_id, product_id) DO NOTHING
+		""";
+
+	private static final String DELETE_BY_ORDER = """
+		DELETE FROM p_review_eligibility
+		WHERE order_id = ?
+		""";
+
+	private static final String DELETE_EXPIRED = """
+		DELETE FROM p_review_eligibility
+		WHERE (order_id, product_id) IN (
+			SELECT order_id, product_id
+			FROM p_review_eligibility
+			WHERE confirmed_at < ?
+			LIMIT ?
+		)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertAll(UUID orderId, UUID buyerId, Collection<UUID> productIds, LocalDateTime confirmedAt) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		List<UUID> rows = new ArrayList<>(productIds);
+		Timestamp timestamp = Timestamp.valueOf(confirmedAt);
+		jdbcTemplate.batchUpdate(INSERT_ELIGIBILITY, rows, rows.size(), (ps, productId) -> {
+			ps.setObject(1, orderId);
+			ps.setObject(2, productId);
+			ps.setObject(3, buyerId);
+			ps.setTimestamp(4, timestamp);
+		});
+	}
+
+	public int deleteByOrderId(UUID orderId) {
+		return jdbcTemplate.update(DELETE_BY_ORDER, orderId);
+	}
+
+	/**
+	 * @return 삭제한 행 수 (limit과 같으면 남은 행이 있을 수 있음)
+	 */
+	public int deleteExpired(LocalDateTime before, int limit) {
+		return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(before), limit);
+	}
+}
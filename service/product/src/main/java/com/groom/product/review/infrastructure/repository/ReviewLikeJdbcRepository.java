@@ -0,0 +1,84 @@
+package com.groom.product.review.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.product.review.infrastructure.redis.ReviewLikeEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 좋아요 write-behind 반영 JDBC Repository
+ *
+ * - 좋아요 행: 같은 (리뷰, 사용자)는 마지막 변경만 반영, INSERT ON CONFLICT / DELETE 배치
+ * - 좋아요 수: Redis 집계값(절대값)으로 UPDATE 배치 → 재반영해도 결과 동일
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLikeJdbcRepository {
+
+	private static final String INSERT_LIKE = """
+		INSERT INTO p_review_like (id, review_id, user_id, created_at, created_by, updated_at)
+		VALUES (?, ?, ?, now(), ?, now())
+		ON CONFLICT (review_id, user_id)
+		DO UPDATE SET deleted_at = NULL, deleted_by = NULL, updated_at = now()
+		""";
+
+	private static final String DELETE_LIKE = """
+		DELETE FROM p_review_like
+		WHERE review_id = ? AND user_id = ?
+		""";
+
+	private static final String UPDATE_LIKE_COUNT = """
+		UPDATE p_review
+		SET like_count = ?
+		WHERE review_id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Transactional
+	public void applyLikeEvents(List<ReviewLikeEvent> events) {
+		Map<String, ReviewLikeEvent> latest = new LinkedHashMap<>();
+		events.forEach(event -> latest.put(event.reviewId() + ":" + event.userId(), event));
+
+		List<ReviewLikeEvent> likes = new ArrayList<>();
+		List<ReviewLikeEvent> unlikes = new ArrayList<>();
+		latest.values().forEach(event -> (event.liked() ? likes : unlikes).add(event));
+
+		if (!likes.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_LIKE, likes, likes.size(), (ps, event) -> {
+				ps.setObject(1, UUID.randomUUID());
+				ps.setObject(2, event.reviewId());
+				ps.setObject(3, event.userId());
+				ps.setString(4, event.userId().toString());
+			});
+		}
+
+		if (!unlikes.isEmpty()) {
+			jdbcTemplate.batchUpdate(DELETE_LIKE, unlikes, unlikes.size(), (ps, event) -> {
+				ps.setObject(1, event.reviewId());
+				ps.setObject(2, event.userId());
+			});
+		}
+	}
+
+	public void updateLikeCounts(Map<UUID, Long> likeCounts) {
+		if (likeCounts.isEmpty()) {
+			return;
+		}
+
+		List<Map.Entry<UUID, Long>> entries = new ArrayList<>(likeCounts.entrySet());
+		jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT, entries, entries.size(), (ps, entry) -> {
+			ps.setInt(1, entry.getValue().intValue());
+			ps.setObject(2, entry.getKey());
+		});
+	}
+}
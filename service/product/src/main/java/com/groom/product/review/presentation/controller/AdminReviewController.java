@@ -3,12 +3,15 @@ package com.groom.product.review.presentation.controller;
 import java.util.UUID;
 
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.groom.product.review.application.service.ProductRatingRebuildService;
 import com.groom.product.review.application.service.ReviewAiSummaryService;
+import com.groom.product.review.presentation.dto.response.ProductRatingRebuildJobResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminReviewController {
 
 	private final ReviewAiSummaryService reviewAiSummaryService;
+	private final ProductRatingRebuildService productRatingRebuildService;
 
 	@Operation(summary = "관리자가 실행 시키는 ai 리뷰 생성")
 	@PostMapping("/{productId}/ai-summary")
@@ -27,4 +31,22 @@ public class AdminReviewController {
 		reviewAiSummaryService.generate(productId);
 	}
 
+	@Operation(summary = "전체 상품 평점 재집계 시작 (중단된 작업은 이어서 재개)")
+	@PostMapping("/ratings/rebuild")
+	public ProductRatingRebuildJobResponse rebuildRatings() {
+		return productRatingRebuildService.startOrResume();
+	}
+
+	@Operation(summary = "전체 상품 평점 재집계 진행 상태 조회")
+	@GetMapping("/ratings/rebuild/{jobId}")
+	public ProductRatingRebuildJobResponse getRebuildJob(@PathVariable UUID jobId) {
+		return productRatingRebuildService.getJob(jobId);
+	}
+
+	@Operation(summary = "단일 상품 평점 재집계")
+	@PostMapping("/{productId}/rating/rebuild")
+	public void rebuildRating(@PathVariable UUID productId) {
+		productRatingRebuildService.rebuild(productId);
+	}
+
 }
@@ -2,11 +2,13 @@ package com.groom.product.review.presentation.controller;
 
 import java.util.UUID;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.groom.product.review.application.service.ReviewQueryService;
 import com.groom.product.review.presentation.dto.response.ProductReviewResponse;
@@ -23,13 +25,22 @@ public class ProductReviewController {
 
 	@Operation(summary = "상품 리뷰 목록 + ai 분석 리뷰")
 	@GetMapping("/product/{productId}/")
-	public ProductReviewResponse getProductReviews(
+	public ResponseEntity<ProductReviewResponse> getProductReviews(
 		@PathVariable UUID productId,
 		@RequestParam(defaultValue = "0") int page,
-		@RequestParam(defaultValue = "10") int size
+		@RequestParam(defaultValue = "10") int size,
+		@RequestParam(defaultValue = "latest") String sort,
+		WebRequest webRequest
 	) {
-
-		return reviewQueryService.getProductReviews(productId, page, size);
+		// 리뷰/평점 버전이 같으면 본문 없이 304
+		String etag = reviewQueryService.getProductReviewsETag(productId);
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+
+		return ResponseEntity.ok()
+			.eTag(etag)
+			.body(reviewQueryService.getProductReviews(productId, page, size, sort));
 	}
 
 }
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.common.util.SecurityUtil;
+import com.groom.product.review.application.service.ReviewLikeService;
 import com.groom.product.review.application.service.ReviewService;
 import com.groom.product.review.presentation.dto.request.CreateReviewRequest;
 import com.groom.product.review.presentation.dto.request.UpdateReviewRequest;
@@ -32,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class ReviewController {
 
 	private final ReviewService reviewService;
+	private final ReviewLikeService reviewLikeService;
 
 	/*
 	 * 인증 사용자 ID 조회
@@ -106,13 +108,13 @@ public class ReviewController {
 	@PostMapping("/{reviewId}/like")
 	public int likeReview(@PathVariable UUID reviewId) {
 		UUID userId = getCurrentUserId();
-		return reviewService.likeReview(reviewId, userId);
+		return reviewLikeService.likeReview(reviewId, userId);
 	}
 
 	@Operation(summary = "리뷰 좋아요 취소")
 	@DeleteMapping("/{reviewId}/like")
 	public int unlikeReview(@PathVariable UUID reviewId) {
 		UUID userId = getCurrentUserId();
-		return reviewService.unlikeReview(reviewId, userId);
+		return reviewLikeService.unlikeReview(reviewId, userId);
 	}
 }
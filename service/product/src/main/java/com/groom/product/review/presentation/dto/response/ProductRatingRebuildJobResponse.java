@@ -0,0 +1,47 @@
+package com.groom.product.review.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.product.review.domain.entity.ProductRatingRebuildCheckpoint;
+import com.groom.product.review.domain.entity.ProductRatingRebuildJob;
+import com.groom.product.review.domain.entity.ProductRatingRebuildStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 평점 전체 재집계 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class ProductRatingRebuildJobResponse {
+
+	private UUID jobId;
+	private ProductRatingRebuildStatus status;
+	private int partitions;
+	private int completedPartitions;
+	private long totalProducts;     // 시작 시점 상품 수 (추정치)
+	private long processedProducts;
+	private String failureReason;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+
+	public static ProductRatingRebuildJobResponse of(
+		ProductRatingRebuildJob job,
+		List<ProductRatingRebuildCheckpoint> checkpoints
+	) {
+		return ProductRatingRebuildJobResponse.builder()
+			.jobId(job.getId())
+			.status(job.getStatus())
+			.partitions(job.getPartitions())
+			.completedPartitions((int)checkpoints.stream().filter(ProductRatingRebuildCheckpoint::isCompleted).count())
+			.totalProducts(job.getTotalProducts())
+			.processedProducts(checkpoints.stream().mapToLong(ProductRatingRebuildCheckpoint::getProcessedProducts).sum())
+			.failureReason(job.getFailureReason())
+			.startedAt(job.getStartedAt())
+			.finishedAt(job.getFinishedAt())
+			.build();
+	}
+}
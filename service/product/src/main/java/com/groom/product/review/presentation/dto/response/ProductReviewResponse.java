@@ -10,6 +10,7 @@ import lombok.Getter;
 public class ProductReviewResponse {
 	private Double avgRating;      // 추가: 평균 별점
 	private Integer reviewCount;   // 추가: 전체 리뷰 수
+	private List<Integer> ratingDistribution; // 1~5점 리뷰 수 (index 0 = 1점)
 	private String aiReview;       // 기존 요약
 	private List<ReviewResponse> reviews;
 	private PaginationResponse pagination; // 추가: 페이징 메타데이터
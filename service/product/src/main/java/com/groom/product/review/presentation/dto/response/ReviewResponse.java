@@ -37,11 +37,13 @@ public class ReviewResponse {
 	public static ReviewResponse fromReadModel(ReviewReadModel readModel) {
 		return ReviewResponse.builder()
 			.reviewId(readModel.getReviewId())
+			.orderId(readModel.getOrderId())
+			.productId(readModel.getProductId())
 			.userId(readModel.getUserId())
 			.rating(readModel.getRating())
 			.content(readModel.getContent())
+			.category(readModel.getCategory())
 			.createdAt(readModel.getCreatedAt())
-			.rating(0) //Redis read model does not contain rating
 			.build();
 	}
 }
@@ -0,0 +1,6 @@
+-- Category 하위 트리 조회 (path LIKE '/{rootId}/.../%') 인덱스
+-- text_pattern_ops: DB 로케일(collation)이 C가 아니어도 접두 LIKE가 인덱스 범위 검색으로 처리됨
+-- (JPA @Index로는 연산자 클래스를 지정할 수 없어 기본 btree 인덱스는 제거하고 여기서 생성)
+DROP INDEX IF EXISTS idx_category_path;
+
+CREATE INDEX IF NOT EXISTS idx_category_path_pattern ON p_category (path text_pattern_ops);
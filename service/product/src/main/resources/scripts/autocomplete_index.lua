@@ -0,0 +1,52 @@
+-- Autocomplete index update (index, re-index on title change, remove)
+-- KEYS[1]: lexicographic index ZSET (member: normalized term + separator + productId)
+-- KEYS[2]: title HASH (productId -> original title)
+-- KEYS[3 .. 2+ARGV[7]]: per-prefix top-K ZSETs of the previous title
+-- KEYS[3+ARGV[7] ..]: per-prefix top-K ZSETs of the new title
+-- ARGV[1]: productId
+-- ARGV[2]: expected previous title ("" if the product is not indexed)
+-- ARGV[3]: new title ("" to remove the product)
+-- ARGV[4]: popularity score for the top-K ZSETs
+-- ARGV[5]: top-K size per prefix
+-- ARGV[6]: number of previous index members (m)
+-- ARGV[7]: number of previous top-K keys
+-- ARGV[8 .. 7+m]: previous index members
+-- ARGV[8+m ..]: new index members
+--
+-- The stored title is compared first, so a concurrent update of the same product makes this
+-- call a no-op instead of leaving members of both titles in the index.
+--
+-- Returns: 1 if applied, 0 if the stored title no longer matches ARGV[2]
+
+local productId = ARGV[1]
+local current = redis.call('HGET', KEYS[2], productId) or ''
+if current ~= ARGV[2] then
+    return 0
+end
+
+local score = ARGV[4]
+local topK = tonumber(ARGV[5])
+local staleMemberCount = tonumber(ARGV[6])
+local staleKeyCount = tonumber(ARGV[7])
+
+for i = 8, 7 + staleMemberCount do
+    redis.call('ZREM', KEYS[1], ARGV[i])
+end
+for i = 8 + staleMemberCount, #ARGV do
+    redis.call('ZADD', KEYS[1], 0, ARGV[i])
+end
+
+for i = 3, 2 + staleKeyCount do
+    redis.call('ZREM', KEYS[i], productId)
+end
+for i = 3 + staleKeyCount, #KEYS do
+    redis.call('ZADD', KEYS[i], score, productId)
+    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(topK + 1))
+end
+
+if ARGV[3] == '' then
+    redis.call('HDEL', KEYS[2], productId)
+else
+    redis.call('HSET', KEYS[2], productId, ARGV[3])
+end
+return 1
@@ -0,0 +1,24 @@
+-- Autocomplete popularity update
+-- KEYS[1]: title HASH (productId -> original title)
+-- KEYS[2..]: per-prefix top-K ZSETs of the title
+-- ARGV[1]: productId
+-- ARGV[2]: title the top-K keys were derived from
+-- ARGV[3]: popularity score
+-- ARGV[4]: top-K size per prefix
+--
+-- A product that is no longer in the top K of a prefix is trimmed right away, and one
+-- whose score rises is added back, so each ZSET keeps the K best-scored products.
+--
+-- Returns: 1 if applied, 0 if the product is not indexed under ARGV[2]
+
+local productId = ARGV[1]
+if redis.call('HGET', KEYS[1], productId) ~= ARGV[2] then
+    return 0
+end
+
+local topK = tonumber(ARGV[4])
+for i = 2, #KEYS do
+    redis.call('ZADD', KEYS[i], ARGV[3], productId)
+    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(topK + 1))
+end
+return 1
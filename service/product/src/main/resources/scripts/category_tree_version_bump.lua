@@ -0,0 +1,15 @@
+-- Category tree version bump (snapshot reload signal + ETag source)
+-- KEYS[1]: version key ("category:tree:version")
+-- ARGV[1]: base version for a missing key (epoch millis)
+--
+-- A key lost to a flush or failover restarts from the current time instead of 1, so it
+-- never repeats a version (ETag) issued for an earlier tree.
+--
+-- Returns: new version
+
+local version = redis.call('INCR', KEYS[1])
+if version == 1 then
+    redis.call('SET', KEYS[1], ARGV[1])
+    return tonumber(ARGV[1])
+end
+return version
@@ -0,0 +1,13 @@
+-- Lock TTL extension (compare-and-expire)
+-- KEYS[1]: lock key (e.g., "review:rating:rebuild:lock")
+-- ARGV[1]: token written when the lock was acquired
+-- ARGV[2]: new TTL milliseconds
+--
+-- Returns:
+--   1: extended
+--   0: not the owner (or already expired)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,15 @@
+-- Lock release (compare-and-delete)
+-- KEYS[1]: lock key (e.g., "review:summary:lock:{productId}")
+-- ARGV[1]: token written when the lock was acquired
+--
+-- A lock that expired and was taken by another owner keeps its new token, so only the
+-- owner that wrote ARGV[1] can delete it.
+--
+-- Returns:
+--   1: released
+--   0: not the owner (or already expired)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,17 @@
+-- Product detail version bump (ETag source)
+-- KEYS[i]: version key (e.g., "product:version:{productId}")
+-- ARGV[1]: base version for a missing key (epoch millis)
+-- ARGV[2]: TTL seconds
+--
+-- Version keys expire with their detail entries. A key recreated after expiry starts from
+-- the current time instead of 1, so it never repeats a version (ETag) issued before.
+--
+-- Returns: number of keys bumped
+
+for _, key in ipairs(KEYS) do
+    if redis.call('INCR', key) == 1 then
+        redis.call('SET', key, ARGV[1])
+    end
+    redis.call('EXPIRE', key, ARGV[2])
+end
+return #KEYS
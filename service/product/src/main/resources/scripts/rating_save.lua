@@ -0,0 +1,28 @@
+-- Product rating hash save (versioned, never goes back to an older DB row)
+-- KEYS[1]: rating key (e.g., "review:rating:{productId}")
+-- ARGV[1]: p_product_rating.version of the values (-1: no row yet)
+-- ARGV[2]: rating sum
+-- ARGV[3]: review count
+-- ARGV[4..8]: 1~5 star counts
+-- ARGV[9]: TTL seconds
+--
+-- Both the read-miss seed and the post-commit write go through this script, so whichever
+-- arrives last cannot overwrite a newer row with a stale one. Hashes without 'v' (older
+-- format) are always overwritten.
+--
+-- Returns:
+--   1: saved
+--   0: hash already holds the same or a newer version
+
+local rating_key = KEYS[1]
+
+local current = redis.call('HGET', rating_key, 'v')
+if current and tonumber(current) >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('HSET', rating_key,
+    'v', ARGV[1], 'sum', ARGV[2], 'count', ARGV[3],
+    'r1', ARGV[4], 'r2', ARGV[5], 'r3', ARGV[6], 'r4', ARGV[7], 'r5', ARGV[8])
+redis.call('EXPIRE', rating_key, ARGV[9])
+return 1
@@ -0,0 +1,36 @@
+-- Review like / unlike (applied only to seeded like sets)
+-- KEYS[1]: like user set (e.g., "review:like:users:{reviewId}")
+-- KEYS[2]: like event list (write-behind log, "reviewId:userId:1|0")
+-- KEYS[3]: dirty review set (like count flush targets)
+-- ARGV[1]: userId
+-- ARGV[2]: reviewId
+-- ARGV[3]: 1 = like, 0 = unlike
+-- ARGV[4]: like set TTL seconds
+--
+-- Returns: { changed, likeCount }
+--   changed  1: applied
+--   changed  0: already in the requested state (idempotent)
+--   changed -1: like set does not exist (seed from DB and retry)
+--   likeCount: set size excluding the seed marker
+
+local users_key = KEYS[1]
+
+if redis.call('EXISTS', users_key) == 0 then
+    return { -1, 0 }
+end
+
+local changed
+if ARGV[3] == '1' then
+    changed = redis.call('SADD', users_key, ARGV[1])
+else
+    changed = redis.call('SREM', users_key, ARGV[1])
+end
+
+redis.call('EXPIRE', users_key, ARGV[4])
+
+if changed == 1 then
+    redis.call('RPUSH', KEYS[2], ARGV[2] .. ':' .. ARGV[1] .. ':' .. ARGV[3])
+    redis.call('SADD', KEYS[3], ARGV[2])
+end
+
+return { changed, redis.call('SCARD', users_key) - 1 }
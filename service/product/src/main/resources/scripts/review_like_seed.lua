@@ -0,0 +1,23 @@
+-- Review like set seed (never overwrites an existing set)
+-- KEYS[1]: like user set (e.g., "review:like:users:{reviewId}")
+-- ARGV[1]: like set TTL seconds
+-- ARGV[2]: seed marker (keeps the set alive with zero likes)
+-- ARGV[3..]: userIds that liked the review (from DB)
+--
+-- Returns:
+--   1: seeded
+--   0: set already exists
+
+local users_key = KEYS[1]
+
+if redis.call('EXISTS', users_key) == 1 then
+    return 0
+end
+
+local chunk = 5000
+for i = 2, #ARGV, chunk do
+    redis.call('SADD', users_key, unpack(ARGV, i, math.min(i + chunk - 1, #ARGV)))
+end
+
+redis.call('EXPIRE', users_key, ARGV[1])
+return 1
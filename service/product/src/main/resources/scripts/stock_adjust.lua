@@ -0,0 +1,30 @@
+-- Stock adjust Lua script (bulk inventory feed)
+-- KEYS[i]: stock key
+-- ARGV[2i-1]: delta to apply to available stock (new DB stock - previous DB stock)
+-- ARGV[2i]: new DB stock (used when the key does not exist yet)
+--
+-- Available stock = DB stock - open reservations, so an existing key is moved by the
+-- delta (reservations are kept). A missing key has no reservations and is set directly.
+-- The caller rejects updates below the open reservations, so a key only goes negative when
+-- a reservation lands between that check and this adjustment; such keys are counted.
+--
+-- Returns: { number of keys adjusted by delta, number of keys left negative }
+
+local adjusted = 0
+local negative = 0
+
+for i, key in ipairs(KEYS) do
+    local delta = tonumber(ARGV[2 * i - 1])
+    local absolute = ARGV[2 * i]
+
+    if redis.call('EXISTS', key) == 1 then
+        if redis.call('INCRBY', key, delta) < 0 then
+            negative = negative + 1
+        end
+        adjusted = adjusted + 1
+    else
+        redis.call('SET', key, absolute)
+    end
+end
+
+return { adjusted, negative }
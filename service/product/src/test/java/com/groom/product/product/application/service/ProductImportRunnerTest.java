@@ -0,0 +1,232 @@
+package com.groom.product.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.product.product.domain.entity.ProductImportError;
+import com.groom.product.product.domain.entity.ProductImportJob;
+import com.groom.product.product.domain.repository.ProductImportErrorRepository;
+import com.groom.product.product.domain.repository.ProductImportJobRepository;
+import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.CategoryTreeCache;
+import com.groom.product.product.infrastructure.cache.CategoryTreeSnapshot;
+import com.groom.product.product.infrastructure.cache.ProductAutocompleteRedisService;
+import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository;
+import com.groom.product.product.infrastructure.repository.ProductBulkInsertRepository.ProductRow;
+import com.groom.product.product.presentation.dto.request.ReqProductCreateDtoV1;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportRunnerTest {
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID activeCategoryId = UUID.randomUUID();
+    private final UUID inactiveCategoryId = UUID.randomUUID();
+
+    @TempDir
+    Path tempDir;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductImportJobRepository importJobRepository;
+
+    @Mock
+    private ProductImportErrorRepository importErrorRepository;
+
+    @Mock
+    private ProductVariantRepository productVariantRepository;
+
+    @Mock
+    private ProductBulkInsertRepository bulkInsertRepository;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private CategoryTreeSnapshot categoryTreeSnapshot;
+
+    @Mock
+    private StockRedisService stockRedisService;
+
+    @Mock
+    private ProductListCacheService listCacheService;
+
+    @Mock
+    private ProductAutocompleteRedisService autocompleteRedisService;
+
+    @Mock
+    private ProductSearchCacheService searchCacheService;
+
+    @InjectMocks
+    private ProductImportRunner importRunner;
+
+    @Captor
+    private ArgumentCaptor<List<ProductImportError>> errorsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<ProductRow>> productsCaptor;
+
+    private ProductImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importRunner, "chunkSize", 500);
+        ReflectionTestUtils.setField(importRunner, "maxStoredErrors", 1000);
+
+        job = ProductImportJob.builder().ownerId(ownerId).fileName("products.ndjson").build();
+        ReflectionTestUtils.setField(job, "id", jobId);
+        when(importJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(categoryTreeCache.get()).thenReturn(categoryTreeSnapshot);
+
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 행만 줄 번호와 함께 오류로 기록하고 나머지 행은 등록한다")
+    void run_records_invalid_rows_and_inserts_valid_rows() throws Exception {
+        // given
+        Path file = write(
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"title\":\"기본 상품\",\"price\":10000,\"stockQuantity\":5}",
+            "",
+            "{not json",
+            "{\"categoryId\":\"" + inactiveCategoryId + "\",\"title\":\"비활성 카테고리\",\"price\":1000}",
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"title\":\"옵션 범위 초과\",\"hasOptions\":true,"
+                + "\"options\":[{\"name\":\"색상\",\"values\":[{\"value\":\"빨강\"}]}],"
+                + "\"variants\":[{\"optionValueIndexes\":[3],\"skuCode\":\"SKU-RANGE\",\"price\":1000,\"stockQuantity\":1}]}",
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"price\":1000}",
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"title\":\"기존 SKU\","
+                + "\"variants\":[{\"skuCode\":\"SKU-TAKEN\",\"price\":1000,\"stockQuantity\":1}]}");
+
+        ConstraintViolation<ReqProductCreateDtoV1> violation = mock();
+        when(violation.getMessage()).thenReturn("상품명은 필수입니다.");
+        when(validator.validate(any(ReqProductCreateDtoV1.class)))
+            .thenAnswer(invocation -> invocation.<ReqProductCreateDtoV1>getArgument(0).getTitle() == null
+                ? Set.of(violation) : Set.of());
+        when(categoryTreeSnapshot.isActive(any(UUID.class)))
+            .thenAnswer(invocation -> activeCategoryId.equals(invocation.getArgument(0)));
+        when(productVariantRepository.findExistingSkuCodes(Set.of("SKU-TAKEN"))).thenReturn(List.of("SKU-TAKEN"));
+
+        // when
+        importRunner.run(jobId, file);
+
+        // then
+        verify(bulkInsertRepository).insertAll(productsCaptor.capture(), anyList(), anyList(), anyList(),
+            eq(ownerId.toString()), any());
+        assertThat(productsCaptor.getValue()).extracting(ProductRow::title).containsExactly("기본 상품");
+
+        verify(importErrorRepository).saveAll(errorsCaptor.capture());
+        List<ProductImportError> errors = errorsCaptor.getValue();
+        assertThat(errors).extracting(ProductImportError::getLineNumber).containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(errors).extracting(ProductImportError::getMessage).containsExactly(
+            errors.get(0).getMessage(),
+            "카테고리를 찾을 수 없거나 비활성 상태입니다.",
+            "옵션값 인덱스가 범위를 벗어났습니다: SKU-RANGE",
+            "상품명은 필수입니다.",
+            "이미 존재하거나 중복된 SKU 코드입니다: SKU-TAKEN");
+        assertThat(errors.get(0).getMessage()).startsWith("JSON 형식이 올바르지 않습니다");
+
+        assertThat(job.getSuccessRows()).isEqualTo(1);
+        assertThat(job.getFailedRows()).isEqualTo(5);
+        assertThat(job.getTotalRows()).isEqualTo(6);
+        verify(searchCacheService).bumpGenerations(Set.of(activeCategoryId));
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장하는 행 오류는 작업당 상한까지만 기록하고 실패 건수는 모두 누적한다")
+    void run_caps_stored_row_errors_per_job() throws Exception {
+        // given
+        ReflectionTestUtils.setField(importRunner, "chunkSize", 2);
+        ReflectionTestUtils.setField(importRunner, "maxStoredErrors", 3);
+        Path file = write("{bad", "{bad", "{bad", "{bad", "{bad");
+
+        // when
+        importRunner.run(jobId, file);
+
+        // then
+        verify(importErrorRepository, times(2)).saveAll(errorsCaptor.capture());
+        assertThat(errorsCaptor.getAllValues().get(0)).extracting(ProductImportError::getLineNumber)
+            .containsExactly(1L, 2L);
+        assertThat(errorsCaptor.getAllValues().get(1)).extracting(ProductImportError::getLineNumber)
+            .containsExactly(3L);
+
+        assertThat(job.getFailedRows()).isEqualTo(5);
+        assertThat(job.getSuccessRows()).isZero();
+        verifyNoInteractions(stockRedisService, listCacheService, autocompleteRedisService, searchCacheService);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT가 제약 조건 위반으로 실패하면 청크의 모든 행을 오류로 기록하고 캐시는 적재하지 않는다")
+    void run_records_whole_chunk_on_constraint_violation() throws Exception {
+        // given
+        Path file = write(
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"title\":\"상품 A\",\"price\":1000}",
+            "{\"categoryId\":\"" + activeCategoryId + "\",\"title\":\"상품 B\",\"price\":2000}");
+        when(categoryTreeSnapshot.isActive(activeCategoryId)).thenReturn(true);
+        doThrow(new DataIntegrityViolationException("duplicate sku"))
+            .when(bulkInsertRepository).insertAll(anyList(), anyList(), anyList(), anyList(), anyString(), any());
+
+        // when
+        importRunner.run(jobId, file);
+
+        // then
+        verify(importErrorRepository).saveAll(errorsCaptor.capture());
+        assertThat(errorsCaptor.getValue()).extracting(ProductImportError::getLineNumber).containsExactly(1L, 2L);
+        assertThat(job.getSuccessRows()).isZero();
+        assertThat(job.getFailedRows()).isEqualTo(2);
+        verifyNoInteractions(stockRedisService, listCacheService, autocompleteRedisService, searchCacheService);
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path file = tempDir.resolve("products.ndjson");
+        Files.writeString(file, String.join("\n", lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,174 @@
+package com.groom.product.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.product.infrastructure.cache.ProductSearchCacheService;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.StockChangeResult;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceV1StockTest {
+
+    private static final String UPDATED_BY = "system";
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID variantId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductVariantRepository productVariantRepository;
+
+    @Mock
+    private ProductStockJdbcRepository stockJdbcRepository;
+
+    @Mock
+    private ProductDetailCacheService detailCacheService;
+
+    @Mock
+    private StockRedisService stockRedisService;
+
+    @Mock
+    private ProductSearchCacheService searchCacheService;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @InjectMocks
+    private ProductServiceV1 productService;
+
+    @BeforeEach
+    void setUp() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(UPDATED_BY));
+    }
+
+    @Test
+    @DisplayName("확정 차감으로 SOLD_OUT 전환이 반환되면 상세 캐시를 지우고 카테고리 검색 세대를 올린다")
+    void confirmStock_invalidates_caches_on_sold_out() {
+        // given
+        when(stockJdbcRepository.decreaseVariantStock(eq(productId), eq(variantId), eq(2), eq(UPDATED_BY),
+            any(LocalDateTime.class))).thenReturn(Optional.of(new StockChangeResult(0, "SOLD_OUT", categoryId)));
+
+        // when
+        productService.confirmStock(productId, variantId, 2);
+
+        // then
+        verify(detailCacheService).delete(productId);
+        verify(searchCacheService).bumpGenerations(List.of(categoryId));
+    }
+
+    @Test
+    @DisplayName("확정 차감 후에도 재고가 남아 ON_SALE이면 캐시를 건드리지 않는다")
+    void confirmStock_keeps_caches_while_on_sale() {
+        // given
+        when(stockJdbcRepository.decreaseProductStock(eq(productId), eq(2), eq(UPDATED_BY), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(new StockChangeResult(3, "ON_SALE", categoryId)));
+
+        // when
+        productService.confirmStock(productId, null, 2);
+
+        // then
+        verifyNoInteractions(detailCacheService, searchCacheService);
+    }
+
+    @Test
+    @DisplayName("복원 후 재고가 복원 수량과 같으면(품절 → 판매중) 상세 캐시를 지우고 검색 세대를 올린다")
+    void restoreStock_invalidates_caches_on_back_on_sale() {
+        // given
+        when(stockJdbcRepository.increaseVariantStock(eq(productId), eq(variantId), eq(2), eq(UPDATED_BY),
+            any(LocalDateTime.class))).thenReturn(Optional.of(new StockChangeResult(2, "ON_SALE", categoryId)));
+
+        // when
+        productService.restoreStock(productId, variantId, 2);
+
+        // then
+        verify(stockRedisService).release(productId, variantId, 2);
+        verify(detailCacheService).delete(productId);
+        verify(searchCacheService).bumpGenerations(List.of(categoryId));
+    }
+
+    @Test
+    @DisplayName("복원 전에도 재고가 있었으면 상태 전환이 없으므로 캐시를 건드리지 않는다")
+    void restoreStock_keeps_caches_without_transition() {
+        // given
+        when(stockJdbcRepository.increaseProductStock(eq(productId), eq(2), eq(UPDATED_BY), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(new StockChangeResult(7, "ON_SALE", categoryId)));
+
+        // when
+        productService.restoreStock(productId, null, 2);
+
+        // then
+        verifyNoInteractions(detailCacheService, searchCacheService);
+    }
+
+    @Test
+    @DisplayName("조건부 차감이 0건이고 SKU가 존재하면 재고 부족으로 판별한다")
+    void confirmStock_fails_with_stock_not_enough() {
+        // given
+        when(stockJdbcRepository.decreaseVariantStock(eq(productId), eq(variantId), eq(5), eq(UPDATED_BY),
+            any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(productVariantRepository.findByIdAndProductId(variantId, productId))
+            .thenReturn(Optional.of(mock(ProductVariant.class)));
+
+        // when & then
+        assertThatThrownBy(() -> productService.confirmStock(productId, variantId, 5))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_NOT_ENOUGH);
+        verifyNoInteractions(detailCacheService, searchCacheService);
+    }
+
+    @Test
+    @DisplayName("조건부 차감이 0건이고 상품에 속한 SKU가 없으면 SKU 없음으로 판별한다")
+    void confirmStock_fails_with_variant_not_found() {
+        // given
+        when(stockJdbcRepository.decreaseVariantStock(eq(productId), eq(variantId), eq(5), eq(UPDATED_BY),
+            any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(productVariantRepository.findByIdAndProductId(variantId, productId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> productService.confirmStock(productId, variantId, 5))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VARIANT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("옵션 상품을 SKU 없이 차감하면 SKU 지정 필요로 판별한다")
+    void confirmStock_fails_with_variant_required() {
+        // given
+        when(stockJdbcRepository.decreaseProductStock(eq(productId), eq(1), eq(UPDATED_BY), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(productRepository.findByIdAndNotDeleted(productId))
+            .thenReturn(Optional.of(Product.builder().title("옵션 상품").hasOptions(true).build()));
+
+        // when & then
+        assertThatThrownBy(() -> productService.confirmStock(productId, null, 1))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VARIANT_REQUIRED);
+    }
+}
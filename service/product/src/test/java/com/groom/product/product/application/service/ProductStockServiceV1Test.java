@@ -0,0 +1,157 @@
+package com.groom.product.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.groom.common.infrastructure.config.security.CustomUserDetails;
+import com.groom.product.product.application.event.dto.StockBatchUpdatedEvent;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.LockedStock;
+import com.groom.product.product.infrastructure.repository.ProductStockJdbcRepository.StockUpdate;
+import com.groom.product.product.presentation.dto.request.ReqStockBulkUpdateDtoV1;
+import com.groom.product.product.presentation.dto.response.ResStockBulkUpdateDtoV1;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockServiceV1Test {
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID optionProductId = UUID.randomUUID();
+    private final UUID variantA = UUID.randomUUID();
+    private final UUID variantB = UUID.randomUUID();
+    private final UUID simpleProductId = UUID.randomUUID();
+
+    @Mock
+    private ProductStockJdbcRepository stockJdbcRepository;
+
+    @Mock
+    private StockRedisService stockRedisService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProductStockServiceV1 productStockService;
+
+    @Captor
+    private ArgumentCaptor<List<StockUpdate>> updatesCaptor;
+
+    @Captor
+    private ArgumentCaptor<StockBatchUpdatedEvent> eventCaptor;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails owner = new CustomUserDetails(ownerId, "owner@example.com", "OWNER");
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(owner, null, owner.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE(WHERE stock = 기대값)가 0건인 행은 실패로 돌려주고 반영된 행만 이벤트로 발행한다")
+    void updateStocks_reports_rows_lost_to_concurrent_change() {
+        // given
+        ReqStockBulkUpdateDtoV1 request = request(
+            item(optionProductId, variantA, 20),
+            item(optionProductId, variantB, 8),
+            item(simpleProductId, null, 0));
+        when(stockJdbcRepository.lockVariants(eq(ownerId), anyList())).thenReturn(List.of(
+            new LockedStock(optionProductId, variantA, 10, categoryId),
+            new LockedStock(optionProductId, variantB, 5, categoryId)));
+        when(stockJdbcRepository.lockProducts(eq(ownerId), anyList())).thenReturn(List.of(
+            new LockedStock(simpleProductId, null, 3, categoryId)));
+        when(stockRedisService.getReservedQuantities(anyList())).thenReturn(List.of(0));
+        when(stockJdbcRepository.updateVariantStocks(anyList(), eq(ownerId.toString()), any(LocalDateTime.class)))
+            .thenReturn(new int[] {1, 0});
+        when(stockJdbcRepository.updateProductStocks(anyList(), eq(ownerId.toString()), any(LocalDateTime.class)))
+            .thenReturn(new int[] {1});
+
+        // when
+        ResStockBulkUpdateDtoV1 result = productStockService.updateStocks(request);
+
+        // then
+        assertThat(result.getRequestedCount()).isEqualTo(3);
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        assertThat(result.getFailedItems())
+            .extracting(ResStockBulkUpdateDtoV1.FailedItem::getVariantId, ResStockBulkUpdateDtoV1.FailedItem::getReason)
+            .containsExactly(tuple(variantB, "재고가 동시에 변경되어 반영되지 않았습니다."));
+
+        verify(stockJdbcRepository).updateVariantStocks(updatesCaptor.capture(), anyString(), any());
+        assertThat(updatesCaptor.getValue()).containsExactly(
+            new StockUpdate(optionProductId, variantA, categoryId, 10, 20),
+            new StockUpdate(optionProductId, variantB, categoryId, 5, 8));
+
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getChanges())
+            .extracting(StockBatchUpdatedEvent.StockChange::getProductId, StockBatchUpdatedEvent.StockChange::getVariantId,
+                StockBatchUpdatedEvent.StockChange::delta, StockBatchUpdatedEvent.StockChange::crossesZero)
+            .containsExactly(
+                tuple(optionProductId, variantA, 10, false),
+                tuple(simpleProductId, null, -3, true));
+    }
+
+    @Test
+    @DisplayName("가점유 수량보다 적은 재고로의 변경은 UPDATE 전에 거절하고 변경 없는 행은 건너뛴다")
+    void updateStocks_rejects_below_reservations() {
+        // given
+        ReqStockBulkUpdateDtoV1 request = request(
+            item(optionProductId, variantA, 2),
+            item(optionProductId, variantB, 5));
+        when(stockJdbcRepository.lockVariants(eq(ownerId), anyList())).thenReturn(List.of(
+            new LockedStock(optionProductId, variantA, 10, categoryId),
+            new LockedStock(optionProductId, variantB, 5, categoryId)));
+        when(stockRedisService.getReservedQuantities(argThat(stocks -> stocks.size() == 1
+            && variantA.equals(stocks.get(0).getVariantId()) && stocks.get(0).getQuantity() == 10)))
+            .thenReturn(List.of(4));
+
+        // when
+        ResStockBulkUpdateDtoV1 result = productStockService.updateStocks(request);
+
+        // then
+        assertThat(result.getUpdatedCount()).isZero();
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        assertThat(result.getFailedItems())
+            .extracting(ResStockBulkUpdateDtoV1.FailedItem::getVariantId, ResStockBulkUpdateDtoV1.FailedItem::getReason)
+            .containsExactly(tuple(variantA, "진행 중인 주문의 가점유 수량(4)보다 적은 재고로 변경할 수 없습니다."));
+
+        verify(stockJdbcRepository).updateVariantStocks(updatesCaptor.capture(), anyString(), any());
+        assertThat(updatesCaptor.getValue()).isEmpty();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private ReqStockBulkUpdateDtoV1 request(ReqStockBulkUpdateDtoV1.StockItem... items) {
+        return ReqStockBulkUpdateDtoV1.builder().items(List.of(items)).build();
+    }
+
+    private ReqStockBulkUpdateDtoV1.StockItem item(UUID productId, UUID variantId, int stockQuantity) {
+        return ReqStockBulkUpdateDtoV1.StockItem.builder()
+            .productId(productId)
+            .variantId(variantId)
+            .stockQuantity(stockQuantity)
+            .build();
+    }
+}
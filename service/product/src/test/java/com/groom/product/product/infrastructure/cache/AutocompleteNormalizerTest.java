@@ -0,0 +1,98 @@
+package com.groom.product.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AutocompleteNormalizerTest {
+
+    @Test
+    @DisplayName("한글 음절은 초성/중성/종성 호환 자모로 분해된다")
+    void normalize_decomposes_hangul_syllables() {
+        assertThat(AutocompleteNormalizer.normalize("가방")).isEqualTo("ㄱㅏㅂㅏㅇ");
+        assertThat(AutocompleteNormalizer.normalize("갑")).isEqualTo("ㄱㅏㅂ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절이 완성된 단어의 접두어로 매칭된다")
+    void normalize_typing_syllable_is_prefix_of_word() {
+        String typing = AutocompleteNormalizer.normalize("갑");
+        String word = AutocompleteNormalizer.normalize("가방");
+
+        assertThat(word).startsWith(typing);
+    }
+
+    @Test
+    @DisplayName("겹모음과 겹받침은 음절 안에서도, 단독 자모로도 같은 자모열로 분해된다")
+    void normalize_decomposes_compound_jamo() {
+        assertThat(AutocompleteNormalizer.normalize("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(AutocompleteNormalizer.normalize("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(AutocompleteNormalizer.normalize("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(AutocompleteNormalizer.normalize("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(AutocompleteNormalizer.normalize("고ㅏ")).isEqualTo(AutocompleteNormalizer.normalize("과"));
+    }
+
+    @Test
+    @DisplayName("NFD로 입력된 한글도 NFC로 합친 뒤 분해된다")
+    void normalize_composes_nfd_input_first() {
+        String nfd = "\u1100\u1161\u11B8";
+
+        assertThat(AutocompleteNormalizer.normalize(nfd)).isEqualTo("ㄱㅏㅂ");
+    }
+
+    @Test
+    @DisplayName("소문자로 바꾸고 문자/숫자 외 기호를 공백으로 정리한다")
+    void normalize_lowercases_and_strips_symbols() {
+        assertThat(AutocompleteNormalizer.normalize("  Nike-Air   MAX 90! ")).isEqualTo("nike air max 90");
+        assertThat(AutocompleteNormalizer.normalize(null)).isEmpty();
+        assertThat(AutocompleteNormalizer.normalize("!!!")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 단어는 단어 시작 위치별 접미 문자열이며 최대 단어 수로 제한된다")
+    void indexTerms_returns_suffixes_per_word() {
+        assertThat(AutocompleteNormalizer.indexTerms("Air Max Pro", 5))
+            .containsExactly("air max pro", "max pro", "pro");
+        assertThat(AutocompleteNormalizer.indexTerms("a b c d", 2))
+            .containsExactly("a b c d", "b c d");
+        assertThat(AutocompleteNormalizer.indexTerms("", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어는 단어별로 최대 길이까지 만들고 공백으로 끝나는 접두어는 제외한다")
+    void prefixes_excludes_trailing_space_and_respects_max_length() {
+        assertThat(AutocompleteNormalizer.prefixes("ab cd", 5, 10))
+            .containsExactly("a", "ab", "ab c", "ab cd", "c", "cd");
+        assertThat(AutocompleteNormalizer.prefixes("abcdef", 5, 3))
+            .containsExactly("a", "ab", "abc");
+    }
+
+    @Test
+    @DisplayName("사전순 상한은 마지막 코드 포인트를 1 증가시킨 문자열이다")
+    void prefixUpperBound_increments_last_code_point() {
+        assertThat(AutocompleteNormalizer.prefixUpperBound("ab")).isEqualTo("ac");
+        assertThat(AutocompleteNormalizer.prefixUpperBound("ㄱㅏ")).isEqualTo("ㄱㅐ");
+    }
+
+    @Test
+    @DisplayName("사전순 상한은 보조 평면 문자까지 포함한다")
+    void prefixUpperBound_covers_supplementary_plane() {
+        String emoji = new String(Character.toChars(0x1F600));
+        String nextEmoji = new String(Character.toChars(0x1F601));
+
+        assertThat(AutocompleteNormalizer.prefixUpperBound("a" + emoji)).isEqualTo("a" + nextEmoji);
+        assertThat(AutocompleteNormalizer.prefixUpperBound("a\uFFFF"))
+            .isEqualTo("a" + new String(Character.toChars(0x10000)));
+        assertThat(AutocompleteNormalizer.prefixUpperBound("a\uD7FF")).isEqualTo("a\uE000");
+    }
+
+    @Test
+    @DisplayName("마지막 코드 포인트가 최댓값이면 앞 문자를 증가시키고, 모두 최댓값이면 상한이 없다")
+    void prefixUpperBound_carries_over_max_code_point() {
+        String max = new String(Character.toChars(Character.MAX_CODE_POINT));
+
+        assertThat(AutocompleteNormalizer.prefixUpperBound("a" + max)).isEqualTo("b");
+        assertThat(AutocompleteNormalizer.prefixUpperBound(max)).isNull();
+    }
+}
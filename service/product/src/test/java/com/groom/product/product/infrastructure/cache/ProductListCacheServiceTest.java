@@ -0,0 +1,120 @@
+package com.groom.product.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListCacheServiceTest {
+
+    private final UUID rootId = UUID.randomUUID();
+    private final UUID childId = UUID.randomUUID();
+    private final UUID grandChildId = UUID.randomUUID();
+    private final List<UUID> subtree = List.of(rootId, childId, grandChildId);
+    private final List<String> sourceKeys = subtree.stream().map(ProductCacheKey::productList).toList();
+    private final String treeKey = ProductCacheKey.productTreeList(rootId);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private ProductListCacheService listCacheService;
+
+    @Test
+    @DisplayName("하위 카테고리 목록이 모두 적재되어 있으면 ZUNIONSTORE로 병합 후 짧은 TTL로 보관하고 페이지를 읽는다")
+    void getSubtreeProductIds_unions_when_all_sources_loaded() {
+        // given
+        UUID productA = UUID.randomUUID();
+        UUID productB = UUID.randomUUID();
+        when(stringRedisTemplate.hasKey(treeKey)).thenReturn(false);
+        when(stringRedisTemplate.countExistingKeys(sourceKeys)).thenReturn(3L);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(treeKey, 20, 29))
+            .thenReturn(new LinkedHashSet<>(List.of(productA.toString(), productB.toString())));
+
+        // when
+        List<UUID> result = listCacheService.getSubtreeProductIds(rootId, subtree, 20, 10);
+
+        // then
+        verify(zSetOperations).unionAndStore(sourceKeys.get(0), sourceKeys.subList(1, 3), treeKey);
+        verify(stringRedisTemplate).expire(eq(treeKey), any(Duration.class));
+        assertThat(result).containsExactly(productA, productB);
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 목록 중 하나라도 없으면 부분 합집합을 만들지 않고 빈 목록을 반환한다 (DB 조회 유도)")
+    void getSubtreeProductIds_skips_partial_union() {
+        // given
+        when(stringRedisTemplate.hasKey(treeKey)).thenReturn(false);
+        when(stringRedisTemplate.countExistingKeys(sourceKeys)).thenReturn(2L);
+
+        // when
+        List<UUID> result = listCacheService.getSubtreeProductIds(rootId, subtree, 0, 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(stringRedisTemplate, never()).opsForZSet();
+        verify(stringRedisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("적재 여부를 확인할 수 없으면 부분 합집합으로 간주하고 병합하지 않는다")
+    void getSubtreeProductIds_skips_union_when_count_unknown() {
+        // given
+        when(stringRedisTemplate.hasKey(treeKey)).thenReturn(false);
+        when(stringRedisTemplate.countExistingKeys(sourceKeys)).thenReturn(null);
+
+        // when
+        List<UUID> result = listCacheService.getSubtreeProductIds(rootId, subtree, 0, 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(stringRedisTemplate, never()).opsForZSet();
+    }
+
+    @Test
+    @DisplayName("합집합 키가 이미 있으면 다시 병합하지 않고 바로 페이지를 읽는다")
+    void getSubtreeProductIds_reuses_existing_union() {
+        // given
+        UUID productA = UUID.randomUUID();
+        when(stringRedisTemplate.hasKey(treeKey)).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(treeKey, 0, 9))
+            .thenReturn(new LinkedHashSet<>(List.of(productA.toString())));
+
+        // when
+        List<UUID> result = listCacheService.getSubtreeProductIds(rootId, subtree, 0, 10);
+
+        // then
+        assertThat(result).containsExactly(productA);
+        verify(stringRedisTemplate, never()).countExistingKeys(any());
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 예외를 전파하지 않고 빈 목록을 반환한다")
+    void getSubtreeProductIds_returns_empty_on_redis_failure() {
+        // given
+        when(stringRedisTemplate.hasKey(treeKey)).thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertThat(listCacheService.getSubtreeProductIds(rootId, subtree, 0, 10)).isEmpty();
+    }
+}
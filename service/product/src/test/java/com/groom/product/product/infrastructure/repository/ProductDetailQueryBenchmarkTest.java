@@ -0,0 +1,196 @@
+package com.groom.product.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.entity.ProductOption;
+import com.groom.product.product.domain.entity.ProductOptionValue;
+import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.config.QuerydslConfig;
+import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
+
+/**
+ * 상품 상세 조립 벤치마크: 엔티티 3단계 조회 vs 프로젝션 조회
+ * 쿼리 수(Hibernate Statistics)와 평균 지연을 로그로 남기고, 프로젝션 경로가 2쿼리 이내인지 검증
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.show-sql=false",
+	"spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Tag("Integration")
+class ProductDetailQueryBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ProductDetailQueryBenchmarkTest.class);
+
+	private static final int OPTION_COUNT = 3;
+	private static final int VALUES_PER_OPTION = 5;
+	private static final int VARIANT_COUNT = 30;
+	private static final int WARM_UP = 50;
+	private static final int ITERATIONS = 300;
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@DynamicPropertySource
+	static void configureProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+
+	@Configuration
+	@EnableJpaAuditing
+	@EntityScan(basePackageClasses = Product.class)
+	@EnableJpaRepositories(basePackageClasses = ProductRepository.class)
+	@Import({QuerydslConfig.class, ProductDetailQueryRepository.class})
+	static class BenchmarkConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductDetailQueryRepository productDetailQueryRepository;
+
+	private UUID productId;
+
+	@BeforeEach
+	void setUp() {
+		Category root = em.persist(Category.builder().name("패션").depth(1).sortOrder(1).build());
+		root.assignPath(null);
+		Category child = em.persist(Category.builder().parent(root).name("상의").depth(2).sortOrder(1).build());
+		child.assignPath(root);
+
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(child)
+			.title("벤치마크 상품")
+			.description("설명")
+			.hasOptions(true)
+			.price(10000L)
+			.stockQuantity(0)
+			.build();
+
+		for (int o = 0; o < OPTION_COUNT; o++) {
+			ProductOption option = ProductOption.builder().product(product).name("옵션" + o).sortOrder(o).build();
+			for (int v = 0; v < VALUES_PER_OPTION; v++) {
+				option.addOptionValue(ProductOptionValue.builder().option(option).value("값" + v).sortOrder(v).build());
+			}
+			product.addOption(option);
+		}
+
+		for (int i = 0; i < VARIANT_COUNT; i++) {
+			product.addVariant(ProductVariant.builder()
+				.product(product)
+				.skuCode("SKU-" + UUID.randomUUID().toString().substring(0, 8) + "-" + i)
+				.optionValueIds(List.of(UUID.randomUUID()))
+				.optionName("조합" + i)
+				.price(10000L + i * 100)
+				.stockQuantity(10)
+				.build());
+		}
+
+		productId = em.persist(product).getId();
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("프로젝션 조회는 2쿼리 이내로 엔티티 조회와 동일한 상세 DTO를 만든다")
+	void projection_uses_fewer_queries_than_entity_path() {
+		// given
+		Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+
+		Supplier<ResProductDetailDtoV1> entityPath = () -> {
+			Product product = productRepository.findByIdWithCategory(productId).orElseThrow();
+			productRepository.findByIdWithOptionsOnly(productId);
+			productRepository.findByIdWithVariantsOnly(productId);
+			ResProductDetailDtoV1 dto = ResProductDetailDtoV1.from(product);
+			em.clear();
+			return dto;
+		};
+
+		Supplier<ResProductDetailDtoV1> projectionPath = () -> {
+			ResProductDetailDtoV1 dto = productDetailQueryRepository.findDetail(productId).orElseThrow().toResponseDto();
+			em.clear();
+			return dto;
+		};
+
+		// when
+		Measurement entity = measure(statistics, entityPath);
+		Measurement projection = measure(statistics, projectionPath);
+
+		log.info("Product detail benchmark: entity={} queries, {} us/op | projection={} queries, {} us/op",
+			entity.queries(), String.format("%.1f", entity.avgMicros()),
+			projection.queries(), String.format("%.1f", projection.avgMicros()));
+
+		// then
+		assertThat(projection.queries()).isLessThanOrEqualTo(2);
+		assertThat(projection.queries()).isLessThan(entity.queries());
+
+		assertThat(projection.dto().getOptions()).hasSize(OPTION_COUNT);
+		assertThat(projection.dto().getOptions()).allSatisfy(option ->
+			assertThat(option.getValues()).hasSize(VALUES_PER_OPTION));
+		assertThat(projection.dto().getVariants()).hasSize(entity.dto().getVariants().size());
+		assertThat(projection.dto().getCategory().getFullPath()).isEqualTo(entity.dto().getCategory().getFullPath());
+	}
+
+	private Measurement measure(Statistics statistics, Supplier<ResProductDetailDtoV1> path) {
+		for (int i = 0; i < WARM_UP; i++) {
+			path.get();
+		}
+
+		statistics.clear();
+		ResProductDetailDtoV1 dto = path.get();
+		long queries = statistics.getPrepareStatementCount();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			path.get();
+		}
+		double avgMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+		return new Measurement(queries, avgMicros, dto);
+	}
+
+	private record Measurement(long queries, double avgMicros, ResProductDetailDtoV1 dto) {
+	}
+}
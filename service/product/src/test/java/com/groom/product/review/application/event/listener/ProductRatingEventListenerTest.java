@@ -1,36 +1,60 @@
 package com.groom.product.review.application.event.listener;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.review.application.dto.ProductRatingDelta;
+import com.groom.product.review.application.event.ReviewChangedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
-import com.groom.product.review.domain.entity.ProductRatingEntity;
-import com.groom.product.review.domain.repository.ProductRatingRepository;
+import com.groom.product.review.application.service.ProductRatingRebuildService;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingSummary;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
 
 
 @ExtendWith(MockitoExtension.class)
 class ProductRatingEventListenerTest {
 
     @Mock
-    private ProductRatingRepository productRatingRepository;
+    private ProductRatingJdbcRepository productRatingJdbcRepository;
+
+    @Mock
+    private ProductRatingRedisRepository productRatingRedisRepository;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private ReviewRedisRepository reviewRedisRepository;
+
+    @Mock
+    private ProductRatingRebuildService productRatingRebuildService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private ProductRatingEventListener listener;
 
     @Test
-    @DisplayName("상품 평점이 이미 존재하면 기존 엔티티를 업데이트한다")
-    void handle_existing_rating() {
+    @DisplayName("리뷰 작성 시 평점 합계/리뷰 수/해당 별점 수를 원자적으로 증가시킨다")
+    void handle_created() {
         // given
         UUID productId = UUID.randomUUID();
 
@@ -41,59 +65,137 @@ class ProductRatingEventListenerTest {
             4
         );
 
-        ProductRatingEntity existingRating =
-            new ProductRatingEntity(productId);
+        // when
+        listener.handle(event);
 
-        existingRating.updateRating(3); // 기존 리뷰 1개, 평균 3.0
+        // then
+        verify(productRatingJdbcRepository).applyDelta(productId, ProductRatingDelta.created(4));
+    }
 
-        when(productRatingRepository.findByProductId(any()))
-            .thenReturn(Optional.of(existingRating));
+    @Test
+    @DisplayName("리뷰 삭제 시 평점 합계/리뷰 수/해당 별점 수를 원자적으로 감소시킨다")
+    void handle_deleted() {
+        // given
+        UUID productId = UUID.randomUUID();
 
         // when
-        listener.handle(event);
+        listener.handle(ReviewChangedEvent.deleted(productId, UUID.randomUUID(), 5));
 
         // then
-        ArgumentCaptor<ProductRatingEntity> captor =
-            ArgumentCaptor.forClass(ProductRatingEntity.class);
+        verify(productRatingJdbcRepository).applyDelta(productId, ProductRatingDelta.deleted(5));
+    }
+
+    @Test
+    @DisplayName("평점 변화가 없는 변경 이벤트는 DB에 반영하지 않는다")
+    void handle_no_rating_change() {
+        // when
+        listener.handle(ReviewChangedEvent.updated(UUID.randomUUID(), UUID.randomUUID(), 3, 3));
 
-        verify(productRatingRepository).save(captor.capture());
+        // then
+        verify(productRatingJdbcRepository, never()).applyDelta(any(), any());
+        verifyNoInteractions(productRatingRedisRepository, productDetailCacheService, reviewRedisRepository);
+    }
+
+    @Test
+    @DisplayName("평점 수정 시 합계 차이만큼 반영하고 이전 별점은 감소, 새 별점은 증가시킨다")
+    void handle_rating_updated() {
+        // given
+        UUID productId = UUID.randomUUID();
 
-        ProductRatingEntity saved = captor.getValue();
+        // when
+        listener.handle(ReviewChangedEvent.updated(productId, UUID.randomUUID(), 2, 5));
 
-        assertThat(saved.getProductId()).isEqualTo(productId);
-        assertThat(saved.getReviewCount()).isEqualTo(2);
-        assertThat(saved.getAvgRating()).isEqualTo(3.5);
+        // then
+        verify(productRatingJdbcRepository).applyDelta(productId, new ProductRatingDelta(3, 0, 2, 5));
     }
 
     @Test
-    @DisplayName("상품 평점이 없으면 새 엔티티를 생성해서 저장한다")
-    void handle_new_rating() {
+    @DisplayName("DB 반영 결과(절대값 + 버전)로 평점 해시를 저장하고 상세 캐시와 리뷰 ETag를 무효화한다")
+    void handle_saves_applied_rating_to_cache() {
         // given
         UUID productId = UUID.randomUUID();
+        ProductRatingSummary applied = new ProductRatingSummary(9, 2, List.of(0, 0, 0, 1, 1), 7);
+        when(productRatingJdbcRepository.applyDelta(productId, ProductRatingDelta.created(4))).thenReturn(applied);
 
-        ReviewCreatedEvent event = new ReviewCreatedEvent(
-            UUID.randomUUID(),
-            UUID.randomUUID(),
-            productId,
-            5
-        );
+        // when
+        listener.handle(new ReviewCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), productId, 4));
 
-        when(productRatingRepository.findByProductId(any()))
-            .thenReturn(Optional.empty());
+        // then
+        verify(productRatingRedisRepository).save(productId, applied);
+        verify(productDetailCacheService).touch(productId);
+        verify(reviewRedisRepository).incrementVersion(productId);
+    }
+
+    @Test
+    @DisplayName("락 대기/타임아웃 같은 일시 오류는 제한 횟수 안에서 같은 증감을 재시도한다")
+    void handle_retries_transient_failure() {
+        // given
+        UUID productId = UUID.randomUUID();
+        ProductRatingSummary applied = new ProductRatingSummary(5, 1, List.of(0, 0, 0, 0, 1), 3);
+        when(productRatingJdbcRepository.applyDelta(productId, ProductRatingDelta.created(5)))
+            .thenThrow(new CannotAcquireLockException("lock timeout"))
+            .thenReturn(applied);
 
         // when
-        listener.handle(event);
+        listener.handle(new ReviewCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), productId, 5));
 
         // then
-        ArgumentCaptor<ProductRatingEntity> captor =
-            ArgumentCaptor.forClass(ProductRatingEntity.class);
+        verify(productRatingJdbcRepository, times(2)).applyDelta(productId, ProductRatingDelta.created(5));
+        verify(productRatingRedisRepository).save(productId, applied);
+        verifyNoInteractions(productRatingRebuildService);
+        assertThat(meterRegistry.find("review.rating.delta.failures").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("일시 오류가 재시도 횟수를 넘기면 해당 상품을 재집계로 복구하고 실패 카운터를 올린다")
+    void handle_transient_failure_exhausted_rebuilds() {
+        // given
+        UUID productId = UUID.randomUUID();
+        when(productRatingJdbcRepository.applyDelta(any(), any()))
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
 
-        verify(productRatingRepository).save(captor.capture());
+        // when
+        listener.handle(ReviewChangedEvent.deleted(productId, UUID.randomUUID(), 5));
 
-        ProductRatingEntity saved = captor.getValue();
+        // then
+        verify(productRatingJdbcRepository, times(3)).applyDelta(any(), any());
+        verify(productRatingRebuildService).rebuild(productId);
+        assertThat(meterRegistry.get("review.rating.delta.failures").tag("recovered", "true").counter().count())
+            .isEqualTo(1.0);
+    }
 
-        assertThat(saved.getProductId()).isEqualTo(productId);
-        assertThat(saved.getReviewCount()).isEqualTo(1);
-        assertThat(saved.getAvgRating()).isEqualTo(5.0);
+    @Test
+    @DisplayName("DB 반영에 실패하면 증감 결과로 캐시를 갱신하지 않고 재집계로 복구한다 (재시도 없음)")
+    void handle_db_failure_rebuilds_instead_of_cache_update() {
+        // given
+        UUID productId = UUID.randomUUID();
+        when(productRatingJdbcRepository.applyDelta(any(), any())).thenThrow(new RuntimeException("db down"));
+
+        // when
+        listener.handle(ReviewChangedEvent.deleted(productId, UUID.randomUUID(), 5));
+
+        // then
+        verify(productRatingJdbcRepository, times(1)).applyDelta(any(), any());
+        verify(productRatingRebuildService).rebuild(productId);
+        verify(productDetailCacheService).touch(productId);
+        verifyNoInteractions(productRatingRedisRepository, reviewRedisRepository);
+        assertThat(meterRegistry.get("review.rating.delta.failures").tag("recovered", "true").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재집계 복구까지 실패하면 recovered=false로 실패 카운터를 올린다")
+    void handle_rebuild_failure_counts_unrecovered() {
+        // given
+        UUID productId = UUID.randomUUID();
+        when(productRatingJdbcRepository.applyDelta(any(), any())).thenThrow(new RuntimeException("db down"));
+        doThrow(new RuntimeException("still down")).when(productRatingRebuildService).rebuild(productId);
+
+        // when
+        listener.handle(ReviewChangedEvent.deleted(productId, UUID.randomUUID(), 5));
+
+        // then
+        assertThat(meterRegistry.get("review.rating.delta.failures").tag("recovered", "false").counter().count())
+            .isEqualTo(1.0);
     }
 }
@@ -1,126 +1,194 @@
 package com.groom.product.review.application.service;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import com.groom.product.review.domain.entity.ProductRatingEntity;
-import com.groom.product.review.domain.entity.ReviewEntity;
-import com.groom.product.review.domain.repository.ProductRatingRepository;
-import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.domain.entity.ProductRatingRebuildCheckpoint;
+import com.groom.product.review.domain.entity.ProductRatingRebuildJob;
+import com.groom.product.review.domain.entity.ProductRatingRebuildStatus;
+import com.groom.product.review.domain.repository.ProductRatingRebuildCheckpointRepository;
+import com.groom.product.review.domain.repository.ProductRatingRebuildJobRepository;
+import com.groom.product.review.infrastructure.redis.ProductRatingRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingRebuildJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class ProductRatingRebuildServiceTest {
 
-    @Mock
-    private ReviewRepository reviewRepository;
+    private static final int PARTITIONS = 4;
+    private static final int CHUNK_SIZE = 500;
 
     @Mock
-    private ProductRatingRepository productRatingRepository;
+    private ProductRatingRebuildJobRepository jobRepository;
 
-    @InjectMocks
-    private ProductRatingRebuildService rebuildService;
-    @Test
-    @DisplayName("기존 상품 평점이 있으면 reset 후 모든 리뷰를 기반으로 재계산한다")
-    void rebuild_existing_rating() {
-        // given
-        UUID productId = UUID.randomUUID();
-
-        ReviewEntity review1 = mock(ReviewEntity.class);
-        ReviewEntity review2 = mock(ReviewEntity.class);
-
-        when(review1.getRating()).thenReturn(4);
-        when(review2.getRating()).thenReturn(5);
+    @Mock
+    private ProductRatingRebuildCheckpointRepository checkpointRepository;
 
-        when(reviewRepository.findAllByProductIdForRebuild(productId))
-            .thenReturn(List.of(review1, review2));
+    @Mock
+    private ProductRatingRebuildJdbcRepository rebuildJdbcRepository;
 
-        ProductRatingEntity existingRating = new ProductRatingEntity(productId);
-        existingRating.updateRating(3); // 기존 데이터 (reset 되므로 의미 없음)
+    @Mock
+    private ProductRatingRedisRepository productRatingRedisRepository;
 
-        when(productRatingRepository.findByProductId(productId))
-            .thenReturn(Optional.of(existingRating));
+    @Mock
+    private ReviewRedisRepository reviewRedisRepository;
 
-        // when
-        rebuildService.rebuild(productId);
+    @Mock
+    private ProductRatingRebuildRunner rebuildRunner;
 
-        // then
-        ArgumentCaptor<ProductRatingEntity> captor =
-            ArgumentCaptor.forClass(ProductRatingEntity.class);
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
-        verify(productRatingRepository).save(captor.capture());
+    private ProductRatingRebuildService rebuildService;
 
-        ProductRatingEntity saved = captor.getValue();
-        assertThat(saved.getReviewCount()).isEqualTo(2);
-        assertThat(saved.getAvgRating()).isEqualTo(4.5);
+    @BeforeEach
+    void setUp() {
+        rebuildService = new ProductRatingRebuildService(
+            jobRepository,
+            checkpointRepository,
+            rebuildJdbcRepository,
+            productRatingRedisRepository,
+            reviewRedisRepository,
+            rebuildRunner,
+            transactionTemplate,
+            PARTITIONS,
+            CHUNK_SIZE
+        );
     }
 
-
     @Test
-    @DisplayName("상품 평점이 없으면 새 엔티티를 생성해서 리뷰 기반으로 계산한다")
-    void rebuild_new_rating() {
-        // given
+    @DisplayName("단일 상품 재집계는 집계 쿼리 결과로 평점 행을 덮어쓰고 Redis 해시 삭제 + 리뷰 변경 버전을 증가시킨다")
+    void rebuild_single_product() {
         UUID productId = UUID.randomUUID();
+        stubTransaction();
+        when(rebuildJdbcRepository.rebuild(List.of(productId))).thenReturn(List.of(productId));
 
-        ReviewEntity review = mock(ReviewEntity.class);
-        when(review.getRating()).thenReturn(5);
-
-        when(reviewRepository.findAllByProductIdForRebuild(productId))
-            .thenReturn(List.of(review));
-
-        when(productRatingRepository.findByProductId(productId))
-            .thenReturn(Optional.empty());
-
-        // when
         rebuildService.rebuild(productId);
 
-        // then
-        ArgumentCaptor<ProductRatingEntity> captor =
-            ArgumentCaptor.forClass(ProductRatingEntity.class);
+        verify(rebuildJdbcRepository).rebuild(List.of(productId));
+        verify(productRatingRedisRepository).delete(productId);
+        verify(reviewRedisRepository).incrementVersion(productId);
+    }
 
-        verify(productRatingRepository).save(captor.capture());
+    @Test
+    @DisplayName("단일 상품 재집계 결과가 기존 값과 같으면 리뷰 변경 버전을 유지한다")
+    void rebuild_single_product_unchanged() {
+        UUID productId = UUID.randomUUID();
+        stubTransaction();
+        when(rebuildJdbcRepository.rebuild(List.of(productId))).thenReturn(List.of());
 
-        ProductRatingEntity saved = captor.getValue();
-        assertThat(saved.getReviewCount()).isEqualTo(1);
-        assertThat(saved.getAvgRating()).isEqualTo(5.0);
+        rebuildService.rebuild(productId);
 
+        verify(productRatingRedisRepository).delete(productId);
+        verifyNoInteractions(reviewRedisRepository);
     }
 
     @Test
-    @DisplayName("리뷰가 하나도 없으면 reset 후 0점 상태로 저장된다")
-    void rebuild_no_reviews() {
-        // given
-        UUID productId = UUID.randomUUID();
+    @DisplayName("완료된 작업만 있으면 새 작업과 파티션별 체크포인트를 만들고 실행한다")
+    void startOrResume_creates_job() {
+        UUID jobId = UUID.randomUUID();
+        ProductRatingRebuildJob savedJob = mock(ProductRatingRebuildJob.class);
+        ProductRatingRebuildJob completedJob = mock(ProductRatingRebuildJob.class);
+
+        when(rebuildRunner.tryAcquire()).thenReturn(true);
+        stubTransaction();
+        when(completedJob.getStatus()).thenReturn(ProductRatingRebuildStatus.COMPLETED);
+        when(jobRepository.findFirstByOrderByCreatedAtDesc()).thenReturn(Optional.of(completedJob));
+        when(rebuildJdbcRepository.countProducts()).thenReturn(1000L);
+        when(jobRepository.save(any(ProductRatingRebuildJob.class))).thenReturn(savedJob);
+        when(savedJob.getId()).thenReturn(jobId);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(savedJob));
+
+        rebuildService.startOrResume();
+
+        ArgumentCaptor<ProductRatingRebuildJob> jobCaptor = ArgumentCaptor.forClass(ProductRatingRebuildJob.class);
+        verify(jobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getPartitions()).isEqualTo(PARTITIONS);
+        assertThat(jobCaptor.getValue().getChunkSize()).isEqualTo(CHUNK_SIZE);
+        assertThat(jobCaptor.getValue().getTotalProducts()).isEqualTo(1000L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductRatingRebuildCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).saveAll(captor.capture());
+        List<ProductRatingRebuildCheckpoint> checkpoints = captor.getValue();
+        assertThat(checkpoints).hasSize(PARTITIONS);
+        assertThat(checkpoints.get(0).getLowerBound()).isEqualTo(new UUID(0L, 0L));
+        assertThat(checkpoints.get(1).getLowerBound()).isEqualTo(checkpoints.get(0).getUpperBound());
+        assertThat(checkpoints.get(PARTITIONS - 1).getUpperBound()).isNull();
+
+        verify(rebuildRunner).run(jobId);
+        verify(rebuildRunner, never()).release();
+    }
 
-        when(reviewRepository.findAllByProductIdForRebuild(productId))
-            .thenReturn(List.of());
+    @Test
+    @DisplayName("마지막 작업이 완료되지 않았으면 새로 만들지 않고 체크포인트부터 재개한다")
+    void startOrResume_resumes_unfinished_job() {
+        UUID jobId = UUID.randomUUID();
+        ProductRatingRebuildJob failedJob = mock(ProductRatingRebuildJob.class);
+
+        when(rebuildRunner.tryAcquire()).thenReturn(true);
+        stubTransaction();
+        when(failedJob.getId()).thenReturn(jobId);
+        when(failedJob.getStatus()).thenReturn(ProductRatingRebuildStatus.FAILED);
+        when(jobRepository.findFirstByOrderByCreatedAtDesc()).thenReturn(Optional.of(failedJob));
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(failedJob));
+
+        rebuildService.startOrResume();
+
+        verify(failedJob).resume();
+        verify(jobRepository, never()).save(any());
+        verify(checkpointRepository, never()).saveAll(any());
+        verify(rebuildRunner).run(jobId);
+    }
 
-        when(productRatingRepository.findByProductId(productId))
-            .thenReturn(Optional.empty());
+    @Test
+    @DisplayName("이미 실행 중이면 예외가 발생한다")
+    void startOrResume_fail_running() {
+        when(rebuildRunner.tryAcquire()).thenReturn(false);
 
-        // when
-        rebuildService.rebuild(productId);
+        assertThatThrownBy(() -> rebuildService.startOrResume())
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(jobRepository);
+    }
 
-        // then
-        ArgumentCaptor<ProductRatingEntity> captor =
-            ArgumentCaptor.forClass(ProductRatingEntity.class);
+    @Test
+    @DisplayName("실행 예약에 실패하면 실행 권한을 반납한다")
+    void startOrResume_releases_on_failure() {
+        when(rebuildRunner.tryAcquire()).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenThrow(new RuntimeException("db down"));
+
+        assertThatThrownBy(() -> rebuildService.startOrResume())
+            .isInstanceOf(RuntimeException.class);
+        verify(rebuildRunner).release();
+        verify(rebuildRunner, never()).run(any());
+    }
 
-        verify(productRatingRepository).save(captor.capture());
+    @Test
+    @DisplayName("파티션 경계는 상품 ID 상위 비트를 균등 분할한다")
+    void partitionBound_splits_evenly() {
+        assertThat(ProductRatingRebuildService.partitionBound(0, 4).toString()).startsWith("00000000-");
+        assertThat(ProductRatingRebuildService.partitionBound(1, 4).toString()).startsWith("40000000-");
+        assertThat(ProductRatingRebuildService.partitionBound(2, 4).toString()).startsWith("80000000-");
+        assertThat(ProductRatingRebuildService.partitionBound(3, 4).toString()).startsWith("c0000000-");
+    }
 
-        ProductRatingEntity saved = captor.getValue();
-        assertThat(saved.getReviewCount()).isZero();
-        assertThat(saved.getAvgRating()).isZero();
+    private void stubTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
     }
 }
@@ -13,15 +13,18 @@ import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.review.application.support.AiReviewPromptBuilder;
 import com.groom.product.review.domain.entity.ProductRatingEntity;
+import com.groom.product.review.domain.entity.ReviewCategory;
 import com.groom.product.review.domain.entity.ReviewEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
 import com.groom.product.review.infrastructure.client.OpenAi.OpenAiClient;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ProductRatingJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -36,6 +39,9 @@ class ReviewAiSummaryServiceTest {
 	@Mock
 	private ProductRatingRepository productRatingRepository;
 
+	@Mock
+	private ProductRatingJdbcRepository productRatingJdbcRepository;
+
 	@Mock
 	private AiReviewPromptBuilder promptBuilder;
 
@@ -45,23 +51,49 @@ class ReviewAiSummaryServiceTest {
 	@Mock
 	private ProductRepository productRepository;
 
-	@InjectMocks
+	@Mock
+	private ReviewRedisRepository reviewRedisRepository;
+
 	private ReviewAiSummaryService service;
 
+	@BeforeEach
+	void setUp() {
+		service = new ReviewAiSummaryService(
+			reviewRepository,
+			productRatingRepository,
+			productRatingJdbcRepository,
+			promptBuilder,
+			openAiClient,
+			productRepository,
+			reviewRedisRepository,
+			10
+		);
+	}
+
 	@Test
-	@DisplayName("AI 리뷰 요약이 정상적으로 생성되어 상품 평점에 저장된다")
+	@DisplayName("AI 리뷰 요약이 생성되어 반영한 신규 리뷰 수와 함께 저장된다")
 	void generate_success() {
 		// given
 		UUID productId = UUID.randomUUID();
 
+		ProductRatingEntity rating = new ProductRatingEntity(productId);
+		when(productRatingRepository.findByProductId(productId))
+			.thenReturn(Optional.of(rating));
+
 		Product product = mock(Product.class);
 		when(product.getTitle()).thenReturn("맥북 프로");
 
 		when(productRepository.findByIdAndNotDeleted(productId))
 			.thenReturn(Optional.of(product));
 
-		when(reviewRepository.findTopReviews(any(), any(), any()))
-			.thenReturn(List.of(mock(ReviewEntity.class)));
+		ReviewEntity review = ReviewEntity.builder()
+			.productId(productId)
+			.rating(5)
+			.content("디자인 예뻐요")
+			.category(ReviewCategory.DESIGN)
+			.build();
+		when(reviewRepository.findTopReviewsPerCategory(productId, 10))
+			.thenReturn(List.of(review));
 
 		when(promptBuilder.build(eq("맥북 프로"), any(Map.class)))
 			.thenReturn("PROMPT");
@@ -69,21 +101,22 @@ class ReviewAiSummaryServiceTest {
 		when(openAiClient.summarizeReviews("PROMPT"))
 			.thenReturn("AI SUMMARY");
 
-		ProductRatingEntity rating = new ProductRatingEntity(productId);
-		when(productRatingRepository.findByProductId(productId))
-			.thenReturn(Optional.of(rating));
+		when(productRatingJdbcRepository.updateAiReview(productId, "AI SUMMARY", 0))
+			.thenReturn(true);
 
 		// when
 		service.generate(productId);
 
 		// then
-		ArgumentCaptor<ProductRatingEntity> captor =
-			ArgumentCaptor.forClass(ProductRatingEntity.class);
-
-		verify(productRatingRepository).save(captor.capture());
-
-		ProductRatingEntity saved = captor.getValue();
-		assertThat(saved.getAiReview()).isEqualTo("AI SUMMARY");
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<ReviewCategory, List<ReviewEntity>>> captor =
+			ArgumentCaptor.forClass(Map.class);
+
+		verify(promptBuilder).build(eq("맥북 프로"), captor.capture());
+		assertThat(captor.getValue().get(ReviewCategory.DESIGN)).containsExactly(review);
+		assertThat(captor.getValue()).doesNotContainKey(ReviewCategory.PENDING);
+		verify(productRatingJdbcRepository).updateAiReview(productId, "AI SUMMARY", 0);
+		verify(reviewRedisRepository).incrementVersion(productId);
 	}
 
 	@Test
@@ -92,6 +125,9 @@ class ReviewAiSummaryServiceTest {
 		// given
 		UUID productId = UUID.randomUUID();
 
+		when(productRatingRepository.findByProductId(productId))
+			.thenReturn(Optional.of(new ProductRatingEntity(productId)));
+
 		when(productRepository.findByIdAndNotDeleted(productId))
 			.thenReturn(Optional.empty());
 
@@ -102,31 +138,17 @@ class ReviewAiSummaryServiceTest {
 	}
 
 	@Test
-	@DisplayName("상품 평점 엔티티가 없으면 예외가 발생한다")
+	@DisplayName("상품 평점 엔티티가 없으면 LLM 호출 없이 예외가 발생한다")
 	void generate_fail_rating_not_found() {
 		// given
 		UUID productId = UUID.randomUUID();
 
-		Product product = mock(Product.class);
-		when(product.getTitle()).thenReturn("아이폰");
-
-		when(productRepository.findByIdAndNotDeleted(productId))
-			.thenReturn(Optional.of(product));
-
-		when(reviewRepository.findTopReviews(any(), any(), any()))
-			.thenReturn(List.of());
-
-		when(promptBuilder.build(anyString(), any()))
-			.thenReturn("PROMPT");
-
-		when(openAiClient.summarizeReviews(any()))
-			.thenReturn("AI SUMMARY");
-
 		when(productRatingRepository.findByProductId(productId))
 			.thenReturn(Optional.empty());
 
 		// when / then
 		assertThatThrownBy(() -> service.generate(productId))
 			.isInstanceOf(RuntimeException.class);
+		verifyNoInteractions(openAiClient);
 	}
 }
@@ -0,0 +1,206 @@
+package com.groom.product.review.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassifier;
+import com.groom.product.review.infrastructure.client.Classification.StubReviewClassifier;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassification;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationCache;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationQueue;
+import com.groom.product.review.infrastructure.redis.ReviewClassificationTask;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ReviewCategoryJdbcRepository;
+import com.groom.product.review.infrastructure.repository.ReviewCategoryJdbcRepository.CategoryUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewClassificationServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private ReviewClassificationQueue reviewClassificationQueue;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewCategoryJdbcRepository reviewCategoryJdbcRepository;
+
+    @Mock
+    private ReviewRedisRepository reviewRedisRepository;
+
+    @Mock
+    private ReviewClassificationCache reviewClassificationCache;
+
+    private ReviewClassificationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    private ReviewClassificationService createService(ReviewClassifier classifier) {
+        service = new ReviewClassificationService(
+            reviewClassificationQueue,
+            reviewRepository,
+            reviewCategoryJdbcRepository,
+            reviewRedisRepository,
+            classifier,
+            reviewClassificationCache,
+            new SimpleMeterRegistry(),
+            10,
+            2,
+            MAX_ATTEMPTS,
+            600,
+            100
+        );
+        return service;
+    }
+
+    @Test
+    @DisplayName("PENDING 리뷰를 분류해 일괄 반영하고, 이미 분류된 리뷰는 건너뛴다")
+    void processBatch_classifies_pending_reviews() {
+        UUID productId = UUID.randomUUID();
+        UUID priceReview = UUID.randomUUID();
+        UUID designReview = UUID.randomUUID();
+        UUID alreadyClassified = UUID.randomUUID();
+
+        when(reviewClassificationQueue.poll(10)).thenReturn(List.of(
+            ReviewClassificationTask.first(priceReview),
+            ReviewClassificationTask.first(designReview),
+            ReviewClassificationTask.first(alreadyClassified)
+        ));
+        when(reviewRepository.findContentsByCategory(anyCollection(), eq(ReviewCategory.PENDING)))
+            .thenReturn(List.of(
+                new Object[] {priceReview, productId, "가격이 저렴해요"},
+                new Object[] {designReview, productId, "디자인 최고"}
+            ));
+
+        int polled = createService(new StubReviewClassifier(0)).processBatch();
+
+        assertThat(polled).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CategoryUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCategoryJdbcRepository).updatePendingCategories(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(CategoryUpdate::reviewId, CategoryUpdate::category)
+            .containsExactlyInAnyOrder(
+                tuple(priceReview, ReviewCategory.PRICE),
+                tuple(designReview, ReviewCategory.DESIGN)
+            );
+        verify(reviewClassificationQueue).enqueue(List.of());
+        verify(reviewRedisRepository).incrementVersion(productId);
+    }
+
+    @Test
+    @DisplayName("분류 실패 시 시도 횟수를 올려 재적재하고, 최대 횟수에 도달하면 ERR로 확정한다")
+    void processBatch_requeues_failures_and_gives_up() {
+        UUID retryReview = UUID.randomUUID();
+        UUID exhaustedReview = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        when(reviewClassificationQueue.poll(10)).thenReturn(List.of(
+            new ReviewClassificationTask(retryReview, 0),
+            new ReviewClassificationTask(exhaustedReview, MAX_ATTEMPTS - 1)
+        ));
+        when(reviewRepository.findContentsByCategory(anyCollection(), eq(ReviewCategory.PENDING)))
+            .thenReturn(List.of(
+                new Object[] {retryReview, productId, "좋아요"},
+                new Object[] {exhaustedReview, productId, "최고"}
+            ));
+
+        ReviewClassifier failing = comment -> {
+            throw new IllegalStateException("classifier down");
+        };
+
+        createService(failing).processBatch();
+
+        verify(reviewClassificationQueue).enqueue(List.of(new ReviewClassificationTask(retryReview, 1)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CategoryUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCategoryJdbcRepository).updatePendingCategories(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(CategoryUpdate::reviewId, CategoryUpdate::category)
+            .containsExactly(tuple(exhaustedReview, ReviewCategory.ERR));
+    }
+
+    @Test
+    @DisplayName("캐시 히트는 분류기를 호출하지 않고, 정규화된 내용이 같은 리뷰는 1회만 분류한다")
+    void processBatch_uses_cache_and_dedupes_content() {
+        UUID productId = UUID.randomUUID();
+        UUID cachedReview = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID duplicate = UUID.randomUUID();
+        String cachedKey = ReviewClassificationCache.key("최고");
+        String duplicateKey = ReviewClassificationCache.key("가격 좋아요");
+
+        when(reviewClassificationQueue.poll(10)).thenReturn(List.of(
+            ReviewClassificationTask.first(cachedReview),
+            ReviewClassificationTask.first(first),
+            ReviewClassificationTask.first(duplicate)
+        ));
+        when(reviewRepository.findContentsByCategory(anyCollection(), eq(ReviewCategory.PENDING)))
+            .thenReturn(List.of(
+                new Object[] {cachedReview, productId, "최고"},
+                new Object[] {first, productId, "가격 좋아요"},
+                new Object[] {duplicate, productId, "가격 좋아요!!"}
+            ));
+        when(reviewClassificationCache.getAll(anyCollection()))
+            .thenReturn(Map.of(cachedKey, new ReviewClassification(ReviewCategory.QUALITY, 0.95)));
+
+        AtomicInteger calls = new AtomicInteger();
+        StubReviewClassifier stub = new StubReviewClassifier(0);
+        ReviewClassifier counting = comment -> {
+            calls.incrementAndGet();
+            return stub.classify(comment);
+        };
+
+        createService(counting).processBatch();
+
+        assertThat(calls.get()).isEqualTo(1);
+        verify(reviewClassificationCache).put(eq(duplicateKey), any(ReviewClassification.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CategoryUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCategoryJdbcRepository).updatePendingCategories(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(CategoryUpdate::reviewId, CategoryUpdate::category)
+            .containsExactlyInAnyOrder(
+                tuple(cachedReview, ReviewCategory.QUALITY),
+                tuple(first, ReviewCategory.PRICE),
+                tuple(duplicate, ReviewCategory.PRICE)
+            );
+    }
+
+    @Test
+    @DisplayName("대기열이 비어 있으면 DB를 조회하지 않는다")
+    void processBatch_empty_queue() {
+        when(reviewClassificationQueue.poll(10)).thenReturn(List.of());
+
+        int polled = createService(new StubReviewClassifier(0)).processBatch();
+
+        assertThat(polled).isZero();
+        verifyNoInteractions(reviewRepository, reviewCategoryJdbcRepository);
+    }
+}
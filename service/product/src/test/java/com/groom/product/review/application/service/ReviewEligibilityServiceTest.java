@@ -0,0 +1,103 @@
+package com.groom.product.review.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.common.event.payload.OrderConfirmedItemPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.product.review.infrastructure.repository.ReviewEligibilityJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewEligibilityServiceTest {
+
+    private static final int PURGE_BATCH_SIZE = 2;
+
+    @Mock
+    private ReviewEligibilityJdbcRepository reviewEligibilityJdbcRepository;
+
+    private ReviewEligibilityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewEligibilityService(reviewEligibilityJdbcRepository, 90, PURGE_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("주문 확정 시 주문 상품별 자격을 중복 없이 적재한다")
+    void recordConfirmed_inserts_distinct_products() {
+        UUID orderId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID productA = UUID.randomUUID();
+        UUID productB = UUID.randomUUID();
+        Instant confirmedAt = Instant.now();
+
+        service.recordConfirmed(OrderConfirmedPayload.builder()
+            .orderId(orderId)
+            .userId(userId)
+            .confirmedAt(confirmedAt)
+            .items(List.of(
+                OrderConfirmedItemPayload.builder().productId(productA).build(),
+                OrderConfirmedItemPayload.builder().productId(productB).build(),
+                OrderConfirmedItemPayload.builder().productId(productA).build(),
+                OrderConfirmedItemPayload.builder().build()
+            ))
+            .build());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(reviewEligibilityJdbcRepository).insertAll(eq(orderId), eq(userId), captor.capture(),
+            eq(LocalDateTime.ofInstant(confirmedAt, ZoneId.systemDefault())));
+        assertThat(captor.getValue()).containsExactly(productA, productB);
+    }
+
+    @Test
+    @DisplayName("구매자 정보가 없는 확정 이벤트는 적재하지 않는다")
+    void recordConfirmed_skips_incomplete() {
+        service.recordConfirmed(OrderConfirmedPayload.builder()
+            .orderId(UUID.randomUUID())
+            .items(List.of())
+            .build());
+
+        verifyNoInteractions(reviewEligibilityJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 주문 단위로 자격을 삭제한다")
+    void revoke_deletes_by_order() {
+        UUID orderId = UUID.randomUUID();
+
+        service.revoke(orderId);
+
+        verify(reviewEligibilityJdbcRepository).deleteByOrderId(orderId);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 자격은 가득 찬 배치가 이어지는 동안 정리한다")
+    void purgeExpired_drains_full_batches() {
+        LocalDateTime before = LocalDateTime.now();
+
+        when(reviewEligibilityJdbcRepository.deleteExpired(before, PURGE_BATCH_SIZE))
+            .thenReturn(2)
+            .thenReturn(1);
+
+        int purged = service.purgeExpired(before);
+
+        assertThat(purged).isEqualTo(3);
+        verify(reviewEligibilityJdbcRepository, times(2)).deleteExpired(before, PURGE_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,248 @@
+package com.groom.product.review.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.groom.product.review.domain.repository.ReviewLikeRepository;
+import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.redis.ReviewIndexEntry;
+import com.groom.product.review.infrastructure.redis.ReviewLikeEvent;
+import com.groom.product.review.infrastructure.redis.ReviewLikeRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewLikeRedisRepository.LikeResult;
+import com.groom.product.review.infrastructure.redis.ReviewLockRedisRepository;
+import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
+import com.groom.product.review.infrastructure.repository.ReviewLikeJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewLikeServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Mock
+    private ReviewLikeRedisRepository reviewLikeRedisRepository;
+
+    @Mock
+    private ReviewLikeJdbcRepository reviewLikeJdbcRepository;
+
+    @Mock
+    private ReviewRedisRepository reviewRedisRepository;
+
+    @Mock
+    private ReviewLockRedisRepository reviewLockRedisRepository;
+
+    private ReviewLikeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewLikeService(
+            reviewRepository,
+            reviewLikeRepository,
+            reviewLikeRedisRepository,
+            reviewLikeJdbcRepository,
+            reviewRedisRepository,
+            reviewLockRedisRepository,
+            BATCH_SIZE,
+            60
+        );
+    }
+
+    @Test
+    @DisplayName("좋아요는 Redis에만 기록하고 DB에는 쓰지 않는다")
+    void likeReview_success() {
+        UUID reviewId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(reviewRepository.existsById(reviewId)).thenReturn(true);
+        when(reviewLikeRedisRepository.toggle(reviewId, userId, true))
+            .thenReturn(new LikeResult(true, true, 3));
+
+        int count = service.likeReview(reviewId, userId);
+
+        assertThat(count).isEqualTo(3);
+        verifyNoInteractions(reviewLikeJdbcRepository);
+        verify(reviewLikeRepository, never()).findUserIdsByReviewId(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 집합이 없으면 DB 좋아요 사용자로 시드 후 재시도한다")
+    void likeReview_seeds_when_missing() {
+        UUID reviewId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        List<UUID> likedUsers = List.of(UUID.randomUUID());
+
+        when(reviewRepository.existsById(reviewId)).thenReturn(true);
+        when(reviewLikeRedisRepository.toggle(reviewId, userId, true))
+            .thenReturn(new LikeResult(false, false, 0))
+            .thenReturn(new LikeResult(true, true, 2));
+        when(reviewLikeRepository.findUserIdsByReviewId(reviewId)).thenReturn(likedUsers);
+
+        int count = service.likeReview(reviewId, userId);
+
+        assertThat(count).isEqualTo(2);
+        verify(reviewLikeRedisRepository).seed(reviewId, likedUsers);
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 리뷰에 다시 좋아요하면 예외가 발생한다")
+    void likeReview_fail_duplicate() {
+        UUID reviewId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(reviewRepository.existsById(reviewId)).thenReturn(true);
+        when(reviewLikeRedisRepository.toggle(reviewId, userId, true))
+            .thenReturn(new LikeResult(true, false, 1));
+
+        assertThatThrownBy(() -> service.likeReview(reviewId, userId))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("좋아요를 누르지 않은 리뷰를 취소하면 예외가 발생한다")
+    void unlikeReview_fail_not_liked() {
+        UUID reviewId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(reviewRepository.existsById(reviewId)).thenReturn(true);
+        when(reviewLikeRedisRepository.toggle(reviewId, userId, false))
+            .thenReturn(new LikeResult(true, false, 0));
+
+        assertThatThrownBy(() -> service.unlikeReview(reviewId, userId))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 리뷰에 좋아요하면 예외가 발생한다")
+    void likeReview_fail_no_review() {
+        UUID reviewId = UUID.randomUUID();
+
+        when(reviewRepository.existsById(reviewId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.likeReview(reviewId, UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reviewLikeRedisRepository);
+    }
+
+    @Test
+    @DisplayName("변경 로그는 배치 단위로 반영하고, 가득 찬 배치면 이어서 꺼낸다")
+    void flushEvents_drains_full_batches() {
+        List<ReviewLikeEvent> first = List.of(
+            new ReviewLikeEvent(UUID.randomUUID(), UUID.randomUUID(), true),
+            new ReviewLikeEvent(UUID.randomUUID(), UUID.randomUUID(), false)
+        );
+        List<ReviewLikeEvent> second = List.of(
+            new ReviewLikeEvent(UUID.randomUUID(), UUID.randomUUID(), true)
+        );
+
+        when(reviewLikeRedisRepository.pollEvents(BATCH_SIZE))
+            .thenReturn(first)
+            .thenReturn(second);
+
+        int flushed = service.flushEvents();
+
+        assertThat(flushed).isEqualTo(3);
+        verify(reviewLikeJdbcRepository).applyLikeEvents(first);
+        verify(reviewLikeJdbcRepository).applyLikeEvents(second);
+    }
+
+    @Test
+    @DisplayName("변경 로그 반영 실패 시 꺼낸 항목을 되돌린다")
+    void flushEvents_requeues_on_failure() {
+        List<ReviewLikeEvent> events = List.of(
+            new ReviewLikeEvent(UUID.randomUUID(), UUID.randomUUID(), true)
+        );
+
+        when(reviewLikeRedisRepository.pollEvents(BATCH_SIZE)).thenReturn(events);
+        doThrow(new RuntimeException("db down"))
+            .when(reviewLikeJdbcRepository).applyLikeEvents(events);
+
+        assertThatThrownBy(() -> service.flushEvents()).isInstanceOf(RuntimeException.class);
+        verify(reviewLikeRedisRepository).requeueEvents(events);
+    }
+
+    @Test
+    @DisplayName("좋아요 수를 일괄 반영하고 같은 단계에서 좋아요순 인덱스 점수를 갱신한다")
+    void flushCounts_updates_db_and_like_index() {
+        UUID productId = UUID.randomUUID();
+        UUID reviewId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        when(reviewLikeRedisRepository.popDirty(BATCH_SIZE)).thenReturn(List.of(reviewId));
+        when(reviewLikeRedisRepository.countLikes(List.of(reviewId))).thenReturn(Map.of(reviewId, 7L));
+        when(reviewRepository.findLikeIndexKeys(Set.of(reviewId)))
+            .thenReturn(List.<Object[]>of(new Object[] {reviewId, productId, createdAt}));
+
+        int flushed = service.flushCounts();
+
+        assertThat(flushed).isEqualTo(1);
+        verify(reviewLikeJdbcRepository).updateLikeCounts(Map.of(reviewId, 7L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReviewIndexEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reviewRedisRepository).updateLikeScores(eq(productId), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new ReviewIndexEntry(reviewId, createdAt, 7));
+        verify(reviewRedisRepository).incrementVersion(productId);
+        verify(reviewRedisRepository).evictData(Set.of(reviewId));
+    }
+
+    @Test
+    @DisplayName("좋아요 수 반영 실패 시 대상 리뷰를 다시 표시한다")
+    void flushCounts_marks_dirty_on_failure() {
+        UUID reviewId = UUID.randomUUID();
+
+        when(reviewLikeRedisRepository.popDirty(BATCH_SIZE)).thenReturn(List.of(reviewId));
+        when(reviewLikeRedisRepository.countLikes(List.of(reviewId))).thenReturn(Map.of(reviewId, 1L));
+        doThrow(new RuntimeException("db down"))
+            .when(reviewLikeJdbcRepository).updateLikeCounts(any());
+
+        assertThatThrownBy(() -> service.flushCounts()).isInstanceOf(RuntimeException.class);
+        verify(reviewLikeRedisRepository).markDirty(List.of(reviewId));
+        verifyNoInteractions(reviewRedisRepository);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 반영 락을 잡고 있으면 반영하지 않는다")
+    void flush_skips_when_lock_held() {
+        when(reviewLockRedisRepository.tryLock(eq("review:like:flush:lock"), any(Duration.class)))
+            .thenReturn(Optional.empty());
+
+        service.flush();
+
+        verifyNoInteractions(reviewLikeJdbcRepository);
+        verify(reviewLikeRedisRepository, never()).pollEvents(anyInt());
+        verify(reviewLockRedisRepository, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("반영이 실패해도 획득한 토큰으로 락을 해제한다")
+    void flush_releases_lock_with_token() {
+        when(reviewLockRedisRepository.tryLock(eq("review:like:flush:lock"), any(Duration.class)))
+            .thenReturn(Optional.of("token"));
+        when(reviewLikeRedisRepository.pollEvents(BATCH_SIZE)).thenThrow(new RuntimeException("redis down"));
+
+        service.flush();
+
+        verify(reviewLockRedisRepository).unlock("review:like:flush:lock", "token");
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +14,7 @@ import com.groom.product.review.domain.entity.ProductRatingEntity;
 import com.groom.product.review.domain.entity.ReviewEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
+import com.groom.product.review.infrastructure.redis.ReviewPage;
 import com.groom.product.review.infrastructure.redis.ReviewReadModel;
 import com.groom.product.review.infrastructure.redis.ReviewRedisRepository;
 import com.groom.product.review.presentation.dto.response.ProductReviewResponse;
@@ -22,7 +24,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
@@ -44,13 +45,14 @@ class ReviewQueryServiceTest {
     private ReviewQueryService service;
 
     @Test
-    @DisplayName("Redis HIT 시 DB 조회 없이 캐시 기반 응답을 반환한다")
+    @DisplayName("Redis HIT 시 DB 조회 없이 캐시 기반 응답과 전체 수(ZCARD)를 반환한다")
     void getProductReviews_cache_hit() {
         // given
         UUID productId = UUID.randomUUID();
+        UUID reviewId = UUID.randomUUID();
 
         ReviewReadModel readModel = ReviewReadModel.builder()
-            .reviewId(UUID.randomUUID())
+            .reviewId(reviewId)
             .productId(productId)
             .userId(UUID.randomUUID())
             .rating(5)
@@ -58,8 +60,10 @@ class ReviewQueryServiceTest {
             .createdAt(LocalDateTime.now())
             .build();
 
-        when(reviewRedisRepository.findByProductId(productId, 0, 10))
-            .thenReturn(List.of(readModel));
+        when(reviewRedisRepository.findPage(productId, false, 0, 10))
+            .thenReturn(new ReviewPage(List.of(reviewId), 21));
+        when(reviewRedisRepository.findAll(List.of(reviewId)))
+            .thenReturn(Map.of(reviewId, readModel));
 
         ProductRatingEntity rating = new ProductRatingEntity(productId);
         rating.updateRating(5);
@@ -69,74 +73,127 @@ class ReviewQueryServiceTest {
 
         // when
         ProductReviewResponse response =
-            service.getProductReviews(productId, 0, 10);
+            service.getProductReviews(productId, 0, 10, "latest");
 
         // then
         verify(reviewRepository, never()).findAllByProductId(any(), any());
+        verify(reviewRepository, never()).findAllById(any());
         assertThat(response.getReviews()).hasSize(1);
+        assertThat(response.getReviews().get(0).getRating()).isEqualTo(5);
         assertThat(response.getAvgRating()).isEqualTo(5.0);
         assertThat(response.getReviewCount()).isEqualTo(1);
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(21);
+        assertThat(response.getPagination().getTotalPages()).isEqualTo(3);
+        assertThat(response.getPagination().isLast()).isFalse();
     }
 
     @Test
-    @DisplayName("Redis MISS 시 DB 조회 후 Redis에 저장하고 응답을 반환한다")
-    void getProductReviews_cache_miss() {
+    @DisplayName("인덱스 MISS 시 DB에서 인덱스를 재구성하고 페이지 리뷰만 적재한다")
+    void getProductReviews_index_miss() {
         // given
         UUID productId = UUID.randomUUID();
-
-        when(reviewRedisRepository.findByProductId(productId, 0, 10))
-            .thenReturn(List.of());
+        UUID older = UUID.randomUUID();
+        UUID newer = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        when(reviewRedisRepository.findPage(productId, false, 0, 1))
+            .thenReturn(null);
+        when(reviewRepository.findIndexEntriesByProductId(productId))
+            .thenReturn(List.of(
+                new Object[] {older, now.minusDays(1), 3},
+                new Object[] {newer, now, 0}
+            ));
+        when(reviewRedisRepository.findAll(List.of(newer)))
+            .thenReturn(Map.of());
 
         ReviewEntity review = mock(ReviewEntity.class);
-        when(review.getReviewId()).thenReturn(UUID.randomUUID());
+        when(review.getReviewId()).thenReturn(newer);
         when(review.getProductId()).thenReturn(productId);
         when(review.getUserId()).thenReturn(UUID.randomUUID());
         when(review.getRating()).thenReturn(4);
         when(review.getContent()).thenReturn("색감이 이쁘다");
-        when(review.getCreatedAt()).thenReturn(LocalDateTime.now());
-
-        Page<ReviewEntity> page =
-            new PageImpl<>(List.of(review), PageRequest.of(0, 10), 1);
-
-        when(reviewRepository.findAllByProductId(eq(productId), any()))
-            .thenReturn(page);
+        when(review.getCreatedAt()).thenReturn(now);
 
+        when(reviewRepository.findAllById(List.of(newer)))
+            .thenReturn(List.of(review));
         when(productRatingRepository.findByProductId(productId))
             .thenReturn(Optional.empty());
 
         // when
         ProductReviewResponse response =
-            service.getProductReviews(productId, 0, 10);
+            service.getProductReviews(productId, 0, 1, "latest");
 
         // then
-        verify(reviewRedisRepository).save(any(ReviewReadModel.class));
+        verify(reviewRedisRepository).replaceIndex(eq(productId), anyList());
+        verify(reviewRedisRepository).saveAll(anyList());
         assertThat(response.getReviews()).hasSize(1);
-        assertThat(response.getPagination()).isNotNull();
-        assertThat(response.getPagination().getTotalElements()).isEqualTo(1);
+        assertThat(response.getReviews().get(0).getReviewId()).isEqualTo(newer);
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(2);
+        assertThat(response.getPagination().getTotalPages()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("상품 평점 정보가 없어도 기본값으로 응답한다")
-    void getProductReviews_rating_not_exists() {
+    @DisplayName("좋아요순 요청은 좋아요순 인덱스에서 조회한다")
+    void getProductReviews_sort_by_like() {
         // given
         UUID productId = UUID.randomUUID();
 
-        when(reviewRedisRepository.findByProductId(productId, 0, 10))
+        when(reviewRedisRepository.findPage(productId, true, 0, 10))
+            .thenReturn(null);
+        when(reviewRepository.findIndexEntriesByProductId(productId))
             .thenReturn(List.of());
-
-        when(reviewRepository.findAllByProductId(eq(productId), any()))
-            .thenReturn(Page.empty());
-
+        when(reviewRedisRepository.findAll(List.of()))
+            .thenReturn(Map.of());
         when(productRatingRepository.findByProductId(productId))
             .thenReturn(Optional.empty());
 
         // when
         ProductReviewResponse response =
-            service.getProductReviews(productId, 0, 10);
+            service.getProductReviews(productId, 0, 10, "like");
 
         // then
+        verify(reviewRedisRepository, never()).replaceIndex(any(), anyList());
         assertThat(response.getAvgRating()).isEqualTo(0.0);
         assertThat(response.getReviewCount()).isEqualTo(0);
         assertThat(response.getReviews()).isEmpty();
+        assertThat(response.getPagination().getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 페이지 조회로 응답한다")
+    void getProductReviews_redis_failure() {
+        // given
+        UUID productId = UUID.randomUUID();
+
+        when(reviewRedisRepository.findPage(productId, false, 0, 10))
+            .thenThrow(new RuntimeException("redis down"));
+        when(reviewRepository.findAllByProductId(eq(productId), any()))
+            .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+        when(productRatingRepository.findByProductId(productId))
+            .thenReturn(Optional.empty());
+
+        // when
+        ProductReviewResponse response =
+            service.getProductReviews(productId, 0, 10, "latest");
+
+        // then
+        assertThat(response.getReviews()).isEmpty();
+        assertThat(response.getPagination()).isNotNull();
+        assertThat(response.getPagination().getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("ETag는 Redis 리뷰 변경 버전만으로 만들고 DB를 조회하지 않는다")
+    void getProductReviewsETag_uses_redis_version_only() {
+        // given
+        UUID productId = UUID.randomUUID();
+        when(reviewRedisRepository.getVersion(productId)).thenReturn(12L);
+
+        // when
+        String etag = service.getProductReviewsETag(productId);
+
+        // then
+        assertThat(etag).isEqualTo("\"rv-12\"");
+        verifyNoInteractions(productRatingRepository, reviewRepository);
     }
 }
@@ -8,16 +8,14 @@ import java.util.Optional;
 import java.util.UUID;
 
 import com.groom.common.enums.UserRole;
+import com.groom.product.review.application.event.ReviewChangedEvent;
+import com.groom.product.review.application.event.ReviewClassificationRequestedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
 import com.groom.product.review.application.validator.OrderReviewValidator;
-import com.groom.product.review.domain.entity.ProductRatingEntity;
 import com.groom.product.review.domain.entity.ReviewCategory;
 import com.groom.product.review.domain.entity.ReviewEntity;
-import com.groom.product.review.domain.entity.ReviewLikeEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
-import com.groom.product.review.domain.repository.ReviewLikeRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
-import com.groom.product.review.infrastructure.client.Classification.AiClient;
 import com.groom.product.review.presentation.dto.request.CreateReviewRequest;
 import com.groom.product.review.presentation.dto.request.UpdateReviewRequest;
 import com.groom.product.review.presentation.dto.response.ReviewResponse;
@@ -38,15 +36,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
-    @Mock
-    private ReviewLikeRepository reviewLikeRepository;
-
     @Mock
     private ProductRatingRepository productRatingRepository;
 
-    @Mock
-    private AiClient aiClient;
-
     @Mock
     private OrderReviewValidator orderReviewValidator;
 
@@ -57,7 +49,7 @@ class ReviewServiceTest {
     private ReviewService reviewService;
 
     @Test
-    @DisplayName("리뷰 작성 시 AI 분류 후 저장하고 이벤트를 발행한다")
+    @DisplayName("리뷰 작성 시 PENDING으로 저장하고 분류 요청 이벤트를 발행한다")
     void createReview_success() {
         UUID orderId = UUID.randomUUID();
         UUID productId = UUID.randomUUID();
@@ -66,9 +58,6 @@ class ReviewServiceTest {
         CreateReviewRequest request =
             new CreateReviewRequest(5, "좋아요");
 
-        when(aiClient.classify(anyString()))
-            .thenReturn(ReviewCategory.DESIGN);
-
         ReviewResponse response =
             reviewService.createReview(orderId, productId, userId, request);
 
@@ -78,13 +67,15 @@ class ReviewServiceTest {
         verify(reviewRepository).save(any(ReviewEntity.class));
         verify(applicationEventPublisher)
             .publishEvent(any(ReviewCreatedEvent.class));
+        verify(applicationEventPublisher)
+            .publishEvent(any(ReviewClassificationRequestedEvent.class));
 
         assertThat(response.getRating()).isEqualTo(5);
-        assertThat(response.getCategory()).isEqualTo(ReviewCategory.DESIGN);
+        assertThat(response.getCategory()).isEqualTo(ReviewCategory.PENDING);
     }
 
     @Test
-    @DisplayName("50자 초과 리뷰는 AI 호출 없이 ERR 카테고리로 분류된다")
+    @DisplayName("50자 초과 리뷰는 분류 요청 없이 ERR 카테고리로 분류된다")
     void createReview_long_comment_sets_ERR_category() {
         UUID orderId = UUID.randomUUID();
         UUID productId = UUID.randomUUID();
@@ -97,12 +88,13 @@ class ReviewServiceTest {
         ReviewResponse response =
             reviewService.createReview(orderId, productId, userId, request);
 
-        verify(aiClient, never()).classify(anyString());
+        verify(applicationEventPublisher, never())
+            .publishEvent(any(ReviewClassificationRequestedEvent.class));
         assertThat(response.getCategory()).isEqualTo(ReviewCategory.ERR);
     }
 
     @Test
-    @DisplayName("리뷰 평점 변경 시 상품 평점도 함께 재계산된다")
+    @DisplayName("리뷰 평점 변경 시 평점 증감분을 담은 이벤트를 발행한다")
     void updateReview_rating_changed() {
         UUID reviewId = UUID.randomUUID();
         UUID productId = UUID.randomUUID();
@@ -117,16 +109,8 @@ class ReviewServiceTest {
             .category(ReviewCategory.PRICE)
             .build();
 
-        ProductRatingEntity rating = new ProductRatingEntity(productId);
-        rating.updateRating(3);
-
         when(reviewRepository.findById(reviewId))
             .thenReturn(Optional.of(review));
-        when(productRatingRepository.findByProductId(productId))
-            .thenReturn(Optional.of(rating));
-        when(aiClient.classify(anyString()))
-            .thenReturn(ReviewCategory.PRICE);
-
         UpdateReviewRequest request =
             new UpdateReviewRequest("너무 비싸다", 1);
 
@@ -134,8 +118,10 @@ class ReviewServiceTest {
             reviewService.updateReview(reviewId, userId, request);
 
         assertThat(response.getRating()).isEqualTo(1);
-        assertThat(rating.getReviewCount()).isEqualTo(1);
-        assertThat(rating.getAvgRating()).isEqualTo(1.0);
+        assertThat(response.getCategory()).isEqualTo(ReviewCategory.PENDING);
+        verify(applicationEventPublisher)
+            .publishEvent(ReviewChangedEvent.updated(productId, review.getReviewId(), 3, 1));
+        verify(productRatingRepository, never()).findByProductId(any());
     }
 
     @Test
@@ -174,72 +160,13 @@ class ReviewServiceTest {
             .category(ReviewCategory.QUALITY)
             .build();
 
-        ProductRatingEntity rating = new ProductRatingEntity(productId);
-        rating.updateRating(4);
-
         when(reviewRepository.findById(reviewId))
             .thenReturn(Optional.of(review));
-        when(productRatingRepository.findByProductId(productId))
-            .thenReturn(Optional.of(rating));
 
         reviewService.deleteReview(reviewId, userId, UserRole.USER);
 
-        assertThat(rating.getReviewCount()).isZero();
-        assertThat(rating.getAvgRating()).isZero();
-    }
-
-    @Test
-    @DisplayName("리뷰 좋아요 성공")
-    void likeReview_success() {
-        UUID reviewId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-
-        ReviewEntity review = ReviewEntity.builder()
-            .orderId(UUID.randomUUID())
-            .productId(UUID.randomUUID())
-            .userId(UUID.randomUUID())
-            .rating(3)
-            .content("테스트 리뷰")
-            .category(ReviewCategory.DESIGN)
-            .build();
-
-        when(reviewRepository.findById(reviewId))
-            .thenReturn(Optional.of(review));
-        when(reviewLikeRepository.findByReviewIdAndUserId(reviewId, userId))
-            .thenReturn(Optional.empty());
-
-        int count = reviewService.likeReview(reviewId, userId);
-
-        verify(reviewLikeRepository).save(any(ReviewLikeEntity.class));
-        assertThat(count).isEqualTo(1);
-    }
-
-    @Test
-    @DisplayName("리뷰 좋아요 취소 성공")
-    void unlikeReview_success() {
-        UUID reviewId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-
-        ReviewEntity review = ReviewEntity.builder()
-            .orderId(UUID.randomUUID())
-            .productId(UUID.randomUUID())
-            .userId(UUID.randomUUID())
-            .rating(3)
-            .content("테스트 리뷰")
-            .category(ReviewCategory.DESIGN)
-            .build();
-
-        ReviewLikeEntity like =
-            new ReviewLikeEntity(reviewId, userId);
-
-        when(reviewRepository.findById(reviewId))
-            .thenReturn(Optional.of(review));
-        when(reviewLikeRepository.findByReviewIdAndUserId(reviewId, userId))
-            .thenReturn(Optional.of(like));
-
-        int count = reviewService.unlikeReview(reviewId, userId);
-
-        verify(reviewLikeRepository).delete(like);
-        assertThat(count).isEqualTo(0);
+        assertThat(review.getDeletedAt()).isNotNull();
+        verify(applicationEventPublisher)
+            .publishEvent(ReviewChangedEvent.deleted(productId, review.getReviewId(), 4));
     }
 }
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.review.domain.entity.ReviewEligibilityEntity;
 import com.groom.product.review.domain.entity.ReviewEntity;
+import com.groom.product.review.domain.repository.ReviewEligibilityRepository;
 import com.groom.product.review.domain.repository.ReviewRepository;
 import com.groom.product.review.infrastructure.feign.OrderClient;
 import com.groom.product.review.infrastructure.feign.dto.OrderReviewValidationRequest;
@@ -31,6 +34,9 @@ class OrderReviewValidatorTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewEligibilityRepository reviewEligibilityRepository;
+
     @InjectMocks
     private OrderReviewValidator validator;
 
@@ -169,4 +175,63 @@ class OrderReviewValidatorTest {
         assertThatCode(() -> validator.validate(orderId, productId, userId))
             .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("로컬 자격이 있으면 주문 서비스를 호출하지 않고 통과한다")
+    void validate_success_local() {
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(reviewRepository.findByOrderIdAndProductId(orderId, productId))
+            .thenReturn(Optional.empty());
+        when(reviewEligibilityRepository.findAllByOrderId(orderId))
+            .thenReturn(List.of(eligibility(UUID.randomUUID(), userId), eligibility(productId, userId)));
+
+        assertThatCode(() -> validator.validate(orderId, productId, userId))
+            .doesNotThrowAnyException();
+        verifyNoInteractions(orderClient);
+    }
+
+    @Test
+    @DisplayName("로컬 자격의 구매자가 다르면 FORBIDDEN 예외가 발생한다")
+    void validate_fail_local_owner_not_matched() {
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        when(reviewRepository.findByOrderIdAndProductId(orderId, productId))
+            .thenReturn(Optional.empty());
+        when(reviewEligibilityRepository.findAllByOrderId(orderId))
+            .thenReturn(List.of(eligibility(productId, UUID.randomUUID())));
+
+        assertThatThrownBy(() -> validator.validate(orderId, productId, UUID.randomUUID()))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        verifyNoInteractions(orderClient);
+    }
+
+    @Test
+    @DisplayName("로컬에 적재된 주문에 상품이 없으면 INVALID_REQUEST 예외가 발생한다")
+    void validate_fail_local_product_not_in_order() {
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        when(reviewRepository.findByOrderIdAndProductId(orderId, productId))
+            .thenReturn(Optional.empty());
+        when(reviewEligibilityRepository.findAllByOrderId(orderId))
+            .thenReturn(List.of(eligibility(UUID.randomUUID(), userId)));
+
+        assertThatThrownBy(() -> validator.validate(orderId, productId, userId))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        verifyNoInteractions(orderClient);
+    }
+
+    private ReviewEligibilityEntity eligibility(UUID productId, UUID buyerId) {
+        ReviewEligibilityEntity eligibility = mock(ReviewEligibilityEntity.class);
+        lenient().when(eligibility.getProductId()).thenReturn(productId);
+        lenient().when(eligibility.getBuyerId()).thenReturn(buyerId);
+        return eligibility;
+    }
 }
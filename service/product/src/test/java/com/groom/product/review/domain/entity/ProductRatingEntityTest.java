@@ -46,6 +46,23 @@ class ProductRatingEntityTest {
         assertThat(rating.getAvgRating()).isEqualTo(4.3);
     }
 
+    @Test
+    @DisplayName("평점 합계를 정확히 유지하므로 증감을 반복해도 평균이 어긋나지 않는다")
+    void rating_sum_keeps_average_exact() {
+        ProductRatingEntity rating = new ProductRatingEntity(UUID.randomUUID());
+
+        rating.updateRating(5);
+        rating.updateRating(4);
+        rating.updateRating(4); // 13 / 3 = 4.33...
+        rating.removeRating(4);
+        rating.updateRating(4);
+        rating.removeRating(5); // 8 / 2
+
+        assertThat(rating.getRatingSum()).isEqualTo(8);
+        assertThat(rating.getReviewCount()).isEqualTo(2);
+        assertThat(rating.getAvgRating()).isEqualTo(4.0);
+    }
+
     @Test
     @DisplayName("removeRating 호출 시 리뷰 수와 평균 평점이 감소한다")
     void removeRating_decreases_avg_and_count() {
@@ -73,16 +90,6 @@ class ProductRatingEntityTest {
         assertThat(rating.getAvgRating()).isEqualTo(0.0);
     }
 
-    @Test
-    @DisplayName("updateAiReview 호출 시 AI 요약이 저장된다")
-    void updateAiReview_sets_value() {
-        ProductRatingEntity rating = new ProductRatingEntity(UUID.randomUUID());
-
-        rating.updateAiReview("AI SUMMARY TEXT");
-
-        assertThat(rating.getAiReview()).isEqualTo("AI SUMMARY TEXT");
-    }
-
     @Test
     @DisplayName("reset 호출 시 리뷰 수와 평균 평점이 초기화된다")
     void reset_clears_rating_state() {
@@ -0,0 +1,79 @@
+package com.groom.product.review.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.groom.product.review.domain.entity.ReviewCategory;
+import com.groom.product.review.infrastructure.client.Classification.ReviewClassification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewClassificationCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ReviewClassificationCache createCache() {
+        return new ReviewClassificationCache(stringRedisTemplate, new SimpleMeterRegistry(), 0.8, 30, 100);
+    }
+
+    @Test
+    @DisplayName("공백/문장부호/대소문자만 다른 내용은 같은 키로 정규화된다")
+    void key_normalizes_content() {
+        assertThat(ReviewClassificationCache.key("좋아요!!"))
+            .isEqualTo(ReviewClassificationCache.key(" 좋아요 "))
+            .isNotEqualTo(ReviewClassificationCache.key("별로예요"));
+        assertThat(ReviewClassificationCache.key("Good~ 배송"))
+            .isEqualTo(ReviewClassificationCache.key("good배송"));
+    }
+
+    @Test
+    @DisplayName("로컬 LRU 히트는 Redis를 조회하지 않는다")
+    void getAll_local_hit_skips_redis() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReviewClassificationCache cache = createCache();
+        String key = ReviewClassificationCache.key("최고");
+
+        cache.put(key, new ReviewClassification(ReviewCategory.QUALITY, 0.9));
+        Map<String, ReviewClassification> found = cache.getAll(List.of(key));
+
+        assertThat(found.get(key).category()).isEqualTo(ReviewCategory.QUALITY);
+        verify(valueOperations, never()).multiGet(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최소 신뢰도 미만 결과는 적재하지 않고, Redis의 임계값 미달 항목도 무시한다")
+    void confidence_threshold_applies_to_put_and_get() {
+        ReviewClassificationCache cache = createCache();
+        String lowKey = ReviewClassificationCache.key("애매해요");
+        String storedKey = ReviewClassificationCache.key("배송 빨라요");
+
+        cache.put(lowKey, new ReviewClassification(ReviewCategory.PRICE, 0.6));
+        verifyNoInteractions(stringRedisTemplate);
+
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyCollection()))
+            .thenReturn(Arrays.asList(null, "PERFORMANCE|0.7"));
+
+        Map<String, ReviewClassification> found = cache.getAll(List.of(lowKey, storedKey));
+
+        assertThat(found).isEmpty();
+    }
+}
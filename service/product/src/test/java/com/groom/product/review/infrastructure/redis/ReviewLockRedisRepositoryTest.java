@@ -0,0 +1,75 @@
+package com.groom.product.review.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewLockRedisRepositoryTest {
+
+    private static final String KEY = "review:summary:lock:test";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ReviewLockRedisRepository createRepository() {
+        ReviewLockRedisRepository repository = new ReviewLockRedisRepository(stringRedisTemplate);
+        repository.init();
+        return repository;
+    }
+
+    @Test
+    @DisplayName("락 획득 시 실행마다 다른 토큰을 값으로 저장한다")
+    void tryLock_stores_unique_token() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(TTL))).thenReturn(true);
+        ReviewLockRedisRepository repository = createRepository();
+
+        Optional<String> first = repository.tryLock(KEY, TTL);
+        Optional<String> second = repository.tryLock(KEY, TTL);
+
+        ArgumentCaptor<String> tokens = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).setIfAbsent(eq(KEY), tokens.capture(), eq(TTL));
+        assertThat(tokens.getAllValues()).containsExactly(first.orElseThrow(), second.orElseThrow());
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("이미 다른 소유자가 있으면 토큰 없이 실패한다")
+    void tryLock_returns_empty_when_held() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(TTL))).thenReturn(false);
+
+        assertThat(createRepository().tryLock(KEY, TTL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해제는 토큰 비교 스크립트로만 수행하고 키를 직접 삭제하지 않는다")
+    void unlock_uses_compare_and_delete() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("token")))
+            .thenReturn(0L);
+
+        boolean released = createRepository().unlock(KEY, "token");
+
+        assertThat(released).isFalse();
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+}
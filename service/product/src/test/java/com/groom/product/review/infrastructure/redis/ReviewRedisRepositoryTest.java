@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -17,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
@@ -36,15 +40,14 @@ class ReviewRedisRepositoryTest {
     private ReviewRedisRepository repository;
 
     @Test
-    @DisplayName("리뷰 저장 시 데이터와 ZSET 인덱스가 함께 저장된다")
-    void save_stores_value_and_zset_index() {
+    @DisplayName("리뷰 데이터는 TTL과 함께 저장된다")
+    void save_stores_value_with_ttl() {
         // given
-        UUID productId = UUID.randomUUID();
         UUID reviewId = UUID.randomUUID();
 
         ReviewReadModel review = ReviewReadModel.builder()
             .reviewId(reviewId)
-            .productId(productId)
+            .productId(UUID.randomUUID())
             .userId(UUID.randomUUID())
             .rating(5)
             .content("좋아요")
@@ -52,69 +55,68 @@ class ReviewRedisRepositoryTest {
             .build();
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
         // when
         repository.save(review);
 
         // then
-        String indexKey = ReviewRedisKey.productReviewIndex(productId);
-        String dataKey = ReviewRedisKey.reviewData(reviewId);
-        long score = review.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
-
-        verify(valueOperations).set(dataKey, review);
-        verify(zSetOperations)
-            .add(indexKey, reviewId.toString(), score);
+        verify(valueOperations).set(eq(ReviewRedisKey.reviewData(reviewId)), eq(review), any(Duration.class));
     }
 
     @Test
-    @DisplayName("Redis에 리뷰가 없으면 빈 리스트를 반환한다")
-    void findByProductId_returns_empty_when_no_index() {
-        UUID productId = UUID.randomUUID();
+    @DisplayName("인덱스가 없으면(ZCARD 0) null을 반환한다")
+    void findPage_returns_null_when_no_index() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.<Object>asList(Set.of(), 0L, false));
 
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
-            .thenReturn(Set.of());
+        ReviewPage result = repository.findPage(UUID.randomUUID(), false, 0, 10);
 
-        List<ReviewReadModel> result =
-            repository.findByProductId(productId, 0, 10);
+        assertThat(result).isNull();
+    }
 
-        assertThat(result).isEmpty();
+    @Test
+    @DisplayName("인덱스 페이지 조회 시 정렬된 리뷰 ID와 전체 수(ZCARD)를 함께 반환한다")
+    void findPage_returns_ids_and_total() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.<Object>asList(
+                new LinkedHashSet<>(List.of(first.toString(), second.toString())),
+                25L,
+                true
+            ));
+
+        ReviewPage result = repository.findPage(UUID.randomUUID(), true, 0, 2);
+
+        assertThat(result.reviewIds()).containsExactly(first, second);
+        assertThat(result.totalElements()).isEqualTo(25);
     }
 
     @Test
-    @DisplayName("Redis 인덱스와 데이터가 존재하면 리뷰 목록을 반환한다")
-    void findByProductId_returns_reviews() {
-        UUID productId = UUID.randomUUID();
-        UUID reviewId = UUID.randomUUID();
+    @DisplayName("리뷰 데이터 일괄 조회 시 만료된 항목은 결과에서 제외된다")
+    void findAll_skips_expired() {
+        UUID cachedId = UUID.randomUUID();
+        UUID expiredId = UUID.randomUUID();
 
         ReviewReadModel review = ReviewReadModel.builder()
-            .reviewId(reviewId)
-            .productId(productId)
-            .userId(UUID.randomUUID())
+            .reviewId(cachedId)
             .rating(4)
             .content("괜찮아요")
-            .createdAt(LocalDateTime.now())
             .build();
 
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
-            .thenReturn(Set.of(reviewId.toString()));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.<Object>asList(Arrays.asList(review, null), true, false));
 
-        when(valueOperations.get(anyString())).thenReturn(review);
+        Map<UUID, ReviewReadModel> result = repository.findAll(List.of(cachedId, expiredId));
 
-        List<ReviewReadModel> result =
-            repository.findByProductId(productId, 0, 10);
-
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getContent()).isEqualTo("괜찮아요");
+        assertThat(result).containsOnlyKeys(cachedId);
+        assertThat(result.get(cachedId).getContent()).isEqualTo("괜찮아요");
     }
 
     @Test
-    @DisplayName("리뷰 삭제 시 ZSET 인덱스와 데이터가 함께 삭제된다")
-    void delete_removes_index_and_data() {
+    @DisplayName("리뷰 삭제 시 두 인덱스와 데이터가 함께 삭제된다")
+    void delete_removes_indexes_and_data() {
         UUID productId = UUID.randomUUID();
         UUID reviewId = UUID.randomUUID();
 
@@ -122,11 +124,23 @@ class ReviewRedisRepositoryTest {
 
         repository.delete(productId, reviewId);
 
-        String indexKey = ReviewRedisKey.productReviewIndex(productId);
-        String dataKey = ReviewRedisKey.reviewData(reviewId);
-
         verify(zSetOperations)
-            .remove(indexKey, reviewId.toString());
-        verify(redisTemplate).delete(dataKey);
+            .remove(ReviewRedisKey.productReviewIndex(productId), reviewId.toString());
+        verify(zSetOperations)
+            .remove(ReviewRedisKey.productReviewLikeIndex(productId), reviewId.toString());
+        verify(redisTemplate).delete(ReviewRedisKey.reviewData(reviewId));
+    }
+
+    @Test
+    @DisplayName("인덱스 제거 시 최신순/좋아요순 인덱스를 함께 제거한다")
+    void evictIndex_removes_both_indexes() {
+        UUID productId = UUID.randomUUID();
+
+        repository.evictIndex(productId);
+
+        verify(redisTemplate).delete(List.of(
+            ReviewRedisKey.productReviewIndex(productId),
+            ReviewRedisKey.productReviewLikeIndex(productId)
+        ));
     }
 }
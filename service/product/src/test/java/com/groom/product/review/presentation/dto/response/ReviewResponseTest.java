@@ -53,6 +53,7 @@ class ReviewResponseTest {
                 .userId(userId)
                 .rating(4)
                 .content("괜찮아요")
+                .category(ReviewCategory.DESIGN)
                 .createdAt(createdAt)
                 .build();
 
@@ -62,6 +63,7 @@ class ReviewResponseTest {
         assertThat(response.getUserId()).isEqualTo(userId);
         assertThat(response.getContent()).isEqualTo("괜찮아요");
         assertThat(response.getCreatedAt()).isEqualTo(createdAt);
-        assertThat(response.getRating()).isEqualTo(0);
+        assertThat(response.getRating()).isEqualTo(4);
+        assertThat(response.getCategory()).isEqualTo(ReviewCategory.DESIGN);
     }
 }